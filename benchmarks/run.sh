@@ -0,0 +1,15 @@
+#!/usr/bin/env sh
+# Builds the application and the benchmarks, runs JMH and writes JSON results to benchmarks/results.
+# Extra arguments are passed to JMH, e.g. ./benchmarks/run.sh CardNumberEncryptorBenchmark -f 3
+set -e
+
+cd "$(dirname "$0")/.."
+
+mvn -B -q install -DskipTests
+mvn -B -q -f benchmarks/pom.xml package
+
+mkdir -p benchmarks/results
+RESULT="benchmarks/results/$(git describe --tags --always --dirty)-$(date +%Y%m%d-%H%M%S).json"
+
+java -jar benchmarks/target/benchmarks.jar -rf json -rff "$RESULT" "$@"
+echo "Results written to $RESULT"
@@ -0,0 +1,79 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.dto.request.UserUpdateRequest;
+import com.example.bankcards.validation.annotation.AtLeastOneNotNull;
+import com.example.bankcards.validation.constraint.AtLeastOneNotNullValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AtLeastOneNotNullValidatorBenchmark {
+
+    @AtLeastOneNotNull
+    public record ProfileUpdate(String firstName, String lastName, String email, String phone, String city) {
+    }
+
+    @Param({"userUpdate", "lastOfFive"})
+    private String request;
+
+    private Object value;
+
+    private final ReflectiveValidator reflective = new ReflectiveValidator();
+
+    private final AtLeastOneNotNullValidator methodHandles = new AtLeastOneNotNullValidator();
+
+    @Setup
+    public void setUp() {
+        value = switch (request) {
+            case "userUpdate" -> new UserUpdateRequest("alice_new");
+            case "lastOfFive" -> new ProfileUpdate(null, null, null, null, "Almaty");
+            default -> throw new IllegalArgumentException(request);
+        };
+        methodHandles.initialize(ProfileUpdate.class.getAnnotation(AtLeastOneNotNull.class));
+
+        if (!reflective.isValid(value, null) || !methodHandles.isValid(value, null)) {
+            throw new IllegalStateException("Benchmark request is expected to be valid: " + value);
+        }
+    }
+
+    @Benchmark
+    public boolean reflective() {
+        return reflective.isValid(value, null);
+    }
+
+    @Benchmark
+    public boolean methodHandles() {
+        return methodHandles.isValid(value, null);
+    }
+
+    // the implementation before accessors were cached per class
+    private static class ReflectiveValidator {
+
+        boolean isValid(Object value, ConstraintValidatorContext context) {
+            if (value == null) {
+                return false;
+            }
+
+            for (Field field : value.getClass().getDeclaredFields()) {
+                field.setAccessible(true);
+                try {
+                    if (field.get(value) != null) {
+                        return true;
+                    }
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            return false;
+        }
+    }
+}
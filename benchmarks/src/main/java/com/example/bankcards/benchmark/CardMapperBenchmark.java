@@ -0,0 +1,43 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.dto.response.CardResponse;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.mapper.CardMapper;
+import com.example.bankcards.mapper.CardMapperImpl;
+import com.example.bankcards.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardMapperBenchmark {
+
+    private CardMapper cardMapper;
+
+    private Card card;
+
+    @Setup
+    public void setUp() {
+        cardMapper = new CardMapperImpl();
+        card = Card.builder()
+                .id(1L)
+                .cardNumber("4111 1111 1111 1111")
+                .cardNumberHash("hash")
+                .expiryDate(LocalDate.now().plusYears(3))
+                .cardStatus(CardStatus.ACTIVE)
+                .balance(new Money(100_000))
+                .build();
+    }
+
+    @Benchmark
+    public CardResponse toCardResponse() {
+        return cardMapper.toCardResponse(card);
+    }
+}
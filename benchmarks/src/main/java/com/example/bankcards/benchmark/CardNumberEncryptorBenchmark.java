@@ -0,0 +1,51 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.util.CardNumberEncryptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardNumberEncryptorBenchmark {
+
+    private static final String CARD_NUMBER = "4111 1111 1111 1111";
+
+    // "none" is a registry without backends, i.e. no-op timers; the difference is the metrics overhead
+    @Param({"none", "prometheus"})
+    private String registry;
+
+    private CardNumberEncryptor encryptor;
+
+    private String encryptedCardNumber;
+
+    @Setup
+    public void setUp() {
+        encryptor = new CardNumberEncryptor("encryptor_password", "encryptor_salt", meterRegistry());
+        encryptedCardNumber = encryptor.encrypt(CARD_NUMBER);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptor.encrypt(CARD_NUMBER);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptor.decrypt(encryptedCardNumber);
+    }
+
+    private MeterRegistry meterRegistry() {
+        return registry.equals("prometheus")
+                ? new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)
+                : new CompositeMeterRegistry();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.enums.CardNumberMaskFormat;
+import com.example.bankcards.util.CardNumberMasker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Run with {@code -prof gc} for the allocation per masked number.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardNumberMaskerBenchmark {
+
+    @Param({"LAST4", "FIRST6_LAST4"})
+    private CardNumberMaskFormat format;
+
+    private String cardNumber = "4111 1111 1111 1111";
+
+    private String bin = "411111";
+
+    private String lastDigits = "1111";
+
+    @Benchmark
+    public String formatted() {
+        // the implementation before the masked layout was written into a char buffer
+        if (cardNumber == null || cardNumber.length() < 4) {
+            return cardNumber;
+        }
+        return "**** **** **** %s".formatted(cardNumber.substring(cardNumber.length() - 4));
+    }
+
+    @Benchmark
+    public String mask() {
+        return CardNumberMasker.mask(cardNumber, format);
+    }
+
+    @Benchmark
+    public String maskFromDigits() {
+        return CardNumberMasker.mask(bin, lastDigits, format);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.security.CachingJwtDecoder;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.*;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    private static final String SECRET = "The_secret_length_must_be_at_least_256_bits";
+
+    private JwtDecoder nimbusDecoder;
+
+    private JwtDecoder cachingDecoder;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SecretKeySpec key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        Instant now = Instant.now();
+
+        token = new NimbusJwtEncoder(new ImmutableSecret<>(key))
+                .encode(JwtEncoderParameters.from(
+                        JwsHeader.with(() -> "HS256").build(),
+                        JwtClaimsSet.builder()
+                                .issuer("bankcards")
+                                .issuedAt(now)
+                                .expiresAt(now.plus(Duration.ofHours(1)))
+                                .subject("alice")
+                                .claim("role", "USER")
+                                .build()
+                ))
+                .getTokenValue();
+
+        nimbusDecoder = NimbusJwtDecoder.withSecretKey(key).build();
+        cachingDecoder = new CachingJwtDecoder(nimbusDecoder, 10_000, Duration.ofSeconds(60), Clock.systemUTC());
+    }
+
+    @Benchmark
+    public Jwt nimbus() {
+        return nimbusDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cached() {
+        return cachingDecoder.decode(token);
+    }
+}
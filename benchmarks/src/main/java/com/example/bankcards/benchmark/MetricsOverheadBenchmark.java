@@ -0,0 +1,48 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.metrics.TransferMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    private final Supplier<String> work = () -> "4111 1111 1111 1111";
+
+    private Timer timer;
+
+    private TransferMetrics transferMetrics;
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        timer = Timer.builder("bankcards.crypto").tag("operation", "hash").register(meterRegistry);
+        transferMetrics = new TransferMetrics(meterRegistry);
+    }
+
+    @Benchmark
+    public String baseline() {
+        return work.get();
+    }
+
+    @Benchmark
+    public String timed() {
+        return timer.record(work);
+    }
+
+    @Benchmark
+    public void transferRejected() {
+        transferMetrics.recordRejected(TransferRejectionReason.INSUFFICIENT_BALANCE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.ratelimit.RateLimitFilter;
+import com.example.bankcards.ratelimit.RateLimitRule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"1", "1000"})
+    private int subjects;
+
+    private RateLimitFilter filter;
+
+    private MockHttpServletRequest limitedRequest;
+
+    private MockHttpServletRequest unlimitedRequest;
+
+    private MockHttpServletResponse response;
+
+    private TestingAuthenticationToken[] authentications;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        RateLimitRule rule = new RateLimitRule(
+                "transfers", "/api/v1/transfers", Set.of("POST"),
+                1_000_000_000_000L, 1_000_000_000L, Duration.ofSeconds(1)
+        );
+        filter = new RateLimitFilter(List.of(rule), 10_000, new ObjectMapper());
+
+        limitedRequest = new MockHttpServletRequest("POST", "/api/v1/transfers");
+        unlimitedRequest = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        response = new MockHttpServletResponse();
+
+        authentications = new TestingAuthenticationToken[subjects];
+        for (int i = 0; i < subjects; i++) {
+            authentications[i] = new TestingAuthenticationToken("user" + i, null, "ROLE_USER");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void limitedEndpoint() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(authentications[next]);
+        next = next + 1 == subjects ? 0 : next + 1;
+        filter.doFilter(limitedRequest, response, NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void unlimitedEndpoint() throws Exception {
+        filter.doFilter(unlimitedRequest, response, NO_OP_CHAIN);
+    }
+}
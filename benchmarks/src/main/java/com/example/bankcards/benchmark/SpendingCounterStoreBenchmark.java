@@ -0,0 +1,45 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.limits.InMemorySpendingCounterStore;
+import com.example.bankcards.limits.SpendingLimits;
+import com.example.bankcards.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpendingCounterStoreBenchmark {
+
+    private static final Money AMOUNT = new Money(100);
+
+    @Param({"1", "10000"})
+    private int cards;
+
+    private InMemorySpendingCounterStore store;
+
+    private Instant now;
+
+    @Setup
+    public void setUp() {
+        store = new InMemorySpendingCounterStore(
+                new SpendingLimits(new Money(Long.MAX_VALUE / 4), new Money(Long.MAX_VALUE / 4), Integer.MAX_VALUE),
+                64
+        );
+        now = Instant.now();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<TransferRejectionReason> tryRecord() {
+        return store.tryRecord(ThreadLocalRandom.current().nextInt(cards), AMOUNT, now);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.exception.StackTraces;
+import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.money.Money;
+import com.example.bankcards.validator.TransferValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of rejected insufficient-funds transfers with and without stack traces. The validator is called
+ * below {@code depth} frames, since a request thread reaches it through the servlet, security filter chain,
+ * controller and service proxies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferRejectionBenchmark {
+
+    @Param({"false", "true"})
+    private boolean stackTraces;
+
+    @Param({"20", "150"})
+    private int depth;
+
+    private TransferValidator transferValidator;
+
+    private Card fromCard;
+
+    private Card toCard;
+
+    private Money excessiveAmount;
+
+    @Setup
+    public void setUp() {
+        StackTraces.setEnabled(stackTraces);
+        transferValidator = new TransferValidator();
+        fromCard = Card.builder().id(1L).cardStatus(CardStatus.ACTIVE).balance(new Money(100_000)).build();
+        toCard = Card.builder().id(2L).cardStatus(CardStatus.ACTIVE).balance(Money.ZERO).build();
+        excessiveAmount = new Money(500_000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        StackTraces.setEnabled(false);
+    }
+
+    @Benchmark
+    public Exception insufficientFunds() {
+        return rejectAt(depth);
+    }
+
+    private Exception rejectAt(int remaining) {
+        if (remaining > 0) {
+            return rejectAt(remaining - 1);
+        }
+        try {
+            transferValidator.validateForTransfer(fromCard, toCard, excessiveAmount);
+            return null;
+        } catch (TransferOperationNotAllowedException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.money.Money;
+import com.example.bankcards.validator.TransferValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferValidatorBenchmark {
+
+    private TransferValidator transferValidator;
+
+    private Card fromCard;
+
+    private Card toCard;
+
+    private Money amount;
+
+    private Money excessiveAmount;
+
+    @Setup
+    public void setUp() {
+        transferValidator = new TransferValidator();
+        fromCard = Card.builder().id(1L).cardStatus(CardStatus.ACTIVE).balance(new Money(100_000)).build();
+        toCard = Card.builder().id(2L).cardStatus(CardStatus.ACTIVE).balance(Money.ZERO).build();
+        amount = new Money(10_000);
+        excessiveAmount = new Money(500_000);
+    }
+
+    @Benchmark
+    public void valid() {
+        transferValidator.validateForTransfer(fromCard, toCard, amount);
+    }
+
+    @Benchmark
+    public Exception insufficientBalance() {
+        try {
+            transferValidator.validateForTransfer(fromCard, toCard, excessiveAmount);
+            return null;
+        } catch (TransferOperationNotAllowedException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.dto.request.CardCreateRequest;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.request.UserCreateRequest;
+import com.example.bankcards.dto.request.UserUpdateRequest;
+import com.example.bankcards.enums.Role;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+
+    private Validator validator;
+
+    private TransferRequest transferRequest;
+
+    private CardCreateRequest cardCreateRequest;
+
+    private UserCreateRequest userCreateRequest;
+
+    private UserUpdateRequest userUpdateRequest;
+
+    @Setup
+    public void setUp() {
+        // the regex-based validators get their patterns injected from properties, as in the application
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("validation", Map.of(
+                "validation.regex.username", "^[A-Za-z][A-Za-z0-9_]{2,20}$",
+                "validation.regex.card-number", "^\\d{4} \\d{4} \\d{4} \\d{4}$"
+        )));
+        context.register(LocalValidatorFactoryBean.class);
+        context.refresh();
+        validator = context.getBean(LocalValidatorFactoryBean.class);
+
+        transferRequest = new TransferRequest(1L, 2L, new BigDecimal("100.00"));
+        cardCreateRequest = new CardCreateRequest(
+                "4111 1111 1111 1111", 1L, LocalDate.now().plusYears(3), new BigDecimal("1000.00"), "RUB"
+        );
+        userCreateRequest = new UserCreateRequest("alice", "secret", Role.USER);
+        userUpdateRequest = new UserUpdateRequest("alice_new");
+
+        for (Object request : new Object[]{transferRequest, cardCreateRequest, userCreateRequest, userUpdateRequest}) {
+            if (!validator.validate(request).isEmpty()) {
+                throw new IllegalStateException("Benchmark request is expected to be valid: " + request);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TransferRequest>> transferRequest() {
+        return validator.validate(transferRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CardCreateRequest>> cardCreateRequest() {
+        return validator.validate(cardCreateRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserCreateRequest>> userCreateRequest() {
+        return validator.validate(userCreateRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<UserUpdateRequest>> userUpdateRequest() {
+        return validator.validate(userUpdateRequest);
+    }
+}
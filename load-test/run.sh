@@ -0,0 +1,10 @@
+#!/usr/bin/env sh
+# Builds the application, then boots it against an embedded Postgres and runs the mixed workload. Extra
+# arguments are passed to Maven, e.g. -Dloadtest.virtual-users=400, or -Dloadtest.baseline=baseline.json to
+# fail on a regression against the committed load-test/baseline.json
+set -e
+
+cd "$(dirname "$0")/.."
+
+mvn -B -q install -DskipTests
+mvn -B -f load-test/pom.xml verify "$@"
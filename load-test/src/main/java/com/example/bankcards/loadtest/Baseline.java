@@ -0,0 +1,89 @@
+package com.example.bankcards.loadtest;
+
+import com.example.bankcards.loadtest.LoadTestRunner.Report;
+import com.example.bankcards.loadtest.LoadTestRunner.Result;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Committed per-operation latency and error figures. A run regresses when an operation's p95 or p99
+ * exceeds the baseline by more than the tolerance, or its error rate grows by more than one percentage point.
+ */
+public record Baseline(Map<String, Entry> operations) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final double ERROR_RATE_ALLOWANCE = 0.01;
+
+    public static Baseline read(Path path) throws IOException {
+        return new Baseline(OBJECT_MAPPER.readValue(path.toFile(), new TypeReference<Map<String, Entry>>() {
+        }));
+    }
+
+    public static Baseline of(Report report) {
+        Map<String, Entry> operations = new LinkedHashMap<>();
+        report.results().forEach((operation, result) -> operations.put(operation.getName(), new Entry(
+                round(Result.millis(result.p50())),
+                round(Result.millis(result.p95())),
+                round(Result.millis(result.p99())),
+                round(result.errorRate())
+        )));
+        return new Baseline(operations);
+    }
+
+    public void write(Path path) throws IOException {
+        OBJECT_MAPPER.writeValue(path.toFile(), operations);
+    }
+
+    public List<String> regressions(Report report, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        if (report.failedUsers() > 0) {
+            regressions.add("%d virtual users failed during setup".formatted(report.failedUsers()));
+        }
+
+        report.results().forEach((operation, result) -> {
+            Entry entry = operations.get(operation.getName());
+            if (entry == null) {
+                return;
+            }
+            check(regressions, operation, "p95", Result.millis(result.p95()), entry.p95Millis(), tolerance);
+            check(regressions, operation, "p99", Result.millis(result.p99()), entry.p99Millis(), tolerance);
+            if (result.errorRate() > entry.errorRate() + ERROR_RATE_ALLOWANCE) {
+                regressions.add("%s error rate %.4f exceeds baseline %.4f"
+                        .formatted(operation.getName(), result.errorRate(), entry.errorRate()));
+            }
+        });
+        return regressions;
+    }
+
+    private static void check(
+            List<String> regressions,
+            Operation operation,
+            String metric,
+            double actualMillis,
+            double baselineMillis,
+            double tolerance
+    ) {
+        double limit = baselineMillis * (1 + tolerance);
+        if (actualMillis > limit) {
+            regressions.add("%s %s %.2f ms exceeds baseline %.2f ms (limit %.2f ms)"
+                    .formatted(operation.getName(), metric, actualMillis, baselineMillis, limit));
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    public record Entry(double p50Millis, double p95Millis, double p99Millis, double errorRate) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.bankcards.loadtest;
+
+import com.example.bankcards.BankCardsApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The application on a random port, backed by a throwaway embedded Postgres migrated
+ * by the application's own Liquibase changelog.
+ */
+public class EmbeddedApplication implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedApplication(EmbeddedPostgres postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    /**
+     * @param arguments added after the defaults, so they override them
+     */
+    public static EmbeddedApplication start(String... arguments) throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        try {
+            List<String> defaults = List.of(
+                    "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--spring.jpa.show-sql=false",
+                    "--spring.devtools.restart.enabled=false",
+                    "--server.port=0",
+                    "--logging.level.root=warn",
+                    "--logging.level.com.example.bankcards=warn",
+                    "--rate-limit.enabled=false",
+                    "--spending-limits.enabled=false",
+                    "--jwt.secret-key=load_test_secret_key_must_be_at_least_256_bits",
+                    "--crypto.encryptor.password=load_test_password",
+                    "--crypto.encryptor.salt=load_test_salt",
+                    "--crypto.hasher.secret-key=load_test_hasher_key"
+            );
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(BankCardsApplication.class)
+                    .run(Stream.concat(defaults.stream(), Arrays.stream(arguments)).toArray(String[]::new));
+            return new EmbeddedApplication(postgres, context);
+        } catch (RuntimeException e) {
+            postgres.close();
+            throw e;
+        }
+    }
+
+    public URI baseUri() {
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port);
+    }
+
+    public ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        postgres.close();
+    }
+}
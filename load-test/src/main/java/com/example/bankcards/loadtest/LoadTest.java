@@ -0,0 +1,84 @@
+package com.example.bankcards.loadtest;
+
+import com.example.bankcards.loadtest.LoadTestRunner.Account;
+import com.example.bankcards.loadtest.LoadTestRunner.Report;
+import com.example.bankcards.util.CardNumberEncryptor;
+import com.example.bankcards.util.CardNumberHasher;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Entry point of the load test: runs the workload, prints per-operation results and exits with
+ * a non-zero status if the given baseline is missing or regressed.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        Report report;
+        if (settings.baseUrl() != null) {
+            Account account = new Account(settings.username(), settings.password());
+            report = runner(settings, settings.baseUrl()).run(List.of(account));
+        } else {
+            try (EmbeddedApplication application = EmbeddedApplication.start()) {
+                List<Account> accounts = seed(application.context(), settings);
+                report = runner(settings, application.baseUri()).run(accounts);
+            }
+        }
+        System.out.println(report.format());
+
+        System.exit(checkBaseline(settings, report) ? 0 : 1);
+    }
+
+    private static List<Account> seed(ApplicationContext context, LoadTestSettings settings) {
+        LoadTestSeeder seeder = new LoadTestSeeder(
+                context.getBean(JdbcTemplate.class),
+                context.getBean(PasswordEncoder.class),
+                context.getBean(CardNumberEncryptor.class),
+                context.getBean(CardNumberHasher.class)
+        );
+        return seeder.seed(settings.seedUsers(), settings.cardsPerUser()).stream()
+                .map(username -> new Account(username, LoadTestSeeder.PASSWORD))
+                .toList();
+    }
+
+    private static LoadTestRunner runner(LoadTestSettings settings, URI baseUri) {
+        return new LoadTestRunner(
+                baseUri,
+                settings.virtualUsers(),
+                settings.warmup(),
+                settings.duration(),
+                settings.mix()
+        );
+    }
+
+    private static boolean checkBaseline(LoadTestSettings settings, Report report) throws Exception {
+        if (settings.baseline() == null) {
+            if (settings.updateBaseline()) {
+                System.out.println("FAILED: set loadtest.baseline to the file to write");
+                return false;
+            }
+            System.out.println("No loadtest.baseline given, skipping regression check");
+            return true;
+        }
+        if (settings.updateBaseline()) {
+            Baseline.of(report).write(settings.baseline());
+            System.out.println("Baseline written to " + settings.baseline());
+            return true;
+        }
+        if (!Files.exists(settings.baseline())) {
+            System.out.println("FAILED: no baseline at " + settings.baseline().toAbsolutePath());
+            return false;
+        }
+
+        List<String> regressions = Baseline.read(settings.baseline()).regressions(report, settings.tolerance());
+        regressions.forEach(regression -> System.out.println("REGRESSION: " + regression));
+        return regressions.isEmpty();
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.bankcards.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load generator. Every virtual user first logs one account in and looks up its cards;
+ * once all of them are ready they issue operations back to back, picked at random according to the workload mix.
+ */
+public class LoadTestRunner {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String TRANSFER_AMOUNT = "0.01";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    // every virtual user logs in at once before the run, which queues up behind password hashing
+    private static final Duration SETUP_TIMEOUT = Duration.ofMinutes(5);
+
+    private final HttpClient client;
+
+    private final URI baseUri;
+
+    private final int virtualUsers;
+
+    private final Duration warmup;
+
+    private final Duration duration;
+
+    private final Operation[] schedule;
+
+    public LoadTestRunner(
+            URI baseUri,
+            int virtualUsers,
+            Duration warmup,
+            Duration duration,
+            Map<Operation, Integer> mix
+    ) {
+        this.baseUri = baseUri;
+        this.virtualUsers = virtualUsers;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.schedule = schedule(mix);
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, virtualUsers / 8)))
+                .build();
+    }
+
+    public Report run(List<Account> accounts) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(virtualUsers);
+
+        List<Future<Session>> setups = new ArrayList<>(virtualUsers);
+        for (int i = 0; i < virtualUsers; i++) {
+            Account account = accounts.get(i % accounts.size());
+            setups.add(workers.submit(() -> open(account)));
+        }
+
+        long failedUsers = 0;
+        List<Session> sessions = new ArrayList<>(virtualUsers);
+        for (Future<Session> setup : setups) {
+            try {
+                sessions.add(setup.get());
+            } catch (ExecutionException e) {
+                System.err.println("Virtual user setup failed: " + e.getCause());
+                failedUsers++;
+            }
+        }
+
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        List<Future<Map<Operation, Recorder>>> futures = new ArrayList<>(sessions.size());
+        for (Session session : sessions) {
+            futures.add(workers.submit(() -> drive(session, warmupEnd, end)));
+        }
+        workers.shutdown();
+        workers.awaitTermination(warmup.plus(duration).toSeconds() + 60, TimeUnit.SECONDS);
+
+        Map<Operation, Recorder> total = recorders();
+        for (Future<Map<Operation, Recorder>> future : futures) {
+            try {
+                future.get().forEach((operation, recorder) -> total.get(operation).merge(recorder));
+            } catch (ExecutionException e) {
+                failedUsers++;
+            }
+        }
+
+        Map<Operation, Result> results = new EnumMap<>(Operation.class);
+        total.forEach((operation, recorder) -> {
+            if (recorder.total() > 0) {
+                results.put(operation, recorder.toResult(duration));
+            }
+        });
+        return new Report(results, failedUsers);
+    }
+
+    private Session open(Account account) throws IOException, InterruptedException {
+        String token = login(account);
+        long[] cardIds = cardIds(token);
+        if (cardIds.length < 2 && Arrays.asList(schedule).contains(Operation.TRANSFERS)) {
+            throw new IllegalStateException("User '%s' needs at least two cards for transfers"
+                    .formatted(account.username()));
+        }
+        return new Session(loginRequest(account), cardsRequest(token), transferRequests(token, cardIds));
+    }
+
+    private Map<Operation, Recorder> drive(Session session, long warmupEnd, long end) throws InterruptedException {
+        Map<Operation, Recorder> recorders = recorders();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpRequest[] transferRequests = session.transferRequests();
+        int nextTransfer = random.nextInt(transferRequests.length);
+        long now = System.nanoTime();
+        while (now < end) {
+            Operation operation = schedule[random.nextInt(schedule.length)];
+            HttpRequest request = switch (operation) {
+                case LOGIN -> session.loginRequest();
+                case CARDS -> session.cardsRequest();
+                case TRANSFERS -> transferRequests[nextTransfer++ % transferRequests.length];
+            };
+
+            long start = now;
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            }
+            now = System.nanoTime();
+            if (start >= warmupEnd) {
+                recorders.get(operation).record(now - start, ok);
+            }
+        }
+        return recorders;
+    }
+
+    private String login(Account account) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(forSetup(loginRequest(account)), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login of '%s' failed with status %d"
+                    .formatted(account.username(), response.statusCode()));
+        }
+        return OBJECT_MAPPER.readTree(response.body()).get("token").asText();
+    }
+
+    private long[] cardIds(String token) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(forSetup(cardsRequest(token)), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Card lookup failed with status " + response.statusCode());
+        }
+        JsonNode content = OBJECT_MAPPER.readTree(response.body()).get("content");
+        long[] ids = new long[content.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = content.get(i).get("id").asLong();
+        }
+        return ids;
+    }
+
+    private static HttpRequest forSetup(HttpRequest request) {
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .timeout(SETUP_TIMEOUT)
+                .build();
+    }
+
+    private HttpRequest loginRequest(Account account) throws IOException {
+        return HttpRequest.newBuilder(baseUri.resolve("/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(account)))
+                .build();
+    }
+
+    private HttpRequest cardsRequest(String token) {
+        return HttpRequest.newBuilder(baseUri.resolve("/api/v1/cards?page=0&size=10"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    // transfers go round the user's cards so that balances stay level over the run
+    private HttpRequest[] transferRequests(String token, long[] cardIds) throws IOException {
+        if (cardIds.length < 2) {
+            return new HttpRequest[]{cardsRequest(token)};
+        }
+        HttpRequest[] requests = new HttpRequest[cardIds.length];
+        for (int i = 0; i < cardIds.length; i++) {
+            String body = OBJECT_MAPPER.writeValueAsString(Map.of(
+                    "fromCardId", cardIds[i],
+                    "toCardId", cardIds[(i + 1) % cardIds.length],
+                    "amount", TRANSFER_AMOUNT
+            ));
+            requests[i] = HttpRequest.newBuilder(baseUri.resolve("/api/v1/transfers"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .timeout(REQUEST_TIMEOUT)
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+        return requests;
+    }
+
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("Workload mix must contain at least one operation");
+        }
+        return schedule.toArray(Operation[]::new);
+    }
+
+    private static Map<Operation, Recorder> recorders() {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder());
+        }
+        return recorders;
+    }
+
+    public record Account(String username, String password) {
+    }
+
+    private record Session(HttpRequest loginRequest, HttpRequest cardsRequest, HttpRequest[] transferRequests) {
+    }
+
+    public record Report(Map<Operation, Result> results, long failedUsers) {
+
+        public String format() {
+            StringBuilder builder = new StringBuilder();
+            results.forEach((operation, result) -> builder
+                    .append("%-10s".formatted(operation.getName()))
+                    .append(result.format())
+                    .append(System.lineSeparator()));
+            if (failedUsers > 0) {
+                builder.append("virtual users failed during setup: ").append(failedUsers);
+            }
+            return builder.toString();
+        }
+    }
+
+    public record Result(long requests, long errors, double throughput, long p50, long p95, long p99, long max) {
+
+        public double errorRate() {
+            return requests == 0 ? 0 : errors / (double) requests;
+        }
+
+        public String format() {
+            return "requests=%d errors=%d throughput=%.1f req/s p50=%.2f ms p95=%.2f ms p99=%.2f ms max=%.2f ms"
+                    .formatted(requests, errors, throughput, millis(p50), millis(p95), millis(p99), millis(max));
+        }
+
+        public static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    static final class Recorder {
+
+        private long[] latencies = new long[1024];
+
+        private int count;
+
+        private long errors;
+
+        void record(long latencyNanos, boolean ok) {
+            if (!ok) {
+                errors++;
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        long total() {
+            return count + errors;
+        }
+
+        Result toResult(Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new Result(
+                    count + errors,
+                    errors,
+                    count / (double) duration.toSeconds(),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.95),
+                    percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1]
+            );
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+    }
+}
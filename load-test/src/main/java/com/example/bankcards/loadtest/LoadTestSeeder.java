@@ -0,0 +1,101 @@
+package com.example.bankcards.loadtest;
+
+import com.example.bankcards.util.CardNumberEncryptor;
+import com.example.bankcards.util.CardNumberHasher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adds load test users and cards on top of the changelog's seed data. All users share one
+ * password so that it is hashed once.
+ */
+public class LoadTestSeeder {
+
+    public static final String PASSWORD = "loadtest";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final CardNumberEncryptor cardNumberEncryptor;
+
+    private final CardNumberHasher cardNumberHasher;
+
+    public LoadTestSeeder(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            CardNumberEncryptor cardNumberEncryptor,
+            CardNumberHasher cardNumberHasher
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.cardNumberEncryptor = cardNumberEncryptor;
+        this.cardNumberHasher = cardNumberHasher;
+    }
+
+    public List<String> seed(int users, int cardsPerUser) {
+        long firstUserId = nextId("users");
+        long firstCardId = nextId("cards");
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        LocalDate expiryDate = LocalDate.now().plusYears(3);
+
+        List<String> usernames = new ArrayList<>(users);
+        List<Object[]> userRows = new ArrayList<>(users);
+        List<Object[]> cardRows = new ArrayList<>(users * cardsPerUser);
+        long cardId = firstCardId;
+        for (int i = 0; i < users; i++) {
+            long userId = firstUserId + i;
+            String username = "loadtest_%d".formatted(i);
+            usernames.add(username);
+            userRows.add(new Object[]{userId, username, passwordHash, "USER"});
+
+            for (int j = 0; j < cardsPerUser; j++, cardId++) {
+                String cardNumber = cardNumber(cardId);
+                cardRows.add(new Object[]{
+                        cardId,
+                        cardNumberEncryptor.encrypt(cardNumber),
+                        cardNumberHasher.hash(cardNumber),
+                        userId,
+                        expiryDate,
+                        "ACTIVE",
+                        1_000_000
+                });
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, username, password_hash, role) VALUES (?, ?, ?, ?)",
+                userRows
+        );
+        for (int from = 0; from < cardRows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO cards (id, encrypted_card_number, card_number_hash, owner_id, expiry_date, "
+                            + "card_status, balance) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    cardRows.subList(from, Math.min(from + BATCH_SIZE, cardRows.size()))
+            );
+        }
+
+        // the changelog inserts users with explicit ids, so keep the sequences ahead of everything inserted
+        jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('users', 'id'), (SELECT MAX(id) FROM users))");
+        jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('cards', 'id'), (SELECT MAX(id) FROM cards))");
+        return usernames;
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId == null ? 1 : maxId + 1;
+    }
+
+    private static String cardNumber(long cardId) {
+        String digits = "4%015d".formatted(cardId);
+        return "%s %s %s %s".formatted(
+                digits.substring(0, 4), digits.substring(4, 8), digits.substring(8, 12), digits.substring(12)
+        );
+    }
+}
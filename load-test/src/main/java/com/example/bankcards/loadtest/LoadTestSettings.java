@@ -0,0 +1,59 @@
+package com.example.bankcards.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from system properties prefixed with {@code loadtest.}.
+ * Without {@code loadtest.base-url} the application is started against an embedded Postgres; without
+ * {@code loadtest.baseline} no regression check is made.
+ */
+public record LoadTestSettings(
+        URI baseUrl,
+        String username,
+        String password,
+        int seedUsers,
+        int cardsPerUser,
+        int virtualUsers,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        Path baseline,
+        double tolerance,
+        boolean updateBaseline
+) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        String baseUrl = System.getProperty("loadtest.base-url", "");
+        String baseline = System.getProperty("loadtest.baseline", "");
+        return new LoadTestSettings(
+                baseUrl.isBlank() ? null : URI.create(baseUrl),
+                System.getProperty("loadtest.username", "alice"),
+                System.getProperty("loadtest.password", "alice"),
+                Integer.getInteger("loadtest.seed-users", 200),
+                Integer.getInteger("loadtest.cards-per-user", 3),
+                Integer.getInteger("loadtest.virtual-users", 100),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                parseMix(System.getProperty("loadtest.mix", "login:5,cards:75,transfers:20")),
+                baseline.isBlank() ? null : Path.of(baseline),
+                Double.parseDouble(System.getProperty("loadtest.tolerance", "0.5")),
+                Boolean.getBoolean("loadtest.update-baseline")
+        );
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid workload mix entry: " + entry);
+            }
+            weights.put(Operation.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
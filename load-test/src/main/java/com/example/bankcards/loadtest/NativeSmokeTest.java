@@ -0,0 +1,229 @@
+package com.example.bankcards.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Starts the native executable (or any other launch command) against an embedded Postgres and checks the paths
+ * that depend on reflection and resource hints: Liquibase changelogs, the card number converter, constraint
+ * validators, Jackson bodies and the outbox. Reports time-to-first-successful-request and resident memory,
+ * and exits with a non-zero status if a check fails.
+ */
+public class NativeSmokeTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private final List<String> failures = new ArrayList<>();
+
+    private URI baseUri;
+
+    public static void main(String[] args) throws Exception {
+        List<String> command = Arrays.stream(System.getProperty("smoke.command", "../target/bank-card-manager").split(" "))
+                .filter(part -> !part.isBlank())
+                .toList();
+        Duration startupTimeout = Duration.parse(System.getProperty("smoke.startup-timeout", "PT2M"));
+
+        System.exit(new NativeSmokeTest().run(command, startupTimeout) ? 0 : 1);
+    }
+
+    public boolean run(List<String> command, Duration startupTimeout) throws IOException, InterruptedException {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            int port = freePort();
+            baseUri = URI.create("http://localhost:" + port);
+
+            List<String> arguments = new ArrayList<>(command);
+            arguments.addAll(List.of(
+                    "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                    "--spring.datasource.username=postgres",
+                    "--spring.datasource.password=postgres",
+                    "--spring.jpa.show-sql=false",
+                    "--server.port=" + port,
+                    "--logging.level.root=warn",
+                    "--rate-limit.enabled=false",
+                    "--jwt.secret-key=smoke_test_secret_key_must_be_at_least_256_bits",
+                    "--crypto.encryptor.password=smoke_test_password",
+                    "--crypto.encryptor.salt=smoke_test_salt",
+                    "--crypto.hasher.secret-key=smoke_test_hasher_key"
+            ));
+
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(arguments).inheritIO().start();
+            try {
+                long startupMillis = awaitFirstResponse(process, start, startupTimeout);
+                System.out.println("time to first successful request: " + startupMillis + " ms");
+                System.out.println("resident memory after startup: " + residentMemory(process));
+
+                check();
+
+                System.out.println("resident memory after smoke test: " + residentMemory(process));
+            } finally {
+                process.destroy();
+                process.waitFor();
+            }
+        }
+
+        failures.forEach(failure -> System.out.println("FAILED: " + failure));
+        return failures.isEmpty();
+    }
+
+    private void check() throws IOException, InterruptedException {
+        String adminToken = login("admin", "admin");
+        String aliceToken = login("alice", "alice");
+
+        expect("API docs", 200, send(get("/v3/api-docs", adminToken)));
+
+        long firstCardId = createCard(adminToken, "4000 0000 0000 0002");
+        long secondCardId = createCard(adminToken, "4000 0000 0000 0010");
+
+        HttpResponse<String> card = expect("card lookup", 200, send(get("/api/v1/cards/" + firstCardId, aliceToken)));
+        if (card != null && !readTree(card).get("maskedCardNumber").asText().endsWith("0002")) {
+            failures.add("card lookup: card number was not decrypted and masked");
+        }
+
+        expect("card number constraint", 400, send(post("/api/v1/cards", adminToken, Map.of(
+                "cardNumber", "not a card number",
+                "ownerId", 2,
+                "expiryDate", LocalDate.now().plusYears(3).toString(),
+                "initialBalance", "10.00"
+        ))));
+        expect("at least one field constraint", 400, send(patch("/api/v1/users/2", adminToken, Map.of())));
+
+        expect("transfer", 204, send(post("/api/v1/transfers", aliceToken, Map.of(
+                "fromCardId", firstCardId,
+                "toCardId", secondCardId,
+                "amount", "1.00"
+        ))));
+        expect("own cards", 200, send(get("/api/v1/users/me/cards", aliceToken)));
+    }
+
+    private String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = expect("login of " + username, 200, send(post(
+                "/api/v1/auth/login", null, Map.of("username", username, "password", password))));
+        if (response == null) {
+            throw new IllegalStateException("Login of '%s' failed, cannot continue".formatted(username));
+        }
+        return readTree(response).get("token").asText();
+    }
+
+    private long createCard(String token, String cardNumber) throws IOException, InterruptedException {
+        HttpResponse<String> response = expect("card creation", 201, send(post("/api/v1/cards", token, Map.of(
+                "cardNumber", cardNumber,
+                "ownerId", 2,
+                "expiryDate", LocalDate.now().plusYears(3).toString(),
+                "initialBalance", "100.00"
+        ))));
+        if (response == null) {
+            throw new IllegalStateException("Card creation failed, cannot continue");
+        }
+        return readTree(response).get("id").asLong();
+    }
+
+    private HttpResponse<String> expect(String name, int status, HttpResponse<String> response) {
+        if (response.statusCode() != status) {
+            failures.add("%s: expected status %d but was %d %s".formatted(name, status, response.statusCode(), response.body()));
+            return null;
+        }
+        System.out.println("ok: " + name);
+        return response;
+    }
+
+    private long awaitFirstResponse(Process process, long start, Duration timeout) throws InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(baseUri.resolve("/actuator/health"))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        long deadline = start + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with status " + process.exitValue());
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return (System.nanoTime() - start) / 1_000_000;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("Application did not become healthy within " + timeout);
+    }
+
+    // Linux only; the launch command must exec the application rather than fork it
+    private static String residentMemory(Process process) throws IOException {
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        if (!Files.exists(status)) {
+            return "unavailable";
+        }
+        Map<String, String> values = Files.readAllLines(status).stream()
+                .map(line -> line.split(":\\s+", 2))
+                .filter(parts -> parts.length == 2)
+                .collect(Collectors.toMap(parts -> parts[0], parts -> parts[1], (first, second) -> first));
+        return "%s (peak %s)".formatted(values.get("VmRSS"), values.get("VmHWM"));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) throws IOException {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest patch(String path, String token, Object body) throws IOException {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static JsonNode readTree(HttpResponse<String> response) throws IOException {
+        return OBJECT_MAPPER.readTree(response.body());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
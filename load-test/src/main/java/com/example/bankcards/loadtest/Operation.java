@@ -0,0 +1,27 @@
+package com.example.bankcards.loadtest;
+
+import java.util.Arrays;
+
+public enum Operation {
+
+    LOGIN("login"),
+    CARDS("cards"),
+    TRANSFERS("transfers");
+
+    private final String name;
+
+    Operation(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + name));
+    }
+}
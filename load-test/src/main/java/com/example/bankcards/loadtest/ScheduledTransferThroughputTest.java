@@ -0,0 +1,197 @@
+package com.example.bankcards.loadtest;
+
+import com.example.bankcards.config.ScheduledTransferProperties;
+import com.example.bankcards.scheduled.ScheduledTransferRunner;
+import com.example.bankcards.service.application.TransferApplicationService;
+import com.example.bankcards.util.CardNumberEncryptor;
+import com.example.bankcards.util.CardNumberHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Schedules one-off transfers that all fall due in the same minute and measures how fast the runners drain
+ * them. The application's own runner plays the first node; the others are extra runners on the same
+ * database, claiming from the same table as separate instances would. Every job moves 1.00 between its own
+ * pair of cards, so the balances show whether any job was paid twice or not at all. Exits with a non-zero
+ * status if a check fails.
+ */
+public class ScheduledTransferThroughputTest {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+
+    private static final int CARDS_PER_USER = 4;
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(5);
+
+    public static void main(String[] args) throws Exception {
+        int jobs = Integer.getInteger("scheduled.jobs", 100_000);
+        int nodes = Integer.getInteger("scheduled.nodes", 2);
+        int workers = Integer.getInteger("scheduled.workers", 4);
+        int batchSize = Integer.getInteger("scheduled.batch-size", 100);
+        Duration timeout = Duration.parse(System.getProperty("scheduled.timeout", "PT30M"));
+
+        boolean passed;
+        try (EmbeddedApplication application = EmbeddedApplication.start(
+                "--scheduled-transfers.runner.workers=" + workers,
+                "--scheduled-transfers.runner.batch-size=" + batchSize,
+                "--scheduled-transfers.runner.poll-interval=200ms",
+                "--spring.datasource.hikari.maximum-pool-size=" + (nodes * workers + 10)
+        )) {
+            passed = run(application.context(), jobs, nodes, timeout);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static boolean run(ApplicationContext context, int jobs, int nodes, Duration timeout)
+            throws InterruptedException {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        long seedStart = System.nanoTime();
+        new LoadTestSeeder(
+                jdbcTemplate,
+                context.getBean(PasswordEncoder.class),
+                context.getBean(CardNumberEncryptor.class),
+                context.getBean(CardNumberHasher.class)
+        ).seed((jobs + 1) / 2, CARDS_PER_USER);
+        Instant dueAt = Instant.now().plus(Duration.ofSeconds(30)).truncatedTo(ChronoUnit.MINUTES)
+                .plus(Duration.ofMinutes(1));
+        schedule(jdbcTemplate, jobs, dueAt);
+        System.out.printf("seeded %d jobs due at %s in %d ms%n", jobs, dueAt, millisSince(seedStart));
+
+        List<ScheduledTransferRunner> extraNodes = new ArrayList<>();
+        for (int i = 1; i < nodes; i++) {
+            ScheduledTransferRunner runner = runner(context);
+            runner.start();
+            extraNodes.add(runner);
+        }
+        try {
+            Thread.sleep(Math.max(0, Duration.between(Instant.now(), dueAt).toMillis()));
+            long start = System.nanoTime();
+            long deadline = start + timeout.toNanos();
+            long nextProgress = start + PROGRESS_INTERVAL.toNanos();
+            int active;
+            while ((active = activeJobs(jdbcTemplate)) > 0 && System.nanoTime() < deadline) {
+                if (System.nanoTime() >= nextProgress) {
+                    System.out.printf("%d of %d jobs left after %d ms%n", active, jobs, millisSince(start));
+                    nextProgress += PROGRESS_INTERVAL.toNanos();
+                }
+                Thread.sleep(50);
+            }
+            long elapsedMillis = millisSince(start);
+
+            System.out.printf("nodes: %d, workers per node: %d%n", nodes, context.getBean(
+                    ScheduledTransferProperties.class).workers());
+            System.out.printf("drained %d jobs in %d ms: %.0f jobs/s%n",
+                    jobs - active, elapsedMillis, (jobs - active) * 1000.0 / Math.max(1, elapsedMillis));
+            System.out.println("runs by outcome: " + outcomes(context.getBean(MeterRegistry.class)));
+            return check(jdbcTemplate, jobs);
+        } finally {
+            extraNodes.forEach(ScheduledTransferRunner::stop);
+        }
+    }
+
+    // pairs up each seeded user's cards, so no two jobs touch the same card
+    private static void schedule(JdbcTemplate jdbcTemplate, int jobs, Instant dueAt) {
+        List<long[]> cards = jdbcTemplate.query("""
+                SELECT c.owner_id, c.id
+                FROM cards c
+                JOIN users u ON u.id = c.owner_id
+                WHERE u.username LIKE 'loadtest\\_%'
+                ORDER BY c.id
+                """, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+
+        Timestamp due = Timestamp.from(dueAt);
+        List<Object[]> rows = new ArrayList<>(jobs);
+        for (int i = 0; i < jobs; i++) {
+            long[] from = cards.get(2 * i);
+            long[] to = cards.get(2 * i + 1);
+            rows.add(new Object[]{from[0], from[1], to[1], AMOUNT, due, due, due});
+        }
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO scheduled_transfers
+                        (owner_id, from_card_id, to_card_id, amount, recurrence, status, first_run_at, next_run_at,
+                         next_attempt_at)
+                    VALUES (?, ?, ?, ?, 'ONCE', 'ACTIVE', ?, ?, ?)
+                    """, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private static ScheduledTransferRunner runner(ApplicationContext context) {
+        ScheduledTransferProperties properties = context.getBean(ScheduledTransferProperties.class);
+        return new ScheduledTransferRunner(
+                context.getBean(JdbcTemplate.class),
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class)),
+                context.getBean(TransferApplicationService.class),
+                properties.workers(),
+                properties.batchSize(),
+                properties.pollInterval(),
+                properties.lease(),
+                properties.maxAttempts(),
+                properties.retryDelay(),
+                properties.maxDelay(),
+                Clock.systemUTC(),
+                context.getBean(MeterRegistry.class)
+        );
+    }
+
+    private static boolean check(JdbcTemplate jdbcTemplate, int jobs) {
+        List<String> failures = new ArrayList<>();
+
+        Map<String, Integer> statuses = jdbcTemplate.query(
+                "SELECT status, COUNT(*) FROM scheduled_transfers GROUP BY status",
+                (rs, rowNum) -> Map.entry(rs.getString(1), rs.getInt(2))
+        ).stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        System.out.println("jobs by status: " + statuses);
+        if (statuses.getOrDefault("COMPLETED", 0) != jobs) {
+            failures.add("expected %d completed jobs but got %s".formatted(jobs, statuses));
+        }
+
+        // seeded cards start at 1 000 000.00; a paying card must be down exactly 1.00, a receiving one up 1.00
+        int wrongBalances = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM scheduled_transfers t
+                JOIN cards f ON f.id = t.from_card_id
+                JOIN cards r ON r.id = t.to_card_id
+                WHERE f.balance <> 999999.00 OR r.balance <> 1000001.00
+                """, Integer.class);
+        if (wrongBalances > 0) {
+            failures.add("%d jobs were not paid exactly once".formatted(wrongBalances));
+        }
+
+        failures.forEach(failure -> System.out.println("FAILED: " + failure));
+        return failures.isEmpty();
+    }
+
+    private static int activeJobs(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM scheduled_transfers WHERE status = 'ACTIVE'", Integer.class
+        );
+    }
+
+    private static Map<String, Double> outcomes(MeterRegistry meterRegistry) {
+        return meterRegistry.find("bankcards.scheduled-transfers").counters().stream()
+                .collect(Collectors.toMap(counter -> counter.getId().getTag("outcome"), counter -> counter.count()));
+    }
+
+    private static long millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
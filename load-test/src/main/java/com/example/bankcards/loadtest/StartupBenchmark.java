@@ -0,0 +1,166 @@
+package com.example.bankcards.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts each image several times and records the time from {@code docker run} until the first
+ * successful response of the probe endpoint, then prints min/median/max per image and writes them as JSON.
+ * Untimed warm-up runs apply the migrations and fill the page cache so that no image pays for them.
+ */
+public class StartupBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    private static final String CONTAINER_NAME = "bankcards-startup";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private final Settings settings;
+
+    public StartupBenchmark(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        Map<String, Result> results = new StartupBenchmark(settings).run();
+
+        results.forEach((image, result) -> System.out.println("%-40s%s".formatted(image, result.format())));
+        if (settings.results() != null) {
+            Files.createDirectories(settings.results().toAbsolutePath().getParent());
+            OBJECT_MAPPER.writeValue(settings.results().toFile(), results);
+            System.out.println("Results written to " + settings.results());
+        }
+    }
+
+    public Map<String, Result> run() throws IOException, InterruptedException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String image : settings.images()) {
+            for (int i = 0; i < settings.warmupRuns(); i++) {
+                timeToFirstResponse(image);
+            }
+            long[] millis = new long[settings.runs()];
+            for (int i = 0; i < millis.length; i++) {
+                millis[i] = timeToFirstResponse(image);
+                System.out.println("%s run %d: %d ms".formatted(image, i + 1, millis[i]));
+            }
+            results.put(image, Result.of(millis));
+        }
+        return results;
+    }
+
+    private long timeToFirstResponse(String image) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of(
+                "docker", "run", "-d", "--rm", "--name", CONTAINER_NAME, "-p", settings.port() + ":8080"
+        ));
+        command.addAll(settings.dockerArgs());
+        command.add(image);
+
+        long start = System.nanoTime();
+        docker(command);
+        try {
+            HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + settings.port() + settings.probePath()))
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+            long deadline = start + settings.timeout().toNanos();
+            while (System.nanoTime() < deadline) {
+                if (isSuccessful(probe)) {
+                    return (System.nanoTime() - start) / 1_000_000;
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException("%s did not answer %s within %s"
+                    .formatted(image, settings.probePath(), settings.timeout()));
+        } finally {
+            docker(List.of("docker", "rm", "-f", CONTAINER_NAME));
+        }
+    }
+
+    private boolean isSuccessful(HttpRequest probe) throws InterruptedException {
+        try {
+            return client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void docker(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Command failed: " + String.join(" ", command));
+        }
+    }
+
+    public record Result(long minMillis, long medianMillis, long maxMillis, long[] runsMillis) {
+
+        static Result of(long[] millis) {
+            long[] sorted = millis.clone();
+            Arrays.sort(sorted);
+            return new Result(sorted[0], sorted[(sorted.length - 1) / 2], sorted[sorted.length - 1], millis);
+        }
+
+        String format() {
+            return "min=%d ms median=%d ms max=%d ms".formatted(minMillis, medianMillis, maxMillis);
+        }
+    }
+
+    /**
+     * Benchmark parameters, read from system properties prefixed with {@code startup.}.
+     */
+    public record Settings(
+            List<String> images,
+            int warmupRuns,
+            int runs,
+            int port,
+            String probePath,
+            Duration timeout,
+            List<String> dockerArgs,
+            Path results
+    ) {
+
+        public static Settings fromSystemProperties() {
+            String results = System.getProperty("startup.results", "");
+            return new Settings(
+                    split(System.getProperty("startup.images", "bank-card-manager:default,bank-card-manager:optimized"), ","),
+                    Integer.getInteger("startup.warmup-runs", 1),
+                    Integer.getInteger("startup.runs", 5),
+                    Integer.getInteger("startup.port", 18080),
+                    System.getProperty("startup.probe-path", "/actuator/health"),
+                    Duration.parse(System.getProperty("startup.timeout", "PT3M")),
+                    split(System.getProperty("startup.docker-args", ""), " "),
+                    results.isBlank() ? null : Path.of(results)
+            );
+        }
+
+        private static List<String> split(String value, String separator) {
+            return Arrays.stream(value.split(separator))
+                    .map(String::trim)
+                    .filter(part -> !part.isEmpty())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+#!/usr/bin/env sh
+# Builds the default and the optimized (AOT + AppCDS) image, starts a throwaway Postgres and measures
+# time-to-first-successful-request of both. Extra arguments are passed to Maven, e.g. -Dstartup.runs=10
+set -e
+
+cd "$(dirname "$0")/.."
+
+ENV_FILE="$(pwd)/${ENV_FILE:-.env}"
+NETWORK=bankcards-startup
+DATABASE=bankcards-startup-db
+
+docker build -t bank-card-manager:default .
+docker build --target optimized -t bank-card-manager:optimized .
+
+cleanup() {
+    docker rm -f "$DATABASE" >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --rm --name "$DATABASE" --network "$NETWORK" --env-file "$ENV_FILE" postgres:16 >/dev/null
+# the init scripts run on a socket-only server, so wait for TCP
+until docker exec "$DATABASE" pg_isready -q -h localhost; do
+    sleep 1
+done
+
+mkdir -p load-test/results
+mvn -B -q install -DskipTests
+mvn -B -f load-test/pom.xml compile exec:exec@startup \
+    "-Dstartup.docker-args=--network $NETWORK --env-file $ENV_FILE -e POSTGRES_HOST=$DATABASE -e JFR_OPTS=" \
+    "-Dstartup.results=$(pwd)/load-test/results/startup-$(git describe --tags --always --dirty)-$(date +%Y%m%d-%H%M%S).json" \
+    "$@"
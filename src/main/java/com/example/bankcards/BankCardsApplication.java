@@ -1,12 +1,22 @@
 package com.example.bankcards;
 
+import com.example.bankcards.config.NativeRuntimeHints;
+import com.example.bankcards.migration.MigrationApplication;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.Arrays;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class BankCardsApplication {
 
     public static void main(String[] args) {
+        if (args.length > 0 && MigrationApplication.COMMAND.equals(args[0])) {
+            MigrationApplication.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         SpringApplication.run(BankCardsApplication.class, args);
     }
 }
@@ -0,0 +1,19 @@
+package com.example.bankcards.audit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AuditAction {
+    CARD_CREATED(AuditEntityType.CARD),
+    CARD_BLOCKED(AuditEntityType.CARD),
+    CARD_ACTIVATED(AuditEntityType.CARD),
+    CARD_DELETED(AuditEntityType.CARD),
+    USER_CREATED(AuditEntityType.USER),
+    USER_RENAMED(AuditEntityType.USER),
+    USER_PASSWORD_CHANGED(AuditEntityType.USER),
+    USER_DELETED(AuditEntityType.USER);
+
+    private final AuditEntityType entityType;
+}
@@ -0,0 +1,6 @@
+package com.example.bankcards.audit;
+
+public enum AuditEntityType {
+    CARD,
+    USER
+}
@@ -0,0 +1,17 @@
+package com.example.bankcards.audit;
+
+import java.time.Instant;
+
+/**
+ * One state change: who did what to which card or user. {@code oldValue}/{@code newValue} hold the
+ * card status or username before and after the change and are {@code null} where not applicable.
+ */
+public record AuditEvent(
+        Instant occurredAt,
+        String actor,
+        AuditAction action,
+        long entityId,
+        String oldValue,
+        String newValue
+) {
+}
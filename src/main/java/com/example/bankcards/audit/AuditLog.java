@@ -0,0 +1,238 @@
+package com.example.bankcards.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Audit trail of card and user state changes. Events are queued once the surrounding transaction
+ * commits and written in JDBC batches by a single background thread; a batch is written as soon as
+ * it is full or its oldest event has waited {@code flushInterval}. What happens while the queue is full
+ * is set by {@link AuditOverflowPolicy}. On shutdown the queue is flushed before the DataSource closes.
+ */
+@Slf4j
+public class AuditLog implements SmartLifecycle {
+
+    private static final String SYSTEM_ACTOR = "system";
+
+    private static final String EVENTS = "bankcards.audit.events";
+
+    // queued by stop() behind the remaining events to end the writer thread
+    private static final AuditEvent SHUTDOWN = new AuditEvent(Instant.EPOCH, SYSTEM_ACTOR, null, 0, null, null);
+
+    // stops after the web server (DEFAULT_PHASE - 2048) has finished in-flight requests
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final AuditWriter writer;
+
+    private final BlockingQueue<AuditEvent> queue;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final AuditOverflowPolicy overflowPolicy;
+
+    private final long offerTimeoutNanos;
+
+    private final Duration shutdownTimeout;
+
+    private final Clock clock;
+
+    private final Counter written;
+
+    private final Counter dropped;
+
+    private final Counter failed;
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    public AuditLog(
+            AuditWriter writer,
+            int queueCapacity,
+            int batchSize,
+            Duration flushInterval,
+            AuditOverflowPolicy overflowPolicy,
+            Duration offerTimeout,
+            Duration shutdownTimeout,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.clock = clock;
+
+        this.written = counter(meterRegistry, "written");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.failed = counter(meterRegistry, "failed");
+        Gauge.builder("bankcards.audit.queue.size", queue, BlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    public void record(AuditAction action, long entityId, String oldValue, String newValue) {
+        AuditEvent event = new AuditEvent(clock.instant(), currentActor(), action, entityId, oldValue, newValue);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    void enqueue(AuditEvent event) {
+        if (!running) {
+            write(List.of(event));
+            return;
+        }
+        if (queue.offer(event)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(event, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                drop(event);
+            }
+            case DROP -> drop(event);
+            case CALLER_WRITES -> write(List.of(event));
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "audit-writer");
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            if (queue.offer(SHUTDOWN, shutdownTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                worker.join(shutdownTimeout.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("Audit writer did not finish within {}, flushing the remaining events concurrently",
+                    shutdownTimeout);
+        }
+
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            batch.remove(SHUTDOWN);
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                stopping = true;
+            }
+            stopping |= batch.remove(SHUTDOWN);
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<AuditEvent> batch) throws InterruptedException {
+        AuditEvent first = queue.take();
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize && batch.get(batch.size() - 1) != SHUTDOWN) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            AuditEvent next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            writer.write(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} audit events", batch.size(), e);
+        }
+    }
+
+    private void drop(AuditEvent event) {
+        dropped.increment();
+        log.warn("Audit queue full, dropped {} of {} {}", event.action(), event.action().getEntityType(), event.entityId());
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? SYSTEM_ACTOR : authentication.getName();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(EVENTS)
+                .description("Audit events by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
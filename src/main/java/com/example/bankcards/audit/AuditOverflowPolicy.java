@@ -0,0 +1,16 @@
+package com.example.bankcards.audit;
+
+/**
+ * What {@link AuditLog} does with a new event while its queue is full.
+ */
+public enum AuditOverflowPolicy {
+
+    /** Wait up to the offer timeout for space, then drop the event. */
+    BLOCK,
+
+    /** Drop the event immediately. */
+    DROP,
+
+    /** Write the event on the calling thread, bypassing the queue. */
+    CALLER_WRITES
+}
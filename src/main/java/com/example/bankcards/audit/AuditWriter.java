@@ -0,0 +1,45 @@
+package com.example.bankcards.audit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Inserts audit events in a transaction of their own. Events are also written on the calling thread from
+ * {@code afterCommit}, where the business transaction's connection is still bound but already committed.
+ */
+public class AuditWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_log (occurred_at, actor, action, entity_type, entity_id, old_value, new_value)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public AuditWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void write(List<AuditEvent> events) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (statement, event) -> {
+                    statement.setTimestamp(1, Timestamp.from(event.occurredAt()));
+                    statement.setString(2, event.actor());
+                    statement.setString(3, event.action().name());
+                    statement.setString(4, event.action().getEntityType().name());
+                    statement.setLong(5, event.entityId());
+                    statement.setString(6, event.oldValue());
+                    statement.setString(7, event.newValue());
+                })
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.audit.AuditLog;
+import com.example.bankcards.audit.AuditWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfig {
+
+    @Bean
+    public AuditLog auditLog(
+            AuditProperties properties,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        return new AuditLog(
+                new AuditWriter(jdbcTemplate, transactionManager),
+                properties.queueCapacity(),
+                properties.batchSize(),
+                properties.flushInterval(),
+                properties.overflowPolicy(),
+                properties.offerTimeout(),
+                properties.shutdownTimeout(),
+                Clock.systemUTC(),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.audit.AuditOverflowPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "audit")
+public record AuditProperties(
+        int queueCapacity,
+        int batchSize,
+        Duration flushInterval,
+        AuditOverflowPolicy overflowPolicy,
+        Duration offerTimeout,
+        Duration shutdownTimeout
+) {
+}
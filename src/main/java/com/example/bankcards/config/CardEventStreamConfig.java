@@ -0,0 +1,43 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.event.DomainEventBus;
+import com.example.bankcards.sse.CardEventFeed;
+import com.example.bankcards.sse.CardEventHub;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(CardEventStreamProperties.class)
+public class CardEventStreamConfig {
+
+    @Bean
+    public CardEventHub cardEventHub(CardEventStreamProperties properties, MeterRegistry meterRegistry) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("card-events-");
+        threadFactory.setDaemon(true);
+        return new CardEventHub(
+                properties.bufferSize(),
+                properties.maxStreamsPerUser(),
+                properties.timeout(),
+                Executors.newFixedThreadPool(properties.senderThreads(), threadFactory),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public CardEventFeed cardEventFeed(
+            CardEventStreamProperties properties,
+            DataSource dataSource,
+            DomainEventBus eventBus,
+            ObjectMapper objectMapper,
+            CardEventHub cardEventHub
+    ) {
+        return new CardEventFeed(dataSource, eventBus, objectMapper, cardEventHub, properties.reconnectDelay());
+    }
+}
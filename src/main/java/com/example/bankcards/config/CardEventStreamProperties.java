@@ -0,0 +1,16 @@
+package com.example.bankcards.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "card-events")
+public record CardEventStreamProperties(
+        int bufferSize,
+        int maxStreamsPerUser,
+        Duration timeout,
+        Duration heartbeatInterval,
+        int senderThreads,
+        Duration reconnectDelay
+) {
+}
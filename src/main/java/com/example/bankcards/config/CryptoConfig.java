@@ -2,6 +2,7 @@ package com.example.bankcards.config;
 
 import com.example.bankcards.util.CardNumberEncryptor;
 import com.example.bankcards.util.CardNumberHasher;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,15 +13,17 @@ public class CryptoConfig {
     @Bean
     public CardNumberEncryptor cardNumberEncryptor(
             @Value("${crypto.encryptor.password}") String password,
-            @Value("${crypto.encryptor.salt}") String salt
+            @Value("${crypto.encryptor.salt}") String salt,
+            MeterRegistry meterRegistry
     ) {
-        return new CardNumberEncryptor(password, salt);
+        return new CardNumberEncryptor(password, salt, meterRegistry);
     }
 
     @Bean
     public CardNumberHasher cardNumberHasher(
-            @Value("${crypto.hasher.secret-key}") String secretKey
+            @Value("${crypto.hasher.secret-key}") String secretKey,
+            MeterRegistry meterRegistry
     ) {
-        return new CardNumberHasher(secretKey);
+        return new CardNumberHasher(secretKey, meterRegistry);
     }
 }
@@ -0,0 +1,18 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.exception.StackTraces;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ExceptionProperties.class)
+public class ExceptionConfig {
+
+    // exceptions are created outside the context, so the setting is published once the application has started
+    @Bean
+    public ApplicationRunner stackTracesInitializer(ExceptionProperties properties) {
+        return args -> StackTraces.setEnabled(properties.stackTraces());
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.bankcards.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "exceptions")
+public record ExceptionProperties(
+        boolean stackTraces
+) {
+}
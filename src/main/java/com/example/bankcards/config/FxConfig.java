@@ -0,0 +1,20 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.fx.FxRateReader;
+import com.example.bankcards.fx.FxRateTable;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(FxProperties.class)
+public class FxConfig {
+
+    @Bean
+    public FxRateTable fxRateTable(FxProperties properties, JdbcTemplate jdbcTemplate) {
+        return new FxRateTable(new FxRateReader(jdbcTemplate), properties.maxRateAge(), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.money.Money;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Currency;
+
+@ConfigurationProperties(prefix = "fx")
+public record FxProperties(
+        Currency defaultCurrency,
+        Duration refreshInterval,
+        Duration maxRateAge
+) {
+
+    public FxProperties {
+        if (!Money.supports(defaultCurrency)) {
+            throw new IllegalArgumentException(
+                    "fx.default-currency must have two decimal places, got " + defaultCurrency
+            );
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.bankcards.config;
 
+import com.example.bankcards.security.CachingJwtDecoder;
+import com.example.bankcards.security.RevocationCheckingJwtDecoder;
+import com.example.bankcards.security.TokenRevocationService;
+import com.example.bankcards.timing.TimingJwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
@@ -13,6 +19,8 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtGra
 
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 
 @Configuration
 public class JwtConfig {
@@ -31,8 +39,26 @@ public class JwtConfig {
     }
 
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withSecretKey(secretKeySpec).build();
+    public JwtDecoder jwtDecoder(
+            TokenRevocationService tokenRevocationService,
+            @Value("${jwt.clock-skew}") Duration clockSkew,
+            @Value("${jwt.decoder-cache.enabled}") boolean cacheEnabled,
+            @Value("${jwt.decoder-cache.max-entries}") int cacheMaxEntries,
+            @Value("${server-timing.enabled}") boolean serverTimingEnabled
+    ) {
+        NimbusJwtDecoder nimbusJwtDecoder = NimbusJwtDecoder.withSecretKey(secretKeySpec).build();
+        nimbusJwtDecoder.setJwtValidator(
+                JwtValidators.createDefaultWithValidators(new JwtTimestampValidator(clockSkew))
+        );
+
+        JwtDecoder decoder = cacheEnabled
+                ? new CachingJwtDecoder(nimbusJwtDecoder, cacheMaxEntries, clockSkew, Clock.systemUTC())
+                : nimbusJwtDecoder;
+
+        // checked on every request, cache hits included
+        decoder = new RevocationCheckingJwtDecoder(decoder, tokenRevocationService);
+
+        return serverTimingEnabled ? new TimingJwtDecoder(decoder) : decoder;
     }
 
     public static JwtAuthenticationConverter jwtAuthenticationConverter() {
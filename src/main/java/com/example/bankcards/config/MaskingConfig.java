@@ -0,0 +1,17 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.util.CardNumberMasker;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MaskingProperties.class)
+public class MaskingConfig {
+
+    @Bean
+    public ApplicationRunner cardNumberMaskInitializer(MaskingProperties properties) {
+        return args -> CardNumberMasker.setDefaultFormat(properties.cardNumber());
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.enums.CardNumberMaskFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "masking")
+public record MaskingProperties(
+        CardNumberMaskFormat cardNumber
+) {
+}
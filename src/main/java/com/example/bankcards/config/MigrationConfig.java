@@ -0,0 +1,94 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.migration.StartupMigration;
+import liquibase.UpdateSummaryEnum;
+import liquibase.UpdateSummaryOutputEnum;
+import liquibase.integration.spring.SpringLiquibase;
+import liquibase.ui.UIServiceEnum;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+// replaces the auto-configured SpringLiquibase; the mode is read at runtime so that AOT builds keep both.
+// spring.liquibase.* is applied the way LiquibaseAutoConfiguration applies it
+@Configuration
+@EnableConfigurationProperties({MigrationProperties.class, LiquibaseProperties.class})
+public class MigrationConfig {
+
+    @Bean
+    public SpringLiquibase liquibase(
+            DataSource dataSource,
+            LiquibaseProperties liquibaseProperties,
+            MigrationProperties migrationProperties
+    ) {
+        StartupMigration liquibase = new StartupMigration(migrationProperties.onStartup());
+        liquibase.setDataSource(migrationDataSource(dataSource, liquibaseProperties));
+        liquibase.setChangeLog(liquibaseProperties.getChangeLog());
+        liquibase.setClearCheckSums(liquibaseProperties.isClearChecksums());
+        if (!CollectionUtils.isEmpty(liquibaseProperties.getContexts())) {
+            liquibase.setContexts(StringUtils.collectionToCommaDelimitedString(liquibaseProperties.getContexts()));
+        }
+        liquibase.setDefaultSchema(liquibaseProperties.getDefaultSchema());
+        liquibase.setLiquibaseSchema(liquibaseProperties.getLiquibaseSchema());
+        liquibase.setLiquibaseTablespace(liquibaseProperties.getLiquibaseTablespace());
+        liquibase.setDatabaseChangeLogTable(liquibaseProperties.getDatabaseChangeLogTable());
+        liquibase.setDatabaseChangeLogLockTable(liquibaseProperties.getDatabaseChangeLogLockTable());
+        liquibase.setDropFirst(liquibaseProperties.isDropFirst());
+        liquibase.setShouldRun(liquibaseProperties.isEnabled());
+        if (!CollectionUtils.isEmpty(liquibaseProperties.getLabelFilter())) {
+            liquibase.setLabelFilter(
+                    StringUtils.collectionToCommaDelimitedString(liquibaseProperties.getLabelFilter())
+            );
+        }
+        liquibase.setChangeLogParameters(liquibaseProperties.getParameters());
+        liquibase.setRollbackFile(liquibaseProperties.getRollbackFile());
+        liquibase.setTestRollbackOnUpdate(liquibaseProperties.isTestRollbackOnUpdate());
+        liquibase.setTag(liquibaseProperties.getTag());
+        if (liquibaseProperties.getShowSummary() != null) {
+            liquibase.setShowSummary(UpdateSummaryEnum.valueOf(liquibaseProperties.getShowSummary().name()));
+        }
+        if (liquibaseProperties.getShowSummaryOutput() != null) {
+            liquibase.setShowSummaryOutput(
+                    UpdateSummaryOutputEnum.valueOf(liquibaseProperties.getShowSummaryOutput().name())
+            );
+        }
+        if (liquibaseProperties.getUiService() != null) {
+            liquibase.setUiService(UIServiceEnum.valueOf(liquibaseProperties.getUiService().name()));
+        }
+        if (liquibaseProperties.getAnalyticsEnabled() != null) {
+            liquibase.setAnalyticsEnabled(liquibaseProperties.getAnalyticsEnabled());
+        }
+        if (liquibaseProperties.getLicenseKey() != null) {
+            liquibase.setLicenseKey(liquibaseProperties.getLicenseKey());
+        }
+        return liquibase;
+    }
+
+    // spring.liquibase.url or user migrate through a connection of their own, as with the auto-configuration
+    private static DataSource migrationDataSource(DataSource dataSource, LiquibaseProperties properties) {
+        if (properties.getUrl() == null && properties.getUser() == null) {
+            return dataSource;
+        }
+        DataSourceBuilder<?> builder = DataSourceBuilder.derivedFrom(dataSource).type(SimpleDriverDataSource.class);
+        if (properties.getUrl() != null) {
+            builder.url(properties.getUrl());
+        }
+        if (properties.getUser() != null) {
+            builder.username(properties.getUser());
+        }
+        if (properties.getPassword() != null) {
+            builder.password(properties.getPassword());
+        }
+        if (properties.getDriverClassName() != null) {
+            builder.driverClassName(properties.getDriverClassName());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.migration.MigrationMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "migration")
+public record MigrationProperties(
+        MigrationMode onStartup
+) {
+}
@@ -0,0 +1,114 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.converter.CardNumberConverter;
+import com.example.bankcards.converter.MoneyConverter;
+import com.example.bankcards.dto.request.CardCreateRequest;
+import com.example.bankcards.dto.request.LoginRequest;
+import com.example.bankcards.dto.request.RefreshTokenRequest;
+import com.example.bankcards.dto.request.ScheduledTransferCreateRequest;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.request.UserCreateRequest;
+import com.example.bankcards.dto.request.UserPasswordUpdateRequest;
+import com.example.bankcards.dto.request.UserUpdateRequest;
+import com.example.bankcards.dto.response.CardChangeResponse;
+import com.example.bankcards.dto.response.error.ApiErrorResponse;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.RefreshToken;
+import com.example.bankcards.entity.RotatedRefreshToken;
+import com.example.bankcards.entity.ScheduledTransfer;
+import com.example.bankcards.entity.Transfer;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.event.DomainEvent;
+import com.example.bankcards.repository.projection.CardVersion;
+import com.example.bankcards.repository.projection.UserVersion;
+import com.example.bankcards.validation.annotation.AtLeastOneNotNull;
+import com.example.bankcards.validation.annotation.ValidCardNumber;
+import com.example.bankcards.validation.annotation.ValidCurrency;
+import com.example.bankcards.validation.annotation.ValidId;
+import com.example.bankcards.validation.annotation.ValidUsername;
+import com.example.bankcards.validation.constraint.AtLeastOneNotNullValidator;
+import com.example.bankcards.validation.constraint.CardNumberValidator;
+import com.example.bankcards.validation.constraint.CurrencyValidator;
+import com.example.bankcards.validation.constraint.IdValidator;
+import com.example.bankcards.validation.constraint.UsernameValidator;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image that Spring AOT cannot derive from bean definitions:
+ * objects created by Hibernate, Hibernate Validator and Jackson, and the Liquibase changelogs.
+ * MapStruct and Lombok generate plain code at compile time and need none.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String CHANGELOG_PATTERN = "db/migration/*.yml";
+
+    static final List<Class<?>> ENTITIES = List.of(
+            Card.class, User.class, RefreshToken.class, RotatedRefreshToken.class, ScheduledTransfer.class,
+            Transfer.class
+    );
+
+    static final List<Class<?>> CONVERTERS = List.of(CardNumberConverter.class, MoneyConverter.class);
+
+    static final List<Class<?>> PROJECTIONS = List.of(CardVersion.class, UserVersion.class);
+
+    static final List<Class<?>> CONSTRAINTS = List.of(
+            AtLeastOneNotNull.class, AtLeastOneNotNull.List.class, ValidCardNumber.class, ValidCurrency.class,
+            ValidId.class, ValidUsername.class
+    );
+
+    static final List<Class<?>> CONSTRAINT_VALIDATORS = List.of(
+            AtLeastOneNotNullValidator.class, CardNumberValidator.class, CurrencyValidator.class, IdValidator.class,
+            UsernameValidator.class
+    );
+
+    static final List<Class<?>> REQUESTS = List.of(
+            CardCreateRequest.class, LoginRequest.class, RefreshTokenRequest.class,
+            ScheduledTransferCreateRequest.class, TransferRequest.class, UserCreateRequest.class,
+            UserPasswordUpdateRequest.class, UserUpdateRequest.class
+    );
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ReflectionHints reflection = hints.reflection();
+
+        ENTITIES.forEach(entity -> reflection.registerType(entity,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+
+        // instantiated by Hibernate through Spring's bean container, not from a bean definition
+        CONVERTERS.forEach(converter -> reflection.registerType(converter,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        // JPQL constructor expressions
+        PROJECTIONS.forEach(projection -> reflection.registerType(projection,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+
+        CONSTRAINTS.forEach(constraint -> reflection.registerType(constraint,
+                MemberCategory.INVOKE_PUBLIC_METHODS));
+        // created by Hibernate Validator through Spring's bean factory, which in AOT mode only injects
+        // through constructors, not into @Value fields
+        CONSTRAINT_VALIDATORS.forEach(validator -> reflection.registerType(validator,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        // constraints are read from record components and fields, bodies are bound by Jackson
+        REQUESTS.forEach(request -> reflection.registerType(request, MemberCategory.DECLARED_FIELDS));
+        bindingRegistrar.registerReflectionHints(reflection, REQUESTS.toArray(Class<?>[]::new));
+
+        // outbox payloads, SSE data and error bodies written by filters are serialized outside of controllers
+        bindingRegistrar.registerReflectionHints(reflection, DomainEvent.class.getPermittedSubclasses());
+        bindingRegistrar.registerReflectionHints(reflection, CardChangeResponse.class, ApiErrorResponse.class);
+
+        hints.resources().registerPattern(CHANGELOG_PATTERN);
+    }
+}
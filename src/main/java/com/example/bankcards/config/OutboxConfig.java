@@ -0,0 +1,42 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.event.DomainEventBus;
+import com.example.bankcards.outbox.OutboxPoller;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+@ConditionalOnProperty(prefix = "outbox.poller", name = "enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    public OutboxPoller outboxPoller(
+            OutboxProperties properties,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            DomainEventBus eventBus,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        return new OutboxPoller(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                eventBus,
+                objectMapper,
+                properties.batchSize(),
+                properties.pollInterval(),
+                properties.maxAttempts(),
+                properties.retryDelay(),
+                properties.maxRetryDelay(),
+                meterRegistry
+        );
+    }
+}
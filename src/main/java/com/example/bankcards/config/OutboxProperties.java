@@ -0,0 +1,16 @@
+package com.example.bankcards.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "outbox.poller")
+public record OutboxProperties(
+        boolean enabled,
+        int batchSize,
+        Duration pollInterval,
+        int maxAttempts,
+        Duration retryDelay,
+        Duration maxRetryDelay
+) {
+}
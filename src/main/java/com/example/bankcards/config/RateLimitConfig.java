@@ -0,0 +1,35 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.ratelimit.RateLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    // runs right after the Spring Security chain so the authenticated subject is available
+    private static final int FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER + 1;
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            RateLimitProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        RateLimitFilter filter = new RateLimitFilter(
+                properties.rules(),
+                properties.maxSubjects(),
+                objectMapper
+        );
+
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+}
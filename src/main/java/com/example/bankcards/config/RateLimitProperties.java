@@ -0,0 +1,17 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.ratelimit.RateLimitRule;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        int maxSubjects,
+        List<RateLimitRule> rules
+) {
+    public RateLimitProperties {
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.bankcards.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        int maximumPoolSize,
+        Duration maxLag
+) {
+}
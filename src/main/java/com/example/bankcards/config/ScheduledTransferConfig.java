@@ -0,0 +1,44 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.scheduled.ScheduledTransferRunner;
+import com.example.bankcards.service.application.TransferApplicationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(ScheduledTransferProperties.class)
+@ConditionalOnProperty(prefix = "scheduled-transfers.runner", name = "enabled", havingValue = "true")
+public class ScheduledTransferConfig {
+
+    @Bean
+    public ScheduledTransferRunner scheduledTransferRunner(
+            ScheduledTransferProperties properties,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            TransferApplicationService transferApplicationService,
+            MeterRegistry meterRegistry
+    ) {
+        return new ScheduledTransferRunner(
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                transferApplicationService,
+                properties.workers(),
+                properties.batchSize(),
+                properties.pollInterval(),
+                properties.lease(),
+                properties.maxAttempts(),
+                properties.retryDelay(),
+                properties.maxDelay(),
+                Clock.systemUTC(),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.bankcards.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "scheduled-transfers.runner")
+public record ScheduledTransferProperties(
+        boolean enabled,
+        int workers,
+        int batchSize,
+        Duration pollInterval,
+        Duration lease,
+        int maxAttempts,
+        Duration retryDelay,
+        Duration maxDelay
+) {
+}
@@ -0,0 +1,33 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.timing.ServerTimingFilter;
+import com.example.bankcards.timing.TimingAspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ServerTimingProperties.class)
+@ConditionalOnProperty(prefix = "server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    // runs before the Spring Security chain so that JWT decoding is part of the timed request
+    private static final int FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 1;
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties) {
+        ServerTimingFilter filter = new ServerTimingFilter(properties.requestHeader(), properties.sampleRate());
+
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+
+    @Bean
+    public TimingAspect timingAspect() {
+        return new TimingAspect();
+    }
+}
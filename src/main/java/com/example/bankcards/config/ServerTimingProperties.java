@@ -0,0 +1,11 @@
+package com.example.bankcards.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "server-timing")
+public record ServerTimingProperties(
+        boolean enabled,
+        String requestHeader,
+        double sampleRate
+) {
+}
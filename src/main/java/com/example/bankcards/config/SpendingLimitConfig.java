@@ -0,0 +1,40 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.fx.FxRateTable;
+import com.example.bankcards.limits.CountingSpendingLimiter;
+import com.example.bankcards.limits.InMemorySpendingCounterStore;
+import com.example.bankcards.limits.JdbcSpendingCounterStore;
+import com.example.bankcards.limits.NoopSpendingLimiter;
+import com.example.bankcards.limits.SpendingCounterStore;
+import com.example.bankcards.limits.SpendingLimiter;
+import com.example.bankcards.limits.SpendingLimits;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(SpendingLimitProperties.class)
+public class SpendingLimitConfig {
+
+    @Bean
+    public SpendingLimiter spendingLimiter(
+            SpendingLimitProperties properties,
+            FxProperties fxProperties,
+            FxRateTable fxRateTable,
+            JdbcTemplate jdbcTemplate
+    ) {
+        if (!properties.enabled()) {
+            return new NoopSpendingLimiter();
+        }
+
+        SpendingLimits limits = properties.limits();
+        SpendingCounterStore store = switch (properties.store()) {
+            case MEMORY -> new InMemorySpendingCounterStore(limits, properties.stripes());
+            case JDBC -> new JdbcSpendingCounterStore(jdbcTemplate, limits);
+        };
+        return new CountingSpendingLimiter(limits, fxProperties.defaultCurrency(), fxRateTable, store, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.limits.SpendingCounterStoreType;
+import com.example.bankcards.limits.SpendingLimits;
+import com.example.bankcards.money.Money;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "spending-limits")
+public record SpendingLimitProperties(
+        boolean enabled,
+        SpendingCounterStoreType store,
+        BigDecimal perTransfer,
+        BigDecimal daily,
+        int hourlyTransfers,
+        int stripes,
+        Duration cleanupInterval
+) {
+    public SpendingLimits limits() {
+        return new SpendingLimits(Money.of(perTransfer), Money.of(daily), hourlyTransfers);
+    }
+}
@@ -1,9 +1,10 @@
 package com.example.bankcards.controller;
 
 import com.example.bankcards.dto.request.LoginRequest;
+import com.example.bankcards.dto.request.RefreshTokenRequest;
 import com.example.bankcards.dto.response.LoginResponse;
 import com.example.bankcards.security.CustomUserDetails;
-import com.example.bankcards.security.JwtService;
+import com.example.bankcards.service.application.AuthApplicationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -30,13 +31,14 @@ import org.springframework.web.bind.annotation.RestController;
 )
 public class AuthController {
 
-    private final JwtService jwtService;
+    private final AuthApplicationService applicationService;
 
     private final AuthenticationManager authenticationManager;
 
     @Operation(
             summary = "User login",
-            description = "Authenticates a user using username and password and returns a JWT token."
+            description = "Authenticates a user using username and password and returns " +
+                    "a short-lived JWT access token and a refresh token."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful authentication"),
@@ -54,16 +56,30 @@ public class AuthController {
         );
 
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        String token = jwtService.generateToken(userDetails);
+        LoginResponse response = applicationService.login(userDetails);
 
         log.info("User '{}' successfully authenticated", userDetails.getUsername());
 
-        LoginResponse response = new LoginResponse(
-                userDetails.getUsername(),
-                userDetails.getRole(),
-                token
-        );
+        return ResponseEntity.ok(response);
+    }
 
+    @Operation(
+            summary = "Refresh access token",
+            description = "Exchanges a valid refresh token for a new access token. " +
+                    "The refresh token is rotated and the previous value stops working."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens refreshed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - refresh token invalid, expired or revoked")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(
+            @Valid @RequestBody RefreshTokenRequest request
+    ) {
+        log.info("Token refresh attempt");
+        LoginResponse response = applicationService.refresh(request);
+        log.info("Tokens refreshed successfully for user '{}'", response.username());
         return ResponseEntity.ok(response);
     }
 }
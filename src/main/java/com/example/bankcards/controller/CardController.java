@@ -5,6 +5,7 @@ import com.example.bankcards.dto.response.CardResponse;
 import com.example.bankcards.dto.response.UserResponse;
 import com.example.bankcards.service.application.CardApplicationService;
 import com.example.bankcards.util.CardNumberMasker;
+import com.example.bankcards.util.ETags;
 import com.example.bankcards.validation.annotation.ValidId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,12 +17,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/cards")
@@ -60,6 +65,7 @@ public class CardController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Card retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Card not modified since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Invalid card ID"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing, expired or invalid"),
             @ApiResponse(responseCode = "403", description = "Forbidden: insufficient privileges " +
@@ -70,13 +76,27 @@ public class CardController {
     @PreAuthorize("hasAnyRole('ADMIN','USER')")
     public ResponseEntity<CardResponse> getCard(
             Authentication authentication,
-            @ValidId @PathVariable Long id
+            @ValidId @PathVariable Long id,
+            WebRequest webRequest
     ) {
         String username = authentication.getName();
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> eTag = applicationService.getCardETagForUser(id, username);
+            if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+                log.info("Card with ID {} not modified for user '{}'", id, username);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag.get())
+                        .cacheControl(ETags.CACHE_CONTROL)
+                        .build();
+            }
+        }
         log.info("User '{}' retrieving card with ID {}", username, id);
         CardResponse response = applicationService.getCardByIdForUser(id, username);
         log.info("Card with ID {} retrieved successfully for user '{}'", id, username);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.card(response.id(), response.version()))
+                .cacheControl(ETags.CACHE_CONTROL)
+                .body(response);
     }
 
     @Operation(
@@ -110,6 +130,7 @@ public class CardController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cards retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing, expired or invalid"),
             @ApiResponse(responseCode = "403", description = "Forbidden: insufficient privileges")
     })
@@ -117,14 +138,28 @@ public class CardController {
     @PreAuthorize("hasAnyRole('ADMIN','USER')")
     public ResponseEntity<Page<CardResponse>> getCards(
             Authentication authentication,
-            Pageable pageable
+            Pageable pageable,
+            WebRequest webRequest
     ) {
         String username = authentication.getName();
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String eTag = applicationService.getCardsETagForUser(username, pageable);
+            if (webRequest.checkNotModified(eTag)) {
+                log.info("Cards of user '{}' not modified", username);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .cacheControl(ETags.CACHE_CONTROL)
+                        .build();
+            }
+        }
         log.info("User '{}' retrieving cards with pagination: page={}, size={}",
                 username, pageable.getPageNumber(), pageable.getPageSize());
         Page<CardResponse> response = applicationService.getCardsForUser(username, pageable);
         log.info("User '{}' retrieved {} cards", username, response.getNumberOfElements());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.cards(response, CardResponse::id, CardResponse::version))
+                .cacheControl(ETags.CACHE_CONTROL)
+                .body(response);
     }
 
     @Operation(
@@ -0,0 +1,101 @@
+package com.example.bankcards.controller;
+
+import com.example.bankcards.dto.request.ScheduledTransferCreateRequest;
+import com.example.bankcards.dto.response.ScheduledTransferResponse;
+import com.example.bankcards.service.application.ScheduledTransferApplicationService;
+import com.example.bankcards.validation.annotation.ValidId;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/scheduled-transfers")
+@Validated
+@Slf4j
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Scheduled Transfers", description = "Standing orders between the user's own cards")
+public class ScheduledTransferController {
+
+    private final ScheduledTransferApplicationService applicationService;
+
+    @Operation(
+            summary = "Schedule a one-off or recurring transfer",
+            description = "Only USER can schedule transfers and only between own cards"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Transfer scheduled successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data or validation failed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing, expired or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden: insufficient privileges"),
+            @ApiResponse(responseCode = "404", description = "Card not found")
+    })
+    @PostMapping
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ScheduledTransferResponse> create(
+            Authentication authentication,
+            @Valid @RequestBody ScheduledTransferCreateRequest request
+    ) {
+        String username = authentication.getName();
+        log.info("User '{}' scheduling {} transfer: fromCardId={} toCardId={} amount={} firstRunAt={}",
+                username, request.recurrence(), request.fromCardId(), request.toCardId(), request.amount(),
+                request.firstRunAt());
+        ScheduledTransferResponse response = applicationService.create(username, request);
+        log.info("Scheduled transfer {} created for user '{}'", response.id(), username);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "Get own scheduled transfers", description = "USER can retrieve only their own")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Scheduled transfers retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing, expired or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden: insufficient privileges")
+    })
+    @GetMapping
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<Page<ScheduledTransferResponse>> getOwn(
+            Authentication authentication,
+            Pageable pageable
+    ) {
+        String username = authentication.getName();
+        log.info("User '{}' retrieving scheduled transfers: page={}, size={}",
+                username, pageable.getPageNumber(), pageable.getPageSize());
+        return ResponseEntity.ok(applicationService.getForUser(username, pageable));
+    }
+
+    @Operation(
+            summary = "Cancel a scheduled transfer",
+            description = "USER can cancel only their own; transfers already made are not reversed"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Scheduled transfer cancelled"),
+            @ApiResponse(responseCode = "400", description = "Invalid scheduled transfer ID"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing, expired or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden: insufficient privileges"),
+            @ApiResponse(responseCode = "404", description = "Scheduled transfer not found")
+    })
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<Void> cancel(
+            Authentication authentication,
+            @ValidId @PathVariable Long id
+    ) {
+        String username = authentication.getName();
+        log.info("User '{}' cancelling scheduled transfer {}", username, id);
+        applicationService.cancel(username, id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -6,6 +6,8 @@ import com.example.bankcards.dto.request.UserUpdateRequest;
 import com.example.bankcards.dto.response.CardResponse;
 import com.example.bankcards.dto.response.UserResponse;
 import com.example.bankcards.service.application.UserApplicationService;
+import com.example.bankcards.sse.CardEventHub;
+import com.example.bankcards.util.ETags;
 import com.example.bankcards.validation.annotation.ValidId;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,12 +19,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
 
 @RestController
 @Validated
@@ -35,6 +43,8 @@ public class UserController {
 
     private final UserApplicationService applicationService;
 
+    private final CardEventHub cardEventHub;
+
     @Operation(summary = "Create a new user", description = "Only ADMIN can create new users")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User created successfully"),
@@ -79,16 +89,30 @@ public class UserController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Current user retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "User not modified since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing, expired, or invalid")
     })
     @GetMapping("/me")
     @PreAuthorize("hasAnyRole('ADMIN','USER')")
-    public ResponseEntity<UserResponse> getCurrentUser(Authentication authentication) {
+    public ResponseEntity<UserResponse> getCurrentUser(Authentication authentication, WebRequest webRequest) {
         String username = authentication.getName();
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> eTag = applicationService.getUserETagByUsername(username);
+            if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+                log.info("Current user '{}' not modified", username);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag.get())
+                        .cacheControl(ETags.CACHE_CONTROL)
+                        .build();
+            }
+        }
         log.info("User '{}' retrieving own information", username);
         UserResponse response = applicationService.getUserByUsername(username);
         log.info("Current user '{}' retrieved successfully", username);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.user(response.id(), response.version()))
+                .cacheControl(ETags.CACHE_CONTROL)
+                .body(response);
     }
 
     @Operation(summary = "Get paginated list of users", description = "Only ADMIN can retrieve all users")
@@ -110,6 +134,7 @@ public class UserController {
     @Operation(summary = "Get current user's cards", description = "USER can retrieve only their own cards")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cards retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing, expired, or invalid"),
             @ApiResponse(responseCode = "403", description = "Forbidden: insufficient privileges")
     })
@@ -117,14 +142,49 @@ public class UserController {
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<Page<CardResponse>> getUserOwnCards(
             Authentication authentication,
-            Pageable pageable
+            Pageable pageable,
+            WebRequest webRequest
     ) {
         String username = authentication.getName();
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String eTag = applicationService.getCardsETagForUser(username, pageable);
+            if (webRequest.checkNotModified(eTag)) {
+                log.info("Own cards of user '{}' not modified", username);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .cacheControl(ETags.CACHE_CONTROL)
+                        .build();
+            }
+        }
         log.info("User '{}' retrieving own cards: page={}, size={}",
                 username, pageable.getPageNumber(), pageable.getPageSize());
         Page<CardResponse> response = applicationService.getCardsForUser(username, pageable);
         log.info("User '{}' retrieved {} cards", username, response.getNumberOfElements());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.cards(response, CardResponse::id, CardResponse::version))
+                .cacheControl(ETags.CACHE_CONTROL)
+                .body(response);
+    }
+
+    @Operation(
+            summary = "Stream changes of current user's cards",
+            description = "USER receives a server-sent event named 'card' whenever one of their cards is created, " +
+                    "blocked, activated, expired, deleted or changes balance. A client that falls behind " +
+                    "is disconnected and should reload its cards before reconnecting."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing, expired, or invalid"),
+            @ApiResponse(responseCode = "403", description = "Forbidden: insufficient privileges"),
+            @ApiResponse(responseCode = "429", description = "Too many event streams open for this user")
+    })
+    @GetMapping(value = "/me/cards/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('USER')")
+    public SseEmitter streamUserOwnCardChanges(Authentication authentication) {
+        String username = authentication.getName();
+        UserResponse user = applicationService.getUserByUsername(username);
+        log.info("User '{}' subscribed to card changes", username);
+        return cardEventHub.subscribe(user.id());
     }
 
     @Operation(summary = "Update user by ID", description = "Only ADMIN can update any user's details")
@@ -1,5 +1,7 @@
 package com.example.bankcards.converter;
 
+import com.example.bankcards.timing.RequestTimings;
+import com.example.bankcards.timing.TimingCategory;
 import com.example.bankcards.util.CardNumberEncryptor;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
@@ -13,11 +15,27 @@ public class CardNumberConverter implements AttributeConverter<String, String> {
 
     @Override
     public String convertToDatabaseColumn(String rawCardNumber) {
-        return rawCardNumber == null ? null : encryptor.encrypt(rawCardNumber);
+        if (rawCardNumber == null) {
+            return null;
+        }
+        RequestTimings timings = RequestTimings.enter(TimingCategory.CRYPTO);
+        try {
+            return encryptor.encrypt(rawCardNumber);
+        } finally {
+            RequestTimings.exit(timings);
+        }
     }
 
     @Override
     public String convertToEntityAttribute(String encryptedCardNumber) {
-        return encryptedCardNumber == null ? null : encryptor.decrypt(encryptedCardNumber);
+        if (encryptedCardNumber == null) {
+            return null;
+        }
+        RequestTimings timings = RequestTimings.enter(TimingCategory.CRYPTO);
+        try {
+            return encryptor.decrypt(encryptedCardNumber);
+        } finally {
+            RequestTimings.exit(timings);
+        }
     }
 }
@@ -0,0 +1,63 @@
+package com.example.bankcards.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Periodically measures how far the replica is behind the primary. Until the first successful
+ * check, and whenever the lag exceeds {@code maxLag} or cannot be measured, reads go to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // a replica that has replayed everything it received is not lagging, however old its last transaction is;
+    // a server that is not in recovery (e.g. a second standalone instance locally) reports no lag
+    static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    private final long maxLagMillis;
+
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval}")
+    public void check() {
+        boolean usable;
+        try {
+            Number lagMillis = replicaJdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+            usable = lagMillis != null && lagMillis.longValue() <= maxLagMillis;
+            if (!usable && replicaUsable) {
+                log.warn("Replica lag {}ms exceeds {}ms, routing reads to primary", lagMillis, maxLagMillis);
+            }
+        } catch (DataAccessException e) {
+            usable = false;
+            if (replicaUsable) {
+                log.warn("Replica lag check failed, routing reads to primary", e);
+            }
+        }
+
+        if (usable && !replicaUsable) {
+            log.info("Replica is within {}ms of primary, routing reads to replica", maxLagMillis);
+        }
+        replicaUsable = usable;
+    }
+}
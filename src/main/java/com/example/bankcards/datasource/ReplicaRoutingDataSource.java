@@ -0,0 +1,41 @@
+package com.example.bankcards.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends connections of read-only transactions to the replica while it keeps up with the primary.
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction's read-only flag is only
+ * known once the first statement is executed, not when the transaction begins.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica
+        ));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected DataSourceType determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isReplicaUsable()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+
+    public enum DataSourceType {
+        PRIMARY,
+        REPLICA
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.bankcards.dto.request;
 
 import com.example.bankcards.validation.annotation.ValidCardNumber;
+import com.example.bankcards.validation.annotation.ValidCurrency;
 import com.example.bankcards.validation.annotation.ValidId;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
@@ -25,6 +27,10 @@ public record CardCreateRequest(
 
         @NotNull(message = "Initial balance is required")
         @DecimalMin(value = "0.00", message = "Initial balance cannot be negative")
-        BigDecimal initialBalance
+        @Digits(integer = 16, fraction = 2)
+        BigDecimal initialBalance,
+
+        @ValidCurrency
+        String currency
 ) {
 }
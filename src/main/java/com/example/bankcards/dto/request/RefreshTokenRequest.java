@@ -0,0 +1,10 @@
+package com.example.bankcards.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+
+        @NotBlank(message = "Refresh token cannot be blank")
+        String refreshToken
+) {
+}
@@ -0,0 +1,33 @@
+package com.example.bankcards.dto.request;
+
+import com.example.bankcards.enums.TransferRecurrence;
+import com.example.bankcards.validation.annotation.ValidId;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ScheduledTransferCreateRequest(
+
+        @ValidId
+        Long fromCardId,
+
+        @ValidId
+        Long toCardId,
+
+        @NotNull(message = "Amount is required")
+        @Positive(message = "Transfer amount must be positive")
+        @Digits(integer = 8, fraction = 2)
+        BigDecimal amount,
+
+        @NotNull(message = "Recurrence is required")
+        TransferRecurrence recurrence,
+
+        @NotNull(message = "First run time is required")
+        @Future(message = "First run time must be in the future")
+        Instant firstRunAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.bankcards.dto.response;
+
+import com.example.bankcards.enums.CardChangeType;
+import com.example.bankcards.enums.CardStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * One change of a card pushed to its owner. Status and balance are the values after the change,
+ * {@code null} when the change does not carry them.
+ */
+public record CardChangeResponse(
+        Long cardId,
+        CardChangeType change,
+        CardStatus cardStatus,
+        BigDecimal balance
+) {
+}
@@ -1,6 +1,7 @@
 package com.example.bankcards.dto.response;
 
 import com.example.bankcards.enums.CardStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -10,6 +11,8 @@ public record CardResponse(
         String maskedCardNumber,
         LocalDate expiryDate,
         CardStatus cardStatus,
-        BigDecimal balance
+        BigDecimal balance,
+        String currency,
+        @JsonIgnore Long version
 ) {
 }
@@ -5,6 +5,7 @@ import com.example.bankcards.enums.Role;
 public record LoginResponse(
         String username,
         Role role,
-        String token
+        String token,
+        String refreshToken
 ) {
 }
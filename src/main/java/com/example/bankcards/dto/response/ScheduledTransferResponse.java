@@ -0,0 +1,20 @@
+package com.example.bankcards.dto.response;
+
+import com.example.bankcards.enums.ScheduledTransferStatus;
+import com.example.bankcards.enums.TransferRecurrence;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ScheduledTransferResponse(
+        Long id,
+        Long fromCardId,
+        Long toCardId,
+        BigDecimal amount,
+        TransferRecurrence recurrence,
+        ScheduledTransferStatus status,
+        Instant nextRunAt,
+        int attempts,
+        String lastError
+) {
+}
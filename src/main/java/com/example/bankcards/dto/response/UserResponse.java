@@ -1,10 +1,12 @@
 package com.example.bankcards.dto.response;
 
 import com.example.bankcards.enums.Role;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public record UserResponse(
         Long id,
         String username,
-        Role role
+        Role role,
+        @JsonIgnore Long version
 ) {
 }
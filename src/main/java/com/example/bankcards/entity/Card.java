@@ -1,12 +1,14 @@
 package com.example.bankcards.entity;
 
 import com.example.bankcards.converter.CardNumberConverter;
+import com.example.bankcards.converter.MoneyConverter;
 import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.money.Money;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Currency;
 
 @Entity
 @Table(name = "cards")
@@ -42,6 +44,14 @@ public class Card {
     @Column(nullable = false)
     private CardStatus cardStatus;
 
+    @Convert(converter = MoneyConverter.class)
     @Column(nullable = false, precision = 19, scale = 2)
-    private BigDecimal balance;
+    private Money balance;
+
+    @Column(nullable = false, length = 3)
+    private Currency currency;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,42 @@
+package com.example.bankcards.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * A refresh token hash that has been rotated out of its session. Presenting it again means the token leaked.
+ */
+@Entity
+@Table(name = "rotated_refresh_tokens")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class RotatedRefreshToken implements Persistable<String> {
+
+    @Id
+    @EqualsAndHashCode.Include
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private Long refreshTokenId;
+
+    @Column(nullable = false)
+    private Instant rotatedAt;
+
+    // rows are only ever inserted, so save() can skip the lookup it would do for an assigned id
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
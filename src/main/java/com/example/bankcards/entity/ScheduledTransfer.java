@@ -0,0 +1,65 @@
+package com.example.bankcards.entity;
+
+import com.example.bankcards.converter.MoneyConverter;
+import com.example.bankcards.enums.ScheduledTransferStatus;
+import com.example.bankcards.enums.TransferRecurrence;
+import com.example.bankcards.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A standing order between two cards of one owner. Claimed and advanced by
+ * {@link com.example.bankcards.scheduled.ScheduledTransferRunner} through plain SQL.
+ */
+@Entity
+@Table(name = "scheduled_transfers")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ScheduledTransfer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private Long fromCardId;
+
+    @Column(nullable = false)
+    private Long toCardId;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransferRecurrence recurrence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ScheduledTransferStatus status;
+
+    @Column(nullable = false)
+    private Instant firstRunAt;
+
+    @Column(nullable = false)
+    private Instant nextRunAt;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private String lastError;
+}
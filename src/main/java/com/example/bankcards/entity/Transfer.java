@@ -0,0 +1,56 @@
+package com.example.bankcards.entity;
+
+import com.example.bankcards.converter.MoneyConverter;
+import com.example.bankcards.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Currency;
+
+/**
+ * A completed transfer as it was booked: the debited amount, the credited amount and the exchange rate
+ * between them.
+ */
+@Entity
+@Table(name = "transfers")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class Transfer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(nullable = false)
+    private Long fromCardId;
+
+    @Column(nullable = false)
+    private Long toCardId;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money amount;
+
+    @Column(nullable = false, length = 3)
+    private Currency currency;
+
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money creditedAmount;
+
+    @Column(nullable = false, length = 3)
+    private Currency creditedCurrency;
+
+    @Column(nullable = false, precision = 18, scale = 8)
+    private BigDecimal rate;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
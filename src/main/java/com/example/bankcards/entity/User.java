@@ -33,6 +33,10 @@ public class User {
     @Column(nullable = false)
     private Role role;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Builder.Default
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Card> cards = new HashSet<>();
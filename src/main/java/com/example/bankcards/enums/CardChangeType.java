@@ -0,0 +1,10 @@
+package com.example.bankcards.enums;
+
+public enum CardChangeType {
+    CREATED,
+    BLOCKED,
+    ACTIVATED,
+    EXPIRED,
+    BALANCE_CHANGED,
+    DELETED
+}
@@ -0,0 +1,8 @@
+package com.example.bankcards.enums;
+
+public enum CardNumberMaskFormat {
+    /** {@code **** **** **** 1111} */
+    LAST4,
+    /** {@code 4111 11** **** 1111}, keeps the issuer identification number (BIN) */
+    FIRST6_LAST4
+}
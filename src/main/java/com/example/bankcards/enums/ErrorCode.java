@@ -16,6 +16,8 @@ public enum ErrorCode {
 
     CONFLICT(HttpStatus.CONFLICT),
 
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS),
+
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR);
 
     private final HttpStatus status;
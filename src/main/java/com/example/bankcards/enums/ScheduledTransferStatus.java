@@ -0,0 +1,8 @@
+package com.example.bankcards.enums;
+
+public enum ScheduledTransferStatus {
+    ACTIVE,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,37 @@
+package com.example.bankcards.enums;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum TransferRecurrence {
+    ONCE(null),
+    DAILY(ChronoUnit.DAYS),
+    WEEKLY(ChronoUnit.WEEKS),
+    MONTHLY(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    TransferRecurrence(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * The first occurrence after {@code now}, skipping any that were missed, or {@code null} for {@link #ONCE}.
+     * Every occurrence is counted from {@code firstRunAt} rather than from the one before it, so a monthly
+     * transfer first run on the 31st falls on the last day of shorter months and on the 31st again after them.
+     * Days and months are counted in UTC.
+     */
+    public Instant nextAfter(Instant firstRunAt, Instant now) {
+        if (unit == null) {
+            return null;
+        }
+        ZonedDateTime first = firstRunAt.atZone(ZoneOffset.UTC);
+        long n = Math.max(1, unit.between(first, now.atZone(ZoneOffset.UTC)));
+        while (!first.plus(n, unit).toInstant().isAfter(now)) {
+            n++;
+        }
+        return first.plus(n, unit).toInstant();
+    }
+}
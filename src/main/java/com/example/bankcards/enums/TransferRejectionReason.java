@@ -0,0 +1,14 @@
+package com.example.bankcards.enums;
+
+public enum TransferRejectionReason {
+    SAME_CARD,
+    SOURCE_CARD_NOT_ACTIVE,
+    TARGET_CARD_NOT_ACTIVE,
+    NON_POSITIVE_AMOUNT,
+    INSUFFICIENT_BALANCE,
+    FX_RATE_UNAVAILABLE,
+    TRANSFER_LIMIT_EXCEEDED,
+    DAILY_LIMIT_EXCEEDED,
+    HOURLY_LIMIT_EXCEEDED,
+    OTHER
+}
@@ -0,0 +1,13 @@
+package com.example.bankcards.event;
+
+import com.example.bankcards.enums.CardStatus;
+
+import java.math.BigDecimal;
+
+public record CardCreatedEvent(long cardId, long ownerId, CardStatus status, BigDecimal balance) implements DomainEvent {
+
+    @Override
+    public long aggregateId() {
+        return cardId;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.bankcards.event;
+
+public record CardDeletedEvent(long cardId, long ownerId) implements DomainEvent {
+
+    @Override
+    public long aggregateId() {
+        return cardId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.bankcards.event;
+
+import com.example.bankcards.enums.CardStatus;
+
+/**
+ * A card was blocked, activated or found expired.
+ */
+public record CardStatusChangedEvent(
+        long cardId,
+        long ownerId,
+        CardStatus oldStatus,
+        CardStatus newStatus
+) implements DomainEvent {
+
+    @Override
+    public long aggregateId() {
+        return cardId;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.bankcards.event;
+
+/**
+ * Card lifecycle and transfer events. They are stored in the outbox within the transaction that
+ * caused them and delivered to {@link DomainEventHandler}s after commit, at least once.
+ */
+public sealed interface DomainEvent
+        permits CardCreatedEvent, CardStatusChangedEvent, CardDeletedEvent, TransferCompletedEvent {
+
+    long aggregateId();
+}
@@ -0,0 +1,54 @@
+package com.example.bankcards.event;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes domain events to the handlers registered for their type or any of its supertypes,
+ * e.g. a {@code DomainEventHandler<DomainEvent>} receives every event.
+ */
+@Component
+public class DomainEventBus {
+
+    private final Map<String, Class<? extends DomainEvent>> types = new HashMap<>();
+
+    private final Map<Class<? extends DomainEvent>, List<DomainEventHandler<?>>> handlers = new HashMap<>();
+
+    public DomainEventBus(List<DomainEventHandler<?>> handlers) {
+        for (Class<?> permitted : DomainEvent.class.getPermittedSubclasses()) {
+            Class<? extends DomainEvent> type = permitted.asSubclass(DomainEvent.class);
+            this.types.put(typeName(type), type);
+
+            List<DomainEventHandler<?>> typeHandlers = new ArrayList<>();
+            for (DomainEventHandler<?> handler : handlers) {
+                if (handler.eventType().isAssignableFrom(type)) {
+                    typeHandlers.add(handler);
+                }
+            }
+            this.handlers.put(type, List.copyOf(typeHandlers));
+        }
+    }
+
+    public static String typeName(Class<?> eventType) {
+        return eventType.getSimpleName();
+    }
+
+    public Class<? extends DomainEvent> eventType(String typeName) {
+        Class<? extends DomainEvent> type = types.get(typeName);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown domain event type '%s'".formatted(typeName));
+        }
+        return type;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void dispatch(DomainEvent event) {
+        for (DomainEventHandler<?> handler : handlers.getOrDefault(event.getClass(), List.of())) {
+            ((DomainEventHandler<DomainEvent>) handler).handle(event);
+        }
+    }
+}
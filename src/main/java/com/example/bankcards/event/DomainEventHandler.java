@@ -0,0 +1,13 @@
+package com.example.bankcards.event;
+
+/**
+ * Consumer of one event type, or of all events when the type is {@link DomainEvent} itself. Handlers run on the outbox poller thread while the event's row is
+ * locked, so they should be quick; a handler that throws makes the event be delivered again later,
+ * to every handler of its type.
+ */
+public interface DomainEventHandler<E extends DomainEvent> {
+
+    Class<E> eventType();
+
+    void handle(E event);
+}
@@ -0,0 +1,28 @@
+package com.example.bankcards.event;
+
+import java.math.BigDecimal;
+
+/**
+ * Carries both balances after the transfer so consumers need not load the cards. {@code amount} is debited
+ * in {@code fromCurrency}, {@code creditedAmount} is what it converted to in {@code toCurrency} at
+ * {@code exchangeRate}, which is 1 between cards of the same currency.
+ */
+public record TransferCompletedEvent(
+        long fromCardId,
+        long fromOwnerId,
+        BigDecimal fromBalance,
+        long toCardId,
+        long toOwnerId,
+        BigDecimal toBalance,
+        BigDecimal amount,
+        String fromCurrency,
+        BigDecimal creditedAmount,
+        String toCurrency,
+        BigDecimal exchangeRate
+) implements DomainEvent {
+
+    @Override
+    public long aggregateId() {
+        return fromCardId;
+    }
+}
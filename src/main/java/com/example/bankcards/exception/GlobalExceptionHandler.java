@@ -5,9 +5,11 @@ import com.example.bankcards.enums.ErrorCode;
 import com.example.bankcards.exception.badrequest.BadRequestException;
 import com.example.bankcards.exception.conflict.ConflictException;
 import com.example.bankcards.exception.notfound.NotFoundException;
+import com.example.bankcards.exception.toomanyrequests.TooManyRequestsException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -46,6 +48,12 @@ public class GlobalExceptionHandler {
         return buildResponse(errorCode, message, List.of(), request);
     }
 
+    private static void logStackTrace(Exception ex) {
+        if (StackTraces.enabled()) {
+            log.debug("Stack trace of {}", ex.getClass().getSimpleName(), ex);
+        }
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiErrorResponse> handleValidationErrors(
             MethodArgumentNotValidException ex,
@@ -67,6 +75,7 @@ public class GlobalExceptionHandler {
             HttpServletRequest request
     ) {
         log.warn("Bad credentials on {}: {}", request.getRequestURI(), ex.getMessage());
+        logStackTrace(ex);
         return buildResponse(ErrorCode.UNAUTHORIZED, ex.getMessage(), request);
     }
 
@@ -75,6 +84,7 @@ public class GlobalExceptionHandler {
             T ex, HttpServletRequest request
     ) {
         log.warn("Bad request on {}: {}", request.getRequestURI(), ex.getMessage());
+        logStackTrace(ex);
         return buildResponse(ErrorCode.BAD_REQUEST, ex.getMessage(), request);
     }
 
@@ -93,6 +103,7 @@ public class GlobalExceptionHandler {
             HttpServletRequest request
     ) {
         log.warn("Forbidden access on {}: {}", request.getRequestURI(), ex.getMessage());
+        logStackTrace(ex);
         return buildResponse(ErrorCode.FORBIDDEN, ex.getMessage(), request);
     }
 
@@ -102,18 +113,39 @@ public class GlobalExceptionHandler {
             HttpServletRequest request
     ) {
         log.warn("Conflict on {}: {}", request.getRequestURI(), ex.getMessage());
+        logStackTrace(ex);
         return buildResponse(ErrorCode.CONFLICT, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleConcurrentModification(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Concurrent modification on {}: {}", request.getRequestURI(), ex.getMessage());
+        return buildResponse(ErrorCode.CONFLICT, "The resource was modified concurrently, retry the request", request);
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleNotFound(
             NotFoundException ex,
             HttpServletRequest request
     ) {
         log.warn("Resource not found on {}: {}", request.getRequestURI(), ex.getMessage());
+        logStackTrace(ex);
         return buildResponse(ErrorCode.NOT_FOUND, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiErrorResponse> handleTooManyRequests(
+            TooManyRequestsException ex,
+            HttpServletRequest request
+    ) {
+        log.warn("Too many requests on {}: {}", request.getRequestURI(), ex.getMessage());
+        logStackTrace(ex);
+        return buildResponse(ErrorCode.TOO_MANY_REQUESTS, ex.getMessage(), request);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleInternalServerError(
             Exception ex,
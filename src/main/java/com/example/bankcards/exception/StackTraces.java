@@ -0,0 +1,23 @@
+package com.example.bankcards.exception;
+
+/**
+ * Whether the application's own exceptions capture a stack trace. They are expected outcomes mapped to
+ * 4xx responses and only their message is logged, so by default they skip the stack walk. Enable with
+ * {@code exceptions.stack-traces=true} to see where they are thrown, logged by {@link GlobalExceptionHandler}
+ * at debug level. The flag is set by {@code ExceptionConfig} once the application has started.
+ */
+public final class StackTraces {
+
+    private static volatile boolean enabled;
+
+    private StackTraces() {
+    }
+
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        StackTraces.enabled = enabled;
+    }
+}
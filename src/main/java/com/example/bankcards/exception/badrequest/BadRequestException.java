@@ -1,5 +1,7 @@
 package com.example.bankcards.exception.badrequest;
 
+import com.example.bankcards.exception.StackTraces;
+
 public abstract class BadRequestException extends RuntimeException {
 
     public BadRequestException() {
@@ -16,4 +18,9 @@ public abstract class BadRequestException extends RuntimeException {
     public BadRequestException(Throwable cause) {
         super(cause);
     }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
+    }
 }
@@ -1,8 +1,19 @@
 package com.example.bankcards.exception.badrequest;
 
+import com.example.bankcards.enums.TransferRejectionReason;
+import lombok.Getter;
+
+@Getter
 public class TransferOperationNotAllowedException extends BadRequestException {
 
+    private final TransferRejectionReason reason;
+
     public TransferOperationNotAllowedException(String message) {
+        this(TransferRejectionReason.OTHER, message);
+    }
+
+    public TransferOperationNotAllowedException(TransferRejectionReason reason, String message) {
         super(message);
+        this.reason = reason;
     }
 }
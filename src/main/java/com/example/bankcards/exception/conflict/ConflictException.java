@@ -1,5 +1,7 @@
 package com.example.bankcards.exception.conflict;
 
+import com.example.bankcards.exception.StackTraces;
+
 public abstract class ConflictException extends RuntimeException {
 
     public ConflictException() {
@@ -17,4 +19,9 @@ public abstract class ConflictException extends RuntimeException {
     public ConflictException(Throwable cause) {
         super(cause);
     }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.bankcards.exception.forbidden;
 
+import com.example.bankcards.exception.StackTraces;
 import org.springframework.security.access.AccessDeniedException;
 
 public class CardAccessDeniedException extends AccessDeniedException {
@@ -7,4 +8,9 @@ public class CardAccessDeniedException extends AccessDeniedException {
     public CardAccessDeniedException(String message) {
         super(message);
     }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
+    }
 }
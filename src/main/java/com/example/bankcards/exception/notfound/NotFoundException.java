@@ -1,5 +1,7 @@
 package com.example.bankcards.exception.notfound;
 
+import com.example.bankcards.exception.StackTraces;
+
 public abstract class NotFoundException extends RuntimeException {
 
     public NotFoundException() {
@@ -17,4 +19,9 @@ public abstract class NotFoundException extends RuntimeException {
     public NotFoundException(Throwable cause) {
         super(cause);
     }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
+    }
 }
@@ -0,0 +1,8 @@
+package com.example.bankcards.exception.notfound;
+
+public class ScheduledTransferNotFoundException extends NotFoundException {
+
+    public ScheduledTransferNotFoundException(String message) {
+        super(message);
+    }
+}
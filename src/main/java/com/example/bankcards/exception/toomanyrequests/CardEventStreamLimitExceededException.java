@@ -0,0 +1,8 @@
+package com.example.bankcards.exception.toomanyrequests;
+
+public class CardEventStreamLimitExceededException extends TooManyRequestsException {
+
+    public CardEventStreamLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.bankcards.exception.toomanyrequests;
+
+import com.example.bankcards.exception.StackTraces;
+
+public abstract class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException() {
+        super();
+    }
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+    public TooManyRequestsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public TooManyRequestsException(Throwable cause) {
+        super(cause);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.bankcards.exception.unauthorized;
+
+import com.example.bankcards.exception.StackTraces;
+import org.springframework.security.authentication.BadCredentialsException;
+
+public class InvalidRefreshTokenException extends BadCredentialsException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+
+    @Override
+    public Throwable fillInStackTrace() {
+        return StackTraces.enabled() ? super.fillInStackTrace() : this;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.bankcards.exception.unauthorized;
+
+import lombok.Getter;
+
+/**
+ * A refresh token was presented after it had already been rotated. The session it belonged to is revoked.
+ */
+@Getter
+public class RefreshTokenReusedException extends InvalidRefreshTokenException {
+
+    private final Long sessionId;
+
+    public RefreshTokenReusedException(String message, Long sessionId) {
+        super(message);
+        this.sessionId = sessionId;
+    }
+}
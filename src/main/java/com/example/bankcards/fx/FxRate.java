@@ -0,0 +1,73 @@
+package com.example.bankcards.fx;
+
+import com.example.bankcards.money.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Currency;
+
+/**
+ * Units of {@code quote} for one unit of {@code base}, as a fixed-point number with {@link #SCALE} decimal
+ * places like {@code fx_rates.rate}. {@code updatedAt} is when the rate was last set in the table, or
+ * {@code null} for the identity rate between cards of the same currency.
+ */
+public record FxRate(Currency base, Currency quote, long rateUnits, Instant updatedAt) {
+
+    public static final int SCALE = 8;
+
+    private static final long ONE = 100_000_000L;
+
+    public FxRate {
+        if (rateUnits <= 0) {
+            throw new IllegalArgumentException("Exchange rate %s/%s must be positive".formatted(base, quote));
+        }
+    }
+
+    public static FxRate of(Currency base, Currency quote, BigDecimal rate, Instant updatedAt) {
+        long rateUnits = rate.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+        return new FxRate(base, quote, rateUnits, updatedAt);
+    }
+
+    public static FxRate identity(Currency currency) {
+        return new FxRate(currency, currency, ONE, null);
+    }
+
+    public BigDecimal rate() {
+        return BigDecimal.valueOf(rateUnits, SCALE);
+    }
+
+    public FxRate inverse() {
+        return new FxRate(quote, base, divideHalfEven(ONE * ONE, rateUnits), updatedAt);
+    }
+
+    /**
+     * Converts an amount of the base currency, rounding half-even to minor units of the quote currency.
+     * Stays in long arithmetic unless the intermediate product needs more than 63 bits.
+     */
+    public Money convert(Money amount) {
+        if (rateUnits == ONE) {
+            return amount;
+        }
+        long minorUnits = amount.minorUnits();
+        long high = Math.multiplyHigh(minorUnits, rateUnits);
+        long low = minorUnits * rateUnits;
+        if (minorUnits >= 0 && high == 0 && low >= 0) {
+            return new Money(divideHalfEven(low, ONE));
+        }
+        return new Money(BigDecimal.valueOf(minorUnits)
+                .multiply(rate())
+                .setScale(0, RoundingMode.HALF_EVEN)
+                .longValueExact());
+    }
+
+    // both arguments are non-negative and the divisor is far below Long.MAX_VALUE / 2
+    private static long divideHalfEven(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long twiceRemainder = 2 * (dividend % divisor);
+        if (twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
+    }
+}
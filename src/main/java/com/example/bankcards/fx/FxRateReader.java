@@ -0,0 +1,29 @@
+package com.example.bankcards.fx;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Currency;
+import java.util.List;
+
+public class FxRateReader {
+
+    private static final String SELECT_SQL = """
+            SELECT base_currency, quote_currency, rate, updated_at
+            FROM fx_rates
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FxRateReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<FxRate> readAll() {
+        return jdbcTemplate.query(SELECT_SQL, (resultSet, rowNum) -> FxRate.of(
+                Currency.getInstance(resultSet.getString("base_currency")),
+                Currency.getInstance(resultSet.getString("quote_currency")),
+                resultSet.getBigDecimal("rate"),
+                resultSet.getTimestamp("updated_at").toInstant()
+        ));
+    }
+}
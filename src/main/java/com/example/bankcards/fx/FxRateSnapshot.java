@@ -0,0 +1,40 @@
+package com.example.bankcards.fx;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable view of the rate table. A pair stored in only one direction is also available in the other,
+ * as the inverse rate.
+ */
+record FxRateSnapshot(Map<Currency, Map<Currency, FxRate>> rates, Instant loadedAt) {
+
+    static final FxRateSnapshot EMPTY = new FxRateSnapshot(Map.of(), Instant.EPOCH);
+
+    static FxRateSnapshot of(Collection<FxRate> rates, Instant loadedAt) {
+        Map<Currency, Map<Currency, FxRate>> byBase = new HashMap<>();
+        for (FxRate rate : rates) {
+            byBase.computeIfAbsent(rate.base(), base -> new HashMap<>()).put(rate.quote(), rate);
+        }
+        for (FxRate rate : rates) {
+            byBase.computeIfAbsent(rate.quote(), base -> new HashMap<>()).putIfAbsent(rate.base(), rate.inverse());
+        }
+
+        Map<Currency, Map<Currency, FxRate>> immutable = new HashMap<>();
+        byBase.forEach((base, quotes) -> immutable.put(base, Map.copyOf(quotes)));
+        return new FxRateSnapshot(Map.copyOf(immutable), loadedAt);
+    }
+
+    Optional<FxRate> find(Currency base, Currency quote) {
+        Map<Currency, FxRate> quotes = rates.get(base);
+        return quotes == null ? Optional.empty() : Optional.ofNullable(quotes.get(quote));
+    }
+
+    int size() {
+        return rates.values().stream().mapToInt(Map::size).sum();
+    }
+}
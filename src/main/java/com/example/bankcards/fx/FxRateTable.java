@@ -0,0 +1,46 @@
+package com.example.bankcards.fx;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.Optional;
+
+/**
+ * In-memory copy of {@code fx_rates}. Each refresh builds a new {@link FxRateSnapshot} and publishes it with
+ * a single volatile write, so lookups never lock or wait for the database. Rates not updated within
+ * {@code maxRateAge} are treated as missing. If a refresh fails, the previous snapshot stays in use.
+ */
+@Slf4j
+public class FxRateTable {
+
+    private final FxRateReader reader;
+
+    private final Duration maxRateAge;
+
+    private final Clock clock;
+
+    private volatile FxRateSnapshot snapshot = FxRateSnapshot.EMPTY;
+
+    public FxRateTable(FxRateReader reader, Duration maxRateAge, Clock clock) {
+        this.reader = reader;
+        this.maxRateAge = maxRateAge;
+        this.clock = clock;
+    }
+
+    public Optional<FxRate> rate(Currency base, Currency quote) {
+        Instant oldestAccepted = clock.instant().minus(maxRateAge);
+        return snapshot.find(base, quote)
+                .filter(rate -> !rate.updatedAt().isBefore(oldestAccepted));
+    }
+
+    @Scheduled(fixedDelayString = "${fx.refresh-interval}")
+    public void refresh() {
+        FxRateSnapshot next = FxRateSnapshot.of(reader.readAll(), clock.instant());
+        snapshot = next;
+        log.debug("FX rate table refreshed with {} rates", next.size());
+    }
+}
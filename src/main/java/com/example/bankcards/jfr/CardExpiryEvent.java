@@ -0,0 +1,21 @@
+package com.example.bankcards.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.bankcards.CardExpiry")
+@Label("Card Expiry Check")
+@Category({"Bank Cards", "Cards"})
+@Description("Expiry check of a loaded card, including the status update when it has expired")
+@StackTrace(false)
+public class CardExpiryEvent extends jdk.jfr.Event {
+
+    @Label("Card Id")
+    public long cardId;
+
+    @Label("Marked Expired")
+    public boolean markedExpired;
+}
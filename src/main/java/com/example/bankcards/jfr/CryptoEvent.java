@@ -0,0 +1,23 @@
+package com.example.bankcards.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.example.bankcards.Crypto")
+@Label("Card Number Crypto")
+@Category({"Bank Cards", "Crypto"})
+@Description("Card number encryption, decryption or hashing")
+@StackTrace(false)
+@Threshold("1 ms")
+public class CryptoEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,48 @@
+package com.example.bankcards.jfr;
+
+import com.example.bankcards.money.Money;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.bankcards.Transfer")
+@Label("Transfer")
+@Category({"Bank Cards", "Transfers"})
+@Description("Validation and balance update of a transfer between two cards")
+@StackTrace(false)
+public class TransferEvent extends jdk.jfr.Event {
+
+    @Label("From Card Id")
+    public long fromCardId;
+
+    @Label("To Card Id")
+    public long toCardId;
+
+    @Label("Amount Bucket")
+    @Description("Order of magnitude of the amount, e.g. 100-1000")
+    public String amountBucket;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Rejection Reason")
+    public String rejectionReason;
+
+    // the exact amount is not recorded, recordings may leave the production environment
+    public static String amountBucket(Money amount) {
+        if (amount == null || !amount.isPositive()) {
+            return "0";
+        }
+        long major = amount.majorUnits();
+        if (major == 0) {
+            return "0-1";
+        }
+        long lower = 1;
+        while (lower <= major / 10) {
+            lower *= 10;
+        }
+        return lower + "-" + lower * 10;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.fx.FxRateTable;
+import com.example.bankcards.money.Money;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.util.Currency;
+
+/**
+ * Checks a transfer against the limits of its source card. The limits are set in {@code referenceCurrency};
+ * amounts in other currencies are converted at the current {@link FxRateTable} rate before they are checked
+ * and recorded, and rejected if there is none. The per-transfer maximum needs no state; the daily total and
+ * hourly count come from the {@link SpendingCounterStore}, which records the transfer once it passes.
+ */
+public class CountingSpendingLimiter implements SpendingLimiter {
+
+    private final SpendingLimits limits;
+
+    private final Currency referenceCurrency;
+
+    private final FxRateTable fxRateTable;
+
+    private final SpendingCounterStore store;
+
+    private final Clock clock;
+
+    public CountingSpendingLimiter(
+            SpendingLimits limits,
+            Currency referenceCurrency,
+            FxRateTable fxRateTable,
+            SpendingCounterStore store,
+            Clock clock
+    ) {
+        this.limits = limits;
+        this.referenceCurrency = referenceCurrency;
+        this.fxRateTable = fxRateTable;
+        this.store = store;
+        this.clock = clock;
+    }
+
+    @Override
+    public void check(Card fromCard, Money amount) {
+        Money reference = toReferenceCurrency(fromCard.getCurrency(), amount);
+        if (limits.perTransfer().isLessThan(reference)) {
+            throw new TransferOperationNotAllowedException(
+                    TransferRejectionReason.TRANSFER_LIMIT_EXCEEDED,
+                    "Transfer amount exceeds the limit of %s %s".formatted(limits.perTransfer(), referenceCurrency)
+            );
+        }
+        store.tryRecord(fromCard.getId(), reference, clock.instant()).ifPresent(reason -> {
+            throw new TransferOperationNotAllowedException(reason, message(reason));
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${spending-limits.cleanup-interval}")
+    public void evictExpired() {
+        store.evictExpired(clock.instant());
+    }
+
+    private Money toReferenceCurrency(Currency currency, Money amount) {
+        if (currency.equals(referenceCurrency)) {
+            return amount;
+        }
+        return fxRateTable.rate(currency, referenceCurrency)
+                .map(rate -> rate.convert(amount))
+                .orElseThrow(() -> new TransferOperationNotAllowedException(
+                        TransferRejectionReason.FX_RATE_UNAVAILABLE,
+                        "No current exchange rate from " + currency + " to " + referenceCurrency
+                ));
+    }
+
+    private String message(TransferRejectionReason reason) {
+        return reason == TransferRejectionReason.DAILY_LIMIT_EXCEEDED
+                ? "Transfer exceeds the daily limit of %s %s".formatted(limits.daily(), referenceCurrency)
+                : "Limit of %d transfers per hour reached".formatted(limits.hourlyTransfers());
+    }
+}
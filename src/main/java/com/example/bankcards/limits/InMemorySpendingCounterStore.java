@@ -0,0 +1,128 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.money.Money;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Counters of this instance only. Cards are spread over lock stripes, so transfers from different cards rarely
+ * contend, and every card keeps a fixed ring of buckets per window: a check adds up at most 36 numbers however
+ * many transfers the card has made. Usage recorded inside a transaction that rolls back is taken back.
+ */
+public class InMemorySpendingCounterStore implements SpendingCounterStore {
+
+    private final SpendingLimits limits;
+
+    private final Stripe[] stripes;
+
+    public InMemorySpendingCounterStore(SpendingLimits limits, int stripes) {
+        this.limits = limits;
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public Optional<TransferRejectionReason> tryRecord(long cardId, Money amount, Instant now) {
+        long amountBucket = SpendingWindows.amountBucket(now);
+        long countBucket = SpendingWindows.countBucket(now);
+        Stripe stripe = stripe(cardId);
+
+        stripe.lock.lock();
+        try {
+            CardCounters counters = stripe.cards.computeIfAbsent(cardId, id -> new CardCounters());
+            Optional<TransferRejectionReason> exceeded = limits.exceeded(
+                    counters.amount.sum(amountBucket) + amount.minorUnits(),
+                    counters.count.sum(countBucket) + 1
+            );
+            if (exceeded.isPresent()) {
+                return exceeded;
+            }
+            counters.amount.add(amountBucket, amount.minorUnits());
+            counters.count.add(countBucket, 1);
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        release(cardId, amount.minorUnits(), amountBucket, countBucket);
+                    }
+                }
+            });
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void evictExpired(Instant now) {
+        long amountBucket = SpendingWindows.amountBucket(now);
+        long countBucket = SpendingWindows.countBucket(now);
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.cards.values().removeIf(counters ->
+                        counters.amount.isExpired(amountBucket) && counters.count.isExpired(countBucket));
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.cards.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private void release(long cardId, long minorUnits, long amountBucket, long countBucket) {
+        Stripe stripe = stripe(cardId);
+        stripe.lock.lock();
+        try {
+            CardCounters counters = stripe.cards.get(cardId);
+            if (counters != null) {
+                counters.amount.subtract(amountBucket, minorUnits);
+                counters.count.subtract(countBucket, 1);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripe(long cardId) {
+        return stripes[Math.floorMod(Long.hashCode(cardId), stripes.length)];
+    }
+
+    // ReentrantLock rather than synchronized, which would pin virtual threads on Java 21
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Map<Long, CardCounters> cards = new HashMap<>();
+    }
+
+    private static final class CardCounters {
+
+        private final SlidingWindowCounter amount = new SlidingWindowCounter(SpendingWindows.AMOUNT_BUCKETS);
+
+        private final SlidingWindowCounter count = new SlidingWindowCounter(SpendingWindows.COUNT_BUCKETS);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.money.Money;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Counters shared by all instances, one {@code card_spending_buckets} row per card and five minutes. The transfer
+ * is added before the check: the upsert locks the current bucket row of the card until the transaction ends, so
+ * concurrent transfers from one card are checked one after another on any node. The check sums at most a day of
+ * that card's buckets through the primary key, and a transfer that breaks a limit is subtracted again.
+ */
+public class JdbcSpendingCounterStore implements SpendingCounterStore {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO card_spending_buckets (card_id, bucket_start, amount_minor, transfer_count)
+            VALUES (?, ?, ?, 1)
+            ON CONFLICT (card_id, bucket_start) DO UPDATE
+            SET amount_minor = card_spending_buckets.amount_minor + EXCLUDED.amount_minor,
+                transfer_count = card_spending_buckets.transfer_count + 1
+            """;
+
+    private static final String USAGE_SQL = """
+            SELECT COALESCE(SUM(amount_minor), 0) AS amount_minor,
+                   COALESCE(SUM(transfer_count) FILTER (WHERE bucket_start >= ?), 0) AS transfer_count
+            FROM card_spending_buckets
+            WHERE card_id = ? AND bucket_start >= ?
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE card_spending_buckets
+            SET amount_minor = amount_minor - ?, transfer_count = transfer_count - 1
+            WHERE card_id = ? AND bucket_start = ?
+            """;
+
+    private static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM card_spending_buckets
+            WHERE bucket_start < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final SpendingLimits limits;
+
+    public JdbcSpendingCounterStore(JdbcTemplate jdbcTemplate, SpendingLimits limits) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.limits = limits;
+    }
+
+    @Override
+    public Optional<TransferRejectionReason> tryRecord(long cardId, Money amount, Instant now) {
+        Timestamp bucketStart = Timestamp.from(SpendingWindows.countBucketStart(now));
+        jdbcTemplate.update(UPSERT_SQL, cardId, bucketStart, amount.minorUnits());
+
+        Optional<TransferRejectionReason> exceeded = jdbcTemplate.queryForObject(
+                USAGE_SQL,
+                (resultSet, rowNum) -> limits.exceeded(
+                        resultSet.getLong("amount_minor"), resultSet.getLong("transfer_count")
+                ),
+                Timestamp.from(SpendingWindows.countWindowStart(now)),
+                cardId,
+                Timestamp.from(SpendingWindows.amountWindowStart(now))
+        );
+        if (exceeded.isPresent()) {
+            jdbcTemplate.update(RELEASE_SQL, amount.minorUnits(), cardId, bucketStart);
+        }
+        return exceeded;
+    }
+
+    @Override
+    public void evictExpired(Instant now) {
+        jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(SpendingWindows.amountWindowStart(now)));
+    }
+}
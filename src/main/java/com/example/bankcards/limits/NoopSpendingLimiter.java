@@ -0,0 +1,14 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.money.Money;
+
+/**
+ * Accepts every transfer; used when {@code spending-limits.enabled} is false.
+ */
+public class NoopSpendingLimiter implements SpendingLimiter {
+
+    @Override
+    public void check(Card fromCard, Money amount) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.bankcards.limits;
+
+import java.util.Arrays;
+
+/**
+ * Ring of per-bucket totals; a slot holding an older bucket than the window is reset when reused. Not
+ * thread-safe.
+ */
+final class SlidingWindowCounter {
+
+    private final long[] buckets;
+
+    private final long[] totals;
+
+    SlidingWindowCounter(int size) {
+        this.buckets = new long[size];
+        this.totals = new long[size];
+        Arrays.fill(buckets, Long.MIN_VALUE);
+    }
+
+    long sum(long currentBucket) {
+        long oldest = currentBucket - buckets.length;
+        long sum = 0;
+        for (int slot = 0; slot < buckets.length; slot++) {
+            if (buckets[slot] > oldest && buckets[slot] <= currentBucket) {
+                sum += totals[slot];
+            }
+        }
+        return sum;
+    }
+
+    void add(long bucket, long value) {
+        int slot = slot(bucket);
+        if (buckets[slot] != bucket) {
+            buckets[slot] = bucket;
+            totals[slot] = 0;
+        }
+        totals[slot] += value;
+    }
+
+    void subtract(long bucket, long value) {
+        int slot = slot(bucket);
+        if (buckets[slot] == bucket) {
+            totals[slot] -= value;
+        }
+    }
+
+    boolean isExpired(long currentBucket) {
+        long oldest = currentBucket - buckets.length;
+        for (long bucket : buckets) {
+            if (bucket > oldest) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int slot(long bucket) {
+        return (int) Math.floorMod(bucket, (long) buckets.length);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.money.Money;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Daily amount and hourly count of transfers per source card, kept as {@link SpendingWindows} buckets.
+ */
+public interface SpendingCounterStore {
+
+    /**
+     * Adds the transfer to the windows of the card unless that breaks a limit.
+     *
+     * @return the limit the transfer would break; nothing is recorded then
+     */
+    Optional<TransferRejectionReason> tryRecord(long cardId, Money amount, Instant now);
+
+    /**
+     * Drops buckets that have left both windows.
+     */
+    void evictExpired(Instant now);
+}
@@ -0,0 +1,13 @@
+package com.example.bankcards.limits;
+
+/**
+ * Where the daily and hourly spending counters of cards are kept.
+ */
+public enum SpendingCounterStoreType {
+
+    /** In the memory of each instance; limits hold per instance. */
+    MEMORY,
+
+    /** In {@code card_spending_buckets}, shared by all instances. */
+    JDBC
+}
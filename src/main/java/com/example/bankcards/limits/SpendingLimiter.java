@@ -0,0 +1,18 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.money.Money;
+
+/**
+ * Checks a transfer against the spending limits of its source card. Should run after every other check,
+ * so that a transfer rejected for another reason is not counted.
+ */
+public interface SpendingLimiter {
+
+    /**
+     * Accepts the transfer and counts it against the limits, or rejects it without counting it.
+     *
+     * @throws com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException if a limit is exceeded
+     */
+    void check(Card fromCard, Money amount);
+}
@@ -0,0 +1,32 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.money.Money;
+
+import java.util.Optional;
+
+/**
+ * Limits applied to every card, in the reference currency of the {@link CountingSpendingLimiter}.
+ */
+public record SpendingLimits(Money perTransfer, Money daily, int hourlyTransfers) {
+
+    public SpendingLimits {
+        if (!perTransfer.isPositive() || !daily.isPositive() || hourlyTransfers <= 0) {
+            throw new IllegalArgumentException("Spending limits must be positive");
+        }
+    }
+
+    /**
+     * @param dailyMinorUnits  amount spent in the daily window, including the transfer being checked
+     * @param hourlyTransfers transfers in the hourly window, including the one being checked
+     */
+    Optional<TransferRejectionReason> exceeded(long dailyMinorUnits, long hourlyTransfers) {
+        if (dailyMinorUnits > daily.minorUnits()) {
+            return Optional.of(TransferRejectionReason.DAILY_LIMIT_EXCEEDED);
+        }
+        if (hourlyTransfers > this.hourlyTransfers) {
+            return Optional.of(TransferRejectionReason.HOURLY_LIMIT_EXCEEDED);
+        }
+        return Optional.empty();
+    }
+}
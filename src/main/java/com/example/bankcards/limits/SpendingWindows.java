@@ -0,0 +1,43 @@
+package com.example.bankcards.limits;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Bucket layout shared by both counter stores. The daily amount is the sum of the current hour and the 23 before
+ * it, the hourly count that of the current five minutes and the 11 before them, so both windows slide one bucket
+ * at a time instead of resetting at midnight or on the hour.
+ */
+final class SpendingWindows {
+
+    static final long AMOUNT_BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+
+    static final int AMOUNT_BUCKETS = 24;
+
+    static final long COUNT_BUCKET_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    static final int COUNT_BUCKETS = 12;
+
+    private SpendingWindows() {
+    }
+
+    static long amountBucket(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), AMOUNT_BUCKET_MILLIS);
+    }
+
+    static long countBucket(Instant instant) {
+        return Math.floorDiv(instant.toEpochMilli(), COUNT_BUCKET_MILLIS);
+    }
+
+    static Instant amountWindowStart(Instant now) {
+        return Instant.ofEpochMilli((amountBucket(now) - AMOUNT_BUCKETS + 1) * AMOUNT_BUCKET_MILLIS);
+    }
+
+    static Instant countWindowStart(Instant now) {
+        return Instant.ofEpochMilli((countBucket(now) - COUNT_BUCKETS + 1) * COUNT_BUCKET_MILLIS);
+    }
+
+    static Instant countBucketStart(Instant now) {
+        return Instant.ofEpochMilli(countBucket(now) * COUNT_BUCKET_MILLIS);
+    }
+}
@@ -4,15 +4,19 @@ import com.example.bankcards.dto.request.CardCreateRequest;
 import com.example.bankcards.dto.response.CardResponse;
 import com.example.bankcards.entity.Card;
 import com.example.bankcards.entity.User;
+import com.example.bankcards.money.Money;
 import com.example.bankcards.util.CardNumberMasker;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
+import java.math.BigDecimal;
+
 @Mapper(componentModel = "spring")
 public interface CardMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "cardStatus", expression = "java(CardStatus.ACTIVE)")
     @Mapping(target = "balance", source = "dto.initialBalance")
     Card toCard(CardCreateRequest dto,
@@ -28,4 +32,12 @@ public interface CardMapper {
     default String maskCardNumber(String cardNumber) {
         return CardNumberMasker.mask(cardNumber);
     }
+
+    default Money toMoney(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+
+    default BigDecimal toBigDecimal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.bankcards.mapper;
+
+import com.example.bankcards.dto.response.ScheduledTransferResponse;
+import com.example.bankcards.entity.ScheduledTransfer;
+import com.example.bankcards.money.Money;
+import org.mapstruct.Mapper;
+
+import java.math.BigDecimal;
+
+@Mapper(componentModel = "spring")
+public interface ScheduledTransferMapper {
+
+    ScheduledTransferResponse toResponse(ScheduledTransfer scheduledTransfer);
+
+    default BigDecimal toBigDecimal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+}
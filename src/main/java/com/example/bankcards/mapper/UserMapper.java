@@ -12,6 +12,7 @@ public interface UserMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "cards", ignore = true)
+    @Mapping(target = "version", ignore = true)
     User toUser(UserCreateRequest dto, String passwordHash);
 
     UserResponse toUserResponse(User user);
@@ -0,0 +1,44 @@
+package com.example.bankcards.metrics;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+public class TransferMetrics {
+
+    private static final String TRANSFERS = "bankcards.transfers";
+
+    private final Counter completed;
+
+    private final Map<TransferRejectionReason, Counter> rejected = new EnumMap<>(TransferRejectionReason.class);
+
+    public TransferMetrics(MeterRegistry meterRegistry) {
+        this.completed = Counter.builder(TRANSFERS)
+                .description("Transfers by outcome and rejection reason")
+                .tag("outcome", "completed")
+                .tag("reason", "none")
+                .register(meterRegistry);
+
+        for (TransferRejectionReason reason : TransferRejectionReason.values()) {
+            rejected.put(reason, Counter.builder(TRANSFERS)
+                    .description("Transfers by outcome and rejection reason")
+                    .tag("outcome", "rejected")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordCompleted() {
+        completed.increment();
+    }
+
+    public void recordRejected(TransferRejectionReason reason) {
+        rejected.get(reason).increment();
+    }
+}
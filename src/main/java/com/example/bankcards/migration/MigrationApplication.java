@@ -0,0 +1,29 @@
+package com.example.bankcards.migration;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Migration run mode: applies the changelog with nothing but a data source in the context, then exits.
+ * Started with {@code java -jar app.jar migrate}; not a component, so the application does not pick it up.
+ */
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, LiquibaseAutoConfiguration.class})
+public class MigrationApplication {
+
+    public static final String COMMAND = "migrate";
+
+    public static void main(String[] args) {
+        // AOT artifacts are generated for BankCardsApplication only
+        System.setProperty("spring.aot.enabled", "false");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MigrationApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.bankcards.migration;
+
+/**
+ * What {@link StartupMigration} does with the Liquibase changelog when the application starts.
+ */
+public enum MigrationMode {
+
+    /** Apply pending change sets under the changelog lock. */
+    UPDATE,
+
+    /** Fail startup if change sets are pending, without taking the changelog lock. */
+    VALIDATE
+}
@@ -0,0 +1,44 @@
+package com.example.bankcards.migration;
+
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.changelog.ChangeSet;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the changelog at startup in {@link MigrationMode#UPDATE}. In {@link MigrationMode#VALIDATE} it only
+ * compares the changelog with the applied change sets, so replicas started after a separate migration run
+ * ({@link MigrationApplication}) neither wait for nor hold the changelog lock.
+ */
+@Slf4j
+public class StartupMigration extends SpringLiquibase {
+
+    private final MigrationMode mode;
+
+    public StartupMigration(MigrationMode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    protected void performUpdate(Liquibase liquibase) throws LiquibaseException {
+        if (mode == MigrationMode.UPDATE) {
+            super.performUpdate(liquibase);
+            return;
+        }
+
+        List<ChangeSet> pending = liquibase.listUnrunChangeSets(
+                new Contexts(getContexts()), new LabelExpression(getLabelFilter()), false
+        );
+        if (!pending.isEmpty()) {
+            throw new IllegalStateException("Database schema is behind the changelog, %d change sets pending: %s"
+                    .formatted(pending.size(), pending.stream().map(ChangeSet::getId).collect(Collectors.joining(", "))));
+        }
+        log.info("Database schema is up to date with {}", getChangeLog());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.bankcards.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * Amount in minor units (cents) with the scale of the {@code DECIMAL(19,2)} balance column. Arithmetic fails
+ * with {@link ArithmeticException} on overflow instead of wrapping. Converted to {@link BigDecimal} only where
+ * amounts enter or leave the application: JPA columns, request bodies and serialized events.
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int MINOR_PER_MAJOR = 100;
+
+    /**
+     * Whether amounts of the currency fit this scale, i.e. it has exactly two minor digits. Cards only hold
+     * such currencies, so balances, transfers and conversions never have to round to another scale.
+     */
+    public static boolean supports(Currency currency) {
+        return currency.getDefaultFractionDigits() == SCALE;
+    }
+
+    /**
+     * @throws ArithmeticException if the amount has more than two decimal places or does not fit into a long
+     */
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    /** Whole units, rounded towards zero. */
+    public long majorUnits() {
+        return minorUnits / MINOR_PER_MAJOR;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    /** Plain decimal notation with two fraction digits, as {@link BigDecimal#toPlainString()} would print it. */
+    @Override
+    public String toString() {
+        long cents = Math.abs(minorUnits % MINOR_PER_MAJOR);
+        StringBuilder builder = new StringBuilder(24);
+        if (minorUnits < 0) {
+            builder.append('-');
+        }
+        builder.append(Math.abs(majorUnits())).append('.');
+        if (cents < 10) {
+            builder.append('0');
+        }
+        return builder.append(cents).toString();
+    }
+}
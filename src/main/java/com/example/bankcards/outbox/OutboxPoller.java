@@ -0,0 +1,294 @@
+package com.example.bankcards.outbox;
+
+import com.example.bankcards.event.DomainEvent;
+import com.example.bankcards.event.DomainEventBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers outbox events to the {@link DomainEventBus}. Each round locks the oldest batch with
+ * {@code FOR UPDATE SKIP LOCKED}, dispatches it and deletes the delivered rows in the same transaction,
+ * so any number of instances can poll side by side without handing out an event twice. Full batches
+ * are followed immediately by the next one; only an incomplete batch waits {@code pollInterval}.
+ * Events whose handlers fail are retried up to {@code maxAttempts} times and then moved to
+ * {@code outbox_dead_letters}, so the outbox only holds events still to be delivered. The n-th retry waits {@code retryDelay * 2^(n-1)}, capped at {@code maxRetryDelay}, so a failing handler
+ * is not hammered on every poll.
+ * <p>
+ * Delivered events are also broadcast on the {@value #CHANNEL} channel to every instance, e.g. for
+ * {@link com.example.bankcards.sse.CardEventFeed}. The notification is sent when the batch commits, as one JSON
+ * array per batch, split only where it would exceed Postgres's payload limit.
+ */
+@Slf4j
+public class OutboxPoller implements SmartLifecycle {
+
+    public static final String CHANNEL = "outbox_events";
+
+    // Postgres rejects notification payloads of 8000 bytes or more
+    private static final int MAX_NOTIFICATION_BYTES = 7999;
+
+    private static final String SELECT_SQL = """
+            SELECT id, event_type, payload
+            FROM outbox_events
+            WHERE next_attempt_at <= now()
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ANY (?)";
+
+    private static final String RETRY_SQL = """
+            UPDATE outbox_events
+            SET attempts = attempts + 1,
+                next_attempt_at = now() + LEAST(? * power(2, attempts), ?) * interval '1 millisecond'
+            WHERE id = ANY (?)
+            """;
+
+    private static final String DEAD_LETTER_SQL = """
+            WITH exhausted AS (
+                DELETE FROM outbox_events
+                WHERE id = ANY (?) AND attempts >= ?
+                RETURNING id, event_type, aggregate_id, payload, created_at, attempts
+            )
+            INSERT INTO outbox_dead_letters
+                (id, event_type, aggregate_id, payload, created_at, attempts, dead_lettered_at)
+            SELECT id, event_type, aggregate_id, payload, created_at, attempts, now()
+            FROM exhausted
+            """;
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private static final String EVENTS = "bankcards.outbox.events";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final DomainEventBus eventBus;
+
+    private final ObjectMapper objectMapper;
+
+    private final int batchSize;
+
+    private final long pollIntervalNanos;
+
+    private final int maxAttempts;
+
+    private final long retryDelayMillis;
+
+    private final long maxRetryDelayMillis;
+
+    private final Counter dispatched;
+
+    private final Counter failed;
+
+    private final Counter deadLettered;
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    public OutboxPoller(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            DomainEventBus eventBus,
+            ObjectMapper objectMapper,
+            int batchSize,
+            Duration pollInterval,
+            int maxAttempts,
+            Duration retryDelay,
+            Duration maxRetryDelay,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventBus = eventBus;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMillis = retryDelay.toMillis();
+        this.maxRetryDelayMillis = maxRetryDelay.toMillis();
+        this.dispatched = counter(meterRegistry, "dispatched");
+        this.failed = counter(meterRegistry, "failed");
+        this.deadLettered = counter(meterRegistry, "dead-lettered");
+    }
+
+    /**
+     * @return the number of events taken from the outbox, delivered or not
+     */
+    public int pollOnce() {
+        Integer polled = transactionTemplate.execute(status -> {
+            List<OutboxRecord> records = jdbcTemplate.query(
+                    SELECT_SQL,
+                    (rs, rowNum) -> new OutboxRecord(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                    batchSize
+            );
+
+            List<OutboxRecord> delivered = new ArrayList<>(records.size());
+            List<Long> undelivered = new ArrayList<>();
+            for (OutboxRecord record : records) {
+                if (dispatch(record)) {
+                    delivered.add(record);
+                } else {
+                    undelivered.add(record.id());
+                }
+            }
+            deleteDelivered(delivered.stream().map(OutboxRecord::id).toList());
+            scheduleRetry(undelivered);
+            int exhausted = deadLetter(undelivered);
+            broadcast(delivered);
+
+            dispatched.increment(delivered.size());
+            failed.increment(undelivered.size());
+            deadLettered.increment(exhausted);
+            return records.size();
+        });
+        return polled == null ? 0 : polled;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "outbox-poller");
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            int polled;
+            try {
+                polled = pollOnce();
+            } catch (RuntimeException e) {
+                log.error("Outbox poll failed", e);
+                polled = 0;
+            }
+            if (polled < batchSize && running) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+
+    private boolean dispatch(OutboxRecord record) {
+        try {
+            DomainEvent event = objectMapper.readValue(record.payload(), eventBus.eventType(record.eventType()));
+            eventBus.dispatch(event);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to deliver outbox event {} of type {}", record.id(), record.eventType(), e);
+            return false;
+        }
+    }
+
+    private void broadcast(List<OutboxRecord> records) {
+        StringBuilder notification = new StringBuilder();
+        int notificationBytes = 0;
+        for (OutboxRecord record : records) {
+            String element = "{\"type\":\"%s\",\"event\":%s}".formatted(record.eventType(), record.payload());
+            int elementBytes = element.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (elementBytes + 1 > MAX_NOTIFICATION_BYTES) {
+                log.warn("Outbox event {} of type {} is too large to broadcast", record.id(), record.eventType());
+                continue;
+            }
+            if (notificationBytes + elementBytes + 1 > MAX_NOTIFICATION_BYTES) {
+                sendNotification(notification);
+                notification.setLength(0);
+                notificationBytes = 0;
+            }
+            notification.append(notification.isEmpty() ? '[' : ',').append(element);
+            notificationBytes += elementBytes;
+        }
+        if (!notification.isEmpty()) {
+            sendNotification(notification);
+        }
+    }
+
+    private void sendNotification(StringBuilder notification) {
+        jdbcTemplate.queryForList(NOTIFY_SQL, CHANNEL, notification.append(']').toString());
+    }
+
+    private void deleteDelivered(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_SQL);
+            statement.setArray(1, idArray(connection, ids));
+            return statement;
+        });
+    }
+
+    private void scheduleRetry(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RETRY_SQL);
+            statement.setLong(1, retryDelayMillis);
+            statement.setLong(2, maxRetryDelayMillis);
+            statement.setArray(3, idArray(connection, ids));
+            return statement;
+        });
+    }
+
+    private int deadLetter(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int exhausted = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DEAD_LETTER_SQL);
+            statement.setArray(1, idArray(connection, ids));
+            statement.setInt(2, maxAttempts);
+            return statement;
+        });
+        if (exhausted > 0) {
+            log.warn("Moved {} outbox events to outbox_dead_letters after {} failed attempts", exhausted, maxAttempts);
+        }
+        return exhausted;
+    }
+
+    private static Array idArray(Connection connection, List<Long> ids) throws SQLException {
+        return connection.createArrayOf("bigint", ids.toArray());
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(EVENTS)
+                .description("Outbox events by delivery outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record OutboxRecord(long id, String eventType, String payload) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.bankcards.outbox;
+
+import com.example.bankcards.event.DomainEvent;
+import com.example.bankcards.event.DomainEventBus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Stores domain events in the outbox table on the connection of the current transaction,
+ * so an event exists if and only if the change that caused it was committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (event_type, aggregate_id, payload, created_at)
+            VALUES (?, ?, ?::jsonb, now())
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Domain events must be published inside a transaction");
+        }
+        jdbcTemplate.update(
+                INSERT_SQL,
+                DomainEventBus.typeName(event.getClass()),
+                event.aggregateId(),
+                toJson(event)
+        );
+    }
+
+    private String toJson(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + event, e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.bankcards.ratelimit;
+
+import com.example.bankcards.dto.response.error.ApiErrorResponse;
+import com.example.bankcards.enums.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String MESSAGE = "Too many requests, retry later";
+
+    private final RateLimitRule[] rules;
+
+    private final TokenBucketRegistry[] registries;
+
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(List<RateLimitRule> rules, int maxSubjects, ObjectMapper objectMapper) {
+        this.rules = rules.toArray(RateLimitRule[]::new);
+        this.registries = new TokenBucketRegistry[this.rules.length];
+        for (int i = 0; i < this.rules.length; i++) {
+            this.registries[i] = new TokenBucketRegistry(
+                    this.rules[i].emissionIntervalNanos(),
+                    this.rules[i].capacity(),
+                    maxSubjects
+            );
+        }
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        int ruleIndex = findRule(request.getMethod(), request.getRequestURI());
+        if (ruleIndex < 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String subject = authentication.getName();
+        long waitNanos = registries[ruleIndex].tryConsume(subject, System.nanoTime());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        reject(request, response, rules[ruleIndex], subject, waitNanos);
+    }
+
+    private int findRule(String method, String requestUri) {
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i].matches(method, requestUri)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void reject(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            RateLimitRule rule,
+            String subject,
+            long waitNanos
+    ) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        log.warn("Rate limit '{}' exceeded by '{}' on {}, retry after {}s",
+                rule.name(), subject, request.getRequestURI(), retryAfterSeconds);
+
+        ApiErrorResponse body = ApiErrorResponse.of(
+                ErrorCode.TOO_MANY_REQUESTS,
+                MESSAGE,
+                List.of(),
+                request.getRequestURI()
+        );
+
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.bankcards.ratelimit;
+
+import java.time.Duration;
+import java.util.Set;
+
+public record RateLimitRule(
+        String name,
+        String pathPrefix,
+        Set<String> methods,
+        long capacity,
+        long refillTokens,
+        Duration refillPeriod
+) {
+    public RateLimitRule {
+        if (pathPrefix == null || pathPrefix.isBlank()) {
+            throw new IllegalArgumentException("Rate limit rule '%s' must define a path prefix".formatted(name));
+        }
+        if (capacity <= 0 || refillTokens <= 0 || refillPeriod == null || refillPeriod.isZero()
+                || refillPeriod.isNegative()) {
+            throw new IllegalArgumentException(
+                    "Rate limit rule '%s' must have positive capacity and refill rate".formatted(name)
+            );
+        }
+        methods = methods == null ? Set.of() : Set.copyOf(methods);
+    }
+
+    public long emissionIntervalNanos() {
+        return Math.max(1, refillPeriod.toNanos() / refillTokens);
+    }
+
+    public boolean matches(String method, String requestUri) {
+        return requestUri.startsWith(pathPrefix) && (methods.isEmpty() || methods.contains(method));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.bankcards.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket stored as a single "theoretical arrival time" (GCRA form).
+ * A full bucket is any state whose arrival time is not after {@code now}.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+
+    private final long capacityNanos;
+
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(long emissionIntervalNanos, long capacity, long nowNanos) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.capacityNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds until one becomes available
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalTime.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - capacityNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrivalTime.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.bankcards.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets per subject, at most {@code maxSubjects} of them. Only full buckets are dropped: they carry no
+ * state, so dropping one never resets a limit. While every tracked bucket is still in use, new subjects are not
+ * tracked and share one overflow bucket instead of displacing anyone. The map is swept for full buckets at most
+ * once per refill period, so a stream of new subjects does not cost a full scan each.
+ */
+public class TokenBucketRegistry {
+
+    private final long emissionIntervalNanos;
+
+    private final long capacity;
+
+    private final int maxSubjects;
+
+    private final long sweepIntervalNanos;
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets;
+
+    private final AtomicLong nextSweepNanos = new AtomicLong();
+
+    private volatile boolean swept;
+
+    private volatile TokenBucket overflow;
+
+    public TokenBucketRegistry(long emissionIntervalNanos, long capacity, int maxSubjects) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.capacity = capacity;
+        this.maxSubjects = maxSubjects;
+        this.sweepIntervalNanos = emissionIntervalNanos * capacity;
+        this.buckets = new ConcurrentHashMap<>(Math.min(maxSubjects, 1024));
+    }
+
+    public long tryConsume(String subject, long nowNanos) {
+        TokenBucket bucket = buckets.get(subject);
+        if (bucket == null) {
+            bucket = register(subject, nowNanos);
+        }
+        return bucket.tryConsume(nowNanos);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private TokenBucket register(String subject, long nowNanos) {
+        if (buckets.size() >= maxSubjects && !sweep(nowNanos)) {
+            return overflow(nowNanos);
+        }
+        return buckets.computeIfAbsent(
+                subject,
+                key -> new TokenBucket(emissionIntervalNanos, capacity, nowNanos)
+        );
+    }
+
+    /**
+     * @return whether there is room for another subject
+     */
+    private boolean sweep(long nowNanos) {
+        long next = nextSweepNanos.get();
+        if (swept && nowNanos - next < 0) {
+            return false;
+        }
+        // one caller sweeps, the others use the overflow bucket meanwhile
+        if (!nextSweepNanos.compareAndSet(next, nowNanos + sweepIntervalNanos)) {
+            return false;
+        }
+        swept = true;
+        buckets.values().removeIf(bucket -> bucket.isFull(nowNanos));
+        return buckets.size() < maxSubjects;
+    }
+
+    private TokenBucket overflow(long nowNanos) {
+        TokenBucket bucket = overflow;
+        if (bucket == null) {
+            bucket = new TokenBucket(emissionIntervalNanos, capacity, nowNanos);
+            overflow = bucket;
+        }
+        return bucket;
+    }
+}
@@ -2,9 +2,11 @@ package com.example.bankcards.repository;
 
 import com.example.bankcards.entity.Card;
 import com.example.bankcards.entity.User;
+import com.example.bankcards.repository.projection.CardVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -19,4 +21,29 @@ public interface CardRepository extends JpaRepository<Card, Long> {
     boolean existsByOwner(User owner);
 
     Optional<Card> findByIdAndOwner_Id(Long cardId, Long userId);
+
+    @Query("""
+            select new com.example.bankcards.repository.projection.CardVersion(
+                c.id, c.version, c.expiryDate, c.cardStatus, o.username)
+            from Card c join c.owner o
+            where c.id = :cardId
+            """)
+    Optional<CardVersion> findVersionById(Long cardId);
+
+    @Query(value = """
+            select new com.example.bankcards.repository.projection.CardVersion(
+                c.id, c.version, c.expiryDate, c.cardStatus, o.username)
+            from Card c join c.owner o
+            """,
+            countQuery = "select count(c) from Card c")
+    Page<CardVersion> findAllVersions(Pageable pageable);
+
+    @Query(value = """
+            select new com.example.bankcards.repository.projection.CardVersion(
+                c.id, c.version, c.expiryDate, c.cardStatus, o.username)
+            from Card c join c.owner o
+            where o = :owner
+            """,
+            countQuery = "select count(c) from Card c where c.owner = :owner")
+    Page<CardVersion> findAllVersionsByOwner(User owner, Pageable pageable);
 }
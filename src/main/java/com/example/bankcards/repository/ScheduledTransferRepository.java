@@ -0,0 +1,28 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.ScheduledTransfer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ScheduledTransferRepository extends JpaRepository<ScheduledTransfer, Long> {
+
+    Page<ScheduledTransfer> findAllByOwnerId(Long ownerId, Pageable pageable);
+
+    Optional<ScheduledTransfer> findByIdAndOwnerId(Long id, Long ownerId);
+
+    // a single-column update, so a runner advancing the same row concurrently is not overwritten
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update ScheduledTransfer s
+            set s.status = com.example.bankcards.enums.ScheduledTransferStatus.CANCELLED
+            where s.id = :id and s.status = com.example.bankcards.enums.ScheduledTransferStatus.ACTIVE
+            """)
+    int cancelIfActive(Long id);
+}
@@ -0,0 +1,9 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.Transfer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TransferRepository extends JpaRepository<Transfer, Long> {
+}
@@ -1,7 +1,9 @@
 package com.example.bankcards.repository;
 
 import com.example.bankcards.entity.User;
+import com.example.bankcards.repository.projection.UserVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +14,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
+
+    @Query("""
+            select new com.example.bankcards.repository.projection.UserVersion(u.id, u.version)
+            from User u
+            where u.username = :username
+            """)
+    Optional<UserVersion> findVersionByUsername(String username);
 }
@@ -0,0 +1,21 @@
+package com.example.bankcards.repository.projection;
+
+import com.example.bankcards.enums.CardStatus;
+
+import java.time.LocalDate;
+
+/**
+ * What it takes to compute a card's ETag and check access to it, without loading and decrypting the card.
+ */
+public record CardVersion(
+        Long id,
+        Long version,
+        LocalDate expiryDate,
+        CardStatus cardStatus,
+        String ownerUsername
+) {
+
+    public boolean isExpiredButNotMarked(LocalDate today) {
+        return expiryDate.isBefore(today) && cardStatus != CardStatus.EXPIRED;
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.bankcards.scheduled;
+
+import com.example.bankcards.enums.ScheduledTransferStatus;
+import com.example.bankcards.enums.TransferRecurrence;
+import com.example.bankcards.exception.notfound.NotFoundException;
+import com.example.bankcards.money.Money;
+import com.example.bankcards.service.application.TransferApplicationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Makes due scheduled transfers. A worker claims a batch in one statement: rows picked with
+ * {@code FOR UPDATE SKIP LOCKED} get their {@code next_attempt_at} pushed to the end of a lease, so workers on
+ * any number of instances take disjoint batches, and the jobs of a worker that dies become due again when its
+ * lease runs out. Each job then runs in its own transaction that first advances the row, provided it is still
+ * active and still carries this lease, and then makes the transfer through {@link TransferApplicationService}:
+ * both commit or roll back together, so no occurrence is paid twice.
+ * <p>
+ * A failed attempt is retried after {@code retryDelay} times the attempts so far. After {@code maxAttempts}
+ * the occurrence is given up: a one-off transfer fails, a recurring one moves on to its next occurrence.
+ * Occurrences overdue by more than {@code maxDelay}, e.g. after an outage, are skipped rather than paid late,
+ * and a recurring transfer makes one payment however many of its occurrences were missed.
+ */
+@Slf4j
+public class ScheduledTransferRunner implements SmartLifecycle {
+
+    private static final String CLAIM_SQL = """
+            UPDATE scheduled_transfers
+            SET next_attempt_at = ?
+            WHERE id IN (
+                SELECT id
+                FROM scheduled_transfers
+                WHERE status = 'ACTIVE' AND next_attempt_at <= ?
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, owner_id, from_card_id, to_card_id, amount, recurrence, first_run_at, next_run_at, attempts
+            """;
+
+    private static final String ADVANCE_SQL = """
+            UPDATE scheduled_transfers
+            SET next_run_at = ?, next_attempt_at = ?, attempts = 0, last_error = ?
+            WHERE id = ? AND status = 'ACTIVE' AND next_attempt_at = ?
+            """;
+
+    private static final String FINISH_SQL = """
+            UPDATE scheduled_transfers
+            SET status = ?, attempts = ?, last_error = ?
+            WHERE id = ? AND status = 'ACTIVE' AND next_attempt_at = ?
+            """;
+
+    private static final String RETRY_SQL = """
+            UPDATE scheduled_transfers
+            SET next_attempt_at = ?, attempts = ?, last_error = ?
+            WHERE id = ? AND status = 'ACTIVE' AND next_attempt_at = ?
+            """;
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private static final String TRANSFERS = "bankcards.scheduled-transfers";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TransferApplicationService transferApplicationService;
+
+    private final int workers;
+
+    private final int batchSize;
+
+    private final long pollIntervalNanos;
+
+    private final Duration lease;
+
+    private final int maxAttempts;
+
+    private final Duration retryDelay;
+
+    private final Duration maxDelay;
+
+    private final Clock clock;
+
+    private final Counter executed;
+
+    private final Counter retried;
+
+    private final Counter failed;
+
+    private final Counter missed;
+
+    private volatile boolean running;
+
+    private final List<Thread> threads = new ArrayList<>();
+
+    public ScheduledTransferRunner(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            TransferApplicationService transferApplicationService,
+            int workers,
+            int batchSize,
+            Duration pollInterval,
+            Duration lease,
+            int maxAttempts,
+            Duration retryDelay,
+            Duration maxDelay,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.transferApplicationService = transferApplicationService;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.maxDelay = maxDelay;
+        this.clock = clock;
+        this.executed = counter(meterRegistry, "executed");
+        this.retried = counter(meterRegistry, "retried");
+        this.failed = counter(meterRegistry, "failed");
+        this.missed = counter(meterRegistry, "missed");
+    }
+
+    /**
+     * @return the number of jobs claimed, whatever their outcome
+     */
+    public int runOnce() {
+        List<Job> jobs = claim();
+        for (Job job : jobs) {
+            run(job);
+        }
+        return jobs.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            Thread thread = new Thread(this::work, "scheduled-transfers-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        threads.forEach(LockSupport::unpark);
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work() {
+        while (running) {
+            int claimed;
+            try {
+                claimed = runOnce();
+            } catch (RuntimeException e) {
+                log.error("Scheduled transfer run failed", e);
+                claimed = 0;
+            }
+            if (claimed < batchSize && running) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+
+    private List<Job> claim() {
+        Instant now = clock.instant();
+        // Postgres keeps microseconds; the lease is compared for equality later
+        Instant leaseUntil = now.plus(lease).truncatedTo(ChronoUnit.MICROS);
+        return jdbcTemplate.query(
+                CLAIM_SQL,
+                (rs, rowNum) -> new Job(
+                        rs.getLong("id"),
+                        rs.getLong("owner_id"),
+                        rs.getLong("from_card_id"),
+                        rs.getLong("to_card_id"),
+                        Money.of(rs.getBigDecimal("amount")),
+                        TransferRecurrence.valueOf(rs.getString("recurrence")),
+                        rs.getTimestamp("first_run_at").toInstant(),
+                        rs.getTimestamp("next_run_at").toInstant(),
+                        rs.getInt("attempts"),
+                        leaseUntil
+                ),
+                Timestamp.from(leaseUntil),
+                Timestamp.from(now),
+                batchSize
+        );
+    }
+
+    private void run(Job job) {
+        Instant now = clock.instant();
+        if (job.nextRunAt().isBefore(now.minus(maxDelay))) {
+            transactionTemplate.executeWithoutResult(status -> finishOccurrence(
+                    job, now, ScheduledTransferStatus.FAILED, job.attempts(),
+                    "Missed occurrence at %s".formatted(job.nextRunAt())
+            ));
+            missed.increment();
+            return;
+        }
+
+        try {
+            Boolean transferred = transactionTemplate.execute(status -> {
+                if (!finishOccurrence(job, now, ScheduledTransferStatus.COMPLETED, job.attempts(), null)) {
+                    // cancelled, or claimed again by another worker after this lease ran out
+                    return false;
+                }
+                transferApplicationService.transfer(job.ownerId(), job.fromCardId(), job.toCardId(), job.amount());
+                return true;
+            });
+            if (Boolean.TRUE.equals(transferred)) {
+                executed.increment();
+            }
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> recordFailure(job, now, e));
+        }
+    }
+
+    private void recordFailure(Job job, Instant now, RuntimeException e) {
+        int attempts = job.attempts() + 1;
+        String error = error(e);
+        if (e instanceof NotFoundException) {
+            // a card no longer belongs to the owner, so no later attempt or occurrence can succeed
+            jdbcTemplate.update(FINISH_SQL, ScheduledTransferStatus.FAILED.name(), attempts, error,
+                    job.id(), Timestamp.from(job.leaseUntil()));
+            failed.increment();
+        } else if (attempts >= maxAttempts) {
+            finishOccurrence(job, now, ScheduledTransferStatus.FAILED, attempts, error);
+            failed.increment();
+        } else {
+            jdbcTemplate.update(RETRY_SQL, Timestamp.from(now.plus(retryDelay.multipliedBy(attempts))), attempts,
+                    error, job.id(), Timestamp.from(job.leaseUntil()));
+            retried.increment();
+        }
+        log.warn("Scheduled transfer {} failed on attempt {}: {}", job.id(), attempts, error);
+    }
+
+    /**
+     * Moves a recurring job on to its next occurrence, or ends a one-off job with {@code lastStatus}.
+     *
+     * @return whether the job still carried this worker's lease
+     */
+    private boolean finishOccurrence(
+            Job job,
+            Instant now,
+            ScheduledTransferStatus lastStatus,
+            int attempts,
+            String error
+    ) {
+        Timestamp leaseUntil = Timestamp.from(job.leaseUntil());
+        Instant next = job.recurrence().nextAfter(job.firstRunAt(), now);
+        int updated = next == null
+                ? jdbcTemplate.update(FINISH_SQL, lastStatus.name(), attempts, error, job.id(), leaseUntil)
+                : jdbcTemplate.update(ADVANCE_SQL, Timestamp.from(next), Timestamp.from(next), error, job.id(),
+                leaseUntil);
+        return updated == 1;
+    }
+
+    private static String error(RuntimeException e) {
+        String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(TRANSFERS)
+                .description("Scheduled transfer runs by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record Job(
+            long id,
+            long ownerId,
+            long fromCardId,
+            long toCardId,
+            Money amount,
+            TransferRecurrence recurrence,
+            Instant firstRunAt,
+            Instant nextRunAt,
+            int attempts,
+            Instant leaseUntil
+    ) {
+    }
+}
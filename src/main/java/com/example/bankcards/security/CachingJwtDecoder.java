@@ -0,0 +1,113 @@
+package com.example.bankcards.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Remembers successfully decoded tokens until they expire (plus the validator's clock skew),
+ * so repeated requests with the same token skip signature verification and claim parsing.
+ * Only the SHA-256 digest of a token is kept as the key. Once {@code maxEntries} tokens are cached, expired
+ * ones are swept out at most once per {@link #SWEEP_INTERVAL}; until there is room again, new tokens are
+ * decoded without being cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final Duration SWEEP_INTERVAL = Duration.ofSeconds(1);
+
+    private final JwtDecoder delegate;
+
+    private final int maxEntries;
+
+    private final Duration clockSkew;
+
+    private final Clock clock;
+
+    private final ConcurrentHashMap<TokenDigest, CachedJwt> cache;
+
+    private final AtomicReference<Instant> nextSweep = new AtomicReference<>(Instant.MIN);
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxEntries, Duration clockSkew, Clock clock) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.clockSkew = clockSkew;
+        this.clock = clock;
+        this.cache = new ConcurrentHashMap<>(Math.min(maxEntries, 1024));
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        TokenDigest key = TokenDigest.of(token);
+        Instant now = clock.instant();
+
+        CachedJwt cached = cache.get(key);
+        if (cached != null) {
+            if (cached.isValidAt(now)) {
+                return cached.jwt();
+            }
+            cache.remove(key, cached);
+        }
+
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            put(key, new CachedJwt(jwt, jwt.getExpiresAt().plus(clockSkew)), now);
+        }
+        return jwt;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private void put(TokenDigest key, CachedJwt value, Instant now) {
+        if (cache.size() >= maxEntries && !sweep(now)) {
+            return;
+        }
+        cache.put(key, value);
+    }
+
+    /**
+     * @return whether there is room for another token
+     */
+    private boolean sweep(Instant now) {
+        Instant next = nextSweep.get();
+        if (now.isBefore(next) || !nextSweep.compareAndSet(next, now.plus(SWEEP_INTERVAL))) {
+            return false;
+        }
+        cache.values().removeIf(cached -> !cached.isValidAt(now));
+        return cache.size() < maxEntries;
+    }
+
+    private record CachedJwt(Jwt jwt, Instant validUntil) {
+
+        boolean isValidAt(Instant now) {
+            return !now.isAfter(validUntil);
+        }
+    }
+
+    private record TokenDigest(long first, long second, long third, long fourth) {
+
+        static TokenDigest of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                        .digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Failed to compute token digest", e);
+            }
+        }
+    }
+}
@@ -14,6 +14,8 @@ import java.time.Instant;
 @RequiredArgsConstructor
 public class JwtService {
 
+    public static final String SESSION_ID_CLAIM = "sid";
+
     private static final JwsHeader JWS_HEADER = JwsHeader.with(() -> "HS256").build();
 
     @Value("${jwt.issuer}")
@@ -24,7 +26,7 @@ public class JwtService {
 
     private final JwtEncoder jwtEncoder;
 
-    public String generateToken(CustomUserDetails userDetails) {
+    public String generateToken(CustomUserDetails userDetails, Long sessionId) {
         Instant now = Instant.now();
 
         JwtClaimsSet claims = JwtClaimsSet.builder()
@@ -33,6 +35,7 @@ public class JwtService {
                 .expiresAt(now.plusSeconds(expirationSeconds))
                 .subject(userDetails.getUsername())
                 .claim("role", userDetails.getRole())
+                .claim(SESSION_ID_CLAIM, sessionId)
                 .build();
 
         return jwtEncoder.encode(
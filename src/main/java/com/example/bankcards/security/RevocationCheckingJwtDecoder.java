@@ -0,0 +1,25 @@
+package com.example.bankcards.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+@RequiredArgsConstructor
+public class RevocationCheckingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getClaim(JwtService.SESSION_ID_CLAIM) instanceof Number sessionId
+                && tokenRevocationService.isRevoked(sessionId.longValue())) {
+            throw new BadJwtException("Token has been revoked");
+        }
+        return jwt;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.bankcards.security;
+
+import com.example.bankcards.entity.RefreshToken;
+import com.example.bankcards.service.domain.RefreshTokenDomainService;
+import com.example.bankcards.util.LongBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the ids of sessions revoked within the last access-token lifetime. Older revocations
+ * need no tracking because every access token issued for them has already expired.
+ * The Bloom filter answers the common "not revoked" case without touching the set. Revocations and the
+ * swap to a rebuilt snapshot take one lock, so a revocation is never made on a snapshot that is being
+ * replaced; lookups take none.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final RefreshTokenDomainService refreshTokenDomainService;
+
+    private final Duration window;
+
+    private final int expectedEntries;
+
+    private final Object lock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    public TokenRevocationService(
+            RefreshTokenDomainService refreshTokenDomainService,
+            @Value("${jwt.expiration-seconds}") long accessTokenSeconds,
+            @Value("${jwt.clock-skew}") Duration clockSkew,
+            @Value("${jwt.revocation.expected-entries}") int expectedEntries
+    ) {
+        this.refreshTokenDomainService = refreshTokenDomainService;
+        this.window = Duration.ofSeconds(accessTokenSeconds).plus(clockSkew);
+        this.expectedEntries = expectedEntries;
+        this.snapshot = Snapshot.empty(expectedEntries);
+    }
+
+    public boolean isRevoked(long sessionId) {
+        Snapshot current = snapshot;
+        return current.filter().mightContain(sessionId) && current.revokedAt().containsKey(sessionId);
+    }
+
+    /**
+     * Inside a transaction the sessions are only marked revoked once it commits, so a rolled-back revocation
+     * never rejects tokens that are still valid.
+     */
+    public void revoke(Collection<Long> sessionIds, Instant revokedAt) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(sessionIds, revokedAt);
+                }
+            });
+        } else {
+            apply(sessionIds, revokedAt);
+        }
+    }
+
+    private void apply(Collection<Long> sessionIds, Instant revokedAt) {
+        synchronized (lock) {
+            Snapshot current = snapshot;
+            for (Long sessionId : sessionIds) {
+                current.add(sessionId, revokedAt);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval}")
+    public void rebuild() {
+        Instant since = Instant.now().minus(window);
+        List<RefreshToken> revoked = refreshTokenDomainService.getRevokedSince(since);
+
+        Snapshot next = Snapshot.empty(Math.max(expectedEntries, revoked.size() * 2));
+        for (RefreshToken token : revoked) {
+            next.add(token.getId(), token.getRevokedAt());
+        }
+        synchronized (lock) {
+            // keep local revocations whose transaction may not have been visible to the query yet
+            snapshot.revokedAt().forEach((sessionId, revokedAt) -> {
+                if (revokedAt.isAfter(since)) {
+                    next.add(sessionId, revokedAt);
+                }
+            });
+            snapshot = next;
+        }
+        log.debug("Revocation list rebuilt with {} sessions", next.revokedAt().size());
+    }
+
+    private record Snapshot(LongBloomFilter filter, Map<Long, Instant> revokedAt) {
+
+        static Snapshot empty(int expectedEntries) {
+            return new Snapshot(
+                    new LongBloomFilter(expectedEntries, FALSE_POSITIVE_PROBABILITY),
+                    new ConcurrentHashMap<>()
+            );
+        }
+
+        void add(Long sessionId, Instant revokedAt) {
+            this.revokedAt.put(sessionId, revokedAt);
+            filter.put(sessionId);
+        }
+    }
+}
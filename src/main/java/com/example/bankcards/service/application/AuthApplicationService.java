@@ -0,0 +1,86 @@
+package com.example.bankcards.service.application;
+
+import com.example.bankcards.dto.request.RefreshTokenRequest;
+import com.example.bankcards.dto.response.LoginResponse;
+import com.example.bankcards.entity.RefreshToken;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.exception.unauthorized.InvalidRefreshTokenException;
+import com.example.bankcards.exception.unauthorized.RefreshTokenReusedException;
+import com.example.bankcards.mapper.UserMapper;
+import com.example.bankcards.security.CustomUserDetails;
+import com.example.bankcards.security.JwtService;
+import com.example.bankcards.security.TokenRevocationService;
+import com.example.bankcards.service.domain.RefreshTokenDomainService;
+import com.example.bankcards.service.domain.UserDomainService;
+import com.example.bankcards.util.RefreshTokenGenerator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@Timed("bankcards.service")
+@RequiredArgsConstructor
+public class AuthApplicationService {
+
+    @Value("${jwt.refresh-expiration-seconds}")
+    private long refreshExpirationSeconds;
+
+    private final UserDomainService userDomainService;
+    private final UserMapper userMapper;
+
+    private final RefreshTokenDomainService refreshTokenDomainService;
+
+    private final JwtService jwtService;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @Transactional
+    public LoginResponse login(CustomUserDetails userDetails) {
+        Instant now = Instant.now();
+        User user = userDomainService.getUserById(userDetails.getId());
+
+        String refreshToken = RefreshTokenGenerator.generate();
+        RefreshToken session = refreshTokenDomainService.createRefreshToken(
+                user,
+                RefreshTokenGenerator.hash(refreshToken),
+                now,
+                now.plusSeconds(refreshExpirationSeconds)
+        );
+
+        String accessToken = jwtService.generateToken(userDetails, session.getId());
+        return new LoginResponse(userDetails.getUsername(), userDetails.getRole(), accessToken, refreshToken);
+    }
+
+    // commits the revocation of a reused token's session even though the request fails
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public LoginResponse refresh(RefreshTokenRequest request) {
+        Instant now = Instant.now();
+        RefreshToken session;
+        try {
+            session = refreshTokenDomainService.getActiveByTokenHash(
+                    RefreshTokenGenerator.hash(request.refreshToken()), now
+            );
+        } catch (RefreshTokenReusedException e) {
+            tokenRevocationService.revoke(List.of(e.getSessionId()), now);
+            throw e;
+        }
+
+        String refreshToken = RefreshTokenGenerator.generate();
+        session = refreshTokenDomainService.rotate(
+                session,
+                RefreshTokenGenerator.hash(refreshToken),
+                now,
+                now.plusSeconds(refreshExpirationSeconds)
+        );
+
+        User user = session.getUser();
+        CustomUserDetails userDetails = CustomUserDetails.from(userMapper.toUserAuthResponse(user, true));
+        String accessToken = jwtService.generateToken(userDetails, session.getId());
+        return new LoginResponse(user.getUsername(), user.getRole(), accessToken, refreshToken);
+    }
+}
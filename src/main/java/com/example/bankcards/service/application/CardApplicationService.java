@@ -1,18 +1,25 @@
 package com.example.bankcards.service.application;
 
+import com.example.bankcards.audit.AuditAction;
+import com.example.bankcards.audit.AuditLog;
+import com.example.bankcards.config.FxProperties;
 import com.example.bankcards.dto.request.CardCreateRequest;
 import com.example.bankcards.dto.response.CardResponse;
 import com.example.bankcards.dto.response.UserResponse;
 import com.example.bankcards.entity.Card;
 import com.example.bankcards.entity.User;
+import com.example.bankcards.enums.CardStatus;
 import com.example.bankcards.enums.Role;
 import com.example.bankcards.exception.forbidden.CardAccessDeniedException;
 import com.example.bankcards.exception.badrequest.CardOperationNotAllowedException;
 import com.example.bankcards.mapper.CardMapper;
 import com.example.bankcards.mapper.UserMapper;
+import com.example.bankcards.repository.projection.CardVersion;
 import com.example.bankcards.service.domain.CardDomainService;
 import com.example.bankcards.service.domain.UserDomainService;
 import com.example.bankcards.util.CardNumberHasher;
+import com.example.bankcards.util.ETags;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -20,7 +27,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 @Service
+@Timed("bankcards.service")
 @Slf4j
 @RequiredArgsConstructor
 public class CardApplicationService {
@@ -33,14 +44,22 @@ public class CardApplicationService {
 
     private final CardNumberHasher cardNumberHasher;
 
+    private final AuditLog auditLog;
+
+    private final FxProperties fxProperties;
+
     @Transactional
     public CardResponse createCard(CardCreateRequest cardCreateRequest) {
         User owner = userDomainService.getUserById(cardCreateRequest.ownerId());
         String cardNumberHash = cardNumberHasher.hash(cardCreateRequest.cardNumber());
 
         Card cardToCreate = cardMapper.toCard(cardCreateRequest, cardNumberHash, owner);
+        if (cardToCreate.getCurrency() == null) {
+            cardToCreate.setCurrency(fxProperties.defaultCurrency());
+        }
 
         Card newCard = cardDomainService.createCard(cardToCreate);
+        auditLog.record(AuditAction.CARD_CREATED, newCard.getId(), null, newCard.getCardStatus().name());
 
         return cardMapper.toCardResponse(newCard);
     }
@@ -65,6 +84,23 @@ public class CardApplicationService {
         );
     }
 
+    /**
+     * @return the card's current ETag, or empty when the card has to be loaded to answer the request
+     * (not found, not accessible to the user, or about to be marked expired)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getCardETagForUser(Long cardId, String username) {
+        Optional<CardVersion> card = cardDomainService.getCardVersionById(cardId);
+        if (card.isEmpty() || card.get().isExpiredButNotMarked(LocalDate.now())) {
+            return Optional.empty();
+        }
+        if (!card.get().ownerUsername().equals(username)
+                && userDomainService.getByUsername(username).getRole() != Role.ADMIN) {
+            return Optional.empty();
+        }
+        return Optional.of(ETags.card(card.get().id(), card.get().version()));
+    }
+
     @Transactional
     public UserResponse getOwnerByCardId(Long cardId) {
         Card card = cardDomainService.getCardById(cardId);
@@ -90,19 +126,26 @@ public class CardApplicationService {
         return cards.map(cardMapper::toCardResponse);
     }
 
+    @Transactional(readOnly = true)
+    public String getCardsETagForUser(String username, Pageable pageable) {
+        User user = userDomainService.getByUsername(username);
+        Page<CardVersion> cards = user.getRole() == Role.ADMIN
+                ? cardDomainService.getCardVersions(pageable)
+                : cardDomainService.getCardVersionsByOwner(user, pageable);
+        return ETags.cards(cards, CardVersion::id, CardVersion::version);
+    }
+
     @Transactional
     public CardResponse blockCardById(Long cardId, String username) {
         Card card = cardDomainService.getCardById(cardId);
 
         if (card.getOwner().getUsername().equals(username)) {
-            card = cardDomainService.blockCard(card);
-            return cardMapper.toCardResponse(card);
+            return cardMapper.toCardResponse(block(card));
         }
 
         User user = userDomainService.getByUsername(username);
         if (user.getRole() == Role.ADMIN) {
-            card = cardDomainService.blockCard(card);
-            return cardMapper.toCardResponse(card);
+            return cardMapper.toCardResponse(block(card));
         }
 
         log.warn("User '{}' denied access to block card ID {}", username, cardId);
@@ -112,7 +155,9 @@ public class CardApplicationService {
     @Transactional
     public CardResponse activateById(Long cardId) {
         Card card = cardDomainService.getCardById(cardId);
+        CardStatus oldStatus = card.getCardStatus();
         card = cardDomainService.activateCard(card);
+        auditLog.record(AuditAction.CARD_ACTIVATED, card.getId(), oldStatus.name(), card.getCardStatus().name());
         return cardMapper.toCardResponse(card);
     }
 
@@ -120,5 +165,13 @@ public class CardApplicationService {
     public void deleteCardById(Long cardId) {
         Card card = cardDomainService.getCardById(cardId);
         cardDomainService.deleteCard(card);
+        auditLog.record(AuditAction.CARD_DELETED, card.getId(), card.getCardStatus().name(), null);
+    }
+
+    private Card block(Card card) {
+        CardStatus oldStatus = card.getCardStatus();
+        card = cardDomainService.blockCard(card);
+        auditLog.record(AuditAction.CARD_BLOCKED, card.getId(), oldStatus.name(), card.getCardStatus().name());
+        return card;
     }
 }
@@ -0,0 +1,58 @@
+package com.example.bankcards.service.application;
+
+import com.example.bankcards.dto.request.ScheduledTransferCreateRequest;
+import com.example.bankcards.dto.response.ScheduledTransferResponse;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.ScheduledTransfer;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.mapper.ScheduledTransferMapper;
+import com.example.bankcards.money.Money;
+import com.example.bankcards.service.domain.CardDomainService;
+import com.example.bankcards.service.domain.ScheduledTransferDomainService;
+import com.example.bankcards.service.domain.UserDomainService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Timed("bankcards.service")
+@RequiredArgsConstructor
+public class ScheduledTransferApplicationService {
+
+    private final UserDomainService userDomainService;
+
+    private final CardDomainService cardDomainService;
+
+    private final ScheduledTransferDomainService scheduledTransferDomainService;
+
+    private final ScheduledTransferMapper scheduledTransferMapper;
+
+    @Transactional
+    public ScheduledTransferResponse create(String username, ScheduledTransferCreateRequest request) {
+        User user = userDomainService.getByUsername(username);
+        Card fromCard = cardDomainService.getCardByIdAndByOwnerId(request.fromCardId(), user.getId());
+        Card toCard = cardDomainService.getCardByIdAndByOwnerId(request.toCardId(), user.getId());
+
+        ScheduledTransfer scheduledTransfer = scheduledTransferDomainService.create(
+                fromCard, toCard, Money.of(request.amount()), request.recurrence(), request.firstRunAt()
+        );
+        return scheduledTransferMapper.toResponse(scheduledTransfer);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ScheduledTransferResponse> getForUser(String username, Pageable pageable) {
+        User user = userDomainService.getByUsername(username);
+        return scheduledTransferDomainService.getAllByOwnerId(user.getId(), pageable)
+                .map(scheduledTransferMapper::toResponse);
+    }
+
+    @Transactional
+    public void cancel(String username, Long id) {
+        User user = userDomainService.getByUsername(username);
+        ScheduledTransfer scheduledTransfer = scheduledTransferDomainService.getByIdAndOwnerId(id, user.getId());
+        scheduledTransferDomainService.cancel(scheduledTransfer);
+    }
+}
@@ -3,14 +3,17 @@ package com.example.bankcards.service.application;
 import com.example.bankcards.dto.request.TransferRequest;
 import com.example.bankcards.entity.Card;
 import com.example.bankcards.entity.User;
+import com.example.bankcards.money.Money;
 import com.example.bankcards.service.domain.CardDomainService;
 import com.example.bankcards.service.domain.TransferDomainService;
 import com.example.bankcards.service.domain.UserDomainService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("bankcards.service")
 @RequiredArgsConstructor
 public class TransferApplicationService {
 
@@ -23,12 +26,16 @@ public class TransferApplicationService {
     @Transactional
     public void transfer(String username, TransferRequest request) {
         User user = userDomainService.getByUsername(username);
-        Card fromCard = cardDomainService.getCardByIdAndByOwnerId(
-                request.fromCardId(), user.getId()
-        );
-        Card toCard = cardDomainService.getCardByIdAndByOwnerId(
-                request.toCardId(), user.getId()
-        );
-        transferDomainService.transfer(fromCard, toCard, request.amount());
+        transfer(user.getId(), request.fromCardId(), request.toCardId(), Money.of(request.amount()));
+    }
+
+    /**
+     * Transfer on behalf of the owner of both cards, as made by scheduled transfers.
+     */
+    @Transactional
+    public void transfer(Long ownerId, Long fromCardId, Long toCardId, Money amount) {
+        Card fromCard = cardDomainService.getCardByIdAndByOwnerId(fromCardId, ownerId);
+        Card toCard = cardDomainService.getCardByIdAndByOwnerId(toCardId, ownerId);
+        transferDomainService.transfer(fromCard, toCard, amount);
     }
 }
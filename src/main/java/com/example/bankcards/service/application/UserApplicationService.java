@@ -1,5 +1,7 @@
 package com.example.bankcards.service.application;
 
+import com.example.bankcards.audit.AuditAction;
+import com.example.bankcards.audit.AuditLog;
 import com.example.bankcards.dto.request.UserCreateRequest;
 import com.example.bankcards.dto.request.UserPasswordUpdateRequest;
 import com.example.bankcards.dto.request.UserUpdateRequest;
@@ -10,8 +12,13 @@ import com.example.bankcards.entity.Card;
 import com.example.bankcards.entity.User;
 import com.example.bankcards.mapper.CardMapper;
 import com.example.bankcards.mapper.UserMapper;
+import com.example.bankcards.repository.projection.CardVersion;
+import com.example.bankcards.security.TokenRevocationService;
 import com.example.bankcards.service.domain.CardDomainService;
+import com.example.bankcards.service.domain.RefreshTokenDomainService;
 import com.example.bankcards.service.domain.UserDomainService;
+import com.example.bankcards.util.ETags;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,7 +26,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
 @Service
+@Timed("bankcards.service")
 @RequiredArgsConstructor
 public class UserApplicationService {
 
@@ -31,11 +43,17 @@ public class UserApplicationService {
     private final CardDomainService cardDomainService;
     private final CardMapper cardMapper;
 
+    private final RefreshTokenDomainService refreshTokenDomainService;
+    private final TokenRevocationService tokenRevocationService;
+
+    private final AuditLog auditLog;
+
     @Transactional
     public UserResponse createUser(UserCreateRequest request) {
         String passwordHash = passwordEncoder.encode(request.password());
         User user = userMapper.toUser(request, passwordHash);
         user = userDomainService.createUser(user);
+        auditLog.record(AuditAction.USER_CREATED, user.getId(), null, user.getUsername());
         return userMapper.toUserResponse(user);
     }
 
@@ -51,6 +69,12 @@ public class UserApplicationService {
         return userMapper.toUserResponse(user);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<String> getUserETagByUsername(String username) {
+        return userDomainService.getVersionByUsername(username)
+                .map(user -> ETags.user(user.id(), user.version()));
+    }
+
     @Transactional(readOnly = true)
     public Page<UserResponse> getUsers(Pageable pageable) {
         Page<User> users = userDomainService.getUsers(pageable);
@@ -64,10 +88,19 @@ public class UserApplicationService {
         return cards.map(cardMapper::toCardResponse);
     }
 
+    @Transactional(readOnly = true)
+    public String getCardsETagForUser(String username, Pageable pageable) {
+        User user = userDomainService.getByUsername(username);
+        Page<CardVersion> cards = cardDomainService.getCardVersionsByOwner(user, pageable);
+        return ETags.cards(cards, CardVersion::id, CardVersion::version);
+    }
+
     @Transactional
     public UserResponse updateUser(Long userId, UserUpdateRequest request) {
         User user = userDomainService.getUserById(userId);
+        String oldUsername = user.getUsername();
         user = userDomainService.updateUsername(user, request.newUsername());
+        auditLog.record(AuditAction.USER_RENAMED, user.getId(), oldUsername, user.getUsername());
         return userMapper.toUserResponse(user);
     }
 
@@ -77,6 +110,11 @@ public class UserApplicationService {
         String newPasswordHash = passwordEncoder.encode(request.newPassword());
         user.setPasswordHash(newPasswordHash);
         userDomainService.saveUser(user);
+
+        Instant now = Instant.now();
+        List<Long> revokedSessionIds = refreshTokenDomainService.revokeAllForUser(user, now);
+        tokenRevocationService.revoke(revokedSessionIds, now);
+        auditLog.record(AuditAction.USER_PASSWORD_CHANGED, user.getId(), null, null);
     }
 
     @Transactional(readOnly = true)
@@ -88,5 +126,6 @@ public class UserApplicationService {
     @Transactional
     public void deleteUserById(Long userId) {
         userDomainService.deleteUserById(userId);
+        auditLog.record(AuditAction.USER_DELETED, userId, null, null);
     }
 }
@@ -3,8 +3,14 @@ package com.example.bankcards.service.domain;
 import com.example.bankcards.entity.Card;
 import com.example.bankcards.entity.User;
 import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.event.CardCreatedEvent;
+import com.example.bankcards.event.CardDeletedEvent;
+import com.example.bankcards.event.CardStatusChangedEvent;
 import com.example.bankcards.exception.notfound.CardNotFoundException;
+import com.example.bankcards.jfr.CardExpiryEvent;
+import com.example.bankcards.outbox.OutboxPublisher;
 import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.repository.projection.CardVersion;
 import com.example.bankcards.validator.CardValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 @Service
 @Slf4j
@@ -21,10 +28,15 @@ public class CardDomainService {
 
     private final CardValidator cardValidator;
     private final CardRepository cardRepository;
+    private final OutboxPublisher outboxPublisher;
 
     public Card createCard(Card card) {
         cardValidator.validateForCreate(card);
-        return cardRepository.save(card);
+        Card savedCard = cardRepository.save(card);
+        outboxPublisher.publish(new CardCreatedEvent(
+                savedCard.getId(), ownerId(savedCard), savedCard.getCardStatus(), savedCard.getBalance().toBigDecimal()
+        ));
+        return savedCard;
     }
 
     public Card getCardById(Long cardId) {
@@ -45,6 +57,18 @@ public class CardDomainService {
         return updateStatusIfExpired(card);
     }
 
+    public Optional<CardVersion> getCardVersionById(Long cardId) {
+        return cardRepository.findVersionById(cardId);
+    }
+
+    public Page<CardVersion> getCardVersions(Pageable pageable) {
+        return cardRepository.findAllVersions(pageable);
+    }
+
+    public Page<CardVersion> getCardVersionsByOwner(User owner, Pageable pageable) {
+        return cardRepository.findAllVersionsByOwner(owner, pageable);
+    }
+
     public Page<Card> getCards(Pageable pageable) {
         return cardRepository.findAll(pageable);
     }
@@ -55,28 +79,49 @@ public class CardDomainService {
 
     public Card blockCard(Card card) {
         cardValidator.validateForBlock(card);
-        card.setCardStatus(CardStatus.BLOCKED);
+        changeStatus(card, CardStatus.BLOCKED);
         return card;
     }
 
     public Card activateCard(Card card) {
         cardValidator.validateForActivate(card);
-        card.setCardStatus(CardStatus.ACTIVE);
+        changeStatus(card, CardStatus.ACTIVE);
         return card;
     }
 
     public void deleteCard(Card card) {
         cardValidator.validateForDelete(card);
         cardRepository.delete(card);
+        outboxPublisher.publish(new CardDeletedEvent(card.getId(), ownerId(card)));
     }
 
     private Card updateStatusIfExpired(Card card) {
+        CardExpiryEvent event = new CardExpiryEvent();
+        event.begin();
+        boolean markedExpired = false;
         if (card.getExpiryDate().isBefore(LocalDate.now())
                 && card.getCardStatus() != CardStatus.EXPIRED) {
-            card.setCardStatus(CardStatus.EXPIRED);
+            changeStatus(card, CardStatus.EXPIRED);
             card = cardRepository.save(card);
+            markedExpired = true;
             log.info("Card ID {} marked as EXPIRED", card.getId());
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.cardId = card.getId() == null ? 0 : card.getId();
+            event.markedExpired = markedExpired;
+            event.commit();
+        }
         return card;
     }
+
+    private void changeStatus(Card card, CardStatus newStatus) {
+        CardStatus oldStatus = card.getCardStatus();
+        card.setCardStatus(newStatus);
+        outboxPublisher.publish(new CardStatusChangedEvent(card.getId(), ownerId(card), oldStatus, newStatus));
+    }
+
+    private static long ownerId(Card card) {
+        return card.getOwner().getId();
+    }
 }
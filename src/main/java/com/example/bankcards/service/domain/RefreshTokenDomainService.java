@@ -0,0 +1,87 @@
+package com.example.bankcards.service.domain;
+
+import com.example.bankcards.entity.RefreshToken;
+import com.example.bankcards.entity.RotatedRefreshToken;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.exception.unauthorized.InvalidRefreshTokenException;
+import com.example.bankcards.exception.unauthorized.RefreshTokenReusedException;
+import com.example.bankcards.repository.RefreshTokenRepository;
+import com.example.bankcards.repository.RotatedRefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenDomainService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final RotatedRefreshTokenRepository rotatedRefreshTokenRepository;
+
+    public RefreshToken createRefreshToken(User user, String tokenHash, Instant now, Instant expiresAt) {
+        RefreshToken refreshToken = RefreshToken.builder()
+                .user(user)
+                .tokenHash(tokenHash)
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .build();
+        return refreshTokenRepository.save(refreshToken);
+    }
+
+    /**
+     * Locks the session until the end of the transaction, so concurrent refreshes with the same token are
+     * serialised: the first one rotates it, the others see it as reused. Presenting a rotated-out token revokes
+     * its session.
+     */
+    public RefreshToken getActiveByTokenHash(String tokenHash, Instant now) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> rejectUnknown(tokenHash, now));
+
+        if (refreshToken.getRevokedAt() != null) {
+            throw new InvalidRefreshTokenException("Refresh token has been revoked");
+        }
+
+        if (!refreshToken.getExpiresAt().isAfter(now)) {
+            throw new InvalidRefreshTokenException("Refresh token has expired");
+        }
+
+        return refreshToken;
+    }
+
+    public RefreshToken rotate(RefreshToken refreshToken, String newTokenHash, Instant now, Instant expiresAt) {
+        rotatedRefreshTokenRepository.save(RotatedRefreshToken.builder()
+                .tokenHash(refreshToken.getTokenHash())
+                .refreshTokenId(refreshToken.getId())
+                .rotatedAt(now)
+                .build());
+        refreshToken.setTokenHash(newTokenHash);
+        refreshToken.setExpiresAt(expiresAt);
+        return refreshToken;
+    }
+
+    public List<Long> revokeAllForUser(User user, Instant now) {
+        List<RefreshToken> activeTokens = refreshTokenRepository.findAllByUser_IdAndRevokedAtIsNull(user.getId());
+        activeTokens.forEach(refreshToken -> refreshToken.setRevokedAt(now));
+        return activeTokens.stream()
+                .map(RefreshToken::getId)
+                .toList();
+    }
+
+    public List<RefreshToken> getRevokedSince(Instant since) {
+        return refreshTokenRepository.findAllByRevokedAtAfter(since);
+    }
+
+    private InvalidRefreshTokenException rejectUnknown(String tokenHash, Instant now) {
+        return rotatedRefreshTokenRepository.findById(tokenHash)
+                .<InvalidRefreshTokenException>map(rotated -> {
+                    refreshTokenRepository.revokeIfActive(rotated.getRefreshTokenId(), now);
+                    return new RefreshTokenReusedException(
+                            "Refresh token has already been used", rotated.getRefreshTokenId()
+                    );
+                })
+                .orElseGet(() -> new InvalidRefreshTokenException("Refresh token is invalid"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.bankcards.service.domain;
+
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.ScheduledTransfer;
+import com.example.bankcards.enums.ScheduledTransferStatus;
+import com.example.bankcards.enums.TransferRecurrence;
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.exception.notfound.ScheduledTransferNotFoundException;
+import com.example.bankcards.money.Money;
+import com.example.bankcards.repository.ScheduledTransferRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduledTransferDomainService {
+
+    private final ScheduledTransferRepository scheduledTransferRepository;
+
+    public ScheduledTransfer create(
+            Card fromCard,
+            Card toCard,
+            Money amount,
+            TransferRecurrence recurrence,
+            Instant firstRunAt
+    ) {
+        if (fromCard.getId().equals(toCard.getId())) {
+            throw new TransferOperationNotAllowedException(
+                    TransferRejectionReason.SAME_CARD,
+                    "Cannot transfer to the same card"
+            );
+        }
+
+        return scheduledTransferRepository.save(ScheduledTransfer.builder()
+                .ownerId(fromCard.getOwner().getId())
+                .fromCardId(fromCard.getId())
+                .toCardId(toCard.getId())
+                .amount(amount)
+                .recurrence(recurrence)
+                .status(ScheduledTransferStatus.ACTIVE)
+                .firstRunAt(firstRunAt)
+                .nextRunAt(firstRunAt)
+                .nextAttemptAt(firstRunAt)
+                .build());
+    }
+
+    public Page<ScheduledTransfer> getAllByOwnerId(Long ownerId, Pageable pageable) {
+        return scheduledTransferRepository.findAllByOwnerId(ownerId, pageable);
+    }
+
+    public ScheduledTransfer getByIdAndOwnerId(Long id, Long ownerId) {
+        return scheduledTransferRepository.findByIdAndOwnerId(id, ownerId)
+                .orElseThrow(() -> new ScheduledTransferNotFoundException(
+                        "Scheduled transfer not found or does not belong to the user"
+                ));
+    }
+
+    /**
+     * Stops an active scheduled transfer; finished ones are left as they are.
+     */
+    public void cancel(ScheduledTransfer scheduledTransfer) {
+        if (scheduledTransferRepository.cancelIfActive(scheduledTransfer.getId()) == 1) {
+            scheduledTransfer.setStatus(ScheduledTransferStatus.CANCELLED);
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.example.bankcards.service.domain;
 
 import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.Transfer;
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.event.TransferCompletedEvent;
+import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.fx.FxRate;
+import com.example.bankcards.fx.FxRateTable;
+import com.example.bankcards.jfr.TransferEvent;
+import com.example.bankcards.limits.SpendingLimiter;
+import com.example.bankcards.metrics.TransferMetrics;
+import com.example.bankcards.money.Money;
+import com.example.bankcards.outbox.OutboxPublisher;
+import com.example.bankcards.repository.TransferRepository;
 import com.example.bankcards.validator.TransferValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Currency;
 
 @Service
 @RequiredArgsConstructor
@@ -13,9 +26,98 @@ public class TransferDomainService {
 
     private final TransferValidator transferValidator;
 
-    public void transfer(Card fromCard, Card toCard, BigDecimal amount) {
-        transferValidator.validateForTransfer(fromCard, toCard, amount);
-        fromCard.setBalance(fromCard.getBalance().subtract(amount));
-        toCard.setBalance(toCard.getBalance().add(amount));
+    private final TransferMetrics transferMetrics;
+
+    private final OutboxPublisher outboxPublisher;
+
+    private final FxRateTable fxRateTable;
+
+    private final SpendingLimiter spendingLimiter;
+
+    private final TransferRepository transferRepository;
+
+    /**
+     * Debits {@code amount} in the currency of {@code fromCard} and credits it converted to the currency of
+     * {@code toCard} at the current snapshot rate. Both amounts and the rate are kept in {@code transfers}
+     * in the caller's transaction.
+     */
+    public void transfer(Card fromCard, Card toCard, Money amount) {
+        TransferEvent event = new TransferEvent();
+        event.begin();
+        FxRate rate;
+        Money credited;
+        try {
+            transferValidator.validateForTransfer(fromCard, toCard, amount);
+            rate = exchangeRate(fromCard.getCurrency(), toCard.getCurrency());
+            credited = convert(amount, rate);
+            spendingLimiter.check(fromCard, amount);
+        } catch (TransferOperationNotAllowedException e) {
+            transferMetrics.recordRejected(e.getReason());
+            commit(event, fromCard, toCard, amount, "rejected", e.getReason().name());
+            throw e;
+        }
+        fromCard.setBalance(fromCard.getBalance().minus(amount));
+        toCard.setBalance(toCard.getBalance().plus(credited));
+        transferRepository.save(Transfer.builder()
+                .fromCardId(fromCard.getId())
+                .toCardId(toCard.getId())
+                .amount(amount)
+                .currency(rate.base())
+                .creditedAmount(credited)
+                .creditedCurrency(rate.quote())
+                .rate(rate.rate())
+                .createdAt(Instant.now())
+                .build());
+        outboxPublisher.publish(new TransferCompletedEvent(
+                fromCard.getId(), fromCard.getOwner().getId(), fromCard.getBalance().toBigDecimal(),
+                toCard.getId(), toCard.getOwner().getId(), toCard.getBalance().toBigDecimal(),
+                amount.toBigDecimal(), rate.base().getCurrencyCode(),
+                credited.toBigDecimal(), rate.quote().getCurrencyCode(),
+                rate.rate()
+        ));
+        transferMetrics.recordCompleted();
+        commit(event, fromCard, toCard, amount, "completed", null);
+    }
+
+    private FxRate exchangeRate(Currency from, Currency to) {
+        if (from.equals(to)) {
+            return FxRate.identity(from);
+        }
+        return fxRateTable.rate(from, to)
+                .orElseThrow(() -> new TransferOperationNotAllowedException(
+                        TransferRejectionReason.FX_RATE_UNAVAILABLE,
+                        "No current exchange rate from " + from + " to " + to
+                ));
+    }
+
+    // a tiny amount at a low rate rounds to nothing in the target currency
+    private static Money convert(Money amount, FxRate rate) {
+        Money credited = rate.convert(amount);
+        if (!credited.isPositive()) {
+            throw new TransferOperationNotAllowedException(
+                    TransferRejectionReason.NON_POSITIVE_AMOUNT,
+                    "Transfer amount %s %s is too small to credit in %s".formatted(amount, rate.base(), rate.quote())
+            );
+        }
+        return credited;
+    }
+
+    private static void commit(
+            TransferEvent event,
+            Card fromCard,
+            Card toCard,
+            Money amount,
+            String outcome,
+            String rejectionReason
+    ) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.fromCardId = fromCard.getId() == null ? 0 : fromCard.getId();
+            event.toCardId = toCard.getId() == null ? 0 : toCard.getId();
+            event.amountBucket = TransferEvent.amountBucket(amount);
+            event.outcome = outcome;
+            event.rejectionReason = rejectionReason;
+            event.commit();
+        }
     }
 }
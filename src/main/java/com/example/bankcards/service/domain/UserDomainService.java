@@ -3,12 +3,15 @@ package com.example.bankcards.service.domain;
 import com.example.bankcards.entity.User;
 import com.example.bankcards.exception.notfound.UserNotFoundException;
 import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.repository.projection.UserVersion;
 import com.example.bankcards.validator.UserValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class UserDomainService {
@@ -35,6 +38,10 @@ public class UserDomainService {
                 ));
     }
 
+    public Optional<UserVersion> getVersionByUsername(String username) {
+        return userRepository.findVersionByUsername(username);
+    }
+
     public Page<User> getUsers(Pageable pageable) {
         return userRepository.findAll(pageable);
     }
@@ -0,0 +1,149 @@
+package com.example.bankcards.sse;
+
+import com.example.bankcards.event.DomainEvent;
+import com.example.bankcards.event.DomainEventBus;
+import com.example.bankcards.outbox.OutboxPoller;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Feeds every delivered outbox event to the {@link CardEventHub} of this instance. Whichever instance's
+ * {@link OutboxPoller} delivers a batch broadcasts it on the {@value OutboxPoller#CHANNEL} channel, and
+ * Postgres passes it on to every listening instance. The feed holds one connection of the pool while running.
+ * Notifications sent while it reconnects are lost, so all streams are closed then and clients reload.
+ */
+@Slf4j
+public class CardEventFeed implements SmartLifecycle {
+
+    private static final int RECEIVE_TIMEOUT_MILLIS = 500;
+
+    private final DataSource dataSource;
+
+    private final DomainEventBus eventBus;
+
+    private final ObjectMapper objectMapper;
+
+    private final CardEventHub hub;
+
+    private final long reconnectDelayNanos;
+
+    private volatile boolean running;
+
+    private volatile boolean listening;
+
+    private Thread worker;
+
+    public CardEventFeed(
+            DataSource dataSource,
+            DomainEventBus eventBus,
+            ObjectMapper objectMapper,
+            CardEventHub hub,
+            Duration reconnectDelay
+    ) {
+        this.dataSource = dataSource;
+        this.eventBus = eventBus;
+        this.objectMapper = objectMapper;
+        this.hub = hub;
+        this.reconnectDelayNanos = reconnectDelay.toNanos();
+    }
+
+    public boolean isListening() {
+        return listening;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "card-event-feed");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                listen(connection);
+                if (reconnecting) {
+                    hub.disconnectAll();
+                }
+                receive(connection.unwrap(PGConnection.class));
+            } catch (SQLException | RuntimeException e) {
+                log.warn("Card event feed lost its connection, reconnecting", e);
+            } finally {
+                listening = false;
+            }
+            reconnecting = true;
+            if (running) {
+                LockSupport.parkNanos(this, reconnectDelayNanos);
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + OutboxPoller.CHANNEL);
+        }
+        listening = true;
+    }
+
+    private void receive(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications(RECEIVE_TIMEOUT_MILLIS);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                deliver(notification.getParameter());
+            }
+        }
+    }
+
+    private void deliver(String payload) {
+        JsonNode notification;
+        try {
+            notification = objectMapper.readTree(payload);
+        } catch (Exception e) {
+            log.error("Failed to read card event notification {}", payload, e);
+            return;
+        }
+        for (JsonNode element : notification) {
+            try {
+                DomainEvent event = objectMapper.treeToValue(
+                        element.get("event"), eventBus.eventType(element.get("type").asText())
+                );
+                hub.handle(event);
+            } catch (Exception e) {
+                log.error("Failed to deliver card event {}", element, e);
+            }
+        }
+    }
+}
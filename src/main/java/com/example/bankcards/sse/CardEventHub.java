@@ -0,0 +1,212 @@
+package com.example.bankcards.sse;
+
+import com.example.bankcards.dto.response.CardChangeResponse;
+import com.example.bankcards.enums.CardChangeType;
+import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.event.CardCreatedEvent;
+import com.example.bankcards.event.CardDeletedEvent;
+import com.example.bankcards.event.CardStatusChangedEvent;
+import com.example.bankcards.event.DomainEvent;
+import com.example.bankcards.event.TransferCompletedEvent;
+import com.example.bankcards.exception.toomanyrequests.CardEventStreamLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans card changes out to the open event streams of their owners on this instance. Every instance
+ * receives every change from {@link CardEventFeed}, not only the ones its outbox poller happens to claim.
+ * Domain events only enqueue changes into each subscription's bounded buffer, so the feed never waits on
+ * a client; a small sender pool writes them to the connections. A subscriber whose buffer overflows is
+ * disconnected and is expected to reload its cards and reconnect. Each user may hold at most
+ * {@code maxStreamsPerUser} streams.
+ */
+@Slf4j
+public class CardEventHub implements SmartLifecycle {
+
+    private static final String EVENT_NAME = "card";
+
+    private final ConcurrentHashMap<Long, Set<CardEventSubscription>> subscriptions = new ConcurrentHashMap<>();
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final int bufferSize;
+
+    private final int maxStreamsPerUser;
+
+    private final Duration timeout;
+
+    private final Executor sender;
+
+    private final Counter droppedSubscribers;
+
+    private volatile boolean running;
+
+    public CardEventHub(
+            int bufferSize,
+            int maxStreamsPerUser,
+            Duration timeout,
+            Executor sender,
+            MeterRegistry meterRegistry
+    ) {
+        this.bufferSize = bufferSize;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+        this.timeout = timeout;
+        this.sender = sender;
+        this.droppedSubscribers = Counter.builder("bankcards.card.events.dropped")
+                .description("Card event subscribers disconnected for not keeping up")
+                .register(meterRegistry);
+        Gauge.builder("bankcards.card.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open card event streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(long ownerId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        CardEventSubscription subscription = new CardEventSubscription(ownerId, emitter, bufferSize);
+
+        subscriptions.compute(ownerId, (id, owned) -> {
+            Set<CardEventSubscription> result = owned == null ? ConcurrentHashMap.newKeySet() : owned;
+            if (result.size() >= maxStreamsPerUser) {
+                throw new CardEventStreamLimitExceededException(
+                        "At most %d card event streams may be open at once".formatted(maxStreamsPerUser)
+                );
+            }
+            result.add(subscription);
+            return result;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscription));
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public void handle(DomainEvent event) {
+        if (event instanceof CardCreatedEvent created) {
+            publish(created.ownerId(), new CardChangeResponse(
+                    created.cardId(), CardChangeType.CREATED, created.status(), created.balance()
+            ));
+        } else if (event instanceof CardStatusChangedEvent changed) {
+            publish(changed.ownerId(), new CardChangeResponse(
+                    changed.cardId(), changeType(changed.newStatus()), changed.newStatus(), null
+            ));
+        } else if (event instanceof CardDeletedEvent deleted) {
+            publish(deleted.ownerId(), new CardChangeResponse(
+                    deleted.cardId(), CardChangeType.DELETED, null, null
+            ));
+        } else if (event instanceof TransferCompletedEvent transfer) {
+            publish(transfer.fromOwnerId(), new CardChangeResponse(
+                    transfer.fromCardId(), CardChangeType.BALANCE_CHANGED, null, transfer.fromBalance()
+            ));
+            publish(transfer.toOwnerId(), new CardChangeResponse(
+                    transfer.toCardId(), CardChangeType.BALANCE_CHANGED, null, transfer.toBalance()
+            ));
+        }
+    }
+
+    // keeps idle connections open through proxies and finds clients that went away
+    @Scheduled(fixedDelayString = "${card-events.heartbeat-interval}")
+    public void sendHeartbeats() {
+        subscriptions.values().forEach(owned -> owned.forEach(s -> enqueue(s, CardEventSubscription.HEARTBEAT)));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // completes the open streams first, so graceful shutdown of the web server does not wait for them
+    @Override
+    public void stop() {
+        running = false;
+        disconnectAll();
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Completes every open stream, e.g. after changes may have been missed; clients reload and reconnect.
+     */
+    public void disconnectAll() {
+        subscriptions.values().forEach(owned -> owned.forEach(s -> s.emitter().complete()));
+    }
+
+    private void publish(long ownerId, CardChangeResponse change) {
+        Set<CardEventSubscription> owned = subscriptions.get(ownerId);
+        if (owned != null) {
+            owned.forEach(subscription -> enqueue(subscription, Optional.of(change)));
+        }
+    }
+
+    private void enqueue(CardEventSubscription subscription, Optional<CardChangeResponse> message) {
+        if (!subscription.offer(message)) {
+            log.warn("Disconnecting slow card event subscriber of user {}", subscription.ownerId());
+            droppedSubscribers.increment();
+            remove(subscription);
+            subscription.emitter().complete();
+            return;
+        }
+        if (subscription.startDraining()) {
+            sender.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(CardEventSubscription subscription) {
+        do {
+            Optional<CardChangeResponse> message;
+            while ((message = subscription.poll()) != null) {
+                try {
+                    subscription.emitter().send(message.isPresent()
+                            ? SseEmitter.event().name(EVENT_NAME).data(message.get())
+                            : SseEmitter.event().comment(""));
+                } catch (IOException | IllegalStateException e) {
+                    remove(subscription);
+                    return;
+                }
+            }
+            subscription.stopDraining();
+        } while (subscription.hasPending() && subscription.startDraining());
+    }
+
+    private void remove(CardEventSubscription subscription) {
+        subscriptions.computeIfPresent(subscription.ownerId(), (id, owned) -> {
+            if (owned.remove(subscription)) {
+                subscriberCount.decrementAndGet();
+            }
+            return owned.isEmpty() ? null : owned;
+        });
+    }
+
+    private static CardChangeType changeType(CardStatus status) {
+        return switch (status) {
+            case ACTIVE -> CardChangeType.ACTIVATED;
+            case BLOCKED -> CardChangeType.BLOCKED;
+            case EXPIRED -> CardChangeType.EXPIRED;
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.bankcards.sse;
+
+import com.example.bankcards.dto.response.CardChangeResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An open event stream of one user. Changes wait in a bounded buffer until a sender thread writes
+ * them out; {@code draining} makes sure at most one sender works on a subscription at a time,
+ * which keeps its events in order.
+ */
+final class CardEventSubscription {
+
+    static final Optional<CardChangeResponse> HEARTBEAT = Optional.empty();
+
+    private final long ownerId;
+
+    private final SseEmitter emitter;
+
+    private final ArrayBlockingQueue<Optional<CardChangeResponse>> buffer;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    CardEventSubscription(long ownerId, SseEmitter emitter, int bufferSize) {
+        this.ownerId = ownerId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    long ownerId() {
+        return ownerId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean offer(Optional<CardChangeResponse> message) {
+        return buffer.offer(message);
+    }
+
+    Optional<CardChangeResponse> poll() {
+        return buffer.poll();
+    }
+
+    boolean hasPending() {
+        return !buffer.isEmpty();
+    }
+
+    boolean startDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void stopDraining() {
+        draining.set(false);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.bankcards.timing;
+
+/**
+ * Per-request accumulator of time spent by {@link TimingCategory}, bound to the request thread only
+ * while the request is being timed. Sections may nest; each category is charged its exclusive time,
+ * so a decrypt during entity loading counts as crypto and not also as db.
+ * <p>
+ * Call sites use {@link #enter} and {@link #exit} in a try/finally, which costs a thread-local read
+ * when timing is off and allocates nothing either way.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private static final int MAX_DEPTH = 16;
+
+    private static final TimingCategory[] CATEGORIES = TimingCategory.values();
+
+    private final long startNanos;
+
+    private final long[] nanos = new long[CATEGORIES.length];
+
+    private final int[] counts = new int[CATEGORIES.length];
+
+    private final TimingCategory[] stack = new TimingCategory[MAX_DEPTH];
+
+    private int depth;
+
+    private long segmentStartNanos;
+
+    RequestTimings(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestTimings enter(TimingCategory category) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.push(category, System.nanoTime());
+        }
+        return timings;
+    }
+
+    public static void exit(RequestTimings timings) {
+        if (timings != null) {
+            timings.pop(System.nanoTime());
+        }
+    }
+
+    void push(TimingCategory category, long now) {
+        if (depth > 0) {
+            charge(now);
+        }
+        if (depth < MAX_DEPTH) {
+            stack[depth] = category;
+        }
+        depth++;
+        counts[category.ordinal()]++;
+        segmentStartNanos = now;
+    }
+
+    void pop(long now) {
+        if (depth == 0) {
+            return;
+        }
+        charge(now);
+        depth--;
+        segmentStartNanos = now;
+    }
+
+    private void charge(long now) {
+        TimingCategory current = stack[Math.min(depth, MAX_DEPTH) - 1];
+        nanos[current.ordinal()] += now - segmentStartNanos;
+    }
+
+    long nanos(TimingCategory category) {
+        return nanos[category.ordinal()];
+    }
+
+    int count(TimingCategory category) {
+        return counts[category.ordinal()];
+    }
+
+    /**
+     * @return the Server-Timing header value, e.g. {@code db;desc="2 calls";dur=1.250, total;dur=3.500}
+     */
+    String toHeaderValue(long now) {
+        StringBuilder builder = new StringBuilder(128);
+        for (TimingCategory category : CATEGORIES) {
+            int count = counts[category.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            builder.append(category.getMetricName())
+                    .append(";desc=\"").append(count).append(count == 1 ? " call\"" : " calls\"")
+                    .append(";dur=");
+            appendMillis(builder, nanos[category.ordinal()]);
+            builder.append(", ");
+        }
+        builder.append("total;dur=");
+        appendMillis(builder, now - startNanos);
+        return builder.toString();
+    }
+
+    private static void appendMillis(StringBuilder builder, long nanos) {
+        long micros = nanos / 1_000;
+        builder.append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            builder.append('0');
+        }
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.bankcards.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Times requests that opt in through the request header, plus a random sample of the rest,
+ * and reports the breakdown in a {@code Server-Timing} response header.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final String requestHeader;
+
+    private final double sampleRate;
+
+    public ServerTimingFilter(String requestHeader, double sampleRate) {
+        this.requestHeader = requestHeader;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!isTimed(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestTimings timings = RequestTimings.begin();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, timings);
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            RequestTimings.end();
+            timedResponse.writeHeader();
+        }
+    }
+
+    private boolean isTimed(HttpServletRequest request) {
+        if (request.getHeader(requestHeader) != null) {
+            return true;
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    // the header has to be set before the body commits the response, which is usually before the chain returns
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final HttpServletResponse response;
+
+        private final RequestTimings timings;
+
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.response = response;
+            this.timings = timings;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader();
+        }
+
+        void writeHeader() {
+            if (written || response.isCommitted()) {
+                return;
+            }
+            written = true;
+            response.setHeader(SERVER_TIMING_HEADER, timings.toHeaderValue(System.nanoTime()));
+        }
+    }
+}
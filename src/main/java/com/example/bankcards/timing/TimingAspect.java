@@ -0,0 +1,28 @@
+package com.example.bankcards.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+@Aspect
+public class TimingAspect {
+
+    @Around("execution(* com.example.bankcards.repository..*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, TimingCategory.DB);
+    }
+
+    @Around("execution(* com.example.bankcards.mapper..*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, TimingCategory.MAPPING);
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint, TimingCategory category) throws Throwable {
+        RequestTimings timings = RequestTimings.enter(category);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTimings.exit(timings);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.bankcards.timing;
+
+public enum TimingCategory {
+
+    AUTH("auth"),
+    DB("db"),
+    CRYPTO("crypto"),
+    MAPPING("mapping");
+
+    private final String metricName;
+
+    TimingCategory(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+}
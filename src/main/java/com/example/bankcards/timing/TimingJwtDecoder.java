@@ -0,0 +1,24 @@
+package com.example.bankcards.timing;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+public class TimingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    public TimingJwtDecoder(JwtDecoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        RequestTimings timings = RequestTimings.enter(TimingCategory.AUTH);
+        try {
+            return delegate.decode(token);
+        } finally {
+            RequestTimings.exit(timings);
+        }
+    }
+}
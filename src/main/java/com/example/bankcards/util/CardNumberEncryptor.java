@@ -1,27 +1,116 @@
 package com.example.bankcards.util;
 
-import org.springframework.security.crypto.encrypt.Encryptors;
-import org.springframework.security.crypto.encrypt.TextEncryptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 import java.util.HexFormat;
 
+/**
+ * AES-256/GCM with a PBKDF2-derived key, byte-compatible with Spring Security's
+ * {@code Encryptors.delux} (hex of a 16-byte IV followed by ciphertext and tag).
+ * Unlike {@code AesBytesEncryptor}, no cipher instance is shared between threads,
+ * so there is no monitor to contend on or to pin virtual threads.
+ */
 public class CardNumberEncryptor {
 
-    private final TextEncryptor encryptor;
+    private static final String KEY_DERIVATION_ALGO = "PBKDF2WithHmacSHA1";
+    private static final int KEY_DERIVATION_ITERATIONS = 1024;
+    private static final int KEY_LENGTH_BITS = 256;
+
+    private static final String CIPHER_ALGO = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH_BYTES = 16;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final SecretKey secretKey;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final Timer encryptTimer;
+
+    private final Timer decryptTimer;
 
     public CardNumberEncryptor(String password, String salt) {
-        password = HexFormat.of().formatHex(password.getBytes(StandardCharsets.UTF_8));
-        salt = HexFormat.of().formatHex(salt.getBytes(StandardCharsets.UTF_8));
+        this(password, salt, new CompositeMeterRegistry());
+    }
+
+    public CardNumberEncryptor(String password, String salt, MeterRegistry meterRegistry) {
+        // delux() is given the hex form of both values and hex-decodes only the salt
+        String hexPassword = HEX.formatHex(password.getBytes(StandardCharsets.UTF_8));
+        byte[] saltBytes = salt.getBytes(StandardCharsets.UTF_8);
 
-        this.encryptor = Encryptors.delux(password, salt);
+        this.secretKey = deriveKey(hexPassword, saltBytes);
+        this.encryptTimer = CryptoInstrumentation.timer(meterRegistry, "encrypt");
+        this.decryptTimer = CryptoInstrumentation.timer(meterRegistry, "decrypt");
     }
 
     public String encrypt(String rawCardNumber) {
-        return encryptor.encrypt(rawCardNumber);
+        return CryptoInstrumentation.record(encryptTimer, "encrypt", () -> doEncrypt(rawCardNumber));
     }
 
     public String decrypt(String encryptedCardNumber) {
-        return encryptor.decrypt(encryptedCardNumber);
+        return CryptoInstrumentation.record(decryptTimer, "decrypt", () -> doDecrypt(encryptedCardNumber));
+    }
+
+    private String doEncrypt(String rawCardNumber) {
+        byte[] iv = new byte[IV_LENGTH_BYTES];
+        random.nextBytes(iv);
+
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGO);
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+
+            byte[] plaintext = rawCardNumber.getBytes(StandardCharsets.UTF_8);
+            byte[] output = new byte[IV_LENGTH_BYTES + cipher.getOutputSize(plaintext.length)];
+            System.arraycopy(iv, 0, output, 0, IV_LENGTH_BYTES);
+            cipher.doFinal(plaintext, 0, plaintext.length, output, IV_LENGTH_BYTES);
+
+            return HEX.formatHex(output);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to encrypt card number", e);
+        }
+    }
+
+    private String doDecrypt(String encryptedCardNumber) {
+        byte[] input = HEX.parseHex(encryptedCardNumber);
+
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGO);
+            cipher.init(
+                    Cipher.DECRYPT_MODE,
+                    secretKey,
+                    new GCMParameterSpec(TAG_LENGTH_BITS, input, 0, IV_LENGTH_BYTES)
+            );
+
+            byte[] plaintext = cipher.doFinal(input, IV_LENGTH_BYTES, input.length - IV_LENGTH_BYTES);
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to decrypt card number", e);
+        }
+    }
+
+    private static SecretKey deriveKey(String password, byte[] salt) {
+        try {
+            PBEKeySpec keySpec = new PBEKeySpec(
+                    password.toCharArray(), salt, KEY_DERIVATION_ITERATIONS, KEY_LENGTH_BITS
+            );
+            byte[] encoded = SecretKeyFactory.getInstance(KEY_DERIVATION_ALGO)
+                    .generateSecret(keySpec)
+                    .getEncoded();
+            return new SecretKeySpec(encoded, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive card number encryption key", e);
+        }
     }
 }
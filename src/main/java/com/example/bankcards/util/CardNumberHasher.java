@@ -1,20 +1,36 @@
 package com.example.bankcards.util;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
-@RequiredArgsConstructor
 public class CardNumberHasher {
 
     private static final String HMAC_ALGO = "HmacSHA256";
 
     private final String secretKey;
 
+    private final Timer hashTimer;
+
+    public CardNumberHasher(String secretKey) {
+        this(secretKey, new CompositeMeterRegistry());
+    }
+
+    public CardNumberHasher(String secretKey, MeterRegistry meterRegistry) {
+        this.secretKey = secretKey;
+        this.hashTimer = CryptoInstrumentation.timer(meterRegistry, "hash");
+    }
+
     public String hash(String cardNumber) {
+        return CryptoInstrumentation.record(hashTimer, "hash", () -> doHash(cardNumber));
+    }
+
+    private String doHash(String cardNumber) {
         try {
             Mac mac = Mac.getInstance(HMAC_ALGO);
             SecretKeySpec secretKeySpec = new SecretKeySpec(
@@ -1,13 +1,102 @@
 package com.example.bankcards.util;
 
-public class CardNumberMasker {
+import com.example.bankcards.enums.CardNumberMaskFormat;
+
+/**
+ * Masks card numbers into the fixed {@code **** **** **** 1111} layout. The result is written into a single
+ * char buffer and copied once into the returned string, without format strings or substrings. The default
+ * format is set from {@code masking.card-number} by {@code MaskingConfig} once the application has started.
+ */
+public final class CardNumberMasker {
+
+    public static final int BIN_LENGTH = 6;
+
+    public static final int LAST_DIGITS_LENGTH = 4;
+
+    private static final int MASKED_LENGTH = 19;
+
+    private static final int GROUP_LENGTH = 4;
+
+    private static volatile CardNumberMaskFormat defaultFormat = CardNumberMaskFormat.LAST4;
+
+    private CardNumberMasker() {
+    }
+
+    public static CardNumberMaskFormat defaultFormat() {
+        return defaultFormat;
+    }
+
+    public static void setDefaultFormat(CardNumberMaskFormat format) {
+        CardNumberMasker.defaultFormat = format;
+    }
 
     public static String mask(String cardNumber) {
-        if (cardNumber == null || cardNumber.length() < 4) {
+        return mask(cardNumber, defaultFormat);
+    }
+
+    public static String mask(String cardNumber, CardNumberMaskFormat format) {
+        if (cardNumber == null || cardNumber.length() < LAST_DIGITS_LENGTH) {
             return cardNumber;
         }
-        return "**** **** **** %s".formatted(
-                cardNumber.substring(cardNumber.length() - 4)
-        );
+        int lastDigitsStart = cardNumber.length() - LAST_DIGITS_LENGTH;
+
+        char[] masked = maskedLayout();
+        cardNumber.getChars(lastDigitsStart, cardNumber.length(), masked, MASKED_LENGTH - LAST_DIGITS_LENGTH);
+        if (format == CardNumberMaskFormat.FIRST6_LAST4) {
+            writeBin(cardNumber, lastDigitsStart, masked);
+        }
+        return new String(masked);
+    }
+
+    /**
+     * Masks from the stored BIN and last four digits, without the full card number. Falls back to
+     * {@link CardNumberMaskFormat#LAST4} when the BIN is not known.
+     */
+    public static String mask(CharSequence bin, CharSequence lastDigits, CardNumberMaskFormat format) {
+        if (lastDigits == null || lastDigits.length() != LAST_DIGITS_LENGTH) {
+            throw new IllegalArgumentException("Expected the last %d digits".formatted(LAST_DIGITS_LENGTH));
+        }
+
+        char[] masked = maskedLayout();
+        for (int i = 0; i < LAST_DIGITS_LENGTH; i++) {
+            masked[MASKED_LENGTH - LAST_DIGITS_LENGTH + i] = lastDigits.charAt(i);
+        }
+        if (format == CardNumberMaskFormat.FIRST6_LAST4 && bin != null) {
+            if (bin.length() != BIN_LENGTH) {
+                throw new IllegalArgumentException("Expected a BIN of %d digits".formatted(BIN_LENGTH));
+            }
+            for (int i = 0; i < BIN_LENGTH; i++) {
+                masked[position(i)] = bin.charAt(i);
+            }
+        }
+        return new String(masked);
+    }
+
+    private static char[] maskedLayout() {
+        char[] masked = new char[MASKED_LENGTH];
+        for (int i = 0; i < MASKED_LENGTH; i++) {
+            masked[i] = i % (GROUP_LENGTH + 1) == GROUP_LENGTH ? ' ' : '*';
+        }
+        return masked;
+    }
+
+    // the BIN is left masked if the digits before the last four are too few to hold it
+    private static void writeBin(String cardNumber, int end, char[] masked) {
+        int digits = 0;
+        for (int i = 0; i < end && digits < BIN_LENGTH; i++) {
+            char c = cardNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                masked[position(digits++)] = c;
+            }
+        }
+        if (digits < BIN_LENGTH) {
+            for (int i = 0; i < digits; i++) {
+                masked[position(i)] = '*';
+            }
+        }
+    }
+
+    private static int position(int digit) {
+        return digit + digit / GROUP_LENGTH;
     }
 }
@@ -0,0 +1,43 @@
+package com.example.bankcards.util;
+
+import com.example.bankcards.jfr.CryptoEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.Supplier;
+
+/**
+ * Times card number crypto calls with a Micrometer timer and records each one as a JFR {@link CryptoEvent}.
+ */
+final class CryptoInstrumentation {
+
+    private static final String CRYPTO = "bankcards.crypto";
+
+    private CryptoInstrumentation() {
+    }
+
+    static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(CRYPTO)
+                .description("Card number encryption, decryption and hashing")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    static String record(Timer timer, String operation, Supplier<String> action) {
+        CryptoEvent event = new CryptoEvent();
+        event.begin();
+        boolean succeeded = false;
+        try {
+            String result = timer.record(action);
+            succeeded = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.succeeded = succeeded;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.bankcards.util;
+
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Strong entity tags derived from entity versions. A page of cards is tagged with a digest of its
+ * position, sort, total and the id and version of every card on it, so the tag changes whenever
+ * any of them does. Card tags also carry the {@link CardNumberMasker#defaultFormat() mask format}, since
+ * a format change alters the representation without bumping a version.
+ */
+public final class ETags {
+
+    // clients may keep tagged responses but must revalidate them before every use
+    public static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    public static String card(Long cardId, Long version) {
+        return "\"card-%d-%d-%s\"".formatted(cardId, version, CardNumberMasker.defaultFormat());
+    }
+
+    public static String user(Long userId, Long version) {
+        return "\"user-%d-%d\"".formatted(userId, version);
+    }
+
+    public static <T> String cards(Page<T> page, Function<T, Long> id, Function<T, Long> version) {
+        StringBuilder builder = new StringBuilder()
+                .append(CardNumberMasker.defaultFormat()).append('/')
+                .append(page.getNumber()).append('/')
+                .append(page.getSize()).append('/')
+                .append(page.getSort()).append('/')
+                .append(page.getTotalElements());
+        for (T card : page) {
+            builder.append('/').append(id.apply(card)).append('-').append(version.apply(card));
+        }
+        return "\"cards-" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.bankcards.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+public class RefreshTokenGenerator {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private static final String HASH_ALGO = "SHA-256";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    public static String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGO)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to compute refresh token hash", e);
+        }
+    }
+}
@@ -5,16 +5,22 @@ import jakarta.validation.Constraint;
 import jakarta.validation.Payload;
 
 import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import static java.lang.annotation.ElementType.TYPE;
 
+/**
+ * At least one of {@link #fields()} must be non-null, or one of all fields if none are named.
+ * Repeat the annotation to require a value from each of several groups.
+ */
 @Target({TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 @Constraint(validatedBy = AtLeastOneNotNullValidator.class)
+@Repeatable(AtLeastOneNotNull.List.class)
 public @interface AtLeastOneNotNull {
 
     String message() default "At least one field must be provided";
@@ -22,4 +28,14 @@ public @interface AtLeastOneNotNull {
     Class<?>[] groups() default {};
 
     Class<? extends Payload>[] payload() default {};
+
+    String[] fields() default {};
+
+    @Target({TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Documented
+    @interface List {
+
+        AtLeastOneNotNull[] value();
+    }
 }
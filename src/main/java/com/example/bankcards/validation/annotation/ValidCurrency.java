@@ -0,0 +1,30 @@
+package com.example.bankcards.validation.annotation;
+
+import com.example.bankcards.validation.constraint.CurrencyValidator;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+
+/**
+ * ISO 4217 code of a currency with two minor digits, see {@link com.example.bankcards.money.Money#supports};
+ * {@code null} is valid.
+ */
+@Target({FIELD, PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Constraint(validatedBy = CurrencyValidator.class)
+public @interface ValidCurrency {
+
+    String message() default "Currency must be an ISO 4217 currency code with two decimal places";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -1,13 +1,45 @@
 package com.example.bankcards.validation.constraint;
 
 import com.example.bankcards.validation.annotation.AtLeastOneNotNull;
+import jakarta.validation.ConstraintDeclarationException;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Resolves the accessors of the checked fields once per validated class (record component accessors, or
+ * field getters for other classes) and keeps them as method handles, so that validation neither walks the
+ * declared fields nor changes their accessibility.
+ */
 public class AtLeastOneNotNullValidator implements ConstraintValidator<AtLeastOneNotNull, Object> {
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private Set<String> fields = Set.of();
+
+    private final ClassValue<MethodHandle[]> accessors = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            return resolveAccessors(type);
+        }
+    };
+
+    @Override
+    public void initialize(AtLeastOneNotNull constraintAnnotation) {
+        this.fields = Set.of(constraintAnnotation.fields());
+    }
+
     @Override
     public boolean isValid(Object value, ConstraintValidatorContext context) {
         if (value == null) {
@@ -15,17 +47,49 @@ public class AtLeastOneNotNullValidator implements ConstraintValidator<AtLeastOn
         }
 
         try {
-            Field[] fields = value.getClass().getDeclaredFields();
-            for (Field field : fields) {
-                field.setAccessible(true);
-                if (field.get(value) != null) {
+            for (MethodHandle accessor : accessors.get(value.getClass())) {
+                if ((Object) accessor.invokeExact(value) != null) {
                     return true;
                 }
             }
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
         }
 
         return false;
     }
+
+    private MethodHandle[] resolveAccessors(Class<?> type) {
+        Map<String, MethodHandle> candidates = new LinkedHashMap<>();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    candidates.put(component.getName(), lookup.unreflect(component.getAccessor()));
+                }
+            } else {
+                for (Field field : type.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        candidates.put(field.getName(), lookup.unreflectGetter(field));
+                    }
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new ConstraintDeclarationException("Cannot access the fields of " + type.getName(), e);
+        }
+
+        if (!candidates.keySet().containsAll(fields)) {
+            List<String> unknown = new ArrayList<>(fields);
+            unknown.removeAll(candidates.keySet());
+            throw new ConstraintDeclarationException("@AtLeastOneNotNull on %s names unknown fields %s"
+                    .formatted(type.getName(), unknown));
+        }
+
+        return candidates.entrySet().stream()
+                .filter(candidate -> fields.isEmpty() || fields.contains(candidate.getKey()))
+                .map(candidate -> candidate.getValue().asType(GETTER_TYPE))
+                .toArray(MethodHandle[]::new);
+    }
 }
@@ -11,11 +11,14 @@ import java.util.regex.Pattern;
 @Component
 public class CardNumberValidator implements ConstraintValidator<ValidCardNumber, String> {
 
-    @Value("${validation.regex.card-number}")
-    private String cardNumberRegex;
+    private final String cardNumberRegex;
 
     private Pattern pattern;
 
+    public CardNumberValidator(@Value("${validation.regex.card-number}") String cardNumberRegex) {
+        this.cardNumberRegex = cardNumberRegex;
+    }
+
     @Override
     public void initialize(ValidCardNumber constraintAnnotation) {
         this.pattern = Pattern.compile(cardNumberRegex);
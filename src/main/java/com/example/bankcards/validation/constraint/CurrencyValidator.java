@@ -0,0 +1,23 @@
+package com.example.bankcards.validation.constraint;
+
+import com.example.bankcards.money.Money;
+import com.example.bankcards.validation.annotation.ValidCurrency;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.util.Currency;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class CurrencyValidator implements ConstraintValidator<ValidCurrency, String> {
+
+    private static final Set<String> CODES = Currency.getAvailableCurrencies().stream()
+            .filter(Money::supports)
+            .map(Currency::getCurrencyCode)
+            .collect(Collectors.toUnmodifiableSet());
+
+    @Override
+    public boolean isValid(String currency, ConstraintValidatorContext context) {
+        return currency == null || CODES.contains(currency);
+    }
+}
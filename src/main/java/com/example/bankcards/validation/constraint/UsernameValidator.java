@@ -11,11 +11,14 @@ import java.util.regex.Pattern;
 @Component
 public class UsernameValidator implements ConstraintValidator<ValidUsername, String> {
 
-    @Value("${validation.regex.username}")
-    private String usernameRegex;
+    private final String usernameRegex;
 
     private Pattern pattern;
 
+    public UsernameValidator(@Value("${validation.regex.username}") String usernameRegex) {
+        this.usernameRegex = usernameRegex;
+    }
+
     @Override
     public void initialize(ValidUsername constraintAnnotation) {
         this.pattern = Pattern.compile(usernameRegex);
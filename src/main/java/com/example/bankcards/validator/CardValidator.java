@@ -11,7 +11,6 @@ import com.example.bankcards.util.CardNumberMasker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Component
@@ -61,7 +60,7 @@ public class CardValidator {
             );
         }
 
-        if (card.getBalance().compareTo(BigDecimal.ZERO) != 0) {
+        if (!card.getBalance().isZero()) {
             throw new CardOperationNotAllowedException(
                     "Cannot delete card with non-zero balance: %s".formatted(card.getBalance())
             );
@@ -2,39 +2,47 @@ package com.example.bankcards.validator;
 
 import com.example.bankcards.entity.Card;
 import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.enums.TransferRejectionReason;
 import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.money.Money;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-
 @Component
 public class TransferValidator {
 
-    public void validateForTransfer(Card fromCard, Card toCard, BigDecimal amount) {
+    public void validateForTransfer(Card fromCard, Card toCard, Money amount) {
         if (fromCard.getId().equals(toCard.getId())) {
-            throw new TransferOperationNotAllowedException("Cannot transfer to the same card");
+            throw new TransferOperationNotAllowedException(
+                    TransferRejectionReason.SAME_CARD,
+                    "Cannot transfer to the same card"
+            );
         }
 
         if (fromCard.getCardStatus() != CardStatus.ACTIVE) {
             throw new TransferOperationNotAllowedException(
+                    TransferRejectionReason.SOURCE_CARD_NOT_ACTIVE,
                     "Cannot transfer from card with status: %s".formatted(fromCard.getCardStatus())
             );
         }
 
         if (toCard.getCardStatus() != CardStatus.ACTIVE) {
             throw new TransferOperationNotAllowedException(
+                    TransferRejectionReason.TARGET_CARD_NOT_ACTIVE,
                     "Cannot transfer to card with status: %s".formatted(toCard.getCardStatus())
             );
         }
 
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new TransferOperationNotAllowedException("Transfer amount must be positive");
+        if (!amount.isPositive()) {
+            throw new TransferOperationNotAllowedException(
+                    TransferRejectionReason.NON_POSITIVE_AMOUNT,
+                    "Transfer amount must be positive"
+            );
         }
 
-        if (fromCard.getBalance().compareTo(amount) < 0) {
+        if (fromCard.getBalance().isLessThan(amount)) {
             throw new TransferOperationNotAllowedException(
-                    "Insufficient balance for transfer. Available: %s, Required: %s"
-                            .formatted(fromCard.getBalance(), amount)
+                    TransferRejectionReason.INSUFFICIENT_BALANCE,
+                    "Insufficient balance for transfer. Available: " + fromCard.getBalance() + ", Required: " + amount
             );
         }
     }
@@ -0,0 +1,260 @@
+package com.example.bankcards.audit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private RecordingWriter writer;
+
+    private MeterRegistry meterRegistry;
+
+    private AuditLog auditLog;
+
+    @BeforeEach
+    void setUp() {
+        writer = new RecordingWriter();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.release();
+        if (auditLog != null && auditLog.isRunning()) {
+            auditLog.stop();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    class RecordTests {
+
+        @Test
+        void record_ShouldCaptureActorAndTimestamp() {
+            auditLog = auditLog(10, 10, Duration.ofMillis(10), AuditOverflowPolicy.BLOCK);
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("admin", null));
+
+            auditLog.record(AuditAction.CARD_BLOCKED, 7L, "ACTIVE", "BLOCKED");
+
+            assertThat(writer.events()).containsExactly(
+                    new AuditEvent(NOW, "admin", AuditAction.CARD_BLOCKED, 7L, "ACTIVE", "BLOCKED")
+            );
+        }
+
+        @Test
+        void record_WithoutAuthentication_ShouldUseSystemActor() {
+            auditLog = auditLog(10, 10, Duration.ofMillis(10), AuditOverflowPolicy.BLOCK);
+
+            auditLog.record(AuditAction.USER_DELETED, 3L, null, null);
+
+            assertThat(writer.events()).extracting(AuditEvent::actor).containsExactly("system");
+        }
+
+        @Test
+        void record_InTransaction_ShouldEnqueueOnlyAfterCommit() {
+            auditLog = auditLog(10, 10, Duration.ofMillis(10), AuditOverflowPolicy.BLOCK);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                auditLog.record(AuditAction.CARD_DELETED, 7L, "BLOCKED", null);
+
+                assertThat(writer.events()).isEmpty();
+                List<TransactionSynchronization> synchronizations =
+                        TransactionSynchronizationManager.getSynchronizations();
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertThat(writer.events()).hasSize(1);
+        }
+    }
+
+    @Nested
+    class BatchingTests {
+
+        @Test
+        void start_ShouldWriteQueuedEventsInBatches() throws Exception {
+            auditLog = auditLog(100, 3, Duration.ofSeconds(5), AuditOverflowPolicy.BLOCK);
+            auditLog.start();
+
+            for (long id = 1; id <= 6; id++) {
+                auditLog.record(AuditAction.CARD_CREATED, id, null, "ACTIVE");
+            }
+
+            assertThat(writer.awaitBatches(2)).isTrue();
+            assertThat(writer.batches()).allSatisfy(batch -> assertThat(batch).hasSize(3));
+        }
+
+        @Test
+        void start_ShouldWritePartialBatchAfterFlushInterval() throws Exception {
+            auditLog = auditLog(100, 50, Duration.ofMillis(20), AuditOverflowPolicy.BLOCK);
+            auditLog.start();
+
+            auditLog.record(AuditAction.CARD_CREATED, 1L, null, "ACTIVE");
+
+            assertThat(writer.awaitBatches(1)).isTrue();
+            assertThat(writer.batches().get(0)).hasSize(1);
+        }
+
+        @Test
+        void stop_ShouldFlushQueuedEvents() {
+            auditLog = auditLog(100, 50, Duration.ofSeconds(30), AuditOverflowPolicy.BLOCK);
+            auditLog.start();
+            for (long id = 1; id <= 5; id++) {
+                auditLog.record(AuditAction.CARD_CREATED, id, null, "ACTIVE");
+            }
+
+            auditLog.stop();
+
+            assertThat(writer.events()).extracting(AuditEvent::entityId).containsExactly(1L, 2L, 3L, 4L, 5L);
+            assertThat(auditLog.isRunning()).isFalse();
+        }
+    }
+
+    @Nested
+    class OverflowTests {
+
+        @Test
+        void record_WhenQueueIsFullAndPolicyIsDrop_ShouldDropEvent() throws Exception {
+            auditLog = fullAuditLog(AuditOverflowPolicy.DROP);
+
+            auditLog.record(AuditAction.CARD_CREATED, 3L, null, "ACTIVE");
+
+            assertThat(dropped()).isEqualTo(1.0);
+            writer.release();
+            auditLog.stop();
+            assertThat(writer.events()).extracting(AuditEvent::entityId).containsExactly(1L, 2L);
+        }
+
+        @Test
+        void record_WhenQueueIsFullAndPolicyIsBlock_ShouldDropEventAfterTimeout() throws Exception {
+            auditLog = fullAuditLog(AuditOverflowPolicy.BLOCK);
+
+            long start = System.nanoTime();
+            auditLog.record(AuditAction.CARD_CREATED, 3L, null, "ACTIVE");
+
+            assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+            assertThat(dropped()).isEqualTo(1.0);
+        }
+
+        @Test
+        void record_WhenQueueIsFullAndPolicyIsCallerWrites_ShouldWriteOnCallingThread() throws Exception {
+            auditLog = fullAuditLog(AuditOverflowPolicy.CALLER_WRITES);
+
+            auditLog.record(AuditAction.CARD_CREATED, 3L, null, "ACTIVE");
+
+            assertThat(writer.events()).extracting(AuditEvent::entityId).containsExactly(3L);
+            assertThat(dropped()).isZero();
+        }
+
+        // the writer thread is stuck writing event 1 and event 2 fills the single queue slot
+        private AuditLog fullAuditLog(AuditOverflowPolicy policy) throws InterruptedException {
+            AuditLog log = auditLog(1, 1, Duration.ofMillis(10), policy);
+            writer.blockBatches();
+            log.start();
+            log.record(AuditAction.CARD_CREATED, 1L, null, "ACTIVE");
+            assertThat(writer.awaitBlocked()).isTrue();
+            log.record(AuditAction.CARD_CREATED, 2L, null, "ACTIVE");
+            return log;
+        }
+
+        private double dropped() {
+            return meterRegistry.get("bankcards.audit.events").tag("outcome", "dropped").counter().count();
+        }
+    }
+
+    private AuditLog auditLog(int capacity, int batchSize, Duration flushInterval, AuditOverflowPolicy policy) {
+        return new AuditLog(
+                writer,
+                capacity,
+                batchSize,
+                flushInterval,
+                policy,
+                Duration.ofMillis(20),
+                Duration.ofSeconds(5),
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                meterRegistry
+        );
+    }
+
+    private static final class RecordingWriter extends AuditWriter {
+
+        private final List<List<AuditEvent>> batches = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private volatile boolean blockBatches;
+
+        RecordingWriter() {
+            super(null, null);
+        }
+
+        @Override
+        public void write(List<AuditEvent> events) {
+            // only the background writer thread is held back, caller-writes must go through
+            if (blockBatches && Thread.currentThread().getName().equals("audit-writer")) {
+                blocked.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batches.add(List.copyOf(events));
+        }
+
+        void blockBatches() {
+            blockBatches = true;
+        }
+
+        boolean awaitBlocked() throws InterruptedException {
+            return blocked.await(5, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        boolean awaitBatches(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (batches.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            return batches.size() >= count;
+        }
+
+        List<List<AuditEvent>> batches() {
+            return batches;
+        }
+
+        List<AuditEvent> events() {
+            List<AuditEvent> events = new ArrayList<>();
+            batches.forEach(events::addAll);
+            return events;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.bankcards.audit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditWriterTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    private static EmbeddedPostgres postgres;
+
+    private static HikariDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private DataSourceTransactionManager transactionManager;
+
+    private AuditLog auditLog;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        // a pool that rolls back whatever a connection left uncommitted when it is returned
+        dataSource = new HikariDataSource();
+        dataSource.setDataSource(postgres.getPostgresDatabase());
+        dataSource.setAutoCommit(false);
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/migration/db.changelog-master.yml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        dataSource.close();
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.update("DELETE FROM audit_log"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (auditLog != null && auditLog.isRunning()) {
+            auditLog.stop();
+        }
+    }
+
+    @Nested
+    class WriteTests {
+
+        @Test
+        void record_NotRunning_ShouldPersistEventAfterCommit() {
+            auditLog = auditLog(new AuditWriter(jdbcTemplate, transactionManager), AuditOverflowPolicy.BLOCK);
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    auditLog.record(AuditAction.CARD_BLOCKED, 7L, "ACTIVE", "BLOCKED"));
+
+            assertThat(entityIds()).containsExactly(7L);
+        }
+
+        @Test
+        void record_WhenQueueIsFullAndPolicyIsCallerWrites_ShouldPersistEventAfterCommit() throws Exception {
+            BlockingWriter writer = new BlockingWriter();
+            auditLog = auditLog(writer, AuditOverflowPolicy.CALLER_WRITES);
+            auditLog.start();
+            auditLog.record(AuditAction.CARD_CREATED, 1L, null, "ACTIVE");
+            assertThat(writer.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+            auditLog.record(AuditAction.CARD_CREATED, 2L, null, "ACTIVE");
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    auditLog.record(AuditAction.CARD_CREATED, 3L, null, "ACTIVE"));
+
+            assertThat(entityIds()).containsExactly(3L);
+            writer.released.countDown();
+            auditLog.stop();
+            assertThat(entityIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        }
+    }
+
+    private AuditLog auditLog(AuditWriter writer, AuditOverflowPolicy policy) {
+        return new AuditLog(
+                writer,
+                1,
+                1,
+                Duration.ofMillis(10),
+                policy,
+                Duration.ofMillis(20),
+                Duration.ofSeconds(5),
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    private List<Long> entityIds() {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                jdbcTemplate.queryForList("SELECT entity_id FROM audit_log ORDER BY id", Long.class));
+    }
+
+    // holds the background writer thread back so that the queue fills up
+    private final class BlockingWriter extends AuditWriter {
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        BlockingWriter() {
+            super(jdbcTemplate, transactionManager);
+        }
+
+        @Override
+        public void write(List<AuditEvent> events) {
+            if (Thread.currentThread().getName().equals("audit-writer")) {
+                blocked.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            super.write(events);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.exception.StackTraces;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExceptionConfigTest {
+
+    @AfterEach
+    void tearDown() {
+        StackTraces.setEnabled(false);
+    }
+
+    @Nested
+    class StackTracesInitializerTests {
+
+        @Test
+        void configuration_ShouldNotChangeStackTracesBeforeStartup() {
+            new ExceptionConfig().stackTracesInitializer(new ExceptionProperties(true));
+
+            assertThat(StackTraces.enabled()).isFalse();
+        }
+
+        @Test
+        void stackTracesInitializer_OnStartup_ShouldApplyProperty() throws Exception {
+            new ExceptionConfig().stackTracesInitializer(new ExceptionProperties(true))
+                    .run(new DefaultApplicationArguments());
+
+            assertThat(StackTraces.enabled()).isTrue();
+        }
+    }
+}
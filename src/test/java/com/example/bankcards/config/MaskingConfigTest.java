@@ -0,0 +1,37 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.enums.CardNumberMaskFormat;
+import com.example.bankcards.util.CardNumberMasker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MaskingConfigTest {
+
+    @AfterEach
+    void tearDown() {
+        CardNumberMasker.setDefaultFormat(CardNumberMaskFormat.LAST4);
+    }
+
+    @Nested
+    class CardNumberMaskInitializerTests {
+
+        @Test
+        void configuration_ShouldNotChangeDefaultFormatBeforeStartup() {
+            new MaskingConfig().cardNumberMaskInitializer(new MaskingProperties(CardNumberMaskFormat.FIRST6_LAST4));
+
+            assertThat(CardNumberMasker.defaultFormat()).isEqualTo(CardNumberMaskFormat.LAST4);
+        }
+
+        @Test
+        void cardNumberMaskInitializer_OnStartup_ShouldApplyProperty() throws Exception {
+            new MaskingConfig().cardNumberMaskInitializer(new MaskingProperties(CardNumberMaskFormat.FIRST6_LAST4))
+                    .run(new DefaultApplicationArguments());
+
+            assertThat(CardNumberMasker.defaultFormat()).isEqualTo(CardNumberMaskFormat.FIRST6_LAST4);
+        }
+    }
+}
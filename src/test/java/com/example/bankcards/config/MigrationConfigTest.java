@@ -0,0 +1,77 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.migration.MigrationMode;
+import com.example.bankcards.migration.StartupMigration;
+import liquibase.integration.spring.SpringLiquibase;
+import liquibase.ui.UIServiceEnum;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MigrationConfigTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+
+    @Nested
+    class LiquibaseTests {
+
+        @Test
+        void liquibase_ShouldApplyLiquibaseProperties() {
+            LiquibaseProperties properties = new LiquibaseProperties();
+            properties.setChangeLog("classpath:db/changelog.yml");
+            properties.setContexts(List.of("prod", "eu"));
+            properties.setLabelFilter(List.of("core"));
+            properties.setDefaultSchema("bank");
+            properties.setLiquibaseSchema("liquibase");
+            properties.setLiquibaseTablespace("migrations");
+            properties.setDatabaseChangeLogTable("changelog");
+            properties.setDatabaseChangeLogLockTable("changelog_lock");
+            properties.setDropFirst(true);
+            properties.setClearChecksums(true);
+            properties.setParameters(Map.of("owner", "bank"));
+            properties.setTestRollbackOnUpdate(true);
+            properties.setTag("v2");
+            properties.setUiService(LiquibaseProperties.UiService.LOGGER);
+            properties.setAnalyticsEnabled(false);
+
+            SpringLiquibase liquibase = new MigrationConfig().liquibase(
+                    dataSource, properties, new MigrationProperties(MigrationMode.VALIDATE)
+            );
+
+            assertThat(liquibase).isInstanceOf(StartupMigration.class);
+            assertThat(liquibase.getDataSource()).isSameAs(dataSource);
+            assertThat(liquibase.getChangeLog()).isEqualTo("classpath:db/changelog.yml");
+            assertThat(liquibase.getContexts()).isEqualTo("prod,eu");
+            assertThat(liquibase.getLabelFilter()).isEqualTo("core");
+            assertThat(liquibase.getDefaultSchema()).isEqualTo("bank");
+            assertThat(liquibase.getLiquibaseSchema()).isEqualTo("liquibase");
+            assertThat(liquibase.getLiquibaseTablespace()).isEqualTo("migrations");
+            assertThat(liquibase.getDatabaseChangeLogTable()).isEqualTo("changelog");
+            assertThat(liquibase.getDatabaseChangeLogLockTable()).isEqualTo("changelog_lock");
+            assertThat(liquibase.isDropFirst()).isTrue();
+            assertThat(liquibase.isClearCheckSums()).isTrue();
+            assertThat(liquibase.isTestRollbackOnUpdate()).isTrue();
+            assertThat(liquibase.getTag()).isEqualTo("v2");
+            assertThat(liquibase.getUiService()).isEqualTo(UIServiceEnum.LOGGER);
+            assertThat(liquibase.getAnalyticsEnabled()).isFalse();
+        }
+
+        @Test
+        void liquibase_WithoutContextsOrLabels_ShouldLeaveThemUnset() {
+            SpringLiquibase liquibase = new MigrationConfig().liquibase(
+                    dataSource, new LiquibaseProperties(), new MigrationProperties(MigrationMode.UPDATE)
+            );
+
+            assertThat(liquibase.getContexts()).isNull();
+            assertThat(liquibase.getLabelFilter()).isNull();
+            assertThat(liquibase.getDataSource()).isSameAs(dataSource);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.converter.CardNumberConverter;
+import com.example.bankcards.dto.request.CardCreateRequest;
+import com.example.bankcards.dto.request.UserUpdateRequest;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.event.TransferCompletedEvent;
+import com.example.bankcards.repository.projection.CardVersion;
+import com.example.bankcards.util.CardNumberEncryptor;
+import com.example.bankcards.validation.constraint.CardNumberValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Nested
+    class ReflectionTests {
+
+        @Test
+        void registerHints_Entity_ShouldAllowFieldAccessAndConstruction() {
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onType(Card.class)
+                    .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                    .accepts(hints);
+        }
+
+        @Test
+        void registerHints_CardNumberConverter_ShouldAllowConstructorInjection() throws NoSuchMethodException {
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onConstructor(CardNumberConverter.class.getConstructor(CardNumberEncryptor.class)))
+                    .accepts(hints);
+        }
+
+        @Test
+        void registerHints_Projection_ShouldAllowConstructorExpression() {
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onType(CardVersion.class)
+                    .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                    .accepts(hints);
+        }
+
+        @Test
+        void registerHints_ConstraintValidator_ShouldAllowConstructorInjection() throws NoSuchMethodException {
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onConstructor(CardNumberValidator.class.getConstructor(String.class)))
+                    .accepts(hints);
+        }
+
+        @Test
+        void registerHints_Request_ShouldAllowBindingAndFieldConstraints() throws NoSuchMethodException {
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onType(CardCreateRequest.class)
+                    .withMemberCategory(MemberCategory.DECLARED_FIELDS))
+                    .accepts(hints);
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onConstructor(CardCreateRequest.class.getDeclaredConstructor(
+                            String.class, Long.class, LocalDate.class, BigDecimal.class, String.class)))
+                    .accepts(hints);
+        }
+
+        @Test
+        void registerHints_Request_ShouldAllowAtLeastOneNotNullAccessors() throws NoSuchMethodException {
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onMethod(UserUpdateRequest.class.getMethod("newUsername")))
+                    .accepts(hints);
+        }
+
+        @Test
+        void registerHints_DomainEvent_ShouldAllowOutboxSerialization() throws NoSuchMethodException {
+            assertThat(RuntimeHintsPredicates.reflection()
+                    .onMethod(TransferCompletedEvent.class.getMethod("amount")))
+                    .accepts(hints);
+        }
+    }
+
+    @Nested
+    class ResourceTests {
+
+        @Test
+        void registerHints_EveryChangelog_ShouldBeIncluded() throws IOException {
+            Resource[] changelogs = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath:db/migration/*.yml");
+
+            assertThat(changelogs).isNotEmpty();
+            for (Resource changelog : changelogs) {
+                assertThat(RuntimeHintsPredicates.resource()
+                        .forResource("db/migration/" + changelog.getFilename()))
+                        .accepts(hints);
+            }
+        }
+    }
+}
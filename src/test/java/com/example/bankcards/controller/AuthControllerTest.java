@@ -1,12 +1,14 @@
 package com.example.bankcards.controller;
 
 import com.example.bankcards.dto.request.LoginRequest;
+import com.example.bankcards.dto.request.RefreshTokenRequest;
 import com.example.bankcards.dto.response.LoginResponse;
 import com.example.bankcards.dto.response.UserAuthResponse;
 import com.example.bankcards.enums.ErrorCode;
 import com.example.bankcards.enums.Role;
+import com.example.bankcards.exception.unauthorized.InvalidRefreshTokenException;
 import com.example.bankcards.security.CustomUserDetails;
-import com.example.bankcards.security.JwtService;
+import com.example.bankcards.service.application.AuthApplicationService;
 import com.example.bankcards.util.provider.InvalidUsernamePasswordProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,7 +43,7 @@ class AuthControllerTest {
     private ObjectMapper objectMapper;
 
     @MockitoBean
-    private JwtService jwtService;
+    private AuthApplicationService applicationService;
 
     @MockitoBean
     private AuthenticationManager authenticationManager;
@@ -59,7 +61,8 @@ class AuthControllerTest {
         loginResponse = new LoginResponse(
                 TEST_USERNAME,
                 Role.USER,
-                TEST_TOKEN
+                TEST_TOKEN,
+                TEST_REFRESH_TOKEN
         );
         userDetails = CustomUserDetails.from(new UserAuthResponse(
                 TEST_USER_ID,
@@ -81,7 +84,7 @@ class AuthControllerTest {
 
             when(authenticationManager.authenticate(any())).thenReturn(authentication);
             when(authentication.getPrincipal()).thenReturn(userDetails);
-            when(jwtService.generateToken(userDetails)).thenReturn(TEST_TOKEN);
+            when(applicationService.login(userDetails)).thenReturn(loginResponse);
 
             LoginResponse expectedResponse = loginResponse;
 
@@ -92,11 +95,12 @@ class AuthControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.username").value(expectedResponse.username()))
                     .andExpect(jsonPath("$.role").value(expectedResponse.role().name()))
-                    .andExpect(jsonPath("$.token").value(expectedResponse.token()));
+                    .andExpect(jsonPath("$.token").value(expectedResponse.token()))
+                    .andExpect(jsonPath("$.refreshToken").value(expectedResponse.refreshToken()));
 
             verify(authenticationManager).authenticate(any());
             verify(authentication).getPrincipal();
-            verify(jwtService).generateToken(userDetails);
+            verify(applicationService).login(userDetails);
         }
 
         // --- NEGATIVE CASES ---
@@ -116,7 +120,7 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.message").value(expectedMessage))
                     .andExpect(jsonPath("$.errorCode").value(ErrorCode.UNAUTHORIZED.name()));
 
-            verify(jwtService, never()).generateToken(any());
+            verify(applicationService, never()).login(any());
         }
 
         @ParameterizedTest
@@ -132,7 +136,64 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.errorCode").value(ErrorCode.BAD_REQUEST.name()));
 
             verify(authenticationManager, never()).authenticate(any());
-            verify(jwtService, never()).generateToken(any());
+            verify(applicationService, never()).login(any());
+        }
+    }
+
+    @Nested
+    class RefreshTests {
+
+        // --- POSITIVE CASE ---
+
+        @Test
+        void refresh_WithValidRefreshToken_ReturnsLoginResponse() throws Exception {
+            RefreshTokenRequest request = new RefreshTokenRequest(TEST_REFRESH_TOKEN);
+
+            when(applicationService.refresh(request)).thenReturn(loginResponse);
+
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                            .with(jwt())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.username").value(loginResponse.username()))
+                    .andExpect(jsonPath("$.token").value(loginResponse.token()))
+                    .andExpect(jsonPath("$.refreshToken").value(loginResponse.refreshToken()));
+
+            verify(applicationService).refresh(request);
+        }
+
+        // --- NEGATIVE CASES ---
+
+        @Test
+        void refresh_WithRevokedRefreshToken_ReturnsUnauthorized() throws Exception {
+            String expectedMessage = "Refresh token has been revoked";
+            RefreshTokenRequest request = new RefreshTokenRequest(TEST_REFRESH_TOKEN);
+
+            when(applicationService.refresh(request))
+                    .thenThrow(new InvalidRefreshTokenException(expectedMessage));
+
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                            .with(jwt())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message").value(expectedMessage))
+                    .andExpect(jsonPath("$.errorCode").value(ErrorCode.UNAUTHORIZED.name()));
+        }
+
+        @Test
+        void refresh_WithBlankRefreshToken_ReturnsBadRequest() throws Exception {
+            RefreshTokenRequest request = new RefreshTokenRequest(" ");
+
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                            .with(jwt())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value(ErrorCode.BAD_REQUEST.name()));
+
+            verify(applicationService, never()).refresh(any());
         }
     }
 }
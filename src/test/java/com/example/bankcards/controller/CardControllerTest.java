@@ -12,6 +12,7 @@ import com.example.bankcards.exception.forbidden.CardAccessDeniedException;
 import com.example.bankcards.exception.notfound.CardNotFoundException;
 import com.example.bankcards.exception.notfound.UserNotFoundException;
 import com.example.bankcards.service.application.CardApplicationService;
+import com.example.bankcards.util.ETags;
 import com.example.bankcards.util.provider.InvalidCardCreateRequestProvider;
 import com.example.bankcards.util.provider.InvalidIdProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,17 +26,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Optional;
 
 import static com.example.bankcards.util.TestData.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -61,19 +65,23 @@ class CardControllerTest {
                 TEST_CARD_NUMBER,
                 TEST_USER_ID,
                 FUTURE_DATE,
-                POSITIVE_BALANCE
+                POSITIVE_BALANCE,
+                TEST_CURRENCY_CODE
         );
         cardResponse = new CardResponse(
                 TEST_CARD_ID,
                 MASKED_CARD_NUMBER,
                 FUTURE_DATE,
                 CardStatus.ACTIVE,
-                POSITIVE_BALANCE
+                POSITIVE_BALANCE,
+                TEST_CURRENCY_CODE,
+                TEST_VERSION
         );
         userResponse = new UserResponse(
                 TEST_USER_ID,
                 TEST_USERNAME,
-                Role.USER
+                Role.USER,
+                TEST_VERSION
         );
     }
 
@@ -172,6 +180,49 @@ class CardControllerTest {
             verify(applicationService).getCardByIdForUser(TEST_CARD_ID, TEST_USERNAME);
         }
 
+        @Test
+        void getCard_WithValidId_ShouldReturnETag() throws Exception {
+            when(applicationService.getCardByIdForUser(TEST_CARD_ID, TEST_USERNAME))
+                    .thenReturn(cardResponse);
+
+            mockMvc.perform(get("/api/v1/cards/{id}", TEST_CARD_ID)
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME))))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETags.card(TEST_CARD_ID, TEST_VERSION)))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+
+            verify(applicationService, never()).getCardETagForUser(anyLong(), anyString());
+        }
+
+        @Test
+        void getCard_WithCurrentETag_ShouldReturnNotModified() throws Exception {
+            String eTag = ETags.card(TEST_CARD_ID, TEST_VERSION);
+            when(applicationService.getCardETagForUser(TEST_CARD_ID, TEST_USERNAME))
+                    .thenReturn(Optional.of(eTag));
+
+            mockMvc.perform(get("/api/v1/cards/{id}", TEST_CARD_ID)
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME))))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+            verify(applicationService, never()).getCardByIdForUser(anyLong(), anyString());
+        }
+
+        @Test
+        void getCard_WithOutdatedETag_ShouldReturnCard() throws Exception {
+            when(applicationService.getCardETagForUser(TEST_CARD_ID, TEST_USERNAME))
+                    .thenReturn(Optional.of(ETags.card(TEST_CARD_ID, TEST_VERSION)));
+            when(applicationService.getCardByIdForUser(TEST_CARD_ID, TEST_USERNAME))
+                    .thenReturn(cardResponse);
+
+            mockMvc.perform(get("/api/v1/cards/{id}", TEST_CARD_ID)
+                            .header(HttpHeaders.IF_NONE_MATCH, ETags.card(TEST_CARD_ID, TEST_VERSION - 1))
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME))))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETags.card(TEST_CARD_ID, TEST_VERSION)));
+        }
+
         // --- NEGATIVE CASES ---
 
         @ParameterizedTest
@@ -288,6 +339,21 @@ class CardControllerTest {
                     pageable.getPageNumber() == 0 && pageable.getPageSize() == 10
             ));
         }
+
+        @Test
+        void getCards_WithCurrentETag_ShouldReturnNotModified() throws Exception {
+            Page<CardResponse> page = new PageImpl<>(List.of(cardResponse));
+            String eTag = ETags.cards(page, CardResponse::id, CardResponse::version);
+            when(applicationService.getCardsETagForUser(eq(TEST_USERNAME), any(Pageable.class)))
+                    .thenReturn(eTag);
+
+            mockMvc.perform(get("/api/v1/cards")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME))))
+                    .andExpect(status().isNotModified());
+
+            verify(applicationService, never()).getCardsForUser(anyString(), any(Pageable.class));
+        }
     }
 
 
@@ -299,7 +365,8 @@ class CardControllerTest {
         @Test
         void blockCard_WithValidId_ShouldReturnOk() throws Exception {
             CardResponse cardResponse = new CardResponse(
-                    TEST_CARD_ID, MASKED_CARD_NUMBER, FUTURE_DATE, CardStatus.BLOCKED, POSITIVE_BALANCE
+                    TEST_CARD_ID, MASKED_CARD_NUMBER, FUTURE_DATE, CardStatus.BLOCKED, POSITIVE_BALANCE,
+                    TEST_CURRENCY_CODE, TEST_VERSION
             );
 
             when(applicationService.blockCardById(TEST_CARD_ID, TEST_USERNAME))
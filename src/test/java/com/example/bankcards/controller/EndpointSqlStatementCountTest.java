@@ -0,0 +1,443 @@
+package com.example.bankcards.controller;
+
+import com.example.bankcards.dto.request.CardCreateRequest;
+import com.example.bankcards.dto.request.LoginRequest;
+import com.example.bankcards.dto.request.RefreshTokenRequest;
+import com.example.bankcards.dto.request.ScheduledTransferCreateRequest;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.request.UserCreateRequest;
+import com.example.bankcards.dto.request.UserPasswordUpdateRequest;
+import com.example.bankcards.dto.request.UserUpdateRequest;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.ScheduledTransfer;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.enums.Role;
+import com.example.bankcards.enums.ScheduledTransferStatus;
+import com.example.bankcards.enums.TransferRecurrence;
+import com.example.bankcards.money.Money;
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.repository.ScheduledTransferRepository;
+import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.util.CardNumberHasher;
+import com.example.bankcards.util.ETags;
+import com.example.bankcards.util.sql.MaxQueries;
+import com.example.bankcards.util.sql.SqlStatementCountTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.example.bankcards.util.TestData.FUTURE_DATE;
+import static com.example.bankcards.util.TestData.TEST_CURRENCY;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Upper bounds on the SQL statements every endpoint executes, so that N+1 selects and other
+ * query regressions fail the build. Each list endpoint is run against several cards and owners.
+ */
+@SqlStatementCountTest
+class EndpointSqlStatementCountTest {
+
+    private static final String ADMIN = "admin";
+    private static final String USER = "alice";
+    private static final String OTHER_USER = "bob";
+
+    private static final BigDecimal BALANCE = new BigDecimal("1000.00");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private ScheduledTransferRepository scheduledTransferRepository;
+
+    @Autowired
+    private CardNumberHasher cardNumberHasher;
+
+    private User user;
+
+    private User carol;
+
+    private Card userCard;
+
+    private Card userCard2;
+
+    private Card blockedCard;
+
+    @BeforeEach
+    void setUp() {
+        // the seeded users have explicit ids, move the sequence past them
+        jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('users', 'id'), (SELECT max(id) FROM users))");
+
+        user = userRepository.findByUsername(USER).orElseThrow();
+        User otherUser = userRepository.findByUsername(OTHER_USER).orElseThrow();
+        carol = userRepository.save(User.builder()
+                .username("carol")
+                .passwordHash("{noop}carol")
+                .role(Role.USER)
+                .build());
+        userCard = createCard(user, "4000 0000 0000 0001", CardStatus.ACTIVE, BALANCE);
+        userCard2 = createCard(user, "4000 0000 0000 0002", CardStatus.ACTIVE, BALANCE);
+        blockedCard = createCard(user, "4000 0000 0000 0003", CardStatus.BLOCKED, BigDecimal.ZERO);
+        createCard(otherUser, "4000 0000 0000 0004", CardStatus.ACTIVE, BALANCE);
+        createCard(otherUser, "4000 0000 0000 0005", CardStatus.ACTIVE, BALANCE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        jdbcTemplate.update("DELETE FROM cards");
+        jdbcTemplate.update("DELETE FROM users WHERE id > 3");
+    }
+
+    @Nested
+    class AuthEndpoints {
+
+        @Test
+        @MaxQueries(2)
+        void login() throws Exception {
+            login(USER);
+        }
+
+        @Test
+        @MaxQueries(4)
+        void refresh() throws Exception {
+            String refreshToken = objectMapper.readTree(login(USER).getResponse().getContentAsString())
+                    .get("refreshToken").asText();
+
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(new RefreshTokenRequest(refreshToken))))
+                    .andExpect(status().isOk());
+        }
+
+        private MvcResult login(String username) throws Exception {
+            return mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(new LoginRequest(username, username))))
+                    .andExpect(status().isOk())
+                    .andReturn();
+        }
+    }
+
+    @Nested
+    class CardEndpoints {
+
+        @Test
+        @MaxQueries(3)
+        void createCard() throws Exception {
+            CardCreateRequest request = new CardCreateRequest(
+                    "4000 0000 0000 0009", user.getId(), FUTURE_DATE, new BigDecimal("100.00"), null
+            );
+
+            mockMvc.perform(post("/api/v1/cards")
+                            .with(asAdmin())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        @Test
+        @MaxQueries(2)
+        void getCard() throws Exception {
+            mockMvc.perform(get("/api/v1/cards/{id}", userCard.getId()).with(asUser()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(1)
+        void getCard_NotModified() throws Exception {
+            mockMvc.perform(get("/api/v1/cards/{id}", userCard.getId())
+                            .header(HttpHeaders.IF_NONE_MATCH, ETags.card(userCard.getId(), userCard.getVersion()))
+                            .with(asUser()))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @MaxQueries(2)
+        void getCardOwner() throws Exception {
+            mockMvc.perform(get("/api/v1/cards/{id}/owner", userCard.getId()).with(asAdmin()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(2)
+        void getCards_AsAdmin() throws Exception {
+            mockMvc.perform(get("/api/v1/cards").with(asAdmin()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(2)
+        void getCards_AsUser() throws Exception {
+            mockMvc.perform(get("/api/v1/cards").with(asUser()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(2)
+        void getCards_NotModified() throws Exception {
+            String eTag = mockMvc.perform(get("/api/v1/cards").with(asUser()))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/api/v1/cards").header(HttpHeaders.IF_NONE_MATCH, eTag).with(asUser()))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @MaxQueries(3)
+        void blockCard() throws Exception {
+            mockMvc.perform(patch("/api/v1/cards/{id}/block", userCard.getId()).with(asUser()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(2)
+        void activateCard() throws Exception {
+            mockMvc.perform(patch("/api/v1/cards/{id}/activate", blockedCard.getId()).with(asAdmin()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(2)
+        void deleteCard() throws Exception {
+            mockMvc.perform(delete("/api/v1/cards/{id}", blockedCard.getId()).with(asAdmin()))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    @Nested
+    class TransferEndpoints {
+
+        @Test
+        @MaxQueries(6)
+        void transfer() throws Exception {
+            TransferRequest request = new TransferRequest(
+                    userCard.getId(), userCard2.getId(), new BigDecimal("10.00")
+            );
+
+            mockMvc.perform(post("/api/v1/transfers")
+                            .with(asUser())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(request)))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    @Nested
+    class ScheduledTransferEndpoints {
+
+        @Test
+        @MaxQueries(4)
+        void createScheduledTransfer() throws Exception {
+            ScheduledTransferCreateRequest request = new ScheduledTransferCreateRequest(
+                    userCard.getId(), userCard2.getId(), new BigDecimal("10.00"), TransferRecurrence.MONTHLY,
+                    Instant.now().plus(Duration.ofDays(1))
+            );
+
+            mockMvc.perform(post("/api/v1/scheduled-transfers")
+                            .with(asUser())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        @Test
+        @MaxQueries(3)
+        void getOwnScheduledTransfers() throws Exception {
+            createScheduledTransfer(userCard, userCard2);
+            createScheduledTransfer(userCard2, userCard);
+
+            mockMvc.perform(get("/api/v1/scheduled-transfers").with(asUser()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(3)
+        void cancelScheduledTransfer() throws Exception {
+            ScheduledTransfer scheduledTransfer = createScheduledTransfer(userCard, userCard2);
+
+            mockMvc.perform(delete("/api/v1/scheduled-transfers/{id}", scheduledTransfer.getId()).with(asUser()))
+                    .andExpect(status().isNoContent());
+        }
+
+        private ScheduledTransfer createScheduledTransfer(Card from, Card to) {
+            Instant firstRunAt = Instant.now().plus(Duration.ofDays(1));
+            return scheduledTransferRepository.save(ScheduledTransfer.builder()
+                    .ownerId(user.getId())
+                    .fromCardId(from.getId())
+                    .toCardId(to.getId())
+                    .amount(Money.of(new BigDecimal("10.00")))
+                    .recurrence(TransferRecurrence.MONTHLY)
+                    .status(ScheduledTransferStatus.ACTIVE)
+                    .firstRunAt(firstRunAt)
+                    .nextRunAt(firstRunAt)
+                    .nextAttemptAt(firstRunAt)
+                    .build());
+        }
+    }
+
+    @Nested
+    class ActuatorEndpoints {
+
+        @Test
+        @MaxQueries(0)
+        void prometheus_WhenAnonymous_ShouldBeUnauthorized() throws Exception {
+            mockMvc.perform(get("/actuator/prometheus"))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @MaxQueries(0)
+        void prometheus_WhenNotAdmin_ShouldBeForbidden() throws Exception {
+            mockMvc.perform(get("/actuator/prometheus").with(asUser()))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    class UserEndpoints {
+
+        @Test
+        @MaxQueries(2)
+        void createUser() throws Exception {
+            mockMvc.perform(post("/api/v1/users")
+                            .with(asAdmin())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(new UserCreateRequest("dave", "dave", Role.USER))))
+                    .andExpect(status().isCreated());
+        }
+
+        @Test
+        @MaxQueries(1)
+        void getUser() throws Exception {
+            mockMvc.perform(get("/api/v1/users/{id}", user.getId()).with(asAdmin()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(1)
+        void getCurrentUser() throws Exception {
+            mockMvc.perform(get("/api/v1/users/me").with(asUser()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(1)
+        void getCurrentUser_NotModified() throws Exception {
+            mockMvc.perform(get("/api/v1/users/me")
+                            .header(HttpHeaders.IF_NONE_MATCH, ETags.user(user.getId(), user.getVersion()))
+                            .with(asUser()))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @MaxQueries(1)
+        void getUsers() throws Exception {
+            mockMvc.perform(get("/api/v1/users").with(asAdmin()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(2)
+        void getCurrentUserCards() throws Exception {
+            mockMvc.perform(get("/api/v1/users/me/cards").with(asUser()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(2)
+        void getCurrentUserCards_NotModified() throws Exception {
+            String eTag = mockMvc.perform(get("/api/v1/users/me/cards").with(asUser()))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get("/api/v1/users/me/cards").header(HttpHeaders.IF_NONE_MATCH, eTag).with(asUser()))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        @MaxQueries(1)
+        void streamCurrentUserCardChanges() throws Exception {
+            mockMvc.perform(get("/api/v1/users/me/cards/events").with(asUser()))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(3)
+        void updateUser() throws Exception {
+            mockMvc.perform(patch("/api/v1/users/{id}", carol.getId())
+                            .with(asAdmin())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(new UserUpdateRequest("carol_renamed"))))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @MaxQueries(3)
+        void updatePassword() throws Exception {
+            mockMvc.perform(patch("/api/v1/users/{id}/password", carol.getId())
+                            .with(asAdmin())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(new UserPasswordUpdateRequest("carol_password"))))
+                    .andExpect(status().isNoContent());
+        }
+
+        @Test
+        @MaxQueries(4)
+        void deleteUser() throws Exception {
+            mockMvc.perform(delete("/api/v1/users/{id}", carol.getId()).with(asAdmin()))
+                    .andExpect(status().isNoContent());
+        }
+    }
+
+    private Card createCard(User owner, String cardNumber, CardStatus status, BigDecimal balance) {
+        return cardRepository.save(Card.builder()
+                .cardNumber(cardNumber)
+                .cardNumberHash(cardNumberHasher.hash(cardNumber))
+                .owner(owner)
+                .expiryDate(FUTURE_DATE)
+                .cardStatus(status)
+                .balance(Money.of(balance))
+                .currency(TEST_CURRENCY)
+                .build());
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private static JwtRequestPostProcessor asAdmin() {
+        return jwt().jwt(jwt -> jwt.subject(ADMIN)).authorities(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+
+    private static JwtRequestPostProcessor asUser() {
+        return jwt().jwt(jwt -> jwt.subject(USER)).authorities(new SimpleGrantedAuthority("ROLE_USER"));
+    }
+}
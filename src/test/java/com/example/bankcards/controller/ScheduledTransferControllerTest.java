@@ -0,0 +1,175 @@
+package com.example.bankcards.controller;
+
+import com.example.bankcards.dto.request.ScheduledTransferCreateRequest;
+import com.example.bankcards.dto.response.ScheduledTransferResponse;
+import com.example.bankcards.enums.ErrorCode;
+import com.example.bankcards.enums.ScheduledTransferStatus;
+import com.example.bankcards.enums.TransferRecurrence;
+import com.example.bankcards.exception.notfound.ScheduledTransferNotFoundException;
+import com.example.bankcards.service.application.ScheduledTransferApplicationService;
+import com.example.bankcards.util.provider.InvalidAmountProvider;
+import com.example.bankcards.util.provider.InvalidIdProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static com.example.bankcards.util.TestData.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ScheduledTransferController.class)
+class ScheduledTransferControllerTest {
+
+    private static final Long TEST_SCHEDULED_TRANSFER_ID = 7L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ScheduledTransferApplicationService applicationService;
+
+    private Instant firstRunAt;
+
+    private ScheduledTransferCreateRequest createRequest;
+
+    @BeforeEach
+    void setUp() {
+        firstRunAt = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        createRequest = request(TEST_CARD_ID, new BigDecimal("10.00"), firstRunAt);
+    }
+
+    @Nested
+    class CreateTests {
+
+        // --- POSITIVE CASE ---
+
+        @Test
+        void create_WithValidRequest_ShouldReturnCreated() throws Exception {
+            when(applicationService.create(eq(TEST_USERNAME), any(ScheduledTransferCreateRequest.class)))
+                    .thenReturn(new ScheduledTransferResponse(
+                            TEST_SCHEDULED_TRANSFER_ID,
+                            TEST_CARD_ID,
+                            TEST_CARD_ID_2,
+                            new BigDecimal("10.00"),
+                            TransferRecurrence.MONTHLY,
+                            ScheduledTransferStatus.ACTIVE,
+                            firstRunAt,
+                            0,
+                            null
+                    ));
+
+            mockMvc.perform(post("/api/v1/scheduled-transfers")
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME)))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createRequest)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(TEST_SCHEDULED_TRANSFER_ID))
+                    .andExpect(jsonPath("$.recurrence").value(TransferRecurrence.MONTHLY.name()))
+                    .andExpect(jsonPath("$.status").value(ScheduledTransferStatus.ACTIVE.name()));
+
+            verify(applicationService).create(TEST_USERNAME, createRequest);
+        }
+
+        // --- NEGATIVE CASES ---
+
+        @ParameterizedTest
+        @ArgumentsSource(InvalidIdProvider.class)
+        void create_WithInvalidFromCardId_ShouldReturnBadRequest(Long fromCardId) throws Exception {
+            expectBadRequest(request(fromCardId, new BigDecimal("10.00"), firstRunAt));
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(InvalidAmountProvider.class)
+        void create_WithInvalidAmount_ShouldReturnBadRequest(BigDecimal amount) throws Exception {
+            expectBadRequest(request(TEST_CARD_ID, amount, firstRunAt));
+        }
+
+        @Test
+        void create_WithFirstRunInPast_ShouldReturnBadRequest() throws Exception {
+            expectBadRequest(request(TEST_CARD_ID, new BigDecimal("10.00"), Instant.now().minusSeconds(60)));
+        }
+
+        @Test
+        void create_WithoutRecurrence_ShouldReturnBadRequest() throws Exception {
+            expectBadRequest(new ScheduledTransferCreateRequest(
+                    TEST_CARD_ID, TEST_CARD_ID_2, new BigDecimal("10.00"), null, firstRunAt
+            ));
+        }
+    }
+
+    @Nested
+    class CancelTests {
+
+        @Test
+        void cancel_WhenOwned_ShouldReturnNoContent() throws Exception {
+            mockMvc.perform(delete("/api/v1/scheduled-transfers/{id}", TEST_SCHEDULED_TRANSFER_ID)
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME))))
+                    .andExpect(status().isNoContent());
+
+            verify(applicationService).cancel(TEST_USERNAME, TEST_SCHEDULED_TRANSFER_ID);
+        }
+
+        @Test
+        void cancel_WhenNotFound_ShouldReturnNotFound() throws Exception {
+            String expectedMessage = "Scheduled transfer not found or does not belong to the user";
+
+            doThrow(new ScheduledTransferNotFoundException(expectedMessage))
+                    .when(applicationService)
+                    .cancel(TEST_USERNAME, TEST_SCHEDULED_TRANSFER_ID);
+
+            mockMvc.perform(delete("/api/v1/scheduled-transfers/{id}", TEST_SCHEDULED_TRANSFER_ID)
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME))))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value(expectedMessage))
+                    .andExpect(jsonPath("$.errorCode").value(ErrorCode.NOT_FOUND.name()));
+        }
+
+        @ParameterizedTest
+        @ArgumentsSource(InvalidIdProvider.class)
+        void cancel_WithInvalidId_ShouldReturnBadRequest(Long id) throws Exception {
+            mockMvc.perform(delete("/api/v1/scheduled-transfers/{id}", id)
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode").value(ErrorCode.BAD_REQUEST.name()));
+
+            verify(applicationService, never()).cancel(anyString(), anyLong());
+        }
+    }
+
+    private void expectBadRequest(ScheduledTransferCreateRequest request) throws Exception {
+        mockMvc.perform(post("/api/v1/scheduled-transfers")
+                        .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.BAD_REQUEST.name()));
+
+        verify(applicationService, never()).create(anyString(), any(ScheduledTransferCreateRequest.class));
+    }
+
+    private static ScheduledTransferCreateRequest request(Long fromCardId, BigDecimal amount, Instant firstRunAt) {
+        return new ScheduledTransferCreateRequest(
+                fromCardId, TEST_CARD_ID_2, amount, TransferRecurrence.MONTHLY, firstRunAt
+        );
+    }
+}
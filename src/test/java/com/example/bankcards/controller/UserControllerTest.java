@@ -10,7 +10,10 @@ import com.example.bankcards.enums.ErrorCode;
 import com.example.bankcards.enums.Role;
 import com.example.bankcards.exception.conflict.UserAlreadyExistsException;
 import com.example.bankcards.exception.notfound.UserNotFoundException;
+import com.example.bankcards.exception.toomanyrequests.CardEventStreamLimitExceededException;
 import com.example.bankcards.service.application.UserApplicationService;
+import com.example.bankcards.sse.CardEventHub;
+import com.example.bankcards.util.ETags;
 import com.example.bankcards.util.provider.InvalidIdProvider;
 import com.example.bankcards.util.provider.InvalidPasswordProvider;
 import com.example.bankcards.util.provider.InvalidUsernamePasswordProvider;
@@ -26,17 +29,22 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Optional;
 
 import static com.example.bankcards.util.TestData.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
@@ -51,6 +59,9 @@ class UserControllerTest {
     @MockitoBean
     private UserApplicationService applicationService;
 
+    @MockitoBean
+    private CardEventHub cardEventHub;
+
     private UserCreateRequest userCreateRequest;
     private UserPasswordUpdateRequest userPasswordUpdateRequest;
     private UserUpdateRequest userUpdateRequest;
@@ -73,14 +84,17 @@ class UserControllerTest {
         userResponse = new UserResponse(
                 TEST_USER_ID,
                 TEST_USERNAME,
-                Role.USER
+                Role.USER,
+                TEST_VERSION
         );
         cardResponse = new CardResponse(
                 TEST_CARD_ID,
                 MASKED_CARD_NUMBER,
                 FUTURE_DATE,
                 CardStatus.ACTIVE,
-                POSITIVE_BALANCE
+                POSITIVE_BALANCE,
+                TEST_CURRENCY_CODE,
+                TEST_VERSION
         );
     }
 
@@ -208,10 +222,27 @@ class UserControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.id").value(userResponse.id()))
                     .andExpect(jsonPath("$.username").value(userResponse.username()))
-                    .andExpect(jsonPath("$.role").value(userResponse.role().name()));
+                    .andExpect(jsonPath("$.role").value(userResponse.role().name()))
+                    .andExpect(jsonPath("$.version").doesNotExist())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETags.user(TEST_USER_ID, TEST_VERSION)));
 
             verify(applicationService).getUserByUsername(TEST_USERNAME);
         }
+
+        @Test
+        void getCurrentUser_WithCurrentETag_ShouldReturnNotModified() throws Exception {
+            String eTag = ETags.user(TEST_USER_ID, TEST_VERSION);
+            when(applicationService.getUserETagByUsername(TEST_USERNAME))
+                    .thenReturn(Optional.of(eTag));
+
+            mockMvc.perform(get("/api/v1/users/me")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME))))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+            verify(applicationService, never()).getUserByUsername(anyString());
+        }
     }
 
     @Nested
@@ -270,6 +301,43 @@ class UserControllerTest {
         }
     }
 
+    @Nested
+    class StreamUserOwnCardChangesTests {
+
+        // --- POSITIVE CASE ---
+
+        @Test
+        void streamUserOwnCardChanges_ShouldSubscribeCurrentUser() throws Exception {
+            when(applicationService.getUserByUsername(TEST_USERNAME))
+                    .thenReturn(userResponse);
+            when(cardEventHub.subscribe(TEST_USER_ID))
+                    .thenReturn(new SseEmitter());
+
+            mockMvc.perform(get("/api/v1/users/me/cards/events")
+                            .accept(MediaType.TEXT_EVENT_STREAM)
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME))))
+                    .andExpect(status().isOk())
+                    .andExpect(request().asyncStarted());
+
+            verify(cardEventHub).subscribe(TEST_USER_ID);
+        }
+
+        // --- NEGATIVE CASES ---
+
+        @Test
+        void streamUserOwnCardChanges_WhenTooManyStreamsOpen_ShouldReturnTooManyRequests() throws Exception {
+            when(applicationService.getUserByUsername(TEST_USERNAME))
+                    .thenReturn(userResponse);
+            when(cardEventHub.subscribe(TEST_USER_ID))
+                    .thenThrow(new CardEventStreamLimitExceededException("At most 5 card event streams may be open at once"));
+
+            mockMvc.perform(get("/api/v1/users/me/cards/events")
+                            .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON)
+                            .with(jwt().jwt(jwt -> jwt.subject(TEST_USERNAME))))
+                    .andExpect(status().isTooManyRequests());
+        }
+    }
+
     @Nested
     class UpdateUserTests {
 
@@ -0,0 +1,66 @@
+package com.example.bankcards.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private JdbcTemplate replicaJdbcTemplate;
+
+    private ReplicaLagMonitor lagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = new ReplicaLagMonitor(replicaJdbcTemplate, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void isReplicaUsable_BeforeFirstCheck_ShouldReturnFalse() {
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    void check_WhenLagWithinThreshold_ShouldMarkReplicaUsable() {
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Number.class)).thenReturn(1200.5);
+
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isTrue();
+    }
+
+    @Test
+    void check_WhenLagExceedsThreshold_ShouldMarkReplicaUnusable() {
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Number.class))
+                .thenReturn(0)
+                .thenReturn(5001);
+
+        lagMonitor.check();
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    void check_WhenReplicaUnreachable_ShouldMarkReplicaUnusable() {
+        when(replicaJdbcTemplate.queryForObject(ReplicaLagMonitor.LAG_QUERY, Number.class))
+                .thenReturn(0)
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        lagMonitor.check();
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.bankcards.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnection_InReadOnlyTransactionWithHealthyReplica_ShouldUseReplica() throws SQLException {
+        Connection connection = mock(Connection.class);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(connection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    void getConnection_InReadOnlyTransactionWithLaggingReplica_ShouldFallBackToPrimary() throws SQLException {
+        Connection connection = mock(Connection.class);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+        when(primary.getConnection()).thenReturn(connection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    void getConnection_InReadWriteTransaction_ShouldUsePrimary() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(connection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(connection);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.bankcards.enums;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferRecurrenceTest {
+
+    private static final Instant FIRST_RUN_AT = Instant.parse("2026-01-31T09:00:00Z");
+
+    @Nested
+    class NextAfterTests {
+
+        @Test
+        void nextAfter_Once_ShouldReturnNull() {
+            assertThat(TransferRecurrence.ONCE.nextAfter(FIRST_RUN_AT, FIRST_RUN_AT)).isNull();
+        }
+
+        @Test
+        void nextAfter_Daily_ShouldReturnNextDay() {
+            assertThat(TransferRecurrence.DAILY.nextAfter(FIRST_RUN_AT, FIRST_RUN_AT))
+                    .isEqualTo(Instant.parse("2026-02-01T09:00:00Z"));
+        }
+
+        @Test
+        void nextAfter_Weekly_WithMissedOccurrences_ShouldSkipThem() {
+            Instant now = Instant.parse("2026-02-20T12:00:00Z");
+
+            assertThat(TransferRecurrence.WEEKLY.nextAfter(FIRST_RUN_AT, now))
+                    .isEqualTo(Instant.parse("2026-02-21T09:00:00Z"));
+        }
+
+        @Test
+        void nextAfter_MonthlyFromMonthEnd_ShouldClampToShorterMonth() {
+            assertThat(TransferRecurrence.MONTHLY.nextAfter(FIRST_RUN_AT, FIRST_RUN_AT))
+                    .isEqualTo(Instant.parse("2026-02-28T09:00:00Z"));
+        }
+
+        @Test
+        void nextAfter_MonthlyFromMonthEnd_ShouldNotDriftAfterShorterMonth() {
+            Instant february = Instant.parse("2026-02-28T09:00:00Z");
+            Instant march = TransferRecurrence.MONTHLY.nextAfter(FIRST_RUN_AT, february);
+
+            assertThat(march).isEqualTo(Instant.parse("2026-03-31T09:00:00Z"));
+            assertThat(TransferRecurrence.MONTHLY.nextAfter(FIRST_RUN_AT, march))
+                    .isEqualTo(Instant.parse("2026-04-30T09:00:00Z"));
+        }
+
+        @Test
+        void nextAfter_MonthlyWithMissedOccurrences_ShouldSkipThem() {
+            Instant now = Instant.parse("2026-05-31T10:00:00Z");
+
+            assertThat(TransferRecurrence.MONTHLY.nextAfter(FIRST_RUN_AT, now))
+                    .isEqualTo(Instant.parse("2026-06-30T09:00:00Z"));
+        }
+
+        @Test
+        void nextAfter_MonthlyLeapYear_ShouldUseFebruary29() {
+            Instant firstRunAt = Instant.parse("2027-12-31T09:00:00Z");
+            Instant now = Instant.parse("2028-01-31T09:00:00Z");
+
+            assertThat(TransferRecurrence.MONTHLY.nextAfter(firstRunAt, now))
+                    .isEqualTo(Instant.parse("2028-02-29T09:00:00Z"));
+        }
+    }
+}
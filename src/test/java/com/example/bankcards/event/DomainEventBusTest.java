@@ -0,0 +1,97 @@
+package com.example.bankcards.event;
+
+import com.example.bankcards.enums.CardStatus;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DomainEventBusTest {
+
+    @Nested
+    class EventTypeTests {
+
+        @Test
+        void eventType_WithKnownName_ShouldReturnEventClass() {
+            DomainEventBus bus = new DomainEventBus(List.of());
+
+            assertThat(bus.eventType("CardCreatedEvent")).isEqualTo(CardCreatedEvent.class);
+            assertThat(bus.eventType(DomainEventBus.typeName(TransferCompletedEvent.class)))
+                    .isEqualTo(TransferCompletedEvent.class);
+        }
+
+        @Test
+        void eventType_WithUnknownName_ShouldThrowIllegalArgumentException() {
+            DomainEventBus bus = new DomainEventBus(List.of());
+
+            assertThatThrownBy(() -> bus.eventType("UnknownEvent"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("UnknownEvent");
+        }
+    }
+
+    @Nested
+    class DispatchTests {
+
+        @Test
+        void dispatch_ShouldInvokeEveryHandlerOfTheEventType() {
+            RecordingHandler<CardDeletedEvent> first = new RecordingHandler<>(CardDeletedEvent.class);
+            RecordingHandler<CardDeletedEvent> second = new RecordingHandler<>(CardDeletedEvent.class);
+            DomainEventBus bus = new DomainEventBus(List.of(first, second));
+            CardDeletedEvent event = new CardDeletedEvent(1L, 2L);
+
+            bus.dispatch(event);
+
+            assertThat(first.events).containsExactly(event);
+            assertThat(second.events).containsExactly(event);
+        }
+
+        @Test
+        void dispatch_ShouldSkipHandlersOfOtherEventTypes() {
+            RecordingHandler<CardDeletedEvent> handler = new RecordingHandler<>(CardDeletedEvent.class);
+            DomainEventBus bus = new DomainEventBus(List.of(handler));
+
+            bus.dispatch(new CardStatusChangedEvent(1L, 2L, CardStatus.ACTIVE, CardStatus.BLOCKED));
+
+            assertThat(handler.events).isEmpty();
+        }
+
+        @Test
+        void dispatch_ShouldInvokeHandlersOfTheEventSupertype() {
+            RecordingHandler<DomainEvent> handler = new RecordingHandler<>(DomainEvent.class);
+            DomainEventBus bus = new DomainEventBus(List.of(handler));
+            CardDeletedEvent deleted = new CardDeletedEvent(1L, 2L);
+            CardStatusChangedEvent blocked = new CardStatusChangedEvent(1L, 2L, CardStatus.ACTIVE, CardStatus.BLOCKED);
+
+            bus.dispatch(deleted);
+            bus.dispatch(blocked);
+
+            assertThat(handler.events).containsExactly(deleted, blocked);
+        }
+    }
+
+    private static final class RecordingHandler<E extends DomainEvent> implements DomainEventHandler<E> {
+
+        private final Class<E> eventType;
+
+        private final List<E> events = new ArrayList<>();
+
+        private RecordingHandler(Class<E> eventType) {
+            this.eventType = eventType;
+        }
+
+        @Override
+        public Class<E> eventType() {
+            return eventType;
+        }
+
+        @Override
+        public void handle(E event) {
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.bankcards.exception;
+
+import com.example.bankcards.exception.badrequest.InsufficientFundsException;
+import com.example.bankcards.exception.conflict.CardAlreadyExistsException;
+import com.example.bankcards.exception.forbidden.CardAccessDeniedException;
+import com.example.bankcards.exception.notfound.CardNotFoundException;
+import com.example.bankcards.exception.unauthorized.InvalidRefreshTokenException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StackTracesTest {
+
+    private static final String MESSAGE = "rejected";
+
+    @AfterEach
+    void tearDown() {
+        StackTraces.setEnabled(false);
+    }
+
+    @Nested
+    class DisabledTests {
+
+        @Test
+        void domainExceptions_ByDefault_ShouldHaveNoStackTrace() {
+            for (Exception exception : domainExceptions()) {
+                assertThat(exception.getStackTrace()).as(exception.getClass().getSimpleName()).isEmpty();
+                assertThat(exception.getMessage()).isEqualTo(MESSAGE);
+            }
+        }
+    }
+
+    @Nested
+    class EnabledTests {
+
+        @Test
+        void domainExceptions_Enabled_ShouldCaptureStackTrace() {
+            StackTraces.setEnabled(true);
+
+            for (Exception exception : domainExceptions()) {
+                assertThat(exception.getStackTrace()).as(exception.getClass().getSimpleName()).isNotEmpty();
+                assertThat(exception.getStackTrace()[0].getMethodName()).isEqualTo("domainExceptions");
+            }
+        }
+    }
+
+    private static List<Exception> domainExceptions() {
+        return List.of(
+                new InsufficientFundsException(MESSAGE),
+                new CardAlreadyExistsException(MESSAGE),
+                new CardNotFoundException(MESSAGE),
+                new CardAccessDeniedException(MESSAGE),
+                new InvalidRefreshTokenException(MESSAGE)
+        );
+    }
+}
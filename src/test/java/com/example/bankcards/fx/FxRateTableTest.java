@@ -0,0 +1,115 @@
+package com.example.bankcards.fx;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FxRateTableTest {
+
+    private static final Currency RUB = Currency.getInstance("RUB");
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    @Mock
+    private FxRateReader reader;
+
+    private FxRateTable fxRateTable;
+
+    @BeforeEach
+    void setUp() {
+        fxRateTable = new FxRateTable(reader, Duration.ofHours(24), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Nested
+    class RateTests {
+
+        @Test
+        void rate_BeforeFirstRefresh_ShouldBeEmpty() {
+            assertThat(fxRateTable.rate(USD, RUB)).isEmpty();
+        }
+
+        @Test
+        void rate_StoredPair_ShouldReturnStoredRate() {
+            FxRate usdRub = FxRate.of(USD, RUB, new BigDecimal("81.50"), NOW.minusSeconds(60));
+            when(reader.readAll()).thenReturn(List.of(usdRub));
+
+            fxRateTable.refresh();
+
+            assertThat(fxRateTable.rate(USD, RUB)).contains(usdRub);
+            assertThat(fxRateTable.rate(USD, EUR)).isEmpty();
+        }
+
+        @Test
+        void rate_ReversePair_ShouldReturnInverseRate() {
+            FxRate usdRub = FxRate.of(USD, RUB, new BigDecimal("80.00"), NOW.minusSeconds(60));
+            when(reader.readAll()).thenReturn(List.of(usdRub));
+
+            fxRateTable.refresh();
+
+            assertThat(fxRateTable.rate(RUB, USD))
+                    .get()
+                    .extracting(FxRate::rate)
+                    .isEqualTo(new BigDecimal("0.01250000"));
+        }
+
+        @Test
+        void rate_BothDirectionsStored_ShouldPreferStoredOverInverse() {
+            FxRate usdRub = FxRate.of(USD, RUB, new BigDecimal("80.00"), NOW);
+            FxRate rubUsd = FxRate.of(RUB, USD, new BigDecimal("0.01200000"), NOW);
+            when(reader.readAll()).thenReturn(List.of(usdRub, rubUsd));
+
+            fxRateTable.refresh();
+
+            assertThat(fxRateTable.rate(RUB, USD)).contains(rubUsd);
+        }
+
+        @Test
+        void rate_OlderThanMaxAge_ShouldBeEmpty() {
+            when(reader.readAll()).thenReturn(List.of(
+                    FxRate.of(USD, RUB, new BigDecimal("81.50"), NOW.minus(Duration.ofHours(25)))
+            ));
+
+            fxRateTable.refresh();
+
+            assertThat(fxRateTable.rate(USD, RUB)).isEmpty();
+            assertThat(fxRateTable.rate(RUB, USD)).isEmpty();
+        }
+    }
+
+    @Nested
+    class RefreshTests {
+
+        @Test
+        void refresh_ReaderFails_ShouldKeepPreviousRates() {
+            FxRate usdRub = FxRate.of(USD, RUB, new BigDecimal("81.50"), NOW);
+            when(reader.readAll())
+                    .thenReturn(List.of(usdRub))
+                    .thenThrow(new IllegalStateException("database unavailable"));
+            fxRateTable.refresh();
+
+            assertThatThrownBy(fxRateTable::refresh).isInstanceOf(IllegalStateException.class);
+
+            assertThat(fxRateTable.rate(USD, RUB)).contains(usdRub);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.bankcards.fx;
+
+import com.example.bankcards.money.Money;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FxRateTest {
+
+    private static final Currency RUB = Currency.getInstance("RUB");
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private static final Instant UPDATED_AT = Instant.parse("2026-10-18T10:00:00Z");
+
+    @Nested
+    class CreationTests {
+
+        @Test
+        void of_ShouldKeepEightDecimals() {
+            FxRate rate = FxRate.of(USD, RUB, new BigDecimal("81.123456785"), UPDATED_AT);
+
+            assertThat(rate.rateUnits()).isEqualTo(8_112_345_678L);
+            assertThat(rate.rate()).isEqualTo(new BigDecimal("81.12345678"));
+        }
+
+        @Test
+        void of_WithNonPositiveRate_ShouldThrowIllegalArgumentException() {
+            assertThatThrownBy(() -> FxRate.of(USD, RUB, BigDecimal.ZERO, UPDATED_AT))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Exchange rate USD/RUB must be positive");
+        }
+
+        @Test
+        void inverse_ShouldSwapCurrenciesAndRoundHalfEven() {
+            FxRate inverse = FxRate.of(USD, RUB, new BigDecimal("81.00000000"), UPDATED_AT).inverse();
+
+            assertThat(inverse.base()).isEqualTo(RUB);
+            assertThat(inverse.quote()).isEqualTo(USD);
+            assertThat(inverse.rate()).isEqualTo(new BigDecimal("0.01234568"));
+            assertThat(inverse.updatedAt()).isEqualTo(UPDATED_AT);
+        }
+    }
+
+    @Nested
+    class ConvertTests {
+
+        @Test
+        void convert_IdentityRate_ShouldReturnSameAmount() {
+            Money amount = new Money(12345);
+
+            assertThat(FxRate.identity(RUB).convert(amount)).isSameAs(amount);
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "81.50000000, 100, 8150",
+                "0.01234567, 12345, 152",
+                "0.00500000, 100, 0",
+                "0.00500000, 300, 2",
+                "0.01500000, 100, 2",
+                "1.00000001, 100, 100"
+        })
+        void convert_ShouldRoundHalfEvenToMinorUnits(BigDecimal rate, long amount, long expected) {
+            assertThat(FxRate.of(USD, RUB, rate, UPDATED_AT).convert(new Money(amount)))
+                    .isEqualTo(new Money(expected));
+        }
+
+        @Test
+        void convert_ProductBeyondLongRange_ShouldMatchDecimalArithmetic() {
+            Money amount = new Money(Long.MAX_VALUE / 1_000);
+            FxRate rate = FxRate.of(USD, RUB, new BigDecimal("0.98765432"), UPDATED_AT);
+
+            assertThat(rate.convert(amount).minorUnits()).isEqualTo(BigDecimal.valueOf(amount.minorUnits())
+                    .multiply(rate.rate())
+                    .setScale(0, RoundingMode.HALF_EVEN)
+                    .longValueExact());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.bankcards.jfr;
+
+import com.example.bankcards.money.Money;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferEventTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "-5.00, 0",
+            "0.00, 0",
+            "0.01, 0-1",
+            "1.00, 1-10",
+            "9.99, 1-10",
+            "100.00, 100-1000",
+            "1E+3, 1000-10000",
+            "123456.78, 100000-1000000"
+    })
+    void amountBucket_ShouldReturnOrderOfMagnitude(BigDecimal amount, String expected) {
+        assertThat(TransferEvent.amountBucket(Money.of(amount))).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.fx.FxRate;
+import com.example.bankcards.fx.FxRateTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.Optional;
+
+import static com.example.bankcards.util.TestData.TEST_CARD_ID;
+import static com.example.bankcards.util.TestData.TEST_CURRENCY;
+import static com.example.bankcards.util.TestData.money;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CountingSpendingLimiterTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    @Mock
+    private SpendingCounterStore store;
+
+    @Mock
+    private FxRateTable fxRateTable;
+
+    private CountingSpendingLimiter spendingLimiter;
+
+    private Card card;
+
+    @BeforeEach
+    void setUp() {
+        SpendingLimits limits = new SpendingLimits(money("500.00"), money("1000.00"), 5);
+        spendingLimiter = new CountingSpendingLimiter(
+                limits, TEST_CURRENCY, fxRateTable, store, Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+        card = Card.builder().id(TEST_CARD_ID).currency(TEST_CURRENCY).build();
+    }
+
+    @Nested
+    class CheckTests {
+
+        @Test
+        void check_WithinLimits_ShouldRecordTransfer() {
+            when(store.tryRecord(TEST_CARD_ID, money("500.00"), NOW)).thenReturn(Optional.empty());
+
+            spendingLimiter.check(card, money("500.00"));
+
+            verify(store).tryRecord(TEST_CARD_ID, money("500.00"), NOW);
+        }
+
+        @Test
+        void check_OverPerTransferLimit_ShouldRejectWithoutTouchingStore() {
+            assertThatThrownBy(() -> spendingLimiter.check(card, money("500.01")))
+                    .isInstanceOf(TransferOperationNotAllowedException.class)
+                    .hasMessage("Transfer amount exceeds the limit of 500.00 RUB")
+                    .extracting("reason")
+                    .isEqualTo(TransferRejectionReason.TRANSFER_LIMIT_EXCEEDED);
+
+            verifyNoInteractions(store);
+        }
+
+        @Test
+        void check_OverDailyLimit_ShouldReject() {
+            when(store.tryRecord(TEST_CARD_ID, money("100.00"), NOW))
+                    .thenReturn(Optional.of(TransferRejectionReason.DAILY_LIMIT_EXCEEDED));
+
+            assertThatThrownBy(() -> spendingLimiter.check(card, money("100.00")))
+                    .isInstanceOf(TransferOperationNotAllowedException.class)
+                    .hasMessage("Transfer exceeds the daily limit of 1000.00 RUB")
+                    .extracting("reason")
+                    .isEqualTo(TransferRejectionReason.DAILY_LIMIT_EXCEEDED);
+        }
+
+        @Test
+        void check_OverHourlyCount_ShouldReject() {
+            when(store.tryRecord(TEST_CARD_ID, money("100.00"), NOW))
+                    .thenReturn(Optional.of(TransferRejectionReason.HOURLY_LIMIT_EXCEEDED));
+
+            assertThatThrownBy(() -> spendingLimiter.check(card, money("100.00")))
+                    .isInstanceOf(TransferOperationNotAllowedException.class)
+                    .hasMessage("Limit of 5 transfers per hour reached")
+                    .extracting("reason")
+                    .isEqualTo(TransferRejectionReason.HOURLY_LIMIT_EXCEEDED);
+        }
+
+        @Test
+        void check_InReferenceCurrency_ShouldNotLookUpRate() {
+            when(store.tryRecord(TEST_CARD_ID, money("100.00"), NOW)).thenReturn(Optional.empty());
+
+            spendingLimiter.check(card, money("100.00"));
+
+            verifyNoInteractions(fxRateTable);
+        }
+    }
+
+    @Nested
+    class OtherCurrencyTests {
+
+        private final Currency usd = Currency.getInstance("USD");
+
+        @BeforeEach
+        void setUp() {
+            card.setCurrency(usd);
+        }
+
+        @Test
+        void check_ShouldConvertAmountBeforeCheckingAndRecording() {
+            when(fxRateTable.rate(usd, TEST_CURRENCY))
+                    .thenReturn(Optional.of(FxRate.of(usd, TEST_CURRENCY, new BigDecimal("90"), NOW)));
+            when(store.tryRecord(TEST_CARD_ID, money("450.00"), NOW)).thenReturn(Optional.empty());
+
+            spendingLimiter.check(card, money("5.00"));
+
+            verify(store).tryRecord(TEST_CARD_ID, money("450.00"), NOW);
+        }
+
+        @Test
+        void check_OverPerTransferLimitAfterConversion_ShouldReject() {
+            when(fxRateTable.rate(usd, TEST_CURRENCY))
+                    .thenReturn(Optional.of(FxRate.of(usd, TEST_CURRENCY, new BigDecimal("90"), NOW)));
+
+            assertThatThrownBy(() -> spendingLimiter.check(card, money("6.00")))
+                    .isInstanceOf(TransferOperationNotAllowedException.class)
+                    .extracting("reason")
+                    .isEqualTo(TransferRejectionReason.TRANSFER_LIMIT_EXCEEDED);
+
+            verifyNoInteractions(store);
+        }
+
+        @Test
+        void check_WithoutRate_ShouldRejectWithoutTouchingStore() {
+            when(fxRateTable.rate(usd, TEST_CURRENCY)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> spendingLimiter.check(card, money("5.00")))
+                    .isInstanceOf(TransferOperationNotAllowedException.class)
+                    .hasMessage("No current exchange rate from USD to RUB")
+                    .extracting("reason")
+                    .isEqualTo(TransferRejectionReason.FX_RATE_UNAVAILABLE);
+
+            verifyNoInteractions(store);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.money.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.example.bankcards.util.TestData.money;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySpendingCounterStoreTest {
+
+    private static final long CARD_ID = 1L;
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:30:00Z");
+
+    private final SpendingLimits limits = new SpendingLimits(money("1000.00"), money("1000.00"), 3);
+
+    private InMemorySpendingCounterStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemorySpendingCounterStore(limits, 4);
+    }
+
+    @Nested
+    class DailyLimitTests {
+
+        @Test
+        void tryRecord_UpToDailyLimit_ShouldRecord() {
+            assertThat(store.tryRecord(CARD_ID, money("600.00"), NOW)).isEmpty();
+            assertThat(store.tryRecord(CARD_ID, money("400.00"), NOW.plus(Duration.ofHours(2)))).isEmpty();
+        }
+
+        @Test
+        void tryRecord_OverDailyLimit_ShouldRejectWithoutRecording() {
+            store.tryRecord(CARD_ID, money("600.00"), NOW);
+
+            assertThat(store.tryRecord(CARD_ID, money("400.01"), NOW.plus(Duration.ofHours(2))))
+                    .contains(TransferRejectionReason.DAILY_LIMIT_EXCEEDED);
+            assertThat(store.tryRecord(CARD_ID, money("400.00"), NOW.plus(Duration.ofHours(2)))).isEmpty();
+        }
+
+        @Test
+        void tryRecord_AfterWindowSlidesPast_ShouldNotCountOldAmount() {
+            store.tryRecord(CARD_ID, money("1000.00"), NOW);
+
+            assertThat(store.tryRecord(CARD_ID, money("1.00"), NOW.plus(Duration.ofHours(23))))
+                    .contains(TransferRejectionReason.DAILY_LIMIT_EXCEEDED);
+            assertThat(store.tryRecord(CARD_ID, money("1.00"), NOW.plus(Duration.ofHours(24)))).isEmpty();
+        }
+
+        @Test
+        void tryRecord_OtherCard_ShouldHaveOwnWindow() {
+            store.tryRecord(CARD_ID, money("1000.00"), NOW);
+
+            assertThat(store.tryRecord(CARD_ID + 4, money("1000.00"), NOW)).isEmpty();
+        }
+    }
+
+    @Nested
+    class HourlyLimitTests {
+
+        @Test
+        void tryRecord_OverHourlyCount_ShouldReject() {
+            IntStream.range(0, 3).forEach(i ->
+                    assertThat(store.tryRecord(CARD_ID, money("1.00"), NOW.plus(Duration.ofMinutes(i)))).isEmpty());
+
+            assertThat(store.tryRecord(CARD_ID, money("1.00"), NOW.plus(Duration.ofMinutes(50))))
+                    .contains(TransferRejectionReason.HOURLY_LIMIT_EXCEEDED);
+            assertThat(store.tryRecord(CARD_ID, money("1.00"), NOW.plus(Duration.ofMinutes(60)))).isEmpty();
+        }
+    }
+
+    @Nested
+    class TransactionTests {
+
+        @Test
+        void tryRecord_TransactionRolledBack_ShouldTakeUsageBack() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                store.tryRecord(CARD_ID, money("1000.00"), NOW);
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertThat(store.tryRecord(CARD_ID, money("1000.00"), NOW)).isEmpty();
+        }
+
+        @Test
+        void tryRecord_TransactionCommitted_ShouldKeepUsage() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                store.tryRecord(CARD_ID, money("1000.00"), NOW);
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertThat(store.tryRecord(CARD_ID, money("0.01"), NOW))
+                    .contains(TransferRejectionReason.DAILY_LIMIT_EXCEEDED);
+        }
+    }
+
+    @Nested
+    class EvictionTests {
+
+        @Test
+        void evictExpired_ShouldDropOnlyCardsOutsideBothWindows() {
+            store.tryRecord(CARD_ID, money("1.00"), NOW);
+            store.tryRecord(CARD_ID + 1, money("1.00"), NOW.plus(Duration.ofHours(2)));
+
+            store.evictExpired(NOW.plus(Duration.ofHours(25)));
+
+            assertThat(store.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class ConcurrencyTests {
+
+        @Test
+        void tryRecord_ConcurrentTransfers_ShouldNeverExceedLimit() throws Exception {
+            SpendingLimits manyTransfers = new SpendingLimits(money("1.00"), new Money(10_000), 1_000_000);
+            InMemorySpendingCounterStore concurrentStore = new InMemorySpendingCounterStore(manyTransfers, 4);
+            AtomicInteger recorded = new AtomicInteger();
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                Future<?>[] futures = IntStream.range(0, 8)
+                        .mapToObj(thread -> executor.submit(() -> {
+                            for (int i = 0; i < 5_000; i++) {
+                                if (concurrentStore.tryRecord(CARD_ID, new Money(1), NOW).isEmpty()) {
+                                    recorded.incrementAndGet();
+                                }
+                            }
+                        }))
+                        .toArray(Future[]::new);
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(recorded).hasValue(10_000);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.bankcards.util.TestData.money;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcSpendingCounterStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:30:00Z");
+
+    private static EmbeddedPostgres postgres;
+
+    private static DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcSpendingCounterStore store;
+
+    private long cardId;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = postgres.getPostgresDatabase();
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/migration/db.changelog-master.yml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM cards");
+        cardId = jdbcTemplate.queryForObject("""
+                INSERT INTO cards (encrypted_card_number, card_number_hash, owner_id, expiry_date, card_status, balance)
+                SELECT 'encrypted', 'hash', id, DATE '2030-01-01', 'ACTIVE', 1000.00 FROM users WHERE username = 'alice'
+                RETURNING id
+                """, Long.class);
+        store = new JdbcSpendingCounterStore(
+                jdbcTemplate, new SpendingLimits(money("1000.00"), money("1000.00"), 3)
+        );
+    }
+
+    @Nested
+    class TryRecordTests {
+
+        @Test
+        void tryRecord_WithinLimits_ShouldAggregateIntoBucket() {
+            assertThat(store.tryRecord(cardId, money("100.00"), NOW)).isEmpty();
+            assertThat(store.tryRecord(cardId, money("50.00"), NOW.plusSeconds(60))).isEmpty();
+
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT amount_minor FROM card_spending_buckets WHERE card_id = ?", Long.class, cardId
+            )).isEqualTo(15000L);
+        }
+
+        @Test
+        void tryRecord_OverDailyLimit_ShouldRejectAndTakeBack() {
+            store.tryRecord(cardId, money("900.00"), NOW);
+
+            assertThat(store.tryRecord(cardId, money("100.01"), NOW.plus(Duration.ofHours(3))))
+                    .contains(TransferRejectionReason.DAILY_LIMIT_EXCEEDED);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT SUM(amount_minor) FROM card_spending_buckets WHERE card_id = ?", Long.class, cardId
+            )).isEqualTo(90000L);
+            assertThat(store.tryRecord(cardId, money("100.00"), NOW.plus(Duration.ofHours(3)))).isEmpty();
+        }
+
+        @Test
+        void tryRecord_OverHourlyCount_ShouldRejectUntilWindowSlides() {
+            for (int i = 0; i < 3; i++) {
+                assertThat(store.tryRecord(cardId, money("1.00"), NOW.plus(Duration.ofMinutes(10L * i)))).isEmpty();
+            }
+
+            assertThat(store.tryRecord(cardId, money("1.00"), NOW.plus(Duration.ofMinutes(55))))
+                    .contains(TransferRejectionReason.HOURLY_LIMIT_EXCEEDED);
+            assertThat(store.tryRecord(cardId, money("1.00"), NOW.plus(Duration.ofMinutes(60)))).isEmpty();
+        }
+
+        @Test
+        void tryRecord_ConcurrentTransactions_ShouldBeCheckedOneAfterAnother() throws Exception {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            CountDownLatch firstRecorded = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                    assertThat(store.tryRecord(cardId, money("600.00"), NOW)).isEmpty();
+                    firstRecorded.countDown();
+                    awaitQuietly(release);
+                }));
+                assertThat(firstRecorded.await(10, TimeUnit.SECONDS)).isTrue();
+
+                Future<?> second = executor.submit(() ->
+                        transactionTemplate.execute(status -> store.tryRecord(cardId, money("600.00"), NOW)));
+                Thread.sleep(200);
+                assertThat(second).isNotDone();
+
+                release.countDown();
+                first.get(10, TimeUnit.SECONDS);
+                assertThat(second.get(10, TimeUnit.SECONDS))
+                        .isEqualTo(Optional.of(TransferRejectionReason.DAILY_LIMIT_EXCEEDED));
+            } finally {
+                release.countDown();
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    class EvictionTests {
+
+        @Test
+        void evictExpired_ShouldDeleteBucketsOutsideDailyWindow() {
+            store.tryRecord(cardId, money("1.00"), NOW);
+            store.tryRecord(cardId, money("1.00"), NOW.plus(Duration.ofHours(2)));
+
+            store.evictExpired(NOW.plus(Duration.ofHours(25)));
+
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM card_spending_buckets WHERE card_id = ?", Integer.class, cardId
+            )).isEqualTo(1);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.bankcards.limits;
+
+import com.example.bankcards.entity.Card;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.example.bankcards.util.TestData.TEST_CARD_ID;
+import static com.example.bankcards.util.TestData.TEST_CURRENCY;
+import static com.example.bankcards.util.TestData.money;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class NoopSpendingLimiterTest {
+
+    @Nested
+    class CheckTests {
+
+        @Test
+        void check_ShouldAcceptAnyAmount() {
+            Card card = Card.builder().id(TEST_CARD_ID).currency(TEST_CURRENCY).build();
+
+            assertThatCode(() -> new NoopSpendingLimiter().check(card, money("99999999.00")))
+                    .doesNotThrowAnyException();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.bankcards.metrics;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TransferMetrics transferMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transferMetrics = new TransferMetrics(meterRegistry);
+    }
+
+    @Test
+    void recordCompleted_ShouldIncrementCompletedCounter() {
+        transferMetrics.recordCompleted();
+
+        assertThat(meterRegistry.get("bankcards.transfers")
+                .tags("outcome", "completed", "reason", "none")
+                .counter()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordRejected_ShouldIncrementCounterTaggedWithReason() {
+        transferMetrics.recordRejected(TransferRejectionReason.INSUFFICIENT_BALANCE);
+        transferMetrics.recordRejected(TransferRejectionReason.INSUFFICIENT_BALANCE);
+
+        assertThat(meterRegistry.get("bankcards.transfers")
+                .tags("outcome", "rejected", "reason", "insufficient_balance")
+                .counter()
+                .count()).isEqualTo(2);
+        assertThat(meterRegistry.get("bankcards.transfers")
+                .tags("outcome", "rejected", "reason", "same_card")
+                .counter()
+                .count()).isZero();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.bankcards.migration;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class StartupMigrationTest {
+
+    private static final String CHANGE_LOG = "classpath:db/migration/db.changelog-master.yml";
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private static EmbeddedPostgres postgres;
+
+    private String databaseName;
+
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        databaseName = "migration_" + DATABASES.incrementAndGet();
+        new JdbcTemplate(postgres.getPostgresDatabase()).execute("CREATE DATABASE " + databaseName);
+        dataSource = postgres.getDatabase("postgres", databaseName);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Nested
+    class UpdateTests {
+
+        @Test
+        void afterPropertiesSet_EmptyDatabase_ShouldApplyChangelog() throws Exception {
+            migration(MigrationMode.UPDATE).afterPropertiesSet();
+
+            assertThat(tableExists("cards")).isTrue();
+            assertThat(tableExists("outbox_events")).isTrue();
+        }
+    }
+
+    @Nested
+    class ValidateTests {
+
+        @Test
+        void afterPropertiesSet_EmptyDatabase_ShouldFailWithPendingChangeSets() {
+            assertThatThrownBy(() -> migration(MigrationMode.VALIDATE).afterPropertiesSet())
+                    .hasRootCauseInstanceOf(IllegalStateException.class)
+                    .rootCause()
+                    .hasMessageContaining("20250910-01-create-users-table");
+            assertThat(tableExists("users")).isFalse();
+        }
+
+        @Test
+        void afterPropertiesSet_MigratedDatabase_ShouldPass() throws Exception {
+            migration(MigrationMode.UPDATE).afterPropertiesSet();
+
+            migration(MigrationMode.VALIDATE).afterPropertiesSet();
+        }
+
+        @Test
+        void afterPropertiesSet_PartiallyMigratedDatabase_ShouldFail() throws Exception {
+            migration(MigrationMode.UPDATE).afterPropertiesSet();
+            jdbcTemplate.update("DELETE FROM databasechangelog WHERE id = ?", "20261018-03-add-version-columns");
+
+            assertThatThrownBy(() -> migration(MigrationMode.VALIDATE).afterPropertiesSet())
+                    .rootCause()
+                    .hasMessageContaining("1 change sets pending: 20261018-03-add-version-columns");
+        }
+
+        @Test
+        void afterPropertiesSet_ChangelogLocked_ShouldNotWaitForLock() throws Exception {
+            migration(MigrationMode.UPDATE).afterPropertiesSet();
+            jdbcTemplate.update("UPDATE databasechangeloglock SET locked = true, lockgranted = now(), lockedby = 'other'");
+
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> migration(MigrationMode.VALIDATE).afterPropertiesSet());
+        }
+    }
+
+    @Nested
+    class MigrationApplicationTests {
+
+        @Test
+        void run_EmptyDatabase_ShouldApplyChangelogWithoutWebServer() {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MigrationApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run(
+                            "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", databaseName),
+                            "--spring.datasource.username=postgres",
+                            "--spring.datasource.password=postgres"
+                    )) {
+                assertThat(context.getBeanNamesForType(StartupMigration.class)).isEmpty();
+            }
+
+            assertThat(tableExists("cards")).isTrue();
+        }
+    }
+
+    private StartupMigration migration(MigrationMode mode) {
+        StartupMigration migration = new StartupMigration(mode);
+        migration.setDataSource(dataSource);
+        migration.setChangeLog(CHANGE_LOG);
+        migration.setResourceLoader(new DefaultResourceLoader());
+        return migration;
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = ?)", Boolean.class, table
+        ));
+    }
+}
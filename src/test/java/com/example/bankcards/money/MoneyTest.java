@@ -0,0 +1,101 @@
+package com.example.bankcards.money;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Nested
+    class ConversionTests {
+
+        @ParameterizedTest
+        @CsvSource({
+                "1000.00, 100000",
+                "123.45, 12345",
+                "0.5, 50",
+                "1E+3, 100000",
+                "-50.00, -5000"
+        })
+        void of_WithAtMostTwoDecimals_ShouldConvertToMinorUnits(BigDecimal amount, long minorUnits) {
+            assertThat(Money.of(amount).minorUnits()).isEqualTo(minorUnits);
+        }
+
+        @Test
+        void of_WithMoreThanTwoDecimals_ShouldThrowArithmeticException() {
+            assertThatThrownBy(() -> Money.of(new BigDecimal("1.005")))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        void of_WithAmountBeyondLongRange_ShouldThrowArithmeticException() {
+            assertThatThrownBy(() -> Money.of(new BigDecimal("99999999999999999.99")))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        void toBigDecimal_ShouldKeepScaleOfBalanceColumn() {
+            assertThat(new Money(12345).toBigDecimal()).isEqualTo(new BigDecimal("123.45"));
+            assertThat(Money.ZERO.toBigDecimal()).isEqualTo(new BigDecimal("0.00"));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "100000, 1000.00",
+                "5, 0.05",
+                "-5, -0.05",
+                "-12345, -123.45",
+                "0, 0.00"
+        })
+        void toString_ShouldMatchPlainDecimalNotation(long minorUnits, String expected) {
+            assertThat(new Money(minorUnits)).hasToString(expected);
+            assertThat(new Money(minorUnits).toBigDecimal().toPlainString()).isEqualTo(expected);
+        }
+
+        @Test
+        void toString_WithMinimumValue_ShouldNotOverflow() {
+            assertThat(new Money(Long.MIN_VALUE))
+                    .hasToString(BigDecimal.valueOf(Long.MIN_VALUE, Money.SCALE).toPlainString());
+        }
+    }
+
+    @Nested
+    class ArithmeticTests {
+
+        @Test
+        void plusAndMinus_ShouldWorkInMinorUnits() {
+            Money balance = new Money(100000);
+
+            assertThat(balance.minus(new Money(12345))).isEqualTo(new Money(87655));
+            assertThat(balance.plus(new Money(1))).isEqualTo(new Money(100001));
+        }
+
+        @Test
+        void plus_OnOverflow_ShouldThrowArithmeticException() {
+            assertThatThrownBy(() -> new Money(Long.MAX_VALUE).plus(new Money(1)))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        void minus_OnOverflow_ShouldThrowArithmeticException() {
+            assertThatThrownBy(() -> new Money(Long.MIN_VALUE).minus(new Money(1)))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        void comparisons_ShouldFollowMinorUnits() {
+            assertThat(new Money(1).isPositive()).isTrue();
+            assertThat(Money.ZERO.isPositive()).isFalse();
+            assertThat(Money.ZERO.isZero()).isTrue();
+            assertThat(new Money(99).isLessThan(new Money(100))).isTrue();
+            assertThat(new Money(100).isLessThan(new Money(100))).isFalse();
+            assertThat(new Money(-1)).isLessThan(Money.ZERO);
+        }
+    }
+}
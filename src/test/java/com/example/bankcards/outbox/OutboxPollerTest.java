@@ -0,0 +1,351 @@
+package com.example.bankcards.outbox;
+
+import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.event.CardDeletedEvent;
+import com.example.bankcards.event.CardStatusChangedEvent;
+import com.example.bankcards.event.DomainEvent;
+import com.example.bankcards.event.DomainEventBus;
+import com.example.bankcards.event.DomainEventHandler;
+import com.example.bankcards.event.TransferCompletedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxPollerTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static EmbeddedPostgres postgres;
+
+    private static DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    private ObjectMapper objectMapper;
+
+    private OutboxPublisher publisher;
+
+    private RecordingHandler handler;
+
+    private MeterRegistry meterRegistry;
+
+    private OutboxPoller poller;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = postgres.getPostgresDatabase();
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/migration/db.changelog-master.yml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        publisher = new OutboxPublisher(jdbcTemplate, objectMapper);
+        handler = new RecordingHandler();
+        meterRegistry = new SimpleMeterRegistry();
+        poller = poller(Duration.ZERO, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (poller.isRunning()) {
+            poller.stop();
+        }
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM outbox_dead_letters");
+    }
+
+    @Nested
+    class PublishTests {
+
+        @Test
+        void publish_WithinTransaction_ShouldInsertOutboxRow() {
+            publishAll(new CardDeletedEvent(7L, 3L));
+
+            assertThat(jdbcTemplate.queryForMap("SELECT event_type, aggregate_id, attempts FROM outbox_events"))
+                    .containsEntry("event_type", "CardDeletedEvent")
+                    .containsEntry("aggregate_id", 7L)
+                    .containsEntry("attempts", 0);
+        }
+
+        @Test
+        void publish_WithoutTransaction_ShouldThrowIllegalStateException() {
+            assertThatThrownBy(() -> publisher.publish(new CardDeletedEvent(7L, 3L)))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(outboxSize()).isZero();
+        }
+
+        @Test
+        void publish_WithRolledBackTransaction_ShouldNotInsertOutboxRow() {
+            transactionTemplate.executeWithoutResult(status -> {
+                publisher.publish(new CardDeletedEvent(7L, 3L));
+                status.setRollbackOnly();
+            });
+
+            assertThat(outboxSize()).isZero();
+        }
+    }
+
+    @Nested
+    class PollOnceTests {
+
+        @Test
+        void pollOnce_ShouldDispatchOldestBatchInOrderAndDeleteIt() {
+            DomainEvent first = new CardStatusChangedEvent(1L, 3L, CardStatus.ACTIVE, CardStatus.BLOCKED);
+            DomainEvent second = new TransferCompletedEvent(
+                    1L, 3L, new BigDecimal("900.00"), 2L, 3L, new BigDecimal("600.00"), new BigDecimal("100.00"),
+                    "RUB", new BigDecimal("100.00"), "RUB", BigDecimal.ONE
+            );
+            DomainEvent third = new CardDeletedEvent(1L, 3L);
+            publishAll(first, second, third);
+
+            assertThat(poller.pollOnce()).isEqualTo(BATCH_SIZE);
+            assertThat(handler.events).containsExactly(first, second);
+            assertThat(outboxSize()).isEqualTo(1);
+
+            assertThat(poller.pollOnce()).isEqualTo(1);
+            assertThat(handler.events).containsExactly(first, second, third);
+            assertThat(outboxSize()).isZero();
+            assertThat(meterRegistry.counter("bankcards.outbox.events", "outcome", "dispatched").count())
+                    .isEqualTo(3);
+        }
+
+        @Test
+        void pollOnce_ShouldBroadcastDeliveredBatchInOneNotification() throws Exception {
+            publishAll(new CardDeletedEvent(1L, 3L), new CardDeletedEvent(2L, 3L));
+
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + OutboxPoller.CHANNEL);
+
+                poller.pollOnce();
+
+                PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications(5_000);
+                assertThat(notifications).hasSize(1);
+                assertThat(objectMapper.readTree(notifications[0].getParameter()))
+                        .extracting(element -> element.get("event").get("cardId").asLong())
+                        .containsExactly(1L, 2L);
+            }
+        }
+
+        @Test
+        void pollOnce_WithFailingHandler_ShouldKeepEventAndCountAttempt() {
+            handler.failing = true;
+            publishAll(new CardDeletedEvent(1L, 3L));
+
+            assertThat(poller.pollOnce()).isEqualTo(1);
+
+            assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM outbox_events", Integer.class))
+                    .isEqualTo(1);
+            assertThat(meterRegistry.counter("bankcards.outbox.events", "outcome", "failed").count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        void pollOnce_AfterMaxAttempts_ShouldMoveEventToDeadLetters() {
+            handler.failing = true;
+            publishAll(new CardDeletedEvent(1L, 3L));
+
+            for (int i = 0; i < MAX_ATTEMPTS; i++) {
+                poller.pollOnce();
+            }
+            handler.failing = false;
+
+            assertThat(poller.pollOnce()).isZero();
+            assertThat(handler.events).isEmpty();
+            assertThat(outboxSize()).isZero();
+            assertThat(jdbcTemplate.queryForMap("SELECT event_type, aggregate_id, attempts FROM outbox_dead_letters"))
+                    .containsEntry("event_type", "CardDeletedEvent")
+                    .containsEntry("aggregate_id", 1L)
+                    .containsEntry("attempts", MAX_ATTEMPTS);
+            assertThat(meterRegistry.counter("bankcards.outbox.events", "outcome", "dead-lettered").count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        void pollOnce_BeforeMaxAttempts_ShouldNotDeadLetter() {
+            handler.failing = true;
+            publishAll(new CardDeletedEvent(1L, 3L));
+
+            for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+                poller.pollOnce();
+            }
+
+            assertThat(outboxSize()).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_dead_letters", Integer.class))
+                    .isZero();
+        }
+
+        @Test
+        void pollOnce_WithFailingHandler_ShouldNotRetryBeforeBackoffElapsed() {
+            handler.failing = true;
+            publishAll(new CardDeletedEvent(1L, 3L));
+            OutboxPoller backingOff = poller(Duration.ofHours(1), Duration.ofDays(1));
+
+            assertThat(backingOff.pollOnce()).isEqualTo(1);
+            handler.failing = false;
+
+            assertThat(backingOff.pollOnce()).isZero();
+            assertThat(handler.events).isEmpty();
+            assertThat(secondsUntilNextAttempt()).isBetween(3590L, 3600L);
+        }
+
+        @Test
+        void pollOnce_WithRepeatedFailures_ShouldDoubleBackoffUpToMaxRetryDelay() {
+            handler.failing = true;
+            publishAll(new CardDeletedEvent(1L, 3L));
+            OutboxPoller backingOff = poller(Duration.ofMinutes(1), Duration.ofSeconds(90));
+
+            // the last attempt moves the event to the dead letters
+            List<Long> delays = new ArrayList<>();
+            for (int i = 0; i < MAX_ATTEMPTS - 1; i++) {
+                jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = now()");
+                assertThat(backingOff.pollOnce()).isEqualTo(1);
+                delays.add(secondsUntilNextAttempt());
+            }
+
+            assertThat(delays).satisfiesExactly(
+                    first -> assertThat(first).isBetween(50L, 60L),
+                    capped -> assertThat(capped).isBetween(80L, 90L)
+            );
+        }
+
+        @Test
+        void pollOnce_ShouldSkipRowsLockedByAnotherPoller() throws Exception {
+            DomainEvent locked = new CardDeletedEvent(1L, 3L);
+            DomainEvent free = new CardDeletedEvent(2L, 3L);
+            publishAll(locked, free);
+
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(false);
+                statement.executeQuery("SELECT id FROM outbox_events ORDER BY id LIMIT 1 FOR UPDATE");
+
+                assertThat(poller.pollOnce()).isEqualTo(1);
+                assertThat(handler.events).containsExactly(free);
+
+                connection.rollback();
+            }
+
+            assertThat(poller.pollOnce()).isEqualTo(1);
+            assertThat(handler.events).containsExactly(free, locked);
+        }
+    }
+
+    @Nested
+    class LifecycleTests {
+
+        @Test
+        void start_ShouldDeliverEventsPublishedLater() throws Exception {
+            handler.expected = new CountDownLatch(3);
+            poller.start();
+
+            publishAll(new CardDeletedEvent(1L, 3L), new CardDeletedEvent(2L, 3L), new CardDeletedEvent(3L, 3L));
+
+            assertThat(handler.expected.await(5, TimeUnit.SECONDS)).isTrue();
+            poller.stop();
+            assertThat(poller.isRunning()).isFalse();
+            assertThat(outboxSize()).isZero();
+        }
+    }
+
+    private OutboxPoller poller(Duration retryDelay, Duration maxRetryDelay) {
+        return new OutboxPoller(
+                jdbcTemplate,
+                transactionTemplate,
+                new DomainEventBus(List.of(handler)),
+                objectMapper,
+                BATCH_SIZE,
+                Duration.ofMillis(10),
+                MAX_ATTEMPTS,
+                retryDelay,
+                maxRetryDelay,
+                meterRegistry
+        );
+    }
+
+    private long secondsUntilNextAttempt() {
+        return jdbcTemplate.queryForObject(
+                "SELECT EXTRACT(EPOCH FROM next_attempt_at - now())::bigint FROM outbox_events", Long.class
+        );
+    }
+
+    private void publishAll(DomainEvent... events) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (DomainEvent event : events) {
+                publisher.publish(event);
+            }
+        });
+    }
+
+    private int outboxSize() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events", Integer.class);
+    }
+
+    private static final class RecordingHandler implements DomainEventHandler<DomainEvent> {
+
+        private final List<DomainEvent> events = new CopyOnWriteArrayList<>();
+
+        private volatile boolean failing;
+
+        private volatile CountDownLatch expected = new CountDownLatch(0);
+
+        @Override
+        public Class<DomainEvent> eventType() {
+            return DomainEvent.class;
+        }
+
+        @Override
+        public void handle(DomainEvent event) {
+            if (failing) {
+                throw new IllegalStateException("Handler failure");
+            }
+            events.add(event);
+            expected.countDown();
+        }
+    }
+}
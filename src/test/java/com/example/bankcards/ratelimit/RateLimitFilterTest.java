@@ -0,0 +1,118 @@
+package com.example.bankcards.ratelimit;
+
+import com.example.bankcards.enums.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.bankcards.util.TestData.TEST_USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final String TRANSFERS_PATH = "/api/v1/transfers";
+    private static final String CARDS_PATH = "/api/v1/cards";
+    private static final long CAPACITY = 2;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitRule transfersRule = new RateLimitRule(
+                "transfers", TRANSFERS_PATH, Set.of("POST"), CAPACITY, CAPACITY, Duration.ofMinutes(1)
+        );
+        filter = new RateLimitFilter(
+                List.of(transfersRule),
+                100,
+                new ObjectMapper().registerModule(new JavaTimeModule())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse perform(String method, String path) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(username, null, "ROLE_USER")
+        );
+    }
+
+    @Nested
+    class DoFilterTests {
+
+        @Test
+        void doFilter_WithinLimit_ShouldPassThrough() throws Exception {
+            authenticate(TEST_USERNAME);
+
+            for (int i = 0; i < CAPACITY; i++) {
+                assertThat(perform("POST", TRANSFERS_PATH).getStatus()).isEqualTo(HttpStatus.OK.value());
+            }
+        }
+
+        @Test
+        void doFilter_OverLimit_ShouldReturnTooManyRequestsWithRetryAfter() throws Exception {
+            authenticate(TEST_USERNAME);
+            for (int i = 0; i < CAPACITY; i++) {
+                perform("POST", TRANSFERS_PATH);
+            }
+
+            MockHttpServletResponse response = perform("POST", TRANSFERS_PATH);
+
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+            assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+            assertThat(response.getContentAsString()).contains(ErrorCode.TOO_MANY_REQUESTS.name());
+        }
+
+        @Test
+        void doFilter_OverLimit_ShouldNotAffectOtherSubjects() throws Exception {
+            authenticate(TEST_USERNAME);
+            for (int i = 0; i <= CAPACITY; i++) {
+                perform("POST", TRANSFERS_PATH);
+            }
+
+            authenticate("OtherUser");
+
+            assertThat(perform("POST", TRANSFERS_PATH).getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+
+        @Test
+        void doFilter_WithUnmatchedMethodOrPath_ShouldNotLimit() throws Exception {
+            authenticate(TEST_USERNAME);
+
+            for (int i = 0; i <= CAPACITY; i++) {
+                assertThat(perform("GET", TRANSFERS_PATH).getStatus()).isEqualTo(HttpStatus.OK.value());
+                assertThat(perform("POST", CARDS_PATH).getStatus()).isEqualTo(HttpStatus.OK.value());
+            }
+        }
+
+        @Test
+        void doFilter_WithoutAuthentication_ShouldPassThrough() throws Exception {
+            for (int i = 0; i <= CAPACITY; i++) {
+                assertThat(perform("POST", TRANSFERS_PATH).getStatus()).isEqualTo(HttpStatus.OK.value());
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.bankcards.ratelimit;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRegistryTest {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final long CAPACITY = 2;
+    private static final int MAX_SUBJECTS = 2;
+
+    @Nested
+    class TryConsumeTests {
+
+        @Test
+        void tryConsume_WhenFullOfActiveBuckets_ShouldKeepTheirLimits() {
+            TokenBucketRegistry registry = new TokenBucketRegistry(INTERVAL, CAPACITY, MAX_SUBJECTS);
+            exhaust(registry, "alice", 0);
+            exhaust(registry, "bob", 0);
+
+            for (int i = 0; i < 10; i++) {
+                registry.tryConsume("rotating-" + i, 0);
+            }
+
+            assertThat(registry.size()).isEqualTo(MAX_SUBJECTS);
+            assertThat(registry.tryConsume("alice", 0)).isPositive();
+            assertThat(registry.tryConsume("bob", 0)).isPositive();
+        }
+
+        @Test
+        void tryConsume_WhenFullOfActiveBuckets_ShouldShareOneBucketAmongNewSubjects() {
+            TokenBucketRegistry registry = new TokenBucketRegistry(INTERVAL, CAPACITY, MAX_SUBJECTS);
+            exhaust(registry, "alice", 0);
+            exhaust(registry, "bob", 0);
+
+            assertThat(registry.tryConsume("carol", 0)).isZero();
+            assertThat(registry.tryConsume("dave", 0)).isZero();
+            assertThat(registry.tryConsume("erin", 0)).isPositive();
+        }
+
+        @Test
+        void tryConsume_AfterBucketsRefilled_ShouldDropFullBucketsForNewSubjects() {
+            TokenBucketRegistry registry = new TokenBucketRegistry(INTERVAL, CAPACITY, MAX_SUBJECTS);
+            exhaust(registry, "alice", 0);
+            exhaust(registry, "bob", 0);
+            registry.tryConsume("carol", 0);
+
+            long refilled = INTERVAL * CAPACITY;
+            exhaust(registry, "carol", refilled);
+
+            assertThat(registry.tryConsume("carol", refilled)).isPositive();
+            assertThat(registry.tryConsume("dave", refilled)).isZero();
+            assertThat(registry.size()).isEqualTo(MAX_SUBJECTS);
+        }
+    }
+
+    private static void exhaust(TokenBucketRegistry registry, String subject, long nowNanos) {
+        while (registry.tryConsume(subject, nowNanos) == 0) {
+            // drain
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.bankcards.ratelimit;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final long CAPACITY = 3;
+
+    @Nested
+    class TryConsumeTests {
+
+        @Test
+        void tryConsume_WithinCapacity_ShouldAllowBurst() {
+            TokenBucket bucket = new TokenBucket(INTERVAL, CAPACITY, 0);
+
+            for (int i = 0; i < CAPACITY; i++) {
+                assertThat(bucket.tryConsume(0)).isZero();
+            }
+        }
+
+        @Test
+        void tryConsume_WhenExhausted_ShouldReturnWaitUntilNextToken() {
+            TokenBucket bucket = new TokenBucket(INTERVAL, CAPACITY, 0);
+            for (int i = 0; i < CAPACITY; i++) {
+                bucket.tryConsume(0);
+            }
+
+            assertThat(bucket.tryConsume(0)).isEqualTo(INTERVAL);
+            assertThat(bucket.tryConsume(INTERVAL / 4)).isEqualTo(INTERVAL - INTERVAL / 4);
+        }
+
+        @Test
+        void tryConsume_AfterRefill_ShouldAllowAgain() {
+            TokenBucket bucket = new TokenBucket(INTERVAL, CAPACITY, 0);
+            for (int i = 0; i < CAPACITY; i++) {
+                bucket.tryConsume(0);
+            }
+
+            assertThat(bucket.tryConsume(INTERVAL)).isZero();
+            assertThat(bucket.tryConsume(INTERVAL)).isPositive();
+        }
+
+        @Test
+        void tryConsume_AfterLongIdle_ShouldNotAccumulateBeyondCapacity() {
+            TokenBucket bucket = new TokenBucket(INTERVAL, CAPACITY, 0);
+            long later = INTERVAL * 100;
+
+            for (int i = 0; i < CAPACITY; i++) {
+                assertThat(bucket.tryConsume(later)).isZero();
+            }
+            assertThat(bucket.tryConsume(later)).isPositive();
+        }
+    }
+
+    @Nested
+    class IsFullTests {
+
+        @Test
+        void isFull_WhenUntouched_ShouldReturnTrue() {
+            TokenBucket bucket = new TokenBucket(INTERVAL, CAPACITY, 0);
+
+            assertThat(bucket.isFull(0)).isTrue();
+        }
+
+        @Test
+        void isFull_AfterConsumeAndRefill_ShouldTrackState() {
+            TokenBucket bucket = new TokenBucket(INTERVAL, CAPACITY, 0);
+            bucket.tryConsume(0);
+
+            assertThat(bucket.isFull(0)).isFalse();
+            assertThat(bucket.isFull(INTERVAL)).isTrue();
+        }
+    }
+}
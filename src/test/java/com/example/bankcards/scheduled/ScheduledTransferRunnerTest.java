@@ -0,0 +1,447 @@
+package com.example.bankcards.scheduled;
+
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.exception.notfound.CardNotFoundException;
+import com.example.bankcards.money.Money;
+import com.example.bankcards.service.application.TransferApplicationService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ScheduledTransferRunnerTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(10);
+
+    private static final Duration MAX_DELAY = Duration.ofHours(6);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static EmbeddedPostgres postgres;
+
+    private static HikariDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    private TransferApplicationService transferApplicationService;
+
+    private MutableClock clock;
+
+    private MeterRegistry meterRegistry;
+
+    private ScheduledTransferRunner runner;
+
+    private long ownerId;
+
+    private long fromCardId;
+
+    private long toCardId;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        // the runner opens a transaction per job, as it would on the application's pool
+        dataSource = new HikariDataSource();
+        dataSource.setDataSource(postgres.getPostgresDatabase());
+        dataSource.setMaximumPoolSize(16);
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/migration/db.changelog-master.yml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        dataSource.close();
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.update("DELETE FROM cards");
+
+        ownerId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'alice'", Long.class);
+        fromCardId = insertCard("hash-1");
+        toCardId = insertCard("hash-2");
+
+        transferApplicationService = mock(TransferApplicationService.class);
+        clock = new MutableClock(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        runner = runner(1, 10);
+    }
+
+    @Nested
+    class RunOnceTests {
+
+        @Test
+        void runOnce_DueOneOffTransfer_ShouldTransferAndComplete() {
+            long id = insertJob("ONCE", NOW.minusSeconds(30), new Money(10_000));
+
+            assertThat(runner.runOnce()).isEqualTo(1);
+
+            verify(transferApplicationService).transfer(ownerId, fromCardId, toCardId, new Money(10_000));
+            assertThat(column(id, "status")).isEqualTo("COMPLETED");
+            assertThat(outcome("executed")).isEqualTo(1);
+        }
+
+        @Test
+        void runOnce_NotDueYet_ShouldNotClaim() {
+            long id = insertJob("ONCE", NOW.plusSeconds(1), new Money(10_000));
+
+            assertThat(runner.runOnce()).isZero();
+
+            verify(transferApplicationService, never()).transfer(anyLong(), anyLong(), anyLong(), any());
+            assertThat(column(id, "status")).isEqualTo("ACTIVE");
+        }
+
+        @Test
+        void runOnce_RecurringTransfer_ShouldMoveToNextOccurrence() {
+            Instant occurrence = NOW.minus(Duration.ofHours(5));
+            long id = insertJob("DAILY", occurrence, new Money(10_000));
+
+            runner.runOnce();
+
+            verify(transferApplicationService).transfer(ownerId, fromCardId, toCardId, new Money(10_000));
+            assertThat(column(id, "status")).isEqualTo("ACTIVE");
+            assertThat(instant(id, "next_run_at")).isEqualTo(occurrence.plus(Duration.ofDays(1)));
+            assertThat(instant(id, "next_attempt_at")).isEqualTo(occurrence.plus(Duration.ofDays(1)));
+        }
+
+        @Test
+        void runOnce_MonthlyFromMonthEnd_ShouldKeepDayOfFirstRun() {
+            Instant firstRunAt = Instant.parse("2026-08-31T09:00:00Z");
+            clock.set(Instant.parse("2026-09-30T10:00:00Z"));
+            long id = insertJob("MONTHLY", firstRunAt, Instant.parse("2026-09-30T09:00:00Z"), new Money(10_000));
+
+            runner.runOnce();
+
+            assertThat(instant(id, "next_run_at")).isEqualTo(Instant.parse("2026-10-31T09:00:00Z"));
+        }
+
+        @Test
+        void runOnce_CancelledTransfer_ShouldNotRun() {
+            long id = insertJob("ONCE", NOW.minusSeconds(30), new Money(10_000));
+            jdbcTemplate.update("UPDATE scheduled_transfers SET status = 'CANCELLED' WHERE id = ?", id);
+
+            assertThat(runner.runOnce()).isZero();
+
+            verify(transferApplicationService, never()).transfer(anyLong(), anyLong(), anyLong(), any());
+        }
+    }
+
+    @Nested
+    class MissedWindowTests {
+
+        @Test
+        void runOnce_OneOffOverdueBeyondMaxDelay_ShouldFailWithoutTransfer() {
+            long id = insertJob("ONCE", NOW.minus(MAX_DELAY).minusSeconds(1), new Money(10_000));
+
+            runner.runOnce();
+
+            verify(transferApplicationService, never()).transfer(anyLong(), anyLong(), anyLong(), any());
+            assertThat(column(id, "status")).isEqualTo("FAILED");
+            assertThat((String) column(id, "last_error")).startsWith("Missed occurrence at");
+            assertThat(outcome("missed")).isEqualTo(1);
+        }
+
+        @Test
+        void runOnce_RecurringAfterOutage_ShouldSkipMissedOccurrencesWithoutTransfer() {
+            Instant occurrence = NOW.minus(Duration.ofDays(3)).plus(Duration.ofHours(2));
+            long id = insertJob("DAILY", occurrence, new Money(10_000));
+
+            runner.runOnce();
+
+            verify(transferApplicationService, never()).transfer(anyLong(), anyLong(), anyLong(), any());
+            assertThat(column(id, "status")).isEqualTo("ACTIVE");
+            assertThat(instant(id, "next_run_at")).isEqualTo(NOW.plus(Duration.ofHours(2)));
+        }
+    }
+
+    @Nested
+    class RetryTests {
+
+        @Test
+        void runOnce_TransferRejected_ShouldRetryAfterDelay() {
+            Instant occurrence = NOW.minusSeconds(30);
+            long id = insertJob("ONCE", occurrence, new Money(10_000));
+            doThrow(new TransferOperationNotAllowedException(
+                    TransferRejectionReason.INSUFFICIENT_BALANCE, "Insufficient balance for transfer"
+            )).when(transferApplicationService).transfer(anyLong(), anyLong(), anyLong(), any());
+
+            runner.runOnce();
+
+            assertThat(column(id, "status")).isEqualTo("ACTIVE");
+            assertThat(column(id, "attempts")).isEqualTo(1);
+            assertThat(column(id, "last_error")).isEqualTo("Insufficient balance for transfer");
+            assertThat(instant(id, "next_run_at")).isEqualTo(occurrence);
+            assertThat(instant(id, "next_attempt_at")).isEqualTo(NOW.plus(RETRY_DELAY));
+            assertThat(outcome("retried")).isEqualTo(1);
+        }
+
+        @Test
+        void runOnce_RetryDue_ShouldRunAgain() {
+            long id = insertJob("ONCE", NOW.minusSeconds(30), new Money(10_000));
+            doThrow(new TransferOperationNotAllowedException("Card is blocked"))
+                    .doNothing()
+                    .when(transferApplicationService).transfer(anyLong(), anyLong(), anyLong(), any());
+            runner.runOnce();
+
+            clock.set(NOW.plus(RETRY_DELAY));
+            runner.runOnce();
+
+            verify(transferApplicationService, times(2)).transfer(ownerId, fromCardId, toCardId, new Money(10_000));
+            assertThat(column(id, "status")).isEqualTo("COMPLETED");
+        }
+
+        @Test
+        void runOnce_OneOffOutOfAttempts_ShouldFail() {
+            long id = insertJob("ONCE", NOW.minusSeconds(30), new Money(10_000));
+            jdbcTemplate.update("UPDATE scheduled_transfers SET attempts = ? WHERE id = ?", MAX_ATTEMPTS - 1, id);
+            doThrow(new TransferOperationNotAllowedException("Card is blocked"))
+                    .when(transferApplicationService).transfer(anyLong(), anyLong(), anyLong(), any());
+
+            runner.runOnce();
+
+            assertThat(column(id, "status")).isEqualTo("FAILED");
+            assertThat(column(id, "attempts")).isEqualTo(MAX_ATTEMPTS);
+            assertThat(outcome("failed")).isEqualTo(1);
+        }
+
+        @Test
+        void runOnce_RecurringOutOfAttempts_ShouldMoveToNextOccurrence() {
+            Instant occurrence = NOW.minusSeconds(30);
+            long id = insertJob("WEEKLY", occurrence, new Money(10_000));
+            jdbcTemplate.update("UPDATE scheduled_transfers SET attempts = ? WHERE id = ?", MAX_ATTEMPTS - 1, id);
+            doThrow(new TransferOperationNotAllowedException("Card is blocked"))
+                    .when(transferApplicationService).transfer(anyLong(), anyLong(), anyLong(), any());
+
+            runner.runOnce();
+
+            assertThat(column(id, "status")).isEqualTo("ACTIVE");
+            assertThat(column(id, "attempts")).isEqualTo(0);
+            assertThat(column(id, "last_error")).isEqualTo("Card is blocked");
+            assertThat(instant(id, "next_run_at")).isEqualTo(occurrence.plus(Duration.ofDays(7)));
+        }
+
+        @Test
+        void runOnce_CardNoLongerOwned_ShouldFailWithoutRetry() {
+            long id = insertJob("DAILY", NOW.minusSeconds(30), new Money(10_000));
+            doThrow(new CardNotFoundException("Card not found or does not belong to the user"))
+                    .when(transferApplicationService).transfer(anyLong(), anyLong(), anyLong(), any());
+
+            runner.runOnce();
+
+            assertThat(column(id, "status")).isEqualTo("FAILED");
+            assertThat(column(id, "attempts")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class ClaimTests {
+
+        @Test
+        void runOnce_WhileJobRuns_ShouldNotBeClaimedByAnotherWorker() throws Exception {
+            insertJob("ONCE", NOW.minusSeconds(30), new Money(10_000));
+            ScheduledTransferRunner other = runner(1, 10);
+            List<Integer> claimedByOther = new ArrayList<>();
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                doAnswer(invocation -> {
+                    clock.set(NOW.plus(LEASE).plusSeconds(1));
+                    claimedByOther.add(executor.submit(other::runOnce).get(10, TimeUnit.SECONDS));
+                    return null;
+                }).when(transferApplicationService).transfer(anyLong(), anyLong(), anyLong(), any());
+
+                runner.runOnce();
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(claimedByOther).containsExactly(0);
+            verify(transferApplicationService, times(1)).transfer(anyLong(), anyLong(), anyLong(), any());
+        }
+
+        @Test
+        void runOnce_LeaseOfStoppedWorkerExpired_ShouldClaimAgain() {
+            long id = insertJob("ONCE", NOW.minusSeconds(30), new Money(10_000));
+            // a claim whose worker stopped before running the job
+            jdbcTemplate.update("UPDATE scheduled_transfers SET next_attempt_at = ? WHERE id = ?",
+                    Timestamp.from(NOW.plus(LEASE)), id);
+            assertThat(runner.runOnce()).isZero();
+
+            clock.set(NOW.plus(LEASE));
+
+            assertThat(runner.runOnce()).isEqualTo(1);
+            assertThat(column(id, "status")).isEqualTo("COMPLETED");
+        }
+
+        @Test
+        void start_SeveralRunners_ShouldTransferEveryJobExactlyOnce() throws Exception {
+            int jobs = 2_000;
+            List<Object[]> rows = new ArrayList<>(jobs);
+            for (int i = 1; i <= jobs; i++) {
+                rows.add(new Object[]{ownerId, fromCardId, toCardId, i, Timestamp.from(NOW), Timestamp.from(NOW),
+                        Timestamp.from(NOW)});
+            }
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO scheduled_transfers
+                        (owner_id, from_card_id, to_card_id, amount, recurrence, status, first_run_at, next_run_at,
+                         next_attempt_at)
+                    VALUES (?, ?, ?, ? / 100.0, 'ONCE', 'ACTIVE', ?, ?, ?)
+                    """, rows);
+
+            Map<Money, Integer> transfers = new ConcurrentHashMap<>();
+            doAnswer(invocation -> transfers.merge(invocation.getArgument(3), 1, Integer::sum))
+                    .when(transferApplicationService).transfer(anyLong(), anyLong(), anyLong(), any());
+            List<ScheduledTransferRunner> runners = List.of(runner(4, 50), runner(4, 50));
+
+            runners.forEach(ScheduledTransferRunner::start);
+            try {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+                while (activeJobs() > 0 && System.nanoTime() < deadline) {
+                    Thread.sleep(50);
+                }
+            } finally {
+                runners.forEach(ScheduledTransferRunner::stop);
+            }
+
+            assertThat(activeJobs()).isZero();
+            assertThat(transfers).hasSize(jobs);
+            assertThat(Set.copyOf(transfers.values())).containsExactly(1);
+        }
+    }
+
+    private ScheduledTransferRunner runner(int workers, int batchSize) {
+        return new ScheduledTransferRunner(
+                jdbcTemplate,
+                transactionTemplate,
+                transferApplicationService,
+                workers,
+                batchSize,
+                Duration.ofMillis(20),
+                LEASE,
+                MAX_ATTEMPTS,
+                RETRY_DELAY,
+                MAX_DELAY,
+                clock,
+                meterRegistry
+        );
+    }
+
+    private long insertCard(String hash) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO cards (encrypted_card_number, card_number_hash, owner_id, expiry_date, card_status, balance)
+                VALUES ('encrypted', ?, ?, DATE '2030-01-01', 'ACTIVE', 1000.00)
+                RETURNING id
+                """, Long.class, hash, ownerId);
+    }
+
+    private long insertJob(String recurrence, Instant nextRunAt, Money amount) {
+        return insertJob(recurrence, nextRunAt, nextRunAt, amount);
+    }
+
+    private long insertJob(String recurrence, Instant firstRunAt, Instant nextRunAt, Money amount) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO scheduled_transfers
+                    (owner_id, from_card_id, to_card_id, amount, recurrence, status, first_run_at, next_run_at,
+                     next_attempt_at)
+                VALUES (?, ?, ?, ?, ?, 'ACTIVE', ?, ?, ?)
+                RETURNING id
+                """, Long.class, ownerId, fromCardId, toCardId, amount.toBigDecimal(), recurrence,
+                Timestamp.from(firstRunAt), Timestamp.from(nextRunAt), Timestamp.from(nextRunAt));
+    }
+
+    private Object column(long id, String column) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM scheduled_transfers WHERE id = ?", Object.class, id);
+    }
+
+    private Instant instant(long id, String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT " + column + " FROM scheduled_transfers WHERE id = ?", Timestamp.class, id
+        ).toInstant();
+    }
+
+    private int activeJobs() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM scheduled_transfers WHERE status = 'ACTIVE'", Integer.class
+        );
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.counter("bankcards.scheduled-transfers", "outcome", outcome).count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
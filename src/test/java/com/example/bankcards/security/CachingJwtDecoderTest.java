@@ -0,0 +1,153 @@
+package com.example.bankcards.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.example.bankcards.util.TestData.TEST_TOKEN;
+import static com.example.bankcards.util.TestData.TEST_USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private JwtDecoder delegate;
+
+    @Mock
+    private Clock clock;
+
+    private CachingJwtDecoder decoder;
+
+    private Jwt jwt;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new CachingJwtDecoder(delegate, 2, CLOCK_SKEW, clock);
+        jwt = jwt(TEST_TOKEN, NOW.plus(TTL));
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .subject(TEST_USERNAME)
+                .issuedAt(NOW)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Nested
+    class DecodeTests {
+
+        @Test
+        void decode_WithRepeatedToken_ShouldDelegateOnce() {
+            when(clock.instant()).thenReturn(NOW);
+            when(delegate.decode(TEST_TOKEN)).thenReturn(jwt);
+
+            assertThat(decoder.decode(TEST_TOKEN)).isSameAs(jwt);
+            assertThat(decoder.decode(TEST_TOKEN)).isSameAs(jwt);
+
+            verify(delegate, times(1)).decode(TEST_TOKEN);
+        }
+
+        @Test
+        void decode_WithinClockSkewAfterExpiry_ShouldReturnCachedJwt() {
+            when(clock.instant()).thenReturn(NOW, NOW.plus(TTL).plus(CLOCK_SKEW));
+            when(delegate.decode(TEST_TOKEN)).thenReturn(jwt);
+
+            decoder.decode(TEST_TOKEN);
+            decoder.decode(TEST_TOKEN);
+
+            verify(delegate, times(1)).decode(TEST_TOKEN);
+        }
+
+        @Test
+        void decode_AfterExpiryAndClockSkew_ShouldDelegateAgain() {
+            BadJwtException expired = new BadJwtException("Jwt expired");
+            when(clock.instant()).thenReturn(NOW, NOW.plus(TTL).plus(CLOCK_SKEW).plusSeconds(1));
+            when(delegate.decode(TEST_TOKEN)).thenReturn(jwt).thenThrow(expired);
+
+            decoder.decode(TEST_TOKEN);
+
+            assertThatThrownBy(() -> decoder.decode(TEST_TOKEN)).isSameAs(expired);
+            assertThat(decoder.size()).isZero();
+        }
+
+        @Test
+        void decode_WhenDelegateFails_ShouldNotCache() {
+            BadJwtException invalid = new BadJwtException("Invalid signature");
+            when(clock.instant()).thenReturn(NOW);
+            when(delegate.decode(TEST_TOKEN)).thenThrow(invalid);
+
+            assertThatThrownBy(() -> decoder.decode(TEST_TOKEN)).isSameAs(invalid);
+            assertThatThrownBy(() -> decoder.decode(TEST_TOKEN)).isSameAs(invalid);
+
+            verify(delegate, times(2)).decode(TEST_TOKEN);
+        }
+
+        @Test
+        void decode_WhenFull_ShouldStayWithinMaxEntries() {
+            when(clock.instant()).thenReturn(NOW);
+            for (int i = 0; i < 5; i++) {
+                String token = TEST_TOKEN + i;
+                when(delegate.decode(token)).thenReturn(jwt(token, NOW.plus(TTL)));
+                decoder.decode(token);
+            }
+
+            assertThat(decoder.size()).isLessThanOrEqualTo(2);
+        }
+
+        @Test
+        void decode_WhenFullOfValidTokens_ShouldKeepThemAndNotCacheNewOnes() {
+            when(clock.instant()).thenReturn(NOW);
+            for (int i = 0; i < 3; i++) {
+                String token = TEST_TOKEN + i;
+                when(delegate.decode(token)).thenReturn(jwt(token, NOW.plus(TTL)));
+                decoder.decode(token);
+            }
+
+            decoder.decode(TEST_TOKEN + 0);
+            decoder.decode(TEST_TOKEN + 1);
+            decoder.decode(TEST_TOKEN + 2);
+
+            verify(delegate, times(1)).decode(TEST_TOKEN + 0);
+            verify(delegate, times(1)).decode(TEST_TOKEN + 1);
+            verify(delegate, times(2)).decode(TEST_TOKEN + 2);
+        }
+
+        @Test
+        void decode_WhenFullAndTokensExpired_ShouldMakeRoomForNewOnes() {
+            when(clock.instant()).thenReturn(NOW);
+            for (int i = 0; i < 2; i++) {
+                String token = TEST_TOKEN + i;
+                when(delegate.decode(token)).thenReturn(jwt(token, NOW.plusSeconds(1)));
+                decoder.decode(token);
+            }
+            Instant later = NOW.plus(CLOCK_SKEW).plus(TTL);
+            when(clock.instant()).thenReturn(later);
+            when(delegate.decode(TEST_TOKEN)).thenReturn(jwt(TEST_TOKEN, later.plus(TTL)));
+
+            decoder.decode(TEST_TOKEN);
+            decoder.decode(TEST_TOKEN);
+
+            verify(delegate, times(1)).decode(TEST_TOKEN);
+            assertThat(decoder.size()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.bankcards.security;
+
+import com.example.bankcards.entity.RefreshToken;
+import com.example.bankcards.service.domain.RefreshTokenDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static com.example.bankcards.util.TestData.TEST_SESSION_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final long ACCESS_TOKEN_SECONDS = 900;
+
+    @Mock
+    private RefreshTokenDomainService refreshTokenDomainService;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(
+                refreshTokenDomainService, ACCESS_TOKEN_SECONDS, Duration.ofSeconds(60), 1000
+        );
+    }
+
+    @Nested
+    class IsRevokedTests {
+
+        @Test
+        void isRevoked_WhenNothingRevoked_ShouldReturnFalse() {
+            assertThat(tokenRevocationService.isRevoked(TEST_SESSION_ID)).isFalse();
+        }
+
+        @Test
+        void isRevoked_AfterLocalRevoke_ShouldReturnTrue() {
+            tokenRevocationService.revoke(List.of(TEST_SESSION_ID), Instant.now());
+
+            assertThat(tokenRevocationService.isRevoked(TEST_SESSION_ID)).isTrue();
+            assertThat(tokenRevocationService.isRevoked(TEST_SESSION_ID + 1)).isFalse();
+        }
+
+        @Test
+        void isRevoked_WhenRevokedInsideTransaction_ShouldReturnTrueOnlyAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                tokenRevocationService.revoke(List.of(TEST_SESSION_ID), Instant.now());
+
+                assertThat(tokenRevocationService.isRevoked(TEST_SESSION_ID)).isFalse();
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                assertThat(tokenRevocationService.isRevoked(TEST_SESSION_ID)).isTrue();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        void isRevoked_WhenRevokingTransactionRollsBack_ShouldReturnFalse() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                tokenRevocationService.revoke(List.of(TEST_SESSION_ID), Instant.now());
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                        synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+                assertThat(tokenRevocationService.isRevoked(TEST_SESSION_ID)).isFalse();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+
+    @Nested
+    class RebuildTests {
+
+        @Test
+        void rebuild_ShouldLoadSessionsRevokedInDatabase() {
+            RefreshToken revoked = RefreshToken.builder()
+                    .id(TEST_SESSION_ID)
+                    .revokedAt(Instant.now())
+                    .build();
+            when(refreshTokenDomainService.getRevokedSince(any())).thenReturn(List.of(revoked));
+
+            tokenRevocationService.rebuild();
+
+            assertThat(tokenRevocationService.isRevoked(TEST_SESSION_ID)).isTrue();
+        }
+
+        @Test
+        void rebuild_ShouldKeepRecentLocalRevocationsAndDropExpiredOnes() {
+            long recent = TEST_SESSION_ID;
+            long stale = TEST_SESSION_ID + 1;
+            tokenRevocationService.revoke(List.of(recent), Instant.now());
+            tokenRevocationService.revoke(List.of(stale), Instant.now().minusSeconds(ACCESS_TOKEN_SECONDS * 2));
+            when(refreshTokenDomainService.getRevokedSince(any())).thenReturn(List.of());
+
+            tokenRevocationService.rebuild();
+
+            assertThat(tokenRevocationService.isRevoked(recent)).isTrue();
+            assertThat(tokenRevocationService.isRevoked(stale)).isFalse();
+        }
+
+        @Test
+        void rebuild_ConcurrentWithRevocations_ShouldKeepEveryRevocation() throws Exception {
+            int sessions = 20_000;
+            when(refreshTokenDomainService.getRevokedSince(any())).thenReturn(List.of());
+            AtomicBoolean revoking = new AtomicBoolean(true);
+            Thread rebuilder = new Thread(() -> {
+                while (revoking.get()) {
+                    tokenRevocationService.rebuild();
+                }
+            });
+
+            rebuilder.start();
+            try {
+                for (long sessionId = 1; sessionId <= sessions; sessionId++) {
+                    tokenRevocationService.revoke(List.of(sessionId), Instant.now());
+                }
+            } finally {
+                revoking.set(false);
+                rebuilder.join();
+            }
+
+            assertThat(LongStream.rangeClosed(1, sessions).filter(id -> !tokenRevocationService.isRevoked(id)))
+                    .isEmpty();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.bankcards.service.application;
+
+import com.example.bankcards.dto.request.RefreshTokenRequest;
+import com.example.bankcards.dto.response.LoginResponse;
+import com.example.bankcards.dto.response.UserAuthResponse;
+import com.example.bankcards.entity.RefreshToken;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.enums.Role;
+import com.example.bankcards.exception.unauthorized.InvalidRefreshTokenException;
+import com.example.bankcards.exception.unauthorized.RefreshTokenReusedException;
+import com.example.bankcards.mapper.UserMapper;
+import com.example.bankcards.security.CustomUserDetails;
+import com.example.bankcards.security.JwtService;
+import com.example.bankcards.security.TokenRevocationService;
+import com.example.bankcards.service.domain.RefreshTokenDomainService;
+import com.example.bankcards.service.domain.UserDomainService;
+import com.example.bankcards.util.RefreshTokenGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.example.bankcards.util.TestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthApplicationServiceTest {
+
+    @Mock
+    private UserDomainService userDomainService;
+
+    @Spy
+    private UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    @Mock
+    private RefreshTokenDomainService refreshTokenDomainService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private AuthApplicationService applicationService;
+
+    private User user;
+    private CustomUserDetails userDetails;
+    private RefreshToken session;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(TEST_USER_ID)
+                .username(TEST_USERNAME)
+                .passwordHash(TEST_PASSWORD_HASH)
+                .role(Role.USER)
+                .build();
+
+        userDetails = CustomUserDetails.from(new UserAuthResponse(
+                TEST_USER_ID,
+                TEST_USERNAME,
+                TEST_PASSWORD_HASH,
+                true,
+                Role.USER
+        ));
+
+        session = RefreshToken.builder()
+                .id(TEST_SESSION_ID)
+                .user(user)
+                .tokenHash(RefreshTokenGenerator.hash(TEST_REFRESH_TOKEN))
+                .createdAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    @Nested
+    class LoginTests {
+
+        @Test
+        void login_ShouldCreateSessionAndReturnTokens() {
+            when(userDomainService.getUserById(TEST_USER_ID)).thenReturn(user);
+            when(refreshTokenDomainService.createRefreshToken(eq(user), anyString(), any(), any()))
+                    .thenReturn(session);
+            when(jwtService.generateToken(userDetails, TEST_SESSION_ID)).thenReturn(TEST_TOKEN);
+
+            LoginResponse result = applicationService.login(userDetails);
+
+            assertThat(result.username()).isEqualTo(TEST_USERNAME);
+            assertThat(result.role()).isEqualTo(Role.USER);
+            assertThat(result.token()).isEqualTo(TEST_TOKEN);
+            assertThat(result.refreshToken()).isNotBlank();
+            verify(refreshTokenDomainService).createRefreshToken(
+                    eq(user), eq(RefreshTokenGenerator.hash(result.refreshToken())), any(), any()
+            );
+        }
+    }
+
+    @Nested
+    class RefreshTests {
+
+        @Test
+        void refresh_WithActiveToken_ShouldRotateAndReturnNewTokens() {
+            when(refreshTokenDomainService.getActiveByTokenHash(
+                    eq(RefreshTokenGenerator.hash(TEST_REFRESH_TOKEN)), any())
+            ).thenReturn(session);
+            when(refreshTokenDomainService.rotate(eq(session), anyString(), any(), any())).thenReturn(session);
+            when(jwtService.generateToken(any(CustomUserDetails.class), eq(TEST_SESSION_ID))).thenReturn(TEST_TOKEN);
+
+            LoginResponse result = applicationService.refresh(new RefreshTokenRequest(TEST_REFRESH_TOKEN));
+
+            assertThat(result.username()).isEqualTo(TEST_USERNAME);
+            assertThat(result.token()).isEqualTo(TEST_TOKEN);
+            assertThat(result.refreshToken()).isNotEqualTo(TEST_REFRESH_TOKEN);
+            verify(refreshTokenDomainService).rotate(
+                    eq(session), eq(RefreshTokenGenerator.hash(result.refreshToken())), any(), any()
+            );
+        }
+
+        @Test
+        void refresh_WithInvalidToken_ShouldThrowInvalidRefreshTokenException() {
+            when(refreshTokenDomainService.getActiveByTokenHash(anyString(), any()))
+                    .thenThrow(new InvalidRefreshTokenException("Refresh token is invalid"));
+
+            assertThatThrownBy(() ->
+                    applicationService.refresh(new RefreshTokenRequest(TEST_REFRESH_TOKEN))
+            ).isInstanceOf(InvalidRefreshTokenException.class);
+
+            verify(refreshTokenDomainService, never()).rotate(any(), anyString(), any(), any());
+            verify(jwtService, never()).generateToken(any(), any());
+            verifyNoInteractions(tokenRevocationService);
+        }
+
+        @Test
+        void refresh_WithReusedToken_ShouldRevokeSessionAccessTokens() {
+            when(refreshTokenDomainService.getActiveByTokenHash(anyString(), any()))
+                    .thenThrow(new RefreshTokenReusedException("Refresh token has already been used", TEST_SESSION_ID));
+
+            assertThatThrownBy(() ->
+                    applicationService.refresh(new RefreshTokenRequest(TEST_REFRESH_TOKEN))
+            ).isInstanceOf(RefreshTokenReusedException.class);
+
+            verify(tokenRevocationService).revoke(eq(List.of(TEST_SESSION_ID)), any());
+            verify(refreshTokenDomainService, never()).rotate(any(), anyString(), any(), any());
+            verify(jwtService, never()).generateToken(any(), any());
+        }
+    }
+}
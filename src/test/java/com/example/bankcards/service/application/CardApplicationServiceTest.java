@@ -1,5 +1,8 @@
 package com.example.bankcards.service.application;
 
+import com.example.bankcards.audit.AuditAction;
+import com.example.bankcards.audit.AuditLog;
+import com.example.bankcards.config.FxProperties;
 import com.example.bankcards.dto.request.CardCreateRequest;
 import com.example.bankcards.dto.response.CardResponse;
 import com.example.bankcards.dto.response.UserResponse;
@@ -13,14 +16,17 @@ import com.example.bankcards.exception.forbidden.CardAccessDeniedException;
 import com.example.bankcards.exception.notfound.CardNotFoundException;
 import com.example.bankcards.mapper.CardMapper;
 import com.example.bankcards.mapper.UserMapper;
+import com.example.bankcards.repository.projection.CardVersion;
 import com.example.bankcards.service.domain.CardDomainService;
 import com.example.bankcards.service.domain.UserDomainService;
 import com.example.bankcards.util.CardNumberHasher;
+import com.example.bankcards.util.ETags;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -30,7 +36,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import static com.example.bankcards.util.TestData.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,6 +65,12 @@ class CardApplicationServiceTest {
     @Mock
     private CardNumberHasher cardNumberHasher;
 
+    @Mock
+    private AuditLog auditLog;
+
+    @Spy
+    private FxProperties fxProperties = new FxProperties(TEST_CURRENCY, Duration.ofMinutes(1), Duration.ofHours(24));
+
     @InjectMocks
     private CardApplicationService applicationService;
 
@@ -71,6 +86,7 @@ class CardApplicationServiceTest {
                 .id(TEST_USER_ID)
                 .username(TEST_USERNAME)
                 .role(Role.USER)
+                .version(TEST_VERSION)
                 .build();
 
         card = Card.builder()
@@ -80,20 +96,24 @@ class CardApplicationServiceTest {
                 .owner(user)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(POSITIVE_BALANCE)
+                .balance(CARD_BALANCE)
+                .currency(TEST_CURRENCY)
+                .version(TEST_VERSION)
                 .build();
 
         cardCreateRequest = new CardCreateRequest(
                 TEST_CARD_NUMBER,
                 TEST_USER_ID,
                 FUTURE_DATE,
-                POSITIVE_BALANCE
+                POSITIVE_BALANCE,
+                TEST_CURRENCY_CODE
         );
 
         userResponse = new UserResponse(
                 TEST_USER_ID,
                 TEST_USERNAME,
-                Role.USER
+                Role.USER,
+                TEST_VERSION
         );
 
         cardResponse = new CardResponse(
@@ -101,7 +121,9 @@ class CardApplicationServiceTest {
                 MASKED_CARD_NUMBER,
                 FUTURE_DATE,
                 CardStatus.ACTIVE,
-                POSITIVE_BALANCE
+                POSITIVE_BALANCE,
+                TEST_CURRENCY_CODE,
+                TEST_VERSION
         );
     }
 
@@ -120,6 +142,23 @@ class CardApplicationServiceTest {
             verify(userDomainService).getUserById(user.getId());
             verify(cardNumberHasher).hash(card.getCardNumber());
             verify(cardDomainService).createCard(any(Card.class));
+            verify(auditLog).record(AuditAction.CARD_CREATED, TEST_CARD_ID, null, "ACTIVE");
+        }
+
+        @Test
+        void createCard_WithoutCurrency_ShouldUseDefaultCurrency() {
+            CardCreateRequest request = new CardCreateRequest(
+                    TEST_CARD_NUMBER, TEST_USER_ID, FUTURE_DATE, POSITIVE_BALANCE, null
+            );
+            when(userDomainService.getUserById(user.getId())).thenReturn(user);
+            when(cardNumberHasher.hash(card.getCardNumber())).thenReturn(CARD_NUMBER_HASH);
+            when(cardDomainService.createCard(any(Card.class))).thenReturn(card);
+
+            applicationService.createCard(request);
+
+            ArgumentCaptor<Card> captor = ArgumentCaptor.forClass(Card.class);
+            verify(cardDomainService).createCard(captor.capture());
+            assertThat(captor.getValue().getCurrency()).isEqualTo(TEST_CURRENCY);
         }
 
         @Test
@@ -233,6 +272,65 @@ class CardApplicationServiceTest {
         }
     }
 
+    @Nested
+    class GetCardETagForUserTests {
+
+        @Test
+        void getCardETagForUser_WhenUserIsOwner_ShouldReturnETag() {
+            when(cardDomainService.getCardVersionById(TEST_CARD_ID)).thenReturn(Optional.of(cardVersion(FUTURE_DATE)));
+
+            Optional<String> result = applicationService.getCardETagForUser(TEST_CARD_ID, TEST_USERNAME);
+
+            assertThat(result).contains(ETags.card(TEST_CARD_ID, TEST_VERSION));
+            verify(cardDomainService, never()).getCardById(anyLong());
+            verify(userDomainService, never()).getByUsername(anyString());
+        }
+
+        @Test
+        void getCardETagForUser_WhenUserIsAdmin_ShouldReturnETag() {
+            User admin = User.builder().username("admin").role(Role.ADMIN).build();
+            when(cardDomainService.getCardVersionById(TEST_CARD_ID)).thenReturn(Optional.of(cardVersion(FUTURE_DATE)));
+            when(userDomainService.getByUsername(admin.getUsername())).thenReturn(admin);
+
+            Optional<String> result = applicationService.getCardETagForUser(TEST_CARD_ID, admin.getUsername());
+
+            assertThat(result).contains(ETags.card(TEST_CARD_ID, TEST_VERSION));
+        }
+
+        @Test
+        void getCardETagForUser_WhenUserIsNotOwner_ShouldReturnEmpty() {
+            User other = User.builder().username("other").role(Role.USER).build();
+            when(cardDomainService.getCardVersionById(TEST_CARD_ID)).thenReturn(Optional.of(cardVersion(FUTURE_DATE)));
+            when(userDomainService.getByUsername(other.getUsername())).thenReturn(other);
+
+            Optional<String> result = applicationService.getCardETagForUser(TEST_CARD_ID, other.getUsername());
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        void getCardETagForUser_WhenCardNotFound_ShouldReturnEmpty() {
+            when(cardDomainService.getCardVersionById(TEST_CARD_ID)).thenReturn(Optional.empty());
+
+            Optional<String> result = applicationService.getCardETagForUser(TEST_CARD_ID, TEST_USERNAME);
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        void getCardETagForUser_WhenCardIsDueToExpire_ShouldReturnEmpty() {
+            when(cardDomainService.getCardVersionById(TEST_CARD_ID)).thenReturn(Optional.of(cardVersion(PAST_DATE)));
+
+            Optional<String> result = applicationService.getCardETagForUser(TEST_CARD_ID, TEST_USERNAME);
+
+            assertThat(result).isEmpty();
+        }
+
+        private CardVersion cardVersion(LocalDate expiryDate) {
+            return new CardVersion(TEST_CARD_ID, TEST_VERSION, expiryDate, CardStatus.ACTIVE, TEST_USERNAME);
+        }
+    }
+
     @Nested
     class GetCardsForUserTests {
 
@@ -276,14 +374,17 @@ class CardApplicationServiceTest {
 
         @Test
         void blockCardById_WhenUserIsOwner_ShouldReturnBlockedCardResponse() {
-            card.setCardStatus(CardStatus.BLOCKED);
             when(cardDomainService.getCardById(card.getId())).thenReturn(card);
-            when(cardDomainService.blockCard(card)).thenReturn(card);
+            when(cardDomainService.blockCard(card)).thenAnswer(invocation -> {
+                card.setCardStatus(CardStatus.BLOCKED);
+                return card;
+            });
 
             CardResponse result = applicationService.blockCardById(card.getId(), TEST_USERNAME);
 
             assertThat(result.cardStatus()).isEqualTo(CardStatus.BLOCKED);
             verify(cardDomainService).blockCard(card);
+            verify(auditLog).record(AuditAction.CARD_BLOCKED, TEST_CARD_ID, "ACTIVE", "BLOCKED");
         }
 
         @Test
@@ -326,6 +427,7 @@ class CardApplicationServiceTest {
                     applicationService.blockCardById(card.getId(), TEST_USERNAME)
             ).isInstanceOf(CardOperationNotAllowedException.class)
                     .hasMessageContaining(expectedMessage);
+            verifyNoInteractions(auditLog);
         }
     }
 
@@ -341,6 +443,7 @@ class CardApplicationServiceTest {
 
             assertThat(result).isEqualTo(cardResponse);
             verify(cardDomainService).activateCard(card);
+            verify(auditLog).record(AuditAction.CARD_ACTIVATED, TEST_CARD_ID, "ACTIVE", "ACTIVE");
         }
 
         @Test
@@ -384,6 +487,7 @@ class CardApplicationServiceTest {
             applicationService.deleteCardById(card.getId());
 
             verify(cardDomainService).deleteCard(card);
+            verify(auditLog).record(AuditAction.CARD_DELETED, TEST_CARD_ID, "BLOCKED", null);
         }
 
         @Test
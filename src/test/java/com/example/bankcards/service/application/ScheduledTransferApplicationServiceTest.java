@@ -0,0 +1,175 @@
+package com.example.bankcards.service.application;
+
+import com.example.bankcards.dto.request.ScheduledTransferCreateRequest;
+import com.example.bankcards.dto.response.ScheduledTransferResponse;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.ScheduledTransfer;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.enums.Role;
+import com.example.bankcards.enums.ScheduledTransferStatus;
+import com.example.bankcards.enums.TransferRecurrence;
+import com.example.bankcards.exception.notfound.CardNotFoundException;
+import com.example.bankcards.exception.notfound.ScheduledTransferNotFoundException;
+import com.example.bankcards.mapper.ScheduledTransferMapper;
+import com.example.bankcards.service.domain.CardDomainService;
+import com.example.bankcards.service.domain.ScheduledTransferDomainService;
+import com.example.bankcards.service.domain.UserDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static com.example.bankcards.util.TestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledTransferApplicationServiceTest {
+
+    private static final Long TEST_SCHEDULED_TRANSFER_ID = 7L;
+
+    private static final Instant FIRST_RUN_AT = Instant.parse("2030-01-01T09:00:00Z");
+
+    @Mock
+    private UserDomainService userDomainService;
+
+    @Mock
+    private CardDomainService cardDomainService;
+
+    @Mock
+    private ScheduledTransferDomainService scheduledTransferDomainService;
+
+    @Spy
+    private ScheduledTransferMapper scheduledTransferMapper = Mappers.getMapper(ScheduledTransferMapper.class);
+
+    @InjectMocks
+    private ScheduledTransferApplicationService applicationService;
+
+    private User user;
+    private Card fromCard;
+    private Card toCard;
+    private ScheduledTransfer scheduledTransfer;
+    private ScheduledTransferCreateRequest request;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(TEST_USER_ID)
+                .username(TEST_USERNAME)
+                .role(Role.USER)
+                .build();
+
+        fromCard = Card.builder()
+                .id(TEST_CARD_ID)
+                .owner(user)
+                .expiryDate(FUTURE_DATE)
+                .cardStatus(CardStatus.ACTIVE)
+                .balance(CARD_BALANCE)
+                .currency(TEST_CURRENCY)
+                .build();
+
+        toCard = Card.builder()
+                .id(TEST_CARD_ID_2)
+                .owner(user)
+                .expiryDate(FUTURE_DATE)
+                .cardStatus(CardStatus.ACTIVE)
+                .balance(CARD_BALANCE)
+                .currency(TEST_CURRENCY)
+                .build();
+
+        scheduledTransfer = ScheduledTransfer.builder()
+                .id(TEST_SCHEDULED_TRANSFER_ID)
+                .ownerId(TEST_USER_ID)
+                .fromCardId(TEST_CARD_ID)
+                .toCardId(TEST_CARD_ID_2)
+                .amount(money("10.00"))
+                .recurrence(TransferRecurrence.WEEKLY)
+                .status(ScheduledTransferStatus.ACTIVE)
+                .nextRunAt(FIRST_RUN_AT)
+                .nextAttemptAt(FIRST_RUN_AT)
+                .build();
+
+        request = new ScheduledTransferCreateRequest(
+                TEST_CARD_ID,
+                TEST_CARD_ID_2,
+                new BigDecimal("10.00"),
+                TransferRecurrence.WEEKLY,
+                FIRST_RUN_AT
+        );
+    }
+
+    @Nested
+    class CreateTests {
+
+        @Test
+        void create_WithOwnCards_ShouldReturnScheduledTransfer() {
+            when(userDomainService.getByUsername(TEST_USERNAME)).thenReturn(user);
+            when(cardDomainService.getCardByIdAndByOwnerId(TEST_CARD_ID, TEST_USER_ID)).thenReturn(fromCard);
+            when(cardDomainService.getCardByIdAndByOwnerId(TEST_CARD_ID_2, TEST_USER_ID)).thenReturn(toCard);
+            when(scheduledTransferDomainService.create(
+                    fromCard, toCard, money("10.00"), TransferRecurrence.WEEKLY, FIRST_RUN_AT
+            )).thenReturn(scheduledTransfer);
+
+            ScheduledTransferResponse response = applicationService.create(TEST_USERNAME, request);
+
+            assertThat(response.id()).isEqualTo(TEST_SCHEDULED_TRANSFER_ID);
+            assertThat(response.amount()).isEqualByComparingTo("10.00");
+            assertThat(response.recurrence()).isEqualTo(TransferRecurrence.WEEKLY);
+            assertThat(response.status()).isEqualTo(ScheduledTransferStatus.ACTIVE);
+            assertThat(response.nextRunAt()).isEqualTo(FIRST_RUN_AT);
+        }
+
+        @Test
+        void create_WhenCardNotOwned_ShouldThrowCardNotFoundException() {
+            when(userDomainService.getByUsername(TEST_USERNAME)).thenReturn(user);
+            when(cardDomainService.getCardByIdAndByOwnerId(TEST_CARD_ID, TEST_USER_ID)).thenReturn(fromCard);
+            when(cardDomainService.getCardByIdAndByOwnerId(TEST_CARD_ID_2, TEST_USER_ID))
+                    .thenThrow(new CardNotFoundException("Card not found or does not belong to the user"));
+
+            assertThatThrownBy(() -> applicationService.create(TEST_USERNAME, request))
+                    .isInstanceOf(CardNotFoundException.class);
+
+            verify(scheduledTransferDomainService, never()).create(any(), any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    class CancelTests {
+
+        @Test
+        void cancel_WhenOwned_ShouldCancel() {
+            when(userDomainService.getByUsername(TEST_USERNAME)).thenReturn(user);
+            when(scheduledTransferDomainService.getByIdAndOwnerId(TEST_SCHEDULED_TRANSFER_ID, TEST_USER_ID))
+                    .thenReturn(scheduledTransfer);
+
+            applicationService.cancel(TEST_USERNAME, TEST_SCHEDULED_TRANSFER_ID);
+
+            verify(scheduledTransferDomainService).cancel(scheduledTransfer);
+        }
+
+        @Test
+        void cancel_WhenNotOwned_ShouldThrowScheduledTransferNotFoundException() {
+            when(userDomainService.getByUsername(TEST_USERNAME)).thenReturn(user);
+            when(scheduledTransferDomainService.getByIdAndOwnerId(TEST_SCHEDULED_TRANSFER_ID, TEST_USER_ID))
+                    .thenThrow(new ScheduledTransferNotFoundException(
+                            "Scheduled transfer not found or does not belong to the user"
+                    ));
+
+            assertThatThrownBy(() -> applicationService.cancel(TEST_USERNAME, TEST_SCHEDULED_TRANSFER_ID))
+                    .isInstanceOf(ScheduledTransferNotFoundException.class);
+
+            verify(scheduledTransferDomainService, never()).cancel(any());
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.example.bankcards.enums.Role;
 import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
 import com.example.bankcards.exception.forbidden.CardAccessDeniedException;
 import com.example.bankcards.exception.notfound.UserNotFoundException;
+import com.example.bankcards.money.Money;
 import com.example.bankcards.service.domain.CardDomainService;
 import com.example.bankcards.service.domain.TransferDomainService;
 import com.example.bankcards.service.domain.UserDomainService;
@@ -60,7 +61,7 @@ class TransferApplicationServiceTest {
                 .owner(user)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(new BigDecimal("1000.00"))
+                .balance(money("1000.00"))
                 .build();
 
         toCard = Card.builder()
@@ -70,7 +71,7 @@ class TransferApplicationServiceTest {
                 .owner(user)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(new BigDecimal("500.00"))
+                .balance(money("500.00"))
                 .build();
 
         transferRequest = new TransferRequest(
@@ -87,14 +88,14 @@ class TransferApplicationServiceTest {
             when(userDomainService.getByUsername(user.getUsername())).thenReturn(user);
             when(cardDomainService.getCardByIdAndByOwnerId(fromCard.getId(), user.getId())).thenReturn(fromCard);
             when(cardDomainService.getCardByIdAndByOwnerId(toCard.getId(), user.getId())).thenReturn(toCard);
-            doNothing().when(transferDomainService).transfer(fromCard, toCard, transferRequest.amount());
+            doNothing().when(transferDomainService).transfer(fromCard, toCard, Money.of(transferRequest.amount()));
 
             applicationService.transfer(user.getUsername(), transferRequest);
 
             verify(userDomainService).getByUsername(user.getUsername());
             verify(cardDomainService).getCardByIdAndByOwnerId(fromCard.getId(), user.getId());
             verify(cardDomainService).getCardByIdAndByOwnerId(toCard.getId(), user.getId());
-            verify(transferDomainService).transfer(fromCard, toCard, transferRequest.amount());
+            verify(transferDomainService).transfer(fromCard, toCard, Money.of(transferRequest.amount()));
         }
 
         @Test
@@ -231,5 +232,16 @@ class TransferApplicationServiceTest {
             ).isInstanceOf(CardAccessDeniedException.class)
                     .hasMessageContaining("Card does not belong to user");
         }
+
+        @Test
+        void transfer_ByOwnerId_ShouldNotLookUpUser() {
+            when(cardDomainService.getCardByIdAndByOwnerId(fromCard.getId(), user.getId())).thenReturn(fromCard);
+            when(cardDomainService.getCardByIdAndByOwnerId(toCard.getId(), user.getId())).thenReturn(toCard);
+
+            applicationService.transfer(user.getId(), fromCard.getId(), toCard.getId(), money("100.00"));
+
+            verifyNoInteractions(userDomainService);
+            verify(transferDomainService).transfer(fromCard, toCard, money("100.00"));
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.bankcards.service.application;
 
+import com.example.bankcards.audit.AuditAction;
+import com.example.bankcards.audit.AuditLog;
 import com.example.bankcards.dto.request.UserCreateRequest;
 import com.example.bankcards.dto.request.UserPasswordUpdateRequest;
 import com.example.bankcards.dto.request.UserUpdateRequest;
@@ -15,7 +17,9 @@ import com.example.bankcards.exception.conflict.UserAlreadyExistsException;
 import com.example.bankcards.exception.notfound.UserNotFoundException;
 import com.example.bankcards.mapper.CardMapper;
 import com.example.bankcards.mapper.UserMapper;
+import com.example.bankcards.security.TokenRevocationService;
 import com.example.bankcards.service.domain.CardDomainService;
+import com.example.bankcards.service.domain.RefreshTokenDomainService;
 import com.example.bankcards.service.domain.UserDomainService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -59,6 +63,15 @@ class UserApplicationServiceTest {
     @Spy
     private CardMapper cardMapper = Mappers.getMapper(CardMapper.class);
 
+    @Mock
+    private RefreshTokenDomainService refreshTokenDomainService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private AuditLog auditLog;
+
     @InjectMocks
     private UserApplicationService applicationService;
 
@@ -78,6 +91,7 @@ class UserApplicationServiceTest {
                 .username(TEST_USERNAME)
                 .passwordHash(TEST_PASSWORD_HASH)
                 .role(Role.USER)
+                .version(TEST_VERSION)
                 .build();
 
         card = Card.builder()
@@ -87,7 +101,9 @@ class UserApplicationServiceTest {
                 .owner(user)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(POSITIVE_BALANCE)
+                .balance(CARD_BALANCE)
+                .currency(TEST_CURRENCY)
+                .version(TEST_VERSION)
                 .build();
 
         userCreateRequest = new UserCreateRequest(
@@ -107,7 +123,8 @@ class UserApplicationServiceTest {
         userResponse = new UserResponse(
                 TEST_USER_ID,
                 TEST_USERNAME,
-                Role.USER
+                Role.USER,
+                TEST_VERSION
         );
 
         userAuthResponse = new UserAuthResponse(
@@ -123,7 +140,9 @@ class UserApplicationServiceTest {
                 MASKED_CARD_NUMBER,
                 FUTURE_DATE,
                 CardStatus.ACTIVE,
-                POSITIVE_BALANCE
+                POSITIVE_BALANCE,
+                TEST_CURRENCY_CODE,
+                TEST_VERSION
         );
     }
 
@@ -140,6 +159,7 @@ class UserApplicationServiceTest {
             assertThat(result).isEqualTo(userResponse);
             verify(passwordEncoder).encode(TEST_USER_PASSWORD);
             verify(userDomainService).createUser(any(User.class));
+            verify(auditLog).record(AuditAction.USER_CREATED, TEST_USER_ID, null, TEST_USERNAME);
         }
 
         @Test
@@ -258,7 +278,7 @@ class UserApplicationServiceTest {
 
         @Test
         void updateUser_WithNewUsername_ShouldReturnUpdatedUserResponse() {
-            UserResponse updatedResponse = new UserResponse(user.getId(), NEW_USERNAME, Role.USER);
+            UserResponse updatedResponse = new UserResponse(user.getId(), NEW_USERNAME, Role.USER, TEST_VERSION);
             user.setUsername(NEW_USERNAME);
             when(userDomainService.getUserById(user.getId())).thenReturn(user);
             when(userDomainService.updateUsername(user, user.getUsername())).thenReturn(user);
@@ -269,6 +289,7 @@ class UserApplicationServiceTest {
             assertThat(result.username()).isEqualTo(user.getUsername());
 
             verify(userDomainService).updateUsername(user, user.getUsername());
+            verify(auditLog).record(eq(AuditAction.USER_RENAMED), eq(TEST_USER_ID), any(), eq(NEW_USERNAME));
         }
 
         @Test
@@ -315,12 +336,16 @@ class UserApplicationServiceTest {
         void updateUserPassword_WithValidRequest_ShouldUpdatePassword() {
             when(userDomainService.getUserById(user.getId())).thenReturn(user);
             when(passwordEncoder.encode(NEW_USER_PASSWORD)).thenReturn(user.getPasswordHash());
+            when(refreshTokenDomainService.revokeAllForUser(eq(user), any())).thenReturn(List.of(TEST_SESSION_ID));
 
             applicationService.updateUserPassword(TEST_USER_ID, userPasswordUpdateRequest);
 
             verify(userDomainService).getUserById(user.getId());
             verify(userDomainService).saveUser(user);
             verify(passwordEncoder).encode(NEW_USER_PASSWORD);
+            verify(refreshTokenDomainService).revokeAllForUser(eq(user), any());
+            verify(tokenRevocationService).revoke(eq(List.of(TEST_SESSION_ID)), any());
+            verify(auditLog).record(AuditAction.USER_PASSWORD_CHANGED, TEST_USER_ID, null, null);
         }
 
         @Test
@@ -338,6 +363,7 @@ class UserApplicationServiceTest {
             verify(userDomainService).getUserById(user.getId());
             verify(userDomainService, never()).saveUser(user);
             verify(passwordEncoder, never()).encode(NEW_USER_PASSWORD);
+            verify(tokenRevocationService, never()).revoke(any(), any());
         }
     }
 
@@ -365,6 +391,7 @@ class UserApplicationServiceTest {
             applicationService.deleteUserById(TEST_USER_ID);
 
             verify(userDomainService).deleteUserById(TEST_USER_ID);
+            verify(auditLog).record(AuditAction.USER_DELETED, TEST_USER_ID, null, null);
         }
 
         @Test
@@ -378,6 +405,7 @@ class UserApplicationServiceTest {
                     applicationService.deleteUserById(TEST_USER_ID)
             ).isInstanceOf(UserOperationNotAllowedException.class)
                     .hasMessageContaining(expectedMessage);
+            verifyNoInteractions(auditLog);
         }
     }
 }
\ No newline at end of file
@@ -4,10 +4,15 @@ import com.example.bankcards.entity.Card;
 import com.example.bankcards.entity.User;
 import com.example.bankcards.enums.CardStatus;
 import com.example.bankcards.enums.Role;
+import com.example.bankcards.event.CardCreatedEvent;
+import com.example.bankcards.event.CardDeletedEvent;
+import com.example.bankcards.event.CardStatusChangedEvent;
 import com.example.bankcards.exception.badrequest.CardDataNotValidException;
 import com.example.bankcards.exception.badrequest.CardOperationNotAllowedException;
 import com.example.bankcards.exception.conflict.CardAlreadyExistsException;
 import com.example.bankcards.exception.notfound.CardNotFoundException;
+import com.example.bankcards.money.Money;
+import com.example.bankcards.outbox.OutboxPublisher;
 import com.example.bankcards.repository.CardRepository;
 import com.example.bankcards.validator.CardValidator;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +27,6 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +44,9 @@ class CardDomainServiceTest {
     @Mock
     private CardRepository cardRepository;
 
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
     @InjectMocks
     private CardDomainService cardDomainService;
 
@@ -62,13 +69,12 @@ class CardDomainServiceTest {
                 .owner(user)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(POSITIVE_BALANCE)
+                .balance(CARD_BALANCE)
                 .build();
 
         user.getCards().add(card);
     }
 
-
     @Nested
     class CreateCardTests {
 
@@ -82,6 +88,9 @@ class CardDomainServiceTest {
             assertThat(result).isEqualTo(card);
             verify(cardValidator).validateForCreate(card);
             verify(cardRepository).save(card);
+            verify(outboxPublisher).publish(new CardCreatedEvent(
+                    TEST_CARD_ID, TEST_USER_ID, CardStatus.ACTIVE, POSITIVE_BALANCE
+            ));
         }
 
         @Test
@@ -124,6 +133,7 @@ class CardDomainServiceTest {
                     cardDomainService.createCard(card)
             ).isInstanceOf(CardAlreadyExistsException.class)
                     .hasMessageContaining(expectedMessage);
+            verifyNoInteractions(outboxPublisher);
         }
     }
 
@@ -254,6 +264,9 @@ class CardDomainServiceTest {
 
             assertThat(result.getCardStatus()).isEqualTo(CardStatus.BLOCKED);
             verify(cardValidator).validateForBlock(card);
+            verify(outboxPublisher).publish(new CardStatusChangedEvent(
+                    TEST_CARD_ID, TEST_USER_ID, CardStatus.ACTIVE, CardStatus.BLOCKED
+            ));
         }
 
         @Test
@@ -268,6 +281,7 @@ class CardDomainServiceTest {
                     cardDomainService.blockCard(card)
             ).isInstanceOf(CardOperationNotAllowedException.class)
                     .hasMessageContaining(expectedMessage);
+            verifyNoInteractions(outboxPublisher);
         }
     }
 
@@ -283,6 +297,9 @@ class CardDomainServiceTest {
 
             assertThat(result.getCardStatus()).isEqualTo(CardStatus.ACTIVE);
             verify(cardValidator).validateForActivate(card);
+            verify(outboxPublisher).publish(new CardStatusChangedEvent(
+                    TEST_CARD_ID, TEST_USER_ID, CardStatus.BLOCKED, CardStatus.ACTIVE
+            ));
         }
 
         @Test
@@ -303,7 +320,7 @@ class CardDomainServiceTest {
 
         @Test
         void deleteCard_WithBlockedCardAndZeroBalance_ShouldDeleteCard() {
-            card.setBalance(BigDecimal.ZERO);
+            card.setBalance(Money.ZERO);
             card.setCardStatus(CardStatus.BLOCKED);
 
             doNothing().when(cardValidator).validateForDelete(card);
@@ -313,6 +330,7 @@ class CardDomainServiceTest {
 
             verify(cardValidator).validateForDelete(card);
             verify(cardRepository).delete(card);
+            verify(outboxPublisher).publish(new CardDeletedEvent(TEST_CARD_ID, TEST_USER_ID));
         }
 
         @Test
@@ -355,6 +373,9 @@ class CardDomainServiceTest {
             Card result = cardDomainService.getCardById(card.getId());
 
             assertThat(result.getCardStatus()).isEqualTo(CardStatus.EXPIRED);
+            verify(outboxPublisher).publish(new CardStatusChangedEvent(
+                    TEST_CARD_ID, TEST_USER_ID, CardStatus.ACTIVE, CardStatus.EXPIRED
+            ));
         }
 
         @Test
@@ -365,6 +386,7 @@ class CardDomainServiceTest {
 
             assertThat(result.getCardStatus()).isEqualTo(CardStatus.ACTIVE);
             verify(cardRepository, never()).save(card);
+            verifyNoInteractions(outboxPublisher);
         }
 
         @Test
@@ -0,0 +1,195 @@
+package com.example.bankcards.service.domain;
+
+import com.example.bankcards.entity.RefreshToken;
+import com.example.bankcards.entity.RotatedRefreshToken;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.enums.Role;
+import com.example.bankcards.exception.unauthorized.InvalidRefreshTokenException;
+import com.example.bankcards.exception.unauthorized.RefreshTokenReusedException;
+import com.example.bankcards.repository.RefreshTokenRepository;
+import com.example.bankcards.repository.RotatedRefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.bankcards.util.TestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenDomainServiceTest {
+
+    private static final String TOKEN_HASH = "refresh-token-hash";
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private RotatedRefreshTokenRepository rotatedRefreshTokenRepository;
+
+    @InjectMocks
+    private RefreshTokenDomainService refreshTokenDomainService;
+
+    private User user;
+    private RefreshToken refreshToken;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(TEST_USER_ID)
+                .username(TEST_USERNAME)
+                .passwordHash(TEST_PASSWORD_HASH)
+                .role(Role.USER)
+                .build();
+
+        refreshToken = RefreshToken.builder()
+                .id(TEST_SESSION_ID)
+                .user(user)
+                .tokenHash(TOKEN_HASH)
+                .createdAt(NOW)
+                .expiresAt(NOW.plusSeconds(3600))
+                .build();
+    }
+
+    @Nested
+    class CreateRefreshTokenTests {
+
+        @Test
+        void createRefreshToken_ShouldSaveTokenForUser() {
+            when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            RefreshToken result = refreshTokenDomainService.createRefreshToken(
+                    user, TOKEN_HASH, NOW, NOW.plusSeconds(3600)
+            );
+
+            assertThat(result.getUser()).isEqualTo(user);
+            assertThat(result.getTokenHash()).isEqualTo(TOKEN_HASH);
+            assertThat(result.getExpiresAt()).isEqualTo(NOW.plusSeconds(3600));
+            assertThat(result.getRevokedAt()).isNull();
+            verify(refreshTokenRepository).save(any(RefreshToken.class));
+        }
+    }
+
+    @Nested
+    class GetActiveByTokenHashTests {
+
+        @Test
+        void getActiveByTokenHash_WithActiveToken_ShouldReturnToken() {
+            when(refreshTokenRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(refreshToken));
+
+            RefreshToken result = refreshTokenDomainService.getActiveByTokenHash(TOKEN_HASH, NOW);
+
+            assertThat(result).isEqualTo(refreshToken);
+        }
+
+        @Test
+        void getActiveByTokenHash_WithUnknownToken_ShouldThrowInvalidRefreshTokenException() {
+            when(refreshTokenRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.empty());
+            when(rotatedRefreshTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() ->
+                    refreshTokenDomainService.getActiveByTokenHash(TOKEN_HASH, NOW)
+            ).isInstanceOf(InvalidRefreshTokenException.class)
+                    .isNotInstanceOf(RefreshTokenReusedException.class)
+                    .hasMessage("Refresh token is invalid");
+            verify(refreshTokenRepository, never()).revokeIfActive(any(), any());
+        }
+
+        @Test
+        void getActiveByTokenHash_WithRotatedOutToken_ShouldRevokeSessionAndThrowRefreshTokenReusedException() {
+            when(refreshTokenRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.empty());
+            when(rotatedRefreshTokenRepository.findById(TOKEN_HASH)).thenReturn(Optional.of(
+                    new RotatedRefreshToken(TOKEN_HASH, TEST_SESSION_ID, NOW.minusSeconds(60))
+            ));
+
+            assertThatThrownBy(() ->
+                    refreshTokenDomainService.getActiveByTokenHash(TOKEN_HASH, NOW)
+            ).isInstanceOfSatisfying(RefreshTokenReusedException.class, e ->
+                    assertThat(e.getSessionId()).isEqualTo(TEST_SESSION_ID)
+            ).hasMessage("Refresh token has already been used");
+            verify(refreshTokenRepository).revokeIfActive(TEST_SESSION_ID, NOW);
+        }
+
+        @Test
+        void getActiveByTokenHash_WithRevokedToken_ShouldThrowInvalidRefreshTokenException() {
+            refreshToken.setRevokedAt(NOW.minusSeconds(1));
+            when(refreshTokenRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(refreshToken));
+
+            assertThatThrownBy(() ->
+                    refreshTokenDomainService.getActiveByTokenHash(TOKEN_HASH, NOW)
+            ).isInstanceOf(InvalidRefreshTokenException.class)
+                    .hasMessage("Refresh token has been revoked");
+        }
+
+        @Test
+        void getActiveByTokenHash_WithExpiredToken_ShouldThrowInvalidRefreshTokenException() {
+            when(refreshTokenRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(refreshToken));
+
+            assertThatThrownBy(() ->
+                    refreshTokenDomainService.getActiveByTokenHash(TOKEN_HASH, NOW.plusSeconds(3600))
+            ).isInstanceOf(InvalidRefreshTokenException.class)
+                    .hasMessage("Refresh token has expired");
+        }
+    }
+
+    @Nested
+    class RotateTests {
+
+        @Test
+        void rotate_ShouldReplaceHashAndExpiryKeepingSessionId() {
+            Instant newExpiry = NOW.plusSeconds(7200);
+
+            RefreshToken result = refreshTokenDomainService.rotate(refreshToken, "new-hash", NOW, newExpiry);
+
+            assertThat(result.getId()).isEqualTo(TEST_SESSION_ID);
+            assertThat(result.getTokenHash()).isEqualTo("new-hash");
+            assertThat(result.getExpiresAt()).isEqualTo(newExpiry);
+        }
+
+        @Test
+        void rotate_ShouldRecordRotatedOutHash() {
+            refreshTokenDomainService.rotate(refreshToken, "new-hash", NOW, NOW.plusSeconds(7200));
+
+            ArgumentCaptor<RotatedRefreshToken> captor = ArgumentCaptor.forClass(RotatedRefreshToken.class);
+            verify(rotatedRefreshTokenRepository).save(captor.capture());
+            assertThat(captor.getValue().getTokenHash()).isEqualTo(TOKEN_HASH);
+            assertThat(captor.getValue().getRefreshTokenId()).isEqualTo(TEST_SESSION_ID);
+            assertThat(captor.getValue().getRotatedAt()).isEqualTo(NOW);
+        }
+    }
+
+    @Nested
+    class RevokeAllForUserTests {
+
+        @Test
+        void revokeAllForUser_ShouldMarkActiveTokensRevokedAndReturnIds() {
+            when(refreshTokenRepository.findAllByUser_IdAndRevokedAtIsNull(TEST_USER_ID))
+                    .thenReturn(List.of(refreshToken));
+
+            List<Long> result = refreshTokenDomainService.revokeAllForUser(user, NOW);
+
+            assertThat(result).containsExactly(TEST_SESSION_ID);
+            assertThat(refreshToken.getRevokedAt()).isEqualTo(NOW);
+        }
+
+        @Test
+        void revokeAllForUser_WithoutActiveTokens_ShouldReturnEmptyList() {
+            when(refreshTokenRepository.findAllByUser_IdAndRevokedAtIsNull(TEST_USER_ID))
+                    .thenReturn(List.of());
+
+            assertThat(refreshTokenDomainService.revokeAllForUser(user, NOW)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.bankcards.service.domain;
+
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.ScheduledTransfer;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.enums.Role;
+import com.example.bankcards.enums.ScheduledTransferStatus;
+import com.example.bankcards.enums.TransferRecurrence;
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.exception.notfound.ScheduledTransferNotFoundException;
+import com.example.bankcards.repository.ScheduledTransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.example.bankcards.util.TestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledTransferDomainServiceTest {
+
+    private static final Long TEST_SCHEDULED_TRANSFER_ID = 7L;
+
+    private static final Instant FIRST_RUN_AT = Instant.parse("2030-01-01T09:00:00Z");
+
+    @Mock
+    private ScheduledTransferRepository scheduledTransferRepository;
+
+    @InjectMocks
+    private ScheduledTransferDomainService scheduledTransferDomainService;
+
+    private Card fromCard;
+    private Card toCard;
+    private ScheduledTransfer scheduledTransfer;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .id(TEST_USER_ID)
+                .username(TEST_USERNAME)
+                .role(Role.USER)
+                .build();
+
+        fromCard = Card.builder()
+                .id(TEST_CARD_ID)
+                .owner(user)
+                .expiryDate(FUTURE_DATE)
+                .cardStatus(CardStatus.ACTIVE)
+                .balance(CARD_BALANCE)
+                .currency(TEST_CURRENCY)
+                .build();
+
+        toCard = Card.builder()
+                .id(TEST_CARD_ID_2)
+                .owner(user)
+                .expiryDate(FUTURE_DATE)
+                .cardStatus(CardStatus.ACTIVE)
+                .balance(CARD_BALANCE)
+                .currency(TEST_CURRENCY)
+                .build();
+
+        scheduledTransfer = ScheduledTransfer.builder()
+                .id(TEST_SCHEDULED_TRANSFER_ID)
+                .ownerId(TEST_USER_ID)
+                .fromCardId(TEST_CARD_ID)
+                .toCardId(TEST_CARD_ID_2)
+                .amount(money("10.00"))
+                .recurrence(TransferRecurrence.DAILY)
+                .status(ScheduledTransferStatus.ACTIVE)
+                .firstRunAt(FIRST_RUN_AT)
+                .nextRunAt(FIRST_RUN_AT)
+                .nextAttemptAt(FIRST_RUN_AT)
+                .build();
+    }
+
+    @Nested
+    class CreateTests {
+
+        @Test
+        void create_WithValidData_ShouldSaveActiveTransferDueAtFirstRun() {
+            when(scheduledTransferRepository.save(any(ScheduledTransfer.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            ScheduledTransfer result = scheduledTransferDomainService.create(
+                    fromCard, toCard, money("10.00"), TransferRecurrence.MONTHLY, FIRST_RUN_AT
+            );
+
+            assertThat(result.getOwnerId()).isEqualTo(TEST_USER_ID);
+            assertThat(result.getFromCardId()).isEqualTo(TEST_CARD_ID);
+            assertThat(result.getToCardId()).isEqualTo(TEST_CARD_ID_2);
+            assertThat(result.getAmount()).isEqualTo(money("10.00"));
+            assertThat(result.getRecurrence()).isEqualTo(TransferRecurrence.MONTHLY);
+            assertThat(result.getStatus()).isEqualTo(ScheduledTransferStatus.ACTIVE);
+            assertThat(result.getFirstRunAt()).isEqualTo(FIRST_RUN_AT);
+            assertThat(result.getNextRunAt()).isEqualTo(FIRST_RUN_AT);
+            assertThat(result.getNextAttemptAt()).isEqualTo(FIRST_RUN_AT);
+        }
+
+        @Test
+        void create_WhenSameCard_ShouldThrowTransferOperationNotAllowedException() {
+            assertThatThrownBy(() -> scheduledTransferDomainService.create(
+                    fromCard, fromCard, money("10.00"), TransferRecurrence.ONCE, FIRST_RUN_AT
+            )).isInstanceOf(TransferOperationNotAllowedException.class)
+                    .extracting("reason")
+                    .isEqualTo(TransferRejectionReason.SAME_CARD);
+
+            verify(scheduledTransferRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    class GetByIdAndOwnerIdTests {
+
+        @Test
+        void getByIdAndOwnerId_WhenOwned_ShouldReturnTransfer() {
+            when(scheduledTransferRepository.findByIdAndOwnerId(TEST_SCHEDULED_TRANSFER_ID, TEST_USER_ID))
+                    .thenReturn(Optional.of(scheduledTransfer));
+
+            assertThat(scheduledTransferDomainService.getByIdAndOwnerId(TEST_SCHEDULED_TRANSFER_ID, TEST_USER_ID))
+                    .isSameAs(scheduledTransfer);
+        }
+
+        @Test
+        void getByIdAndOwnerId_WhenNotOwned_ShouldThrowScheduledTransferNotFoundException() {
+            when(scheduledTransferRepository.findByIdAndOwnerId(TEST_SCHEDULED_TRANSFER_ID, TEST_USER_ID))
+                    .thenReturn(Optional.empty());
+
+            assertThatThrownBy(() ->
+                    scheduledTransferDomainService.getByIdAndOwnerId(TEST_SCHEDULED_TRANSFER_ID, TEST_USER_ID)
+            ).isInstanceOf(ScheduledTransferNotFoundException.class)
+                    .hasMessageContaining("Scheduled transfer not found or does not belong to the user");
+        }
+    }
+
+    @Nested
+    class CancelTests {
+
+        @Test
+        void cancel_WhenActive_ShouldMarkCancelled() {
+            when(scheduledTransferRepository.cancelIfActive(TEST_SCHEDULED_TRANSFER_ID)).thenReturn(1);
+
+            scheduledTransferDomainService.cancel(scheduledTransfer);
+
+            assertThat(scheduledTransfer.getStatus()).isEqualTo(ScheduledTransferStatus.CANCELLED);
+        }
+
+        @Test
+        void cancel_WhenAlreadyFinished_ShouldKeepStatus() {
+            scheduledTransfer.setStatus(ScheduledTransferStatus.COMPLETED);
+            when(scheduledTransferRepository.cancelIfActive(TEST_SCHEDULED_TRANSFER_ID)).thenReturn(0);
+
+            scheduledTransferDomainService.cancel(scheduledTransfer);
+
+            assertThat(scheduledTransfer.getStatus()).isEqualTo(ScheduledTransferStatus.COMPLETED);
+        }
+    }
+}
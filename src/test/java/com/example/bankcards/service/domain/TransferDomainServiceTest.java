@@ -1,18 +1,42 @@
 package com.example.bankcards.service.domain;
 
 import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.Transfer;
+import com.example.bankcards.entity.User;
 import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.enums.Role;
+import com.example.bankcards.enums.TransferRejectionReason;
+import com.example.bankcards.event.TransferCompletedEvent;
 import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.fx.FxRate;
+import com.example.bankcards.fx.FxRateTable;
+import com.example.bankcards.jfr.TransferEvent;
+import com.example.bankcards.limits.SpendingLimiter;
+import com.example.bankcards.metrics.TransferMetrics;
+import com.example.bankcards.money.Money;
+import com.example.bankcards.outbox.OutboxPublisher;
+import com.example.bankcards.repository.TransferRepository;
 import com.example.bankcards.validator.TransferValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
 
 import static com.example.bankcards.util.TestData.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,34 +49,60 @@ class TransferDomainServiceTest {
     @Mock
     private TransferValidator transferValidator;
 
+    @Mock
+    private TransferMetrics transferMetrics;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Mock
+    private FxRateTable fxRateTable;
+
+    @Mock
+    private SpendingLimiter spendingLimiter;
+
+    @Mock
+    private TransferRepository transferRepository;
+
     @InjectMocks
     TransferDomainService transferDomainService;
 
     private Card fromCard;
     private Card toCard;
-    private BigDecimal transferAmount;
+    private Money transferAmount;
 
     @BeforeEach
     void setUp() {
+        User owner = User.builder()
+                .id(TEST_USER_ID)
+                .username(TEST_USERNAME)
+                .passwordHash(TEST_PASSWORD_HASH)
+                .role(Role.USER)
+                .build();
+
         fromCard = Card.builder()
                 .id(TEST_CARD_ID)
                 .cardNumber(TEST_CARD_NUMBER)
                 .cardNumberHash(CARD_NUMBER_HASH)
+                .owner(owner)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(new BigDecimal("1000.00"))
+                .balance(money("1000.00"))
+                .currency(TEST_CURRENCY)
                 .build();
 
         toCard = Card.builder()
                 .id(TEST_CARD_ID_2)
                 .cardNumber(TEST_CARD_NUMBER_2)
                 .cardNumberHash(CARD_NUMBER_HASH_2)
+                .owner(owner)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(new BigDecimal("500.00"))
+                .balance(money("500.00"))
+                .currency(TEST_CURRENCY)
                 .build();
 
-        transferAmount = new BigDecimal("100.00");
+        transferAmount = money("100.00");
     }
 
     @Nested
@@ -62,27 +112,40 @@ class TransferDomainServiceTest {
         void transfer_WithValidCardsAndAmount_ShouldUpdateBalances() {
             doNothing().when(transferValidator).validateForTransfer(fromCard, toCard, transferAmount);
 
-            BigDecimal fromCardInitialBalance = fromCard.getBalance();
-            BigDecimal toCardInitialBalance = toCard.getBalance();
+            Money fromCardInitialBalance = fromCard.getBalance();
+            Money toCardInitialBalance = toCard.getBalance();
 
             transferDomainService.transfer(fromCard, toCard, transferAmount);
 
-            assertThat(fromCard.getBalance()).isEqualTo(fromCardInitialBalance.subtract(transferAmount));
-            assertThat(toCard.getBalance()).isEqualTo(toCardInitialBalance.add(transferAmount));
+            assertThat(fromCard.getBalance()).isEqualTo(fromCardInitialBalance.minus(transferAmount));
+            assertThat(toCard.getBalance()).isEqualTo(toCardInitialBalance.plus(transferAmount));
             verify(transferValidator).validateForTransfer(fromCard, toCard, transferAmount);
+            verify(transferMetrics).recordCompleted();
+            verify(outboxPublisher).publish(new TransferCompletedEvent(
+                    TEST_CARD_ID, TEST_USER_ID, new BigDecimal("900.00"),
+                    TEST_CARD_ID_2, TEST_USER_ID, new BigDecimal("600.00"),
+                    new BigDecimal("100.00"), TEST_CURRENCY_CODE,
+                    new BigDecimal("100.00"), TEST_CURRENCY_CODE,
+                    new BigDecimal("1.00000000")
+            ));
+            verifyNoInteractions(fxRateTable);
         }
 
         @Test
         void transfer_WithSameCard_ShouldThrowTransferOperationNotAllowedException() {
-            doThrow(new TransferOperationNotAllowedException("Cannot transfer to the same card"))
-                    .when(transferValidator).validateForTransfer(fromCard, fromCard, transferAmount);
+            doThrow(new TransferOperationNotAllowedException(
+                    TransferRejectionReason.SAME_CARD, "Cannot transfer to the same card"
+            )).when(transferValidator).validateForTransfer(fromCard, fromCard, transferAmount);
 
             assertThatThrownBy(() ->
                     transferDomainService.transfer(fromCard, fromCard, transferAmount)
             ).isInstanceOf(TransferOperationNotAllowedException.class)
                     .hasMessageContaining("Cannot transfer to the same card");
 
-            assertThat(fromCard.getBalance()).isEqualTo(new BigDecimal("1000.00"));
+            assertThat(fromCard.getBalance()).isEqualTo(money("1000.00"));
+            verify(transferMetrics).recordRejected(TransferRejectionReason.SAME_CARD);
+            verify(transferMetrics, never()).recordCompleted();
+            verifyNoInteractions(outboxPublisher);
         }
 
         @Test
@@ -97,8 +160,8 @@ class TransferDomainServiceTest {
             ).isInstanceOf(TransferOperationNotAllowedException.class)
                     .hasMessageContaining("Cannot transfer from card with status: BLOCKED");
 
-            assertThat(blockedCard.getBalance()).isEqualTo(new BigDecimal("1000.00"));
-            assertThat(toCard.getBalance()).isEqualTo(new BigDecimal("500.00"));
+            assertThat(blockedCard.getBalance()).isEqualTo(money("1000.00"));
+            assertThat(toCard.getBalance()).isEqualTo(money("500.00"));
         }
 
         @Test
@@ -113,13 +176,13 @@ class TransferDomainServiceTest {
             ).isInstanceOf(TransferOperationNotAllowedException.class)
                     .hasMessageContaining("Cannot transfer to card with status: BLOCKED");
 
-            assertThat(fromCard.getBalance()).isEqualTo(new BigDecimal("1000.00"));
-            assertThat(blockedCard.getBalance()).isEqualTo(new BigDecimal("500.00"));
+            assertThat(fromCard.getBalance()).isEqualTo(money("1000.00"));
+            assertThat(blockedCard.getBalance()).isEqualTo(money("500.00"));
         }
 
         @Test
         void transfer_WithZeroAmount_ShouldThrowTransferOperationNotAllowedException() {
-            BigDecimal zeroAmount = BigDecimal.ZERO;
+            Money zeroAmount = Money.ZERO;
             doThrow(new TransferOperationNotAllowedException("Transfer amount must be positive"))
                     .when(transferValidator).validateForTransfer(fromCard, toCard, zeroAmount);
 
@@ -128,13 +191,13 @@ class TransferDomainServiceTest {
             ).isInstanceOf(TransferOperationNotAllowedException.class)
                     .hasMessageContaining("Transfer amount must be positive");
 
-            assertThat(fromCard.getBalance()).isEqualTo(new BigDecimal("1000.00"));
-            assertThat(toCard.getBalance()).isEqualTo(new BigDecimal("500.00"));
+            assertThat(fromCard.getBalance()).isEqualTo(money("1000.00"));
+            assertThat(toCard.getBalance()).isEqualTo(money("500.00"));
         }
 
         @Test
         void transfer_WithNegativeAmount_ShouldThrowTransferOperationNotAllowedException() {
-            BigDecimal negativeAmount = new BigDecimal("-50.00");
+            Money negativeAmount = money("-50.00");
             doThrow(new TransferOperationNotAllowedException("Transfer amount must be positive"))
                     .when(transferValidator).validateForTransfer(fromCard, toCard, negativeAmount);
 
@@ -143,13 +206,13 @@ class TransferDomainServiceTest {
             ).isInstanceOf(TransferOperationNotAllowedException.class)
                     .hasMessageContaining("Transfer amount must be positive");
 
-            assertThat(fromCard.getBalance()).isEqualTo(new BigDecimal("1000.00"));
-            assertThat(toCard.getBalance()).isEqualTo(new BigDecimal("500.00"));
+            assertThat(fromCard.getBalance()).isEqualTo(money("1000.00"));
+            assertThat(toCard.getBalance()).isEqualTo(money("500.00"));
         }
 
         @Test
         void transfer_WithInsufficientBalance_ShouldThrowTransferOperationNotAllowedException() {
-            BigDecimal largeAmount = new BigDecimal("2000.00");
+            Money largeAmount = money("2000.00");
             doThrow(new TransferOperationNotAllowedException("Insufficient balance for transfer"))
                     .when(transferValidator).validateForTransfer(fromCard, toCard, largeAmount);
 
@@ -158,38 +221,197 @@ class TransferDomainServiceTest {
             ).isInstanceOf(TransferOperationNotAllowedException.class)
                     .hasMessageContaining("Insufficient balance for transfer");
 
-            assertThat(fromCard.getBalance()).isEqualTo(new BigDecimal("1000.00"));
-            assertThat(toCard.getBalance()).isEqualTo(new BigDecimal("500.00"));
+            assertThat(fromCard.getBalance()).isEqualTo(money("1000.00"));
+            assertThat(toCard.getBalance()).isEqualTo(money("500.00"));
         }
 
         @Test
         void transfer_WithExactBalance_ShouldUpdateBalances() {
-            BigDecimal exactAmount = new BigDecimal("1000.00");
+            Money exactAmount = money("1000.00");
             doNothing().when(transferValidator).validateForTransfer(fromCard, toCard, exactAmount);
 
-            BigDecimal fromCardInitialBalance = fromCard.getBalance();
-            BigDecimal toCardInitialBalance = toCard.getBalance();
+            Money fromCardInitialBalance = fromCard.getBalance();
+            Money toCardInitialBalance = toCard.getBalance();
 
             transferDomainService.transfer(fromCard, toCard, exactAmount);
 
-            assertThat(fromCard.getBalance()).isEqualTo(fromCardInitialBalance.subtract(exactAmount));
-            assertThat(toCard.getBalance()).isEqualTo(toCardInitialBalance.add(exactAmount));
+            assertThat(fromCard.getBalance()).isEqualTo(fromCardInitialBalance.minus(exactAmount));
+            assertThat(toCard.getBalance()).isEqualTo(toCardInitialBalance.plus(exactAmount));
             verify(transferValidator).validateForTransfer(fromCard, toCard, exactAmount);
         }
 
         @Test
         void transfer_WithDecimalAmount_ShouldUpdateBalancesCorrectly() {
-            BigDecimal decimalAmount = new BigDecimal("123.45");
+            Money decimalAmount = money("123.45");
             doNothing().when(transferValidator).validateForTransfer(fromCard, toCard, decimalAmount);
 
-            BigDecimal fromCardInitialBalance = fromCard.getBalance();
-            BigDecimal toCardInitialBalance = toCard.getBalance();
+            Money fromCardInitialBalance = fromCard.getBalance();
+            Money toCardInitialBalance = toCard.getBalance();
 
             transferDomainService.transfer(fromCard, toCard, decimalAmount);
 
-            assertThat(fromCard.getBalance()).isEqualTo(fromCardInitialBalance.subtract(decimalAmount));
-            assertThat(toCard.getBalance()).isEqualTo(toCardInitialBalance.add(decimalAmount));
+            assertThat(fromCard.getBalance()).isEqualTo(fromCardInitialBalance.minus(decimalAmount));
+            assertThat(toCard.getBalance()).isEqualTo(toCardInitialBalance.plus(decimalAmount));
             verify(transferValidator).validateForTransfer(fromCard, toCard, decimalAmount);
         }
+
+        @Test
+        void transfer_OverSpendingLimit_ShouldRejectAndKeepBalances() {
+            doThrow(new TransferOperationNotAllowedException(
+                    TransferRejectionReason.DAILY_LIMIT_EXCEEDED, "Transfer exceeds the daily limit of 500.00"
+            )).when(spendingLimiter).check(fromCard, transferAmount);
+
+            assertThatThrownBy(() -> transferDomainService.transfer(fromCard, toCard, transferAmount))
+                    .isInstanceOf(TransferOperationNotAllowedException.class)
+                    .hasMessage("Transfer exceeds the daily limit of 500.00");
+
+            assertThat(fromCard.getBalance()).isEqualTo(money("1000.00"));
+            assertThat(toCard.getBalance()).isEqualTo(money("500.00"));
+            verify(transferMetrics).recordRejected(TransferRejectionReason.DAILY_LIMIT_EXCEEDED);
+            verifyNoInteractions(outboxPublisher);
+        }
+
+        @Test
+        void transfer_RejectedByValidator_ShouldNotCountTowardsSpendingLimits() {
+            doThrow(new TransferOperationNotAllowedException("Cannot transfer to the same card"))
+                    .when(transferValidator).validateForTransfer(fromCard, toCard, transferAmount);
+
+            assertThatThrownBy(() -> transferDomainService.transfer(fromCard, toCard, transferAmount))
+                    .isInstanceOf(TransferOperationNotAllowedException.class);
+
+            verifyNoInteractions(spendingLimiter);
+        }
+    }
+
+    @Nested
+    class CrossCurrencyTests {
+
+        private final Currency usd = Currency.getInstance("USD");
+
+        @BeforeEach
+        void setUp() {
+            toCard.setCurrency(usd);
+        }
+
+        @Test
+        void transfer_WithRate_ShouldCreditConvertedAmountAndRecordRate() {
+            FxRate rate = FxRate.of(TEST_CURRENCY, usd, new BigDecimal("0.01234567"), Instant.now());
+            when(fxRateTable.rate(TEST_CURRENCY, usd)).thenReturn(Optional.of(rate));
+
+            transferDomainService.transfer(fromCard, toCard, money("123.45"));
+
+            assertThat(fromCard.getBalance()).isEqualTo(money("876.55"));
+            assertThat(toCard.getBalance()).isEqualTo(money("501.52"));
+            verify(outboxPublisher).publish(new TransferCompletedEvent(
+                    TEST_CARD_ID, TEST_USER_ID, new BigDecimal("876.55"),
+                    TEST_CARD_ID_2, TEST_USER_ID, new BigDecimal("501.52"),
+                    new BigDecimal("123.45"), TEST_CURRENCY_CODE,
+                    new BigDecimal("1.52"), "USD",
+                    new BigDecimal("0.01234567")
+            ));
+            verify(transferMetrics).recordCompleted();
+        }
+
+        @Test
+        void transfer_WithRate_ShouldPersistBookedAmountsAndRate() {
+            FxRate rate = FxRate.of(TEST_CURRENCY, usd, new BigDecimal("0.01234567"), Instant.now());
+            when(fxRateTable.rate(TEST_CURRENCY, usd)).thenReturn(Optional.of(rate));
+
+            transferDomainService.transfer(fromCard, toCard, money("123.45"));
+
+            ArgumentCaptor<Transfer> captor = ArgumentCaptor.forClass(Transfer.class);
+            verify(transferRepository).save(captor.capture());
+            Transfer transfer = captor.getValue();
+            assertThat(transfer.getFromCardId()).isEqualTo(TEST_CARD_ID);
+            assertThat(transfer.getToCardId()).isEqualTo(TEST_CARD_ID_2);
+            assertThat(transfer.getAmount()).isEqualTo(money("123.45"));
+            assertThat(transfer.getCurrency()).isEqualTo(TEST_CURRENCY);
+            assertThat(transfer.getCreditedAmount()).isEqualTo(money("1.52"));
+            assertThat(transfer.getCreditedCurrency()).isEqualTo(usd);
+            assertThat(transfer.getRate()).isEqualByComparingTo("0.01234567");
+            assertThat(transfer.getCreatedAt()).isNotNull();
+        }
+
+        @Test
+        void transfer_WhenConvertedAmountRoundsToZero_ShouldRejectAndKeepBalances() {
+            FxRate rate = FxRate.of(TEST_CURRENCY, usd, new BigDecimal("0.01234567"), Instant.now());
+            when(fxRateTable.rate(TEST_CURRENCY, usd)).thenReturn(Optional.of(rate));
+
+            assertThatThrownBy(() -> transferDomainService.transfer(fromCard, toCard, money("0.40")))
+                    .isInstanceOf(TransferOperationNotAllowedException.class)
+                    .hasMessage("Transfer amount 0.40 RUB is too small to credit in USD")
+                    .extracting("reason")
+                    .isEqualTo(TransferRejectionReason.NON_POSITIVE_AMOUNT);
+
+            assertThat(fromCard.getBalance()).isEqualTo(money("1000.00"));
+            assertThat(toCard.getBalance()).isEqualTo(money("500.00"));
+            verify(transferMetrics).recordRejected(TransferRejectionReason.NON_POSITIVE_AMOUNT);
+            verifyNoInteractions(spendingLimiter, outboxPublisher, transferRepository);
+        }
+
+        @Test
+        void transfer_WithoutRate_ShouldRejectAndKeepBalances() {
+            when(fxRateTable.rate(TEST_CURRENCY, usd)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> transferDomainService.transfer(fromCard, toCard, transferAmount))
+                    .isInstanceOf(TransferOperationNotAllowedException.class)
+                    .hasMessage("No current exchange rate from RUB to USD")
+                    .extracting("reason")
+                    .isEqualTo(TransferRejectionReason.FX_RATE_UNAVAILABLE);
+
+            assertThat(fromCard.getBalance()).isEqualTo(money("1000.00"));
+            assertThat(toCard.getBalance()).isEqualTo(money("500.00"));
+            verify(transferMetrics).recordRejected(TransferRejectionReason.FX_RATE_UNAVAILABLE);
+            verifyNoInteractions(outboxPublisher, transferRepository);
+        }
+    }
+
+    @Nested
+    class FlightRecorderTests {
+
+        @Test
+        void transfer_WithValidCardsAndAmount_ShouldEmitCompletedTransferEvent() throws Exception {
+            doNothing().when(transferValidator).validateForTransfer(fromCard, toCard, transferAmount);
+
+            List<RecordedEvent> events = record(() -> transferDomainService.transfer(fromCard, toCard, transferAmount));
+
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.getLong("fromCardId")).isEqualTo(TEST_CARD_ID);
+                assertThat(event.getLong("toCardId")).isEqualTo(TEST_CARD_ID_2);
+                assertThat(event.getString("amountBucket")).isEqualTo("100-1000");
+                assertThat(event.getString("outcome")).isEqualTo("completed");
+                assertThat(event.getString("rejectionReason")).isNull();
+            });
+        }
+
+        @Test
+        void transfer_WithSameCard_ShouldEmitRejectedTransferEvent() throws Exception {
+            doThrow(new TransferOperationNotAllowedException(
+                    TransferRejectionReason.SAME_CARD, "Cannot transfer to the same card"
+            )).when(transferValidator).validateForTransfer(fromCard, fromCard, transferAmount);
+
+            List<RecordedEvent> events = record(() -> assertThatThrownBy(() ->
+                    transferDomainService.transfer(fromCard, fromCard, transferAmount)
+            ).isInstanceOf(TransferOperationNotAllowedException.class));
+
+            assertThat(events).singleElement().satisfies(event -> {
+                assertThat(event.getString("outcome")).isEqualTo("rejected");
+                assertThat(event.getString("rejectionReason")).isEqualTo("SAME_CARD");
+            });
+        }
+
+        private List<RecordedEvent> record(Runnable action) throws Exception {
+            Path file = Files.createTempFile("transfer", ".jfr");
+            try (Recording recording = new Recording()) {
+                recording.enable(TransferEvent.class);
+                recording.start();
+                action.run();
+                recording.stop();
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -25,7 +25,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.example.bankcards.util.TestData.*;
-import static com.example.bankcards.util.TestData.POSITIVE_BALANCE;
+import static com.example.bankcards.util.TestData.CARD_BALANCE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
@@ -60,7 +60,7 @@ class UserDomainServiceTest {
                 .owner(user)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(POSITIVE_BALANCE)
+                .balance(CARD_BALANCE)
                 .build();
 
         user.getCards().add(card);
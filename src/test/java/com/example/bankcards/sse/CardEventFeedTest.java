@@ -0,0 +1,153 @@
+package com.example.bankcards.sse;
+
+import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.event.CardDeletedEvent;
+import com.example.bankcards.event.CardStatusChangedEvent;
+import com.example.bankcards.event.DomainEventBus;
+import com.example.bankcards.outbox.OutboxPoller;
+import com.example.bankcards.outbox.OutboxPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+class CardEventFeedTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private static EmbeddedPostgres postgres;
+
+    private static DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    private OutboxPublisher publisher;
+
+    private OutboxPoller poller;
+
+    private CardEventHub hub;
+
+    private CardEventFeed firstInstance;
+
+    private CardEventFeed secondInstance;
+
+    @BeforeAll
+    static void startDatabase() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = postgres.getPostgresDatabase();
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/migration/db.changelog-master.yml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws Exception {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        publisher = new OutboxPublisher(jdbcTemplate, objectMapper);
+        hub = mock(CardEventHub.class);
+
+        DomainEventBus eventBus = new DomainEventBus(List.of());
+        poller = new OutboxPoller(
+                jdbcTemplate, transactionTemplate, eventBus, objectMapper, 500, Duration.ofMillis(10), 3,
+                Duration.ZERO, Duration.ZERO, new SimpleMeterRegistry()
+        );
+        firstInstance = new CardEventFeed(dataSource, eventBus, objectMapper, hub, Duration.ofMillis(10));
+        secondInstance = new CardEventFeed(dataSource, eventBus, objectMapper, hub, Duration.ofMillis(10));
+        firstInstance.start();
+        secondInstance.start();
+        awaitListening(firstInstance);
+        awaitListening(secondInstance);
+    }
+
+    @AfterEach
+    void tearDown() {
+        firstInstance.stop();
+        secondInstance.stop();
+        jdbcTemplate.update("DELETE FROM outbox_events");
+    }
+
+    @Test
+    void pollOnce_ShouldReachHubOfEveryInstance() {
+        CardStatusChangedEvent event = new CardStatusChangedEvent(7L, 1L, CardStatus.ACTIVE, CardStatus.BLOCKED);
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(event));
+
+        poller.pollOnce();
+
+        verify(hub, timeout(TIMEOUT_MILLIS).times(2)).handle(event);
+    }
+
+    @Test
+    void pollOnce_WithBatchOverNotificationLimit_ShouldDeliverEveryEvent() {
+        List<CardDeletedEvent> events = new ArrayList<>();
+        for (long cardId = 1; cardId <= 300; cardId++) {
+            events.add(new CardDeletedEvent(cardId, 1L));
+        }
+        transactionTemplate.executeWithoutResult(status -> events.forEach(publisher::publish));
+
+        poller.pollOnce();
+
+        for (CardDeletedEvent event : events) {
+            verify(hub, timeout(TIMEOUT_MILLIS).times(2)).handle(event);
+        }
+    }
+
+    @Test
+    void publish_BeforePoll_ShouldNotReachHub() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(new CardDeletedEvent(7L, 1L)));
+
+        Thread.sleep(100);
+
+        verifyNoInteractions(hub);
+    }
+
+    @Test
+    void publish_WithRolledBackTransaction_ShouldNotReachHub() {
+        CardDeletedEvent rolledBack = new CardDeletedEvent(7L, 1L);
+        CardDeletedEvent committed = new CardDeletedEvent(8L, 1L);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(rolledBack);
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(committed));
+        poller.pollOnce();
+
+        verify(hub, timeout(TIMEOUT_MILLIS).times(2)).handle(committed);
+        verify(hub, never()).handle(rolledBack);
+    }
+
+    private static void awaitListening(CardEventFeed feed) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!feed.isListening() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.bankcards.sse;
+
+import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.event.CardDeletedEvent;
+import com.example.bankcards.event.CardStatusChangedEvent;
+import com.example.bankcards.event.TransferCompletedEvent;
+import com.example.bankcards.exception.toomanyrequests.CardEventStreamLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class CardEventHubTest {
+
+    private static final long OWNER_ID = 1L;
+    private static final long OTHER_OWNER_ID = 2L;
+    private static final int BUFFER_SIZE = 2;
+    private static final int MAX_STREAMS_PER_USER = 2;
+
+    private MeterRegistry meterRegistry;
+
+    private CardEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Nested
+    class HandleTests {
+
+        @Test
+        void handle_WithStatusChange_ShouldPushChangeToOwner() throws Exception {
+            hub = hub(Runnable::run);
+            MvcResult result = subscribe();
+
+            hub.handle(new CardStatusChangedEvent(7L, OWNER_ID, CardStatus.ACTIVE, CardStatus.BLOCKED));
+
+            assertThat(result.getResponse().getContentAsString())
+                    .isEqualTo("event:card\ndata:{\"cardId\":7,\"change\":\"BLOCKED\",\"cardStatus\":\"BLOCKED\","
+                            + "\"balance\":null}\n\n");
+        }
+
+        @Test
+        void handle_WithTransfer_ShouldPushBothBalances() throws Exception {
+            hub = hub(Runnable::run);
+            MvcResult result = subscribe();
+
+            hub.handle(new TransferCompletedEvent(
+                    7L, OWNER_ID, new BigDecimal("900.00"), 8L, OWNER_ID, new BigDecimal("600.00"),
+                    new BigDecimal("100.00"), "RUB", new BigDecimal("100.00"), "RUB", BigDecimal.ONE
+            ));
+
+            assertThat(result.getResponse().getContentAsString())
+                    .contains("{\"cardId\":7,\"change\":\"BALANCE_CHANGED\",\"cardStatus\":null,\"balance\":900.00}")
+                    .contains("{\"cardId\":8,\"change\":\"BALANCE_CHANGED\",\"cardStatus\":null,\"balance\":600.00}");
+        }
+
+        @Test
+        void handle_WithChangeOfOtherOwner_ShouldNotPush() throws Exception {
+            hub = hub(Runnable::run);
+            MvcResult result = subscribe();
+
+            hub.handle(new CardDeletedEvent(7L, OTHER_OWNER_ID));
+
+            assertThat(result.getResponse().getContentAsString()).isEmpty();
+        }
+
+        @Test
+        void handle_WithSubscriberFallingBehind_ShouldDisconnectIt() throws Exception {
+            List<Runnable> pendingSends = new ArrayList<>();
+            hub = hub(pendingSends::add);
+            subscribe();
+
+            for (int i = 0; i <= BUFFER_SIZE; i++) {
+                hub.handle(new CardDeletedEvent(i, OWNER_ID));
+            }
+
+            assertThat(hub.subscriberCount()).isZero();
+            assertThat(meterRegistry.counter("bankcards.card.events.dropped").count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class SubscribeTests {
+
+        @Test
+        void subscribe_BeyondMaxStreamsPerUser_ShouldThrowCardEventStreamLimitExceededException() {
+            hub = hub(Runnable::run);
+            for (int i = 0; i < MAX_STREAMS_PER_USER; i++) {
+                hub.subscribe(OWNER_ID);
+            }
+
+            assertThatThrownBy(() -> hub.subscribe(OWNER_ID))
+                    .isInstanceOf(CardEventStreamLimitExceededException.class);
+            assertThat(hub.subscriberCount()).isEqualTo(MAX_STREAMS_PER_USER);
+        }
+
+        @Test
+        void subscribe_WhenOtherUserAtLimit_ShouldOpenStream() {
+            hub = hub(Runnable::run);
+            for (int i = 0; i < MAX_STREAMS_PER_USER; i++) {
+                hub.subscribe(OTHER_OWNER_ID);
+            }
+
+            assertThat(hub.subscribe(OWNER_ID)).isNotNull();
+            assertThat(hub.subscriberCount()).isEqualTo(MAX_STREAMS_PER_USER + 1);
+        }
+    }
+
+    @Nested
+    class HeartbeatTests {
+
+        @Test
+        void sendHeartbeats_ShouldWriteCommentToEverySubscriber() throws Exception {
+            hub = hub(Runnable::run);
+            MvcResult result = subscribe();
+
+            hub.sendHeartbeats();
+
+            assertThat(result.getResponse().getContentAsString()).isEqualTo(":\n\n");
+        }
+    }
+
+    private CardEventHub hub(Executor sender) {
+        return new CardEventHub(BUFFER_SIZE, MAX_STREAMS_PER_USER, Duration.ofMinutes(1), sender, meterRegistry);
+    }
+
+    private MvcResult subscribe() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new SubscribeController(hub)).build();
+        MvcResult result = mockMvc.perform(get("/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        return result;
+    }
+
+    @RestController
+    private record SubscribeController(CardEventHub hub) {
+
+        @GetMapping("/events")
+        SseEmitter events() {
+            return hub.subscribe(OWNER_ID);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.bankcards.timing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingsTest {
+
+    @Test
+    void pushAndPop_WhenNested_ShouldChargeExclusiveTimePerCategory() {
+        RequestTimings timings = new RequestTimings(0);
+
+        timings.push(TimingCategory.DB, 1_000);
+        timings.push(TimingCategory.CRYPTO, 3_000);
+        timings.pop(7_000);
+        timings.pop(8_000);
+
+        assertThat(timings.nanos(TimingCategory.DB)).isEqualTo(3_000);
+        assertThat(timings.nanos(TimingCategory.CRYPTO)).isEqualTo(4_000);
+        assertThat(timings.count(TimingCategory.DB)).isEqualTo(1);
+        assertThat(timings.count(TimingCategory.CRYPTO)).isEqualTo(1);
+    }
+
+    @Test
+    void pop_WithoutPush_ShouldBeIgnored() {
+        RequestTimings timings = new RequestTimings(0);
+
+        timings.pop(1_000);
+
+        assertThat(timings.nanos(TimingCategory.DB)).isZero();
+    }
+
+    @Test
+    void toHeaderValue_ShouldListUsedCategoriesAndTotal() {
+        RequestTimings timings = new RequestTimings(0);
+        timings.push(TimingCategory.AUTH, 0);
+        timings.pop(250_000);
+        timings.push(TimingCategory.DB, 300_000);
+        timings.pop(1_300_000);
+        timings.push(TimingCategory.DB, 1_300_000);
+        timings.pop(2_550_000);
+
+        assertThat(timings.toHeaderValue(3_005_000)).isEqualTo(
+                "auth;desc=\"1 call\";dur=0.250, db;desc=\"2 calls\";dur=2.250, total;dur=3.005"
+        );
+    }
+
+    @Test
+    void enter_WhenRequestIsNotTimed_ShouldReturnNull() {
+        assertThat(RequestTimings.enter(TimingCategory.DB)).isNull();
+        RequestTimings.exit(null);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.bankcards.timing;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static com.example.bankcards.timing.ServerTimingFilter.SERVER_TIMING_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private static final String REQUEST_HEADER = "X-Server-Timing";
+
+    // touches the database and then commits the response by writing and flushing the body
+    private static final FilterChain CHAIN = (request, response) -> {
+        RequestTimings timings = RequestTimings.enter(TimingCategory.DB);
+        RequestTimings.exit(timings);
+        response.getWriter().write("{}");
+        response.flushBuffer();
+    };
+
+    @Test
+    void doFilter_WithRequestHeader_ShouldAddServerTimingBeforeCommit() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(REQUEST_HEADER, 0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/cards");
+        request.addHeader(REQUEST_HEADER, "true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, CHAIN);
+
+        assertThat(response.getHeader(SERVER_TIMING_HEADER))
+                .startsWith("db;desc=\"1 call\";dur=")
+                .contains("total;dur=");
+        assertThat(RequestTimings.enter(TimingCategory.DB)).isNull();
+    }
+
+    @Test
+    void doFilter_WithoutRequestHeaderAndSampling_ShouldNotAddServerTiming() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(REQUEST_HEADER, 0.0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/cards"), response, CHAIN);
+
+        assertThat(response.getHeader(SERVER_TIMING_HEADER)).isNull();
+    }
+
+    @Test
+    void doFilter_WithFullSampling_ShouldAddServerTimingWithoutRequestHeader() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(REQUEST_HEADER, 1.0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/cards"), response, (req, res) -> {
+        });
+
+        assertThat(response.getHeader(SERVER_TIMING_HEADER)).startsWith("total;dur=");
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.bankcards.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.encrypt.Encryptors;
+import org.springframework.security.crypto.encrypt.TextEncryptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static com.example.bankcards.util.TestData.TEST_CARD_NUMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CardNumberEncryptorTest {
+
+    private static final String PASSWORD = "encryptor_password";
+    private static final String SALT = "encryptor_salt";
+
+    private CardNumberEncryptor encryptor;
+
+    // the previous implementation; existing rows were written with it
+    private TextEncryptor legacyEncryptor;
+
+    @BeforeEach
+    void setUp() {
+        encryptor = new CardNumberEncryptor(PASSWORD, SALT);
+        legacyEncryptor = Encryptors.delux(
+                HexFormat.of().formatHex(PASSWORD.getBytes(StandardCharsets.UTF_8)),
+                HexFormat.of().formatHex(SALT.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Nested
+    class EncryptDecryptTests {
+
+        @Test
+        void decrypt_OfEncrypted_ShouldReturnOriginal() {
+            assertThat(encryptor.decrypt(encryptor.encrypt(TEST_CARD_NUMBER))).isEqualTo(TEST_CARD_NUMBER);
+        }
+
+        @Test
+        void encrypt_ShouldUseRandomIv() {
+            assertThat(encryptor.encrypt(TEST_CARD_NUMBER)).isNotEqualTo(encryptor.encrypt(TEST_CARD_NUMBER));
+        }
+
+        @Test
+        void decrypt_OfLegacyCiphertext_ShouldReturnOriginal() {
+            assertThat(encryptor.decrypt(legacyEncryptor.encrypt(TEST_CARD_NUMBER))).isEqualTo(TEST_CARD_NUMBER);
+        }
+
+        @Test
+        void encrypt_ShouldBeReadableByLegacyEncryptor() {
+            assertThat(legacyEncryptor.decrypt(encryptor.encrypt(TEST_CARD_NUMBER))).isEqualTo(TEST_CARD_NUMBER);
+        }
+
+        @Test
+        void decrypt_WithTamperedCiphertext_ShouldThrowIllegalStateException() {
+            String encrypted = encryptor.encrypt(TEST_CARD_NUMBER);
+            String tampered = encrypted.substring(0, encrypted.length() - 1)
+                    + (encrypted.endsWith("0") ? "1" : "0");
+
+            assertThatThrownBy(() -> encryptor.decrypt(tampered))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    class MetricsTests {
+
+        @Test
+        void encryptAndDecrypt_ShouldBeTimedPerOperation() {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            CardNumberEncryptor timedEncryptor = new CardNumberEncryptor(PASSWORD, SALT, meterRegistry);
+
+            timedEncryptor.decrypt(timedEncryptor.encrypt(TEST_CARD_NUMBER));
+            timedEncryptor.encrypt(TEST_CARD_NUMBER);
+
+            assertThat(meterRegistry.get("bankcards.crypto").tag("operation", "encrypt").timer().count())
+                    .isEqualTo(2);
+            assertThat(meterRegistry.get("bankcards.crypto").tag("operation", "decrypt").timer().count())
+                    .isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.bankcards.util;
+
+import com.example.bankcards.enums.CardNumberMaskFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CardNumberMaskerTest {
+
+    @AfterEach
+    void resetDefaultFormat() {
+        CardNumberMasker.setDefaultFormat(CardNumberMaskFormat.LAST4);
+    }
+
+    @Nested
+    class MaskTests {
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "4111 1111 1111 1234 | LAST4        | **** **** **** 1234",
+                "4111111111111234    | LAST4        | **** **** **** 1234",
+                "4276 3801 2345 6789 | FIRST6_LAST4 | 4276 38** **** 6789",
+                "4276380123456789    | FIRST6_LAST4 | 4276 38** **** 6789"
+        })
+        void mask_WithFormat_ShouldKeepOnlyVisibleDigits(String cardNumber, CardNumberMaskFormat format, String expected) {
+            assertThat(CardNumberMasker.mask(cardNumber, format)).isEqualTo(expected);
+        }
+
+        @Test
+        void mask_WithTooFewDigitsForBin_ShouldMaskBin() {
+            assertThat(CardNumberMasker.mask("12 3456789", CardNumberMaskFormat.FIRST6_LAST4))
+                    .isEqualTo("**** **** **** 6789");
+        }
+
+        @Test
+        void mask_WithShortOrNullNumber_ShouldReturnItUnchanged() {
+            assertThat(CardNumberMasker.mask("123")).isEqualTo("123");
+            assertThat(CardNumberMasker.mask(null)).isNull();
+        }
+
+        @Test
+        void mask_WithoutFormat_ShouldUseDefaultFormat() {
+            CardNumberMasker.setDefaultFormat(CardNumberMaskFormat.FIRST6_LAST4);
+
+            assertThat(CardNumberMasker.mask("4111 1111 1111 1234")).isEqualTo("4111 11** **** 1234");
+        }
+    }
+
+    @Nested
+    class MaskFromDigitsTests {
+
+        @Test
+        void mask_WithBinAndLastDigits_ShouldMatchMaskedFullNumber() {
+            assertThat(CardNumberMasker.mask("427638", "6789", CardNumberMaskFormat.FIRST6_LAST4))
+                    .isEqualTo(CardNumberMasker.mask("4276 3801 2345 6789", CardNumberMaskFormat.FIRST6_LAST4));
+            assertThat(CardNumberMasker.mask("427638", "6789", CardNumberMaskFormat.LAST4))
+                    .isEqualTo("**** **** **** 6789");
+        }
+
+        @Test
+        void mask_WithoutBin_ShouldFallBackToLastDigits() {
+            assertThat(CardNumberMasker.mask(null, "6789", CardNumberMaskFormat.FIRST6_LAST4))
+                    .isEqualTo("**** **** **** 6789");
+        }
+
+        @Test
+        void mask_WithWrongNumberOfDigits_ShouldThrowIllegalArgumentException() {
+            assertThatThrownBy(() -> CardNumberMasker.mask(null, "789", CardNumberMaskFormat.LAST4))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CardNumberMasker.mask("4276", "6789", CardNumberMaskFormat.FIRST6_LAST4))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.bankcards.util;
+
+import com.example.bankcards.enums.CardNumberMaskFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.example.bankcards.util.TestData.TEST_CARD_ID;
+import static com.example.bankcards.util.TestData.TEST_VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    @AfterEach
+    void resetDefaultFormat() {
+        CardNumberMasker.setDefaultFormat(CardNumberMaskFormat.LAST4);
+    }
+
+    @Nested
+    class CardTests {
+
+        @Test
+        void card_WhenMaskFormatChanges_ShouldChangeTag() {
+            String last4 = ETags.card(TEST_CARD_ID, TEST_VERSION);
+
+            CardNumberMasker.setDefaultFormat(CardNumberMaskFormat.FIRST6_LAST4);
+
+            assertThat(ETags.card(TEST_CARD_ID, TEST_VERSION)).isNotEqualTo(last4);
+        }
+    }
+
+    @Nested
+    class CardsTests {
+
+        private final Page<Long> page = new PageImpl<>(List.of(TEST_CARD_ID), PageRequest.of(0, 10), 1);
+
+        @Test
+        void cards_WhenMaskFormatChanges_ShouldChangeTag() {
+            String last4 = ETags.cards(page, Function.identity(), id -> TEST_VERSION);
+
+            CardNumberMasker.setDefaultFormat(CardNumberMaskFormat.FIRST6_LAST4);
+
+            assertThat(ETags.cards(page, Function.identity(), id -> TEST_VERSION)).isNotEqualTo(last4);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.bankcards.util;
 
+import com.example.bankcards.money.Money;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Currency;
 
 public final class TestData {
 
@@ -16,6 +19,8 @@ public final class TestData {
     public static final String NEW_USER_PASSWORD = "newPassword";
 
     public static final String TEST_TOKEN = "valid.jwt.token";
+    public static final String TEST_REFRESH_TOKEN = "valid-refresh-token";
+    public static final Long TEST_SESSION_ID = 1L;
 
     public static final Long TEST_CARD_ID = 1L;
     public static final Long TEST_CARD_ID_2 = 2L;
@@ -24,10 +29,18 @@ public final class TestData {
     public static final String MASKED_CARD_NUMBER = CardNumberMasker.mask(TEST_CARD_NUMBER);
     public static final String CARD_NUMBER_HASH = "hashed-card-number";
     public static final String CARD_NUMBER_HASH_2 = "hashed-card-number-2";
+    public static final Long TEST_VERSION = 3L;
 
     public static final BigDecimal POSITIVE_BALANCE = new BigDecimal("100.00");
     public static final BigDecimal NEGATIVE_BALANCE = new BigDecimal("-100.00");
+    public static final Money CARD_BALANCE = Money.of(POSITIVE_BALANCE);
+    public static final String TEST_CURRENCY_CODE = "RUB";
+    public static final Currency TEST_CURRENCY = Currency.getInstance(TEST_CURRENCY_CODE);
 
     public static final LocalDate FUTURE_DATE = LocalDate.now().plusYears(2);
     public static final LocalDate PAST_DATE = LocalDate.now().minusYears(2);
+
+    public static Money money(String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 
+import java.math.BigDecimal;
 import java.util.stream.Stream;
 
 import static com.example.bankcards.util.TestData.*;
@@ -18,27 +19,35 @@ public class InvalidCardCreateRequestProvider implements ArgumentsProvider {
 
                 // CardNumber is null
                 Arguments.of(new CardCreateRequest(
-                        null, TEST_USER_ID, FUTURE_DATE, POSITIVE_BALANCE)),
+                        null, TEST_USER_ID, FUTURE_DATE, POSITIVE_BALANCE, null)),
 
                 // CardNumber is empty
                 Arguments.of(new CardCreateRequest(
-                        "", TEST_USER_ID, FUTURE_DATE, POSITIVE_BALANCE)),
+                        "", TEST_USER_ID, FUTURE_DATE, POSITIVE_BALANCE, null)),
 
                 // CardNumber is invalid
                 Arguments.of(new CardCreateRequest(
-                        "abc", TEST_USER_ID, FUTURE_DATE, POSITIVE_BALANCE)),
+                        "abc", TEST_USER_ID, FUTURE_DATE, POSITIVE_BALANCE, null)),
 
                 // OwnerId is negative
                 Arguments.of(new CardCreateRequest(
-                        TEST_CARD_NUMBER, -1L, FUTURE_DATE, POSITIVE_BALANCE)),
+                        TEST_CARD_NUMBER, -1L, FUTURE_DATE, POSITIVE_BALANCE, null)),
 
                 // ExpiryDate is in the past
                 Arguments.of(new CardCreateRequest(
-                        TEST_CARD_NUMBER, TEST_USER_ID, PAST_DATE, POSITIVE_BALANCE)),
+                        TEST_CARD_NUMBER, TEST_USER_ID, PAST_DATE, POSITIVE_BALANCE, null)),
 
                 // InitialBalance is negative
                 Arguments.of(new CardCreateRequest(
-                        TEST_CARD_NUMBER, TEST_USER_ID, FUTURE_DATE, NEGATIVE_BALANCE))
+                        TEST_CARD_NUMBER, TEST_USER_ID, FUTURE_DATE, NEGATIVE_BALANCE, null)),
+
+                // InitialBalance has more than two decimal places
+                Arguments.of(new CardCreateRequest(
+                        TEST_CARD_NUMBER, TEST_USER_ID, FUTURE_DATE, new BigDecimal("100.001"), null)),
+
+                // Currency is not an ISO 4217 code
+                Arguments.of(new CardCreateRequest(
+                        TEST_CARD_NUMBER, TEST_USER_ID, FUTURE_DATE, POSITIVE_BALANCE, "ABC"))
         );
     }
 }
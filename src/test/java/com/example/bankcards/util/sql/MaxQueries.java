@@ -0,0 +1,20 @@
+package com.example.bankcards.util.sql;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test if any MockMvc request it performs executes more SQL statements than {@link #value()}.
+ * Requires the test class to be annotated with {@link SqlStatementCountTest}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+
+    int value();
+}
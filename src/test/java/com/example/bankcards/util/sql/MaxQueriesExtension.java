@@ -0,0 +1,43 @@
+package com.example.bankcards.util.sql;
+
+import com.example.bankcards.util.sql.SqlStatementRecorder.RecordedRequest;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+class MaxQueriesExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        SqlStatementRecorder.reset();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        int max = context.getRequiredTestMethod().getAnnotation(MaxQueries.class).value();
+        List<RecordedRequest> requests = SqlStatementRecorder.requests();
+        SqlStatementRecorder.reset();
+
+        assertThat(requests)
+                .as("no MockMvc request was recorded, is the test class annotated with @SqlStatementCountTest?")
+                .isNotEmpty();
+        for (RecordedRequest request : requests) {
+            if (request.count() > max) {
+                fail("%s executed %d SQL statements, at most %d expected:%n%s".formatted(
+                        request.request(),
+                        request.count(),
+                        max,
+                        request.statements().stream()
+                                .map(sql -> "  " + sql)
+                                .collect(Collectors.joining(System.lineSeparator()))
+                ));
+            }
+        }
+    }
+}
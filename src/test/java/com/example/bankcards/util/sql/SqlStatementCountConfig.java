@@ -0,0 +1,40 @@
+package com.example.bankcards.util.sql;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+@TestConfiguration(proxyBeanMethods = false)
+class SqlStatementCountConfig {
+
+    @Bean(destroyMethod = "close")
+    EmbeddedPostgres embeddedPostgres() throws IOException {
+        return EmbeddedPostgres.builder().start();
+    }
+
+    @Bean
+    DataSource dataSource(EmbeddedPostgres embeddedPostgres) {
+        return embeddedPostgres.getPostgresDatabase();
+    }
+
+    // MockMvc runs the whole request on the calling thread, which is what the recorder keys on
+    @Bean
+    MockMvcBuilderCustomizer sqlStatementRecordingCustomizer() {
+        Filter filter = (request, response, chain) -> {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            SqlStatementRecorder.begin();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                SqlStatementRecorder.end(httpRequest.getMethod() + " " + httpRequest.getRequestURI());
+            }
+        };
+        return builder -> builder.addFilters(filter);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.bankcards.util.sql;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Full application on an embedded Postgres with MockMvc, recording the SQL statements executed
+ * by every request so that test methods can bound them with {@link MaxQueries}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.bankcards.util.sql.SqlStatementRecorder",
+        "spring.jpa.show-sql=false",
+        "rate-limit.enabled=false",
+        "jwt.secret-key=statement_count_test_secret_key_of_at_least_256_bits",
+        "crypto.encryptor.password=test_password",
+        "crypto.encryptor.salt=test_salt",
+        "crypto.hasher.secret-key=test_hasher_key"
+})
+@AutoConfigureMockMvc
+@Import(SqlStatementCountConfig.class)
+public @interface SqlStatementCountTest {
+}
@@ -0,0 +1,54 @@
+package com.example.bankcards.util.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate {@link StatementInspector} that collects the SQL prepared on the current thread
+ * while a request is being recorded. Hibernate instantiates it by class name, hence the static state.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CURRENT = new ThreadLocal<>();
+
+    private static final List<RecordedRequest> REQUESTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = CURRENT.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    static void begin() {
+        CURRENT.set(new ArrayList<>());
+    }
+
+    static void end(String request) {
+        List<String> statements = CURRENT.get();
+        CURRENT.remove();
+        if (statements != null) {
+            REQUESTS.add(new RecordedRequest(request, List.copyOf(statements)));
+        }
+    }
+
+    static List<RecordedRequest> requests() {
+        return List.copyOf(REQUESTS);
+    }
+
+    static void reset() {
+        REQUESTS.clear();
+    }
+
+    public record RecordedRequest(String request, List<String> statements) {
+
+        int count() {
+            return statements.size();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.bankcards.validation.constraint;
+
+import com.example.bankcards.validation.annotation.AtLeastOneNotNull;
+import jakarta.validation.ConstraintDeclarationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AtLeastOneNotNullValidatorTest {
+
+    private static ValidatorFactory factory;
+
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    @AtLeastOneNotNull
+    record AllFields(String first, Integer second) {
+    }
+
+    @AtLeastOneNotNull(fields = {"email", "phone"}, message = "contact")
+    @AtLeastOneNotNull(fields = {"street", "postcode"}, message = "address")
+    record GroupedFields(String email, String phone, String street, String postcode, String comment) {
+    }
+
+    @AtLeastOneNotNull(fields = "missing")
+    record UnknownField(String present) {
+    }
+
+    @AtLeastOneNotNull
+    static class PlainClass {
+
+        private static final String IGNORED = "constant";
+
+        private final String value;
+
+        PlainClass(String value) {
+            this.value = value;
+        }
+    }
+
+    @Nested
+    class AllFieldsTests {
+
+        @Test
+        void validate_AllNull_ShouldReportViolation() {
+            assertThat(validator.validate(new AllFields(null, null)))
+                    .extracting(ConstraintViolation::getMessage)
+                    .containsExactly("At least one field must be provided");
+        }
+
+        @Test
+        void validate_OneSet_ShouldPass() {
+            assertThat(validator.validate(new AllFields(null, 1))).isEmpty();
+        }
+
+        @Test
+        void validate_PlainClassWithValue_ShouldPass() {
+            assertThat(validator.validate(new PlainClass("value"))).isEmpty();
+        }
+
+        @Test
+        void validate_PlainClassWithoutValue_ShouldIgnoreStaticFields() {
+            assertThat(validator.validate(new PlainClass(null))).hasSize(1);
+        }
+
+        @Test
+        void isValid_NullValue_ShouldReturnFalse() {
+            assertThat(new AtLeastOneNotNullValidator().isValid(null, null)).isFalse();
+        }
+    }
+
+    @Nested
+    class FieldGroupTests {
+
+        @Test
+        void validate_EachGroupHasValue_ShouldPass() {
+            assertThat(validator.validate(new GroupedFields(null, "+100", "Main st", null, null))).isEmpty();
+        }
+
+        @Test
+        void validate_GroupWithoutValue_ShouldReportOnlyThatGroup() {
+            assertThat(validator.validate(new GroupedFields("a@b.c", null, null, null, "comment")))
+                    .extracting(ConstraintViolation::getMessage)
+                    .containsExactly("address");
+        }
+
+        @Test
+        void validate_NoGroupHasValue_ShouldReportEachGroup() {
+            assertThat(validator.validate(new GroupedFields(null, null, null, null, null)))
+                    .extracting(ConstraintViolation::getMessage)
+                    .containsExactlyInAnyOrder("contact", "address");
+        }
+
+        @Test
+        void validate_UnknownField_ShouldThrow() {
+            assertThatThrownBy(() -> validator.validate(new UnknownField("value")))
+                    .isInstanceOf(ConstraintDeclarationException.class)
+                    .hasMessageContaining("[missing]");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.bankcards.validation.constraint;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrencyValidatorTest {
+
+    private final CurrencyValidator validator = new CurrencyValidator();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RUB", "USD", "EUR"})
+    void isValid_WithTwoDecimalCurrency_ShouldReturnTrue(String currency) {
+        assertThat(validator.isValid(currency, null)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"JPY", "KRW", "BHD", "KWD"})
+    void isValid_WithOtherNumberOfDecimals_ShouldReturnFalse(String currency) {
+        assertThat(validator.isValid(currency, null)).isFalse();
+    }
+
+    @Test
+    void isValid_WithUnknownCode_ShouldReturnFalse() {
+        assertThat(validator.isValid("XYZ", null)).isFalse();
+    }
+
+    @Test
+    void isValid_WithNull_ShouldReturnTrue() {
+        assertThat(validator.isValid(null, null)).isTrue();
+    }
+}
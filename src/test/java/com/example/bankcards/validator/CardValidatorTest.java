@@ -7,6 +7,7 @@ import com.example.bankcards.enums.Role;
 import com.example.bankcards.exception.badrequest.CardDataNotValidException;
 import com.example.bankcards.exception.badrequest.CardOperationNotAllowedException;
 import com.example.bankcards.exception.conflict.CardAlreadyExistsException;
+import com.example.bankcards.money.Money;
 import com.example.bankcards.repository.CardRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -16,10 +17,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
-
 import static com.example.bankcards.util.TestData.*;
-import static com.example.bankcards.util.TestData.POSITIVE_BALANCE;
+import static com.example.bankcards.util.TestData.CARD_BALANCE;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
@@ -50,7 +49,7 @@ class CardValidatorTest {
                 .owner(user)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(POSITIVE_BALANCE)
+                .balance(CARD_BALANCE)
                 .build();
 
         user.getCards().add(card);
@@ -173,7 +172,7 @@ class CardValidatorTest {
 
         @Test
         void validateForDelete_WithBlockedCardAndZeroBalance_ShouldNotThrowException() {
-            card.setBalance(BigDecimal.ZERO);
+            card.setBalance(Money.ZERO);
             card.setCardStatus(CardStatus.BLOCKED);
             cardValidator.validateForDelete(card);
         }
@@ -197,7 +196,7 @@ class CardValidatorTest {
 
         @Test
         void validateForDelete_WithExpiredCardAndZeroBalance_ShouldNotThrowException() {
-            card.setBalance(BigDecimal.ZERO);
+            card.setBalance(Money.ZERO);
             card.setExpiryDate(PAST_DATE);
             card.setCardStatus(CardStatus.EXPIRED);
             cardValidator.validateForDelete(card);
@@ -2,15 +2,15 @@ package com.example.bankcards.validator;
 
 import com.example.bankcards.entity.Card;
 import com.example.bankcards.enums.CardStatus;
+import com.example.bankcards.enums.TransferRejectionReason;
 import com.example.bankcards.exception.badrequest.TransferOperationNotAllowedException;
+import com.example.bankcards.money.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
-
 import static com.example.bankcards.util.TestData.*;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -21,7 +21,7 @@ class TransferValidatorTest {
 
     private Card fromCard;
     private Card toCard;
-    private BigDecimal transferAmount;
+    private Money transferAmount;
 
     @BeforeEach
     void setUp() {
@@ -33,7 +33,7 @@ class TransferValidatorTest {
                 .cardNumberHash(CARD_NUMBER_HASH)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(new BigDecimal("1000.00"))
+                .balance(money("1000.00"))
                 .build();
 
         toCard = Card.builder()
@@ -42,10 +42,10 @@ class TransferValidatorTest {
                 .cardNumberHash(CARD_NUMBER_HASH_2)
                 .expiryDate(FUTURE_DATE)
                 .cardStatus(CardStatus.ACTIVE)
-                .balance(new BigDecimal("500.00"))
+                .balance(money("500.00"))
                 .build();
 
-        transferAmount = new BigDecimal("100.00");
+        transferAmount = money("100.00");
     }
 
     @Nested
@@ -61,7 +61,9 @@ class TransferValidatorTest {
             assertThatThrownBy(() ->
                     transferValidator.validateForTransfer(fromCard, fromCard, transferAmount)
             ).isInstanceOf(TransferOperationNotAllowedException.class)
-                    .hasMessage("Cannot transfer to the same card");
+                    .hasMessage("Cannot transfer to the same card")
+                    .extracting("reason")
+                    .isEqualTo(TransferRejectionReason.SAME_CARD);
         }
 
         @Test
@@ -112,7 +114,7 @@ class TransferValidatorTest {
 
         @Test
         void validateForTransfer_WithZeroAmount_ShouldThrowTransferOperationNotAllowedException() {
-            BigDecimal zeroAmount = BigDecimal.ZERO;
+            Money zeroAmount = Money.ZERO;
 
             assertThatThrownBy(() ->
                     transferValidator.validateForTransfer(fromCard, toCard, zeroAmount)
@@ -122,7 +124,7 @@ class TransferValidatorTest {
 
         @Test
         void validateForTransfer_WithNegativeAmount_ShouldThrowTransferOperationNotAllowedException() {
-            BigDecimal negativeAmount = new BigDecimal("-50.00");
+            Money negativeAmount = money("-50.00");
 
             assertThatThrownBy(() ->
                     transferValidator.validateForTransfer(fromCard, toCard, negativeAmount)
@@ -132,24 +134,26 @@ class TransferValidatorTest {
 
         @Test
         void validateForTransfer_WithInsufficientBalance_ShouldThrowTransferOperationNotAllowedException() {
-            BigDecimal largeAmount = new BigDecimal("2000.00");
+            Money largeAmount = money("2000.00");
 
             assertThatThrownBy(() ->
                     transferValidator.validateForTransfer(fromCard, toCard, largeAmount)
             ).isInstanceOf(TransferOperationNotAllowedException.class)
-                    .hasMessage("Insufficient balance for transfer. Available: 1000.00, Required: 2000.00");
+                    .hasMessage("Insufficient balance for transfer. Available: 1000.00, Required: 2000.00")
+                    .extracting("reason")
+                    .isEqualTo(TransferRejectionReason.INSUFFICIENT_BALANCE);
         }
 
         @Test
         void validateForTransfer_WithExactBalance_ShouldNotThrowException() {
-            BigDecimal exactAmount = new BigDecimal("1000.00");
+            Money exactAmount = money("1000.00");
 
             transferValidator.validateForTransfer(fromCard, toCard, exactAmount);
         }
 
         @Test
         void validateForTransfer_WithDecimalAmount_ShouldNotThrowException() {
-            BigDecimal decimalAmount = new BigDecimal("123.45");
+            Money decimalAmount = money("123.45");
 
             transferValidator.validateForTransfer(fromCard, toCard, decimalAmount);
         }
@@ -171,7 +175,7 @@ class TransferValidatorTest {
 
         @Test
         void validateForTransfer_WithVeryLargeAmount_ShouldThrowTransferOperationNotAllowedException() {
-            BigDecimal veryLargeAmount = new BigDecimal("999999999.99");
+            Money veryLargeAmount = money("999999999.99");
 
             assertThatThrownBy(() ->
                     transferValidator.validateForTransfer(fromCard, toCard, veryLargeAmount)